@@ -49,7 +49,8 @@ abstract class AbstractPayloadCachingRootProvider extends AbstractRootProvider {
     abstract ObjectMapper getObjectMapper();
 
     private Mono<Map<String, String>> getPayload(ConnectionContext connectionContext) {
-        Mono<Map<String, String>> cached = doGetPayload(connectionContext);
+        Mono<Map<String, String>> cached =
+                persistentlyCached("payload", connectionContext, doGetPayload(connectionContext));
 
         return connectionContext.getCacheDuration().map(cached::cache).orElseGet(cached::cache);
     }
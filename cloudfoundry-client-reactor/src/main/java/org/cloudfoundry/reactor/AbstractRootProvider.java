@@ -16,18 +16,23 @@
 
 package org.cloudfoundry.reactor;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.netty.handler.codec.http.HttpHeaders;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.cloudfoundry.reactor.util.JsonCodec;
 import org.cloudfoundry.reactor.util.Operator;
 import org.cloudfoundry.reactor.util.OperatorContext;
+import org.cloudfoundry.reactor.util.PersistentCache;
 import org.cloudfoundry.reactor.util.UserAgent;
 import org.immutables.value.Value;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
 /**
@@ -37,6 +42,9 @@ abstract class AbstractRootProvider implements RootProvider {
 
     private static final int DEFAULT_PORT = 443;
 
+    private static final JavaType PAYLOAD_TYPE =
+            TypeFactory.defaultInstance().constructMapType(Map.class, String.class, String.class);
+
     private static final Pattern HOSTNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9-.]+$");
 
     private static final int UNDEFINED_PORT = -1;
@@ -57,7 +65,7 @@ abstract class AbstractRootProvider implements RootProvider {
     public Mono<Operator> createOperator(ConnectionContext connectionContext) {
         HttpClient httpClient = connectionContext.getHttpClient();
         return getRoot(connectionContext)
-                .map(root -> OperatorContext.of(connectionContext, root))
+                .map(root -> OperatorContext.of(connectionContext, root).withApi("root"))
                 .map(operatorContext -> new Operator(operatorContext, httpClient))
                 .map(operator -> operator.headers(this::addHeaders));
     }
@@ -112,6 +120,31 @@ abstract class AbstractRootProvider implements RootProvider {
         return builder.build().encode();
     }
 
+    /**
+     * Use a payload from the persistent cache of a connection context, if it has one and the payload has been cached, and otherwise cache the payload once it
+     * has been discovered.  The cache is kept on the file system, so it is read and written on the bounded elastic scheduler rather than the event loop.
+     *
+     * @param name              the name of the payload, unique amongst the payloads of the root
+     * @param connectionContext the connection context
+     * @param payload           the discovery of the payload
+     * @return the cached or discovered payload
+     */
+    protected final Mono<Map<String, String>> persistentlyCached(
+            String name, ConnectionContext connectionContext, Mono<Map<String, String>> payload) {
+        return connectionContext
+                .getPersistentCache()
+                .map(
+                        cache -> {
+                            String key = String.format("%s:%s", name, getRoot().toUriString());
+
+                            return read(cache, key)
+                                    .switchIfEmpty(
+                                            payload.delayUntil(
+                                                    discovered -> write(cache, key, discovered)));
+                        })
+                .orElse(payload);
+    }
+
     /**
      * The port for the Cloud Foundry instance. Defaults to {@code 443}.
      */
@@ -122,6 +155,17 @@ abstract class AbstractRootProvider implements RootProvider {
      */
     abstract Optional<Boolean> getSecure();
 
+    private static Mono<Map<String, String>> read(PersistentCache cache, String key) {
+        return Mono.fromCallable(() -> cache.<Map<String, String>>get(key, PAYLOAD_TYPE))
+                .flatMap(Mono::justOrEmpty)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Mono<Void> write(PersistentCache cache, String key, Map<String, String> value) {
+        return Mono.<Void>fromRunnable(() -> cache.put(key, value))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     private void addHeaders(HttpHeaders httpHeaders) {
         UserAgent.setUserAgent(httpHeaders);
         JsonCodec.setDecodeHeaders(httpHeaders);
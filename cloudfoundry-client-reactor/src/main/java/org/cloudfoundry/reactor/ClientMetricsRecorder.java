@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+/**
+ * A recorder of client-side request metrics.  Implementations are called on I/O threads and must not block.  Since not all implementations care about every
+ * metric, the default implementations do nothing.
+ */
+public interface ClientMetricsRecorder {
+
+    /**
+     * Called when a token is negotiated with the UAA
+     *
+     * @param grantType the grant used to negotiate the token (e.g. {@code primary} or {@code refresh_token})
+     */
+    default void recordTokenNegotiation(String grantType) {}
+
+    /**
+     * Called when a request shares the in-flight exchange of an identical request rather than making its own
+     *
+     * @param api      the API the request was made to (e.g. {@code cloud_controller_v3})
+     * @param endpoint the path of the request, with identifiers replaced by {@code {id}}
+     */
+    default void recordCoalescedRequest(String api, String endpoint) {}
+
+    /**
+     * Called when a request is retried because of a {@code 429 TOO MANY REQUESTS} or {@code 503 SERVICE UNAVAILABLE} response
+     *
+     * @param api    the API the request was made to (e.g. {@code cloud_controller_v3})
+     * @param status the status code of the response
+     */
+    default void recordThrottledRetry(String api, int status) {}
+
+    /**
+     * Called when a request is delayed to stay within the rate limit of the server, and again when the delay has elapsed
+     *
+     * @param queueDepth the number of requests that are currently delayed
+     */
+    default void recordQueueDepth(int queueDepth) {}
+
+    /**
+     * Called when a request is retried because of a {@code 401 UNAUTHORIZED} response
+     *
+     * @param api the API the request was made to (e.g. {@code cloud_controller_v3})
+     */
+    default void recordInvalidTokenRetry(String api) {}
+
+    /**
+     * Called when the headers of a response have been received
+     *
+     * @param api            the API the request was made to (e.g. {@code cloud_controller_v3})
+     * @param method         the method of the request
+     * @param endpoint       the path of the request, with identifiers replaced by {@code {id}}
+     * @param status         the status code of the response
+     * @param durationNanos  the time between subscribing to the request and receiving the response headers, in nanoseconds
+     */
+    default void recordRequest(
+            String api, String method, String endpoint, int status, long durationNanos) {}
+
+    /**
+     * Called when a response contains {@code X-Cf-Warnings}
+     *
+     * @param api      the API the request was made to (e.g. {@code cloud_controller_v3})
+     * @param endpoint the path of the request, with identifiers replaced by {@code {id}}
+     * @param count    the number of warnings in the response
+     */
+    default void recordWarnings(String api, String endpoint, int count) {}
+}
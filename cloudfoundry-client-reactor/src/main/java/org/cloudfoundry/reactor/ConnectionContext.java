@@ -19,6 +19,12 @@ package org.cloudfoundry.reactor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
 import java.util.Optional;
+import org.cloudfoundry.reactor.util.PersistentCache;
+import org.cloudfoundry.reactor.util.RequestCoalescer;
+import org.cloudfoundry.reactor.util.RequestPacer;
+import org.cloudfoundry.reactor.util.RequestRootCache;
+import org.cloudfoundry.reactor.util.RequestScheduler;
+import org.cloudfoundry.reactor.util.ResponseCache;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
@@ -42,11 +48,61 @@ public interface ConnectionContext {
      */
     Long getInvalidTokenRetries();
 
+    /**
+     * The {@link ClientMetricsRecorder} to record request metrics with
+     */
+    default Optional<ClientMetricsRecorder> getMetricsRecorder() {
+        return Optional.empty();
+    }
+
     /**
      * The {@link ObjectMapper} to use
      */
     ObjectMapper getObjectMapper();
 
+    /**
+     * The {@link PersistentCache} that root payloads and refresh tokens are kept in between processes, if persistent caching is enabled
+     */
+    default Optional<PersistentCache> getPersistentCache() {
+        return Optional.empty();
+    }
+
+    /**
+     * The {@link RequestCoalescer} that identical concurrent {@code GET} requests share an exchange through, if request coalescing is enabled
+     */
+    default Optional<RequestCoalescer> getRequestCoalescer() {
+        return Optional.empty();
+    }
+
+    /**
+     * The {@link RequestPacer} that paces requests against the rate limit of the server, if pacing is enabled
+     */
+    default Optional<RequestPacer> getRequestPacer() {
+        return Optional.empty();
+    }
+
+    /**
+     * The {@link RequestRootCache} that the request roots of the clients using this context are parsed into once, if any.  Without one, roots are parsed for
+     * every request.
+     */
+    default Optional<RequestRootCache> getRequestRootCache() {
+        return Optional.empty();
+    }
+
+    /**
+     * The {@link RequestScheduler} that admits requests through a lane per {@link RequestPriority}, if concurrency limits are configured
+     */
+    default Optional<RequestScheduler> getRequestScheduler() {
+        return Optional.empty();
+    }
+
+    /**
+     * The cache of {@code GET} responses shared by the clients using this context, if response caching is enabled
+     */
+    default Optional<ResponseCache> getResponseCache() {
+        return Optional.empty();
+    }
+
     /**
      * The {@link RootProvider} to use
      */
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.cloudfoundry.Nullable;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.ConnectionProvider.ConnectionPoolSpec;
+import reactor.netty.resources.ConnectionProvider.MeterRegistrar;
+
+/**
+ * Creates the {@link ConnectionProvider} of a connection context, or of {@link SharedConnectionResources}.  Connections are pooled per remote host, and hosts
+ * with their own configuration override the defaults of the pool.
+ */
+final class ConnectionPools {
+
+    private ConnectionPools() {}
+
+    /**
+     * Creates a connection provider
+     *
+     * @param name                      the name of the provider
+     * @param connectionPoolSize        the default maximum number of connections per host
+     * @param configuration             the default configuration of the pool of each host
+     * @param hostConfigurations        the configuration of specific hosts, keyed by {@code host} or {@code host:port}
+     * @param http2MaxConcurrentStreams the maximum number of concurrent streams per connection, if HTTP/2 is enabled
+     * @param registrar                 the registrar of the metrics of each pool
+     * @return the connection provider
+     */
+    static ConnectionProvider create(
+            String name,
+            int connectionPoolSize,
+            Optional<ConnectionPoolConfiguration> configuration,
+            Map<String, ConnectionPoolConfiguration> hostConfigurations,
+            Optional<Long> http2MaxConcurrentStreams,
+            MeterRegistrar registrar) {
+        PoolConfigurer configurer =
+                new PoolConfigurer(
+                        connectionPoolSize, configuration, http2MaxConcurrentStreams, registrar);
+        ConnectionProvider.Builder builder =
+                configurer.configure(ConnectionProvider.builder(name), null);
+
+        hostConfigurations.forEach(
+                (host, hostConfiguration) ->
+                        getRemoteAddresses(host)
+                                .forEach(
+                                        remoteAddress ->
+                                                builder.forRemoteHost(
+                                                        remoteAddress,
+                                                        spec ->
+                                                                configurer.configure(
+                                                                        spec, hostConfiguration))));
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the remote addresses that the configuration of a host applies to.  IPv6 literals with a port must be enclosed in brackets, e.g. {@code [::1]:8443}.
+     *
+     * @param host the {@code host} or {@code host:port} key of the configuration
+     * @return the remote addresses
+     */
+    static List<InetSocketAddress> getRemoteAddresses(String host) {
+        if (host.startsWith("[")) {
+            int end = host.indexOf(']');
+
+            if (end == -1) {
+                throw new IllegalArgumentException(
+                        String.format("Host %s has an unterminated IPv6 literal", host));
+            }
+
+            String hostname = host.substring(1, end);
+
+            if (end == host.length() - 1) {
+                return getDefaultRemoteAddresses(hostname);
+            }
+
+            if (host.charAt(end + 1) != ':') {
+                throw new IllegalArgumentException(
+                        String.format("Host %s has an invalid port separator", host));
+            }
+
+            return getRemoteAddress(hostname, host.substring(end + 2));
+        }
+
+        int separator = host.indexOf(':');
+
+        if (separator == -1 || separator != host.lastIndexOf(':')) {
+            return getDefaultRemoteAddresses(host);
+        }
+
+        return getRemoteAddress(host.substring(0, separator), host.substring(separator + 1));
+    }
+
+    private static List<InetSocketAddress> getDefaultRemoteAddresses(String hostname) {
+        return Arrays.asList(
+                InetSocketAddress.createUnresolved(hostname, 443),
+                InetSocketAddress.createUnresolved(hostname, 80));
+    }
+
+    private static List<InetSocketAddress> getRemoteAddress(String hostname, String port) {
+        return Collections.singletonList(
+                InetSocketAddress.createUnresolved(hostname, Integer.parseInt(port)));
+    }
+
+    private static final class PoolConfigurer {
+
+        private final Optional<ConnectionPoolConfiguration> configuration;
+
+        private final int connectionPoolSize;
+
+        private final Optional<Long> http2MaxConcurrentStreams;
+
+        private final MeterRegistrar registrar;
+
+        private PoolConfigurer(
+                int connectionPoolSize,
+                Optional<ConnectionPoolConfiguration> configuration,
+                Optional<Long> http2MaxConcurrentStreams,
+                MeterRegistrar registrar) {
+            this.configuration = configuration;
+            this.connectionPoolSize = connectionPoolSize;
+            this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+            this.registrar = registrar;
+        }
+
+        private <T extends ConnectionPoolSpec<T>> T configure(
+                T spec, @Nullable ConnectionPoolConfiguration hostConfiguration) {
+            spec.maxConnections(this.connectionPoolSize)
+                    .pendingAcquireMaxCount(-1)
+                    .metrics(true, () -> this.registrar);
+
+            this.configuration.ifPresent(configuration -> configuration.configure(spec));
+            Optional.ofNullable(hostConfiguration)
+                    .ifPresent(configuration -> configuration.configure(spec));
+
+            int maxConnections =
+                    Optional.ofNullable(hostConfiguration)
+                            .flatMap(ConnectionPoolConfiguration::getMaxConnections)
+                            .orElseGet(
+                                    () ->
+                                            this.configuration
+                                                    .flatMap(
+                                                            ConnectionPoolConfiguration
+                                                                    ::getMaxConnections)
+                                                    .orElse(this.connectionPoolSize));
+
+            this.http2MaxConcurrentStreams.ifPresent(
+                    maxConcurrentStreams ->
+                            spec.allocationStrategy(
+                                    Http2AllocationStrategy.builder()
+                                            .maxConnections(maxConnections)
+                                            .maxConcurrentStreams(maxConcurrentStreams)
+                                            .build()));
+
+            return spec;
+        }
+    }
+}
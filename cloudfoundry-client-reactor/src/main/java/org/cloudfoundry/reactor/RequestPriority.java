@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+import java.util.function.Function;
+import org.cloudfoundry.reactor.util.RequestScheduler;
+import reactor.util.context.Context;
+
+/**
+ * The priority of a request, which selects the lane of the {@link RequestScheduler} that the request is admitted through.  A priority is set for a call by
+ * writing it to the Reactor {@link Context} of the subscription, e.g. {@code client.applicationsV3().list(request).contextWrite(RequestPriority.BULK)}.  Requests
+ * without a priority are {@link #INTERACTIVE}.
+ */
+public enum RequestPriority implements Function<Context, Context> {
+
+    /**
+     * Background work, such as inventory crawls, that can tolerate queueing
+     */
+    BULK,
+
+    /**
+     * User-facing work that should not queue behind background work
+     */
+    INTERACTIVE;
+
+    /**
+     * The key of the priority in the Reactor {@link Context}
+     */
+    public static final String CONTEXT_KEY = "cloudfoundry-client.request-priority";
+
+    @Override
+    public Context apply(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+}
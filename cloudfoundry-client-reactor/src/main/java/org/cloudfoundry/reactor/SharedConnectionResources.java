@@ -0,0 +1,197 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
+import org.cloudfoundry.reactor.util.ConnectionPoolMetricsRegistrar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Event loops and a connection pool shared by many {@link DefaultConnectionContext}s, e.g. one context per Cloud Foundry foundation managed from the same JVM.
+ * The resources are reference counted: they are created when the first context using them is built, and disposed when the last of those contexts is disposed.
+ * Connections are pooled per remote host, so each API host keeps its own partition of the shared pool, and the metrics of each partition are registered under
+ * the name of the resources.
+ */
+public final class SharedConnectionResources {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client");
+
+    private final SharedConnectionResourcesConfiguration configuration;
+
+    private int references;
+
+    private Resources resources;
+
+    /**
+     * Creates a new instance.  No resources are created until the first connection context uses them.
+     *
+     * @param configuration the configuration of the resources
+     */
+    public SharedConnectionResources(SharedConnectionResourcesConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Returns the name of the resources
+     */
+    public String getName() {
+        return this.configuration.getName();
+    }
+
+    /**
+     * Returns the number of connection contexts currently using these resources
+     */
+    public synchronized int getReferenceCount() {
+        return this.references;
+    }
+
+    /**
+     * Acquire the resources on behalf of a connection context, creating them if this is the first context to use them
+     */
+    synchronized Lease retain() {
+        if (this.references++ == 0) {
+            this.resources = createResources();
+            monitorByteBufAllocator();
+        }
+
+        return new Lease(this, this.resources);
+    }
+
+    private Resources createResources() {
+        String name = getName();
+
+        return new Resources(
+                LoopResources.create(name, this.configuration.getThreadPoolSize(), true),
+                Optional.ofNullable(this.configuration.getConnectionPoolSize())
+                        .map(
+                                connectionPoolSize ->
+                                        ConnectionPools.create(
+                                                name,
+                                                connectionPoolSize,
+                                                this.configuration.getConnectionPoolConfiguration(),
+                                                this.configuration.getHostConnectionPools(),
+                                                Optional.empty(),
+                                                new ConnectionPoolMetricsRegistrar(name))));
+    }
+
+    private ObjectName getByteBufAllocatorObjectName() throws MalformedObjectNameException {
+        return ObjectName.getInstance(
+                String.format(
+                        "org.cloudfoundry.reactor:type=ByteBufAllocator,endpoint=%s",
+                        ObjectName.quote(getName())));
+    }
+
+    private void monitorByteBufAllocator() {
+        try {
+            ObjectName name = getByteBufAllocatorObjectName();
+
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer()
+                        .registerMBean(
+                                new ByteBufAllocatorMetricProviderWrapper(
+                                        PooledByteBufAllocator.DEFAULT),
+                                name);
+            }
+        } catch (JMException e) {
+            LOGGER.error("Unable to register ByteBufAllocator MBean", e);
+        }
+    }
+
+    private void release(Resources resources) {
+        synchronized (this) {
+            if (resources != this.resources || --this.references > 0) {
+                return;
+            }
+
+            this.resources = null;
+        }
+
+        resources.connectionProvider.ifPresent(ConnectionProvider::dispose);
+        resources.loopResources.dispose();
+
+        try {
+            ObjectName name = getByteBufAllocatorObjectName();
+
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOGGER.error("Unable to unregister ByteBufAllocator MBean", e);
+        }
+    }
+
+    /**
+     * The use of the shared resources by a single connection context
+     */
+    static final class Lease {
+
+        private final SharedConnectionResources owner;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private final Resources resources;
+
+        private Lease(SharedConnectionResources owner, Resources resources) {
+            this.owner = owner;
+            this.resources = resources;
+        }
+
+        Optional<ConnectionProvider> getConnectionProvider() {
+            return this.resources.connectionProvider;
+        }
+
+        LoopResources getLoopResources() {
+            return this.resources.loopResources;
+        }
+
+        boolean isPreferNative() {
+            return this.owner.configuration.getPreferNative().orElse(true);
+        }
+
+        /**
+         * Release the resources, disposing them if no other connection context uses them.  Subsequent calls have no effect.
+         */
+        void release() {
+            if (this.released.compareAndSet(false, true)) {
+                this.owner.release(this.resources);
+            }
+        }
+    }
+
+    private static final class Resources {
+
+        private final Optional<ConnectionProvider> connectionProvider;
+
+        private final LoopResources loopResources;
+
+        private Resources(
+                LoopResources loopResources, Optional<ConnectionProvider> connectionProvider) {
+            this.connectionProvider = connectionProvider;
+            this.loopResources = loopResources;
+        }
+    }
+}
@@ -38,4 +38,16 @@ public interface TokenProvider {
      * @param connectionContext A {@link ConnectionContext} to be used to identity which connection the tokens should be invalidated for
      */
     default void invalidate(ConnectionContext connectionContext) {}
+
+    /**
+     * Called when a {@code 401 UNAUTHORIZED} is received for a request that was made with a given token.  Implementations may ignore the call if the token has
+     * already been replaced, so that concurrent rejections of the same token result in a single renegotiation.  The default implementation delegates to
+     * {@link #invalidate(ConnectionContext)}.
+     *
+     * @param connectionContext A {@link ConnectionContext} to be used to identity which connection the tokens should be invalidated for
+     * @param rejectedToken     the token that was rejected, or {@code null} if it is not known
+     */
+    default void invalidate(ConnectionContext connectionContext, String rejectedToken) {
+        invalidate(connectionContext);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+import reactor.netty.resources.ConnectionProvider.ConnectionPoolSpec;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Connection pool configuration.  Unset values fall back to the defaults of the connection context.
+ */
+@Value.Immutable
+abstract class _ConnectionPoolConfiguration {
+
+    public <T extends ConnectionPoolSpec<T>> T configure(T spec) {
+        getMaxConnections().ifPresent(spec::maxConnections);
+        getPendingAcquireMaxCount().ifPresent(spec::pendingAcquireMaxCount);
+        getPendingAcquireTimeout().ifPresent(spec::pendingAcquireTimeout);
+        getMaxIdleTime().ifPresent(spec::maxIdleTime);
+        getMaxLifeTime().ifPresent(spec::maxLifeTime);
+        getEvictionInterval().ifPresent(spec::evictInBackground);
+        getLifo().ifPresent(lifo -> {
+            if (lifo) {
+                spec.lifo();
+            } else {
+                spec.fifo();
+            }
+        });
+
+        return spec;
+    }
+
+    /**
+     * The interval at which idle and expired connections are evicted in the background.  By default, connections are only evicted when they are acquired.
+     */
+    abstract Optional<Duration> getEvictionInterval();
+
+    /**
+     * Whether to lease the most recently used connection first (LIFO) rather than the least recently used (FIFO).  Defaults to {@code false}.
+     */
+    abstract Optional<Boolean> getLifo();
+
+    /**
+     * The maximum number of connections
+     */
+    abstract Optional<Integer> getMaxConnections();
+
+    /**
+     * The maximum time a connection can be idle before it is closed.  Should be shorter than the idle timeout of any load balancer between the client and the host.
+     */
+    abstract Optional<Duration> getMaxIdleTime();
+
+    /**
+     * The maximum time a connection can be open before it is closed
+     */
+    abstract Optional<Duration> getMaxLifeTime();
+
+    /**
+     * The maximum number of requests waiting for a connection.  {@code -1} means no limit.
+     */
+    abstract Optional<Integer> getPendingAcquireMaxCount();
+
+    /**
+     * The maximum time a request can wait for a connection
+     */
+    abstract Optional<Duration> getPendingAcquireTimeout();
+
+}
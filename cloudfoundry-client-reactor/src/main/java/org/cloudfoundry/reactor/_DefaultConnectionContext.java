@@ -25,13 +25,22 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.ssl.SslContextBuilder;
 import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
+import org.cloudfoundry.reactor.util.ConnectionPoolMetricsRegistrar;
 import org.cloudfoundry.reactor.util.DefaultSslCertificateTruster;
+import org.cloudfoundry.reactor.util.PersistentCache;
+import org.cloudfoundry.reactor.util.RequestCoalescer;
+import org.cloudfoundry.reactor.util.RequestPacer;
+import org.cloudfoundry.reactor.util.RequestRootCache;
+import org.cloudfoundry.reactor.util.RequestScheduler;
+import org.cloudfoundry.reactor.util.ResponseCache;
 import org.cloudfoundry.reactor.util.SslCertificateTruster;
 import org.cloudfoundry.reactor.util.StaticTrustManagerFactory;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.LoopResources;
@@ -47,6 +56,8 @@ import javax.net.ssl.TrustManagerFactory;
 import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
 
@@ -68,13 +79,18 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
 
+    private SharedConnectionResources.Lease sharedResourcesLease;
+
     /**
      * Disposes resources created to service this connection context
      */
     @PreDestroy
     public final void dispose() {
-        getConnectionProvider().ifPresent(ConnectionProvider::dispose);
-        getThreadPool().dispose();
+        disposeResources();
+
+        if (getSharedResources().isPresent()) {
+            return;
+        }
 
         try {
             ObjectName name = getByteBufAllocatorObjectName();
@@ -115,6 +131,9 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return 5L;
     }
 
+    @Override
+    public abstract Optional<ClientMetricsRecorder> getMetricsRecorder();
+
     @Override
     @Value.Default
     public ObjectMapper getObjectMapper() {
@@ -128,6 +147,43 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return objectMapper;
     }
 
+    @Override
+    @Value.Derived
+    public Optional<PersistentCache> getPersistentCache() {
+        return getPersistentCacheConfiguration().map(PersistentCache::new);
+    }
+
+    @Override
+    @Value.Derived
+    public Optional<RequestCoalescer> getRequestCoalescer() {
+        return getRequestCoalescing().filter(Boolean::booleanValue).map(requestCoalescing -> new RequestCoalescer());
+    }
+
+    @Override
+    @Value.Derived
+    public Optional<RequestPacer> getRequestPacer() {
+        return getRateLimitConfiguration().map(configuration -> new RequestPacer(configuration.getMaxDelay(), configuration.getMaxRetries(), configuration.getMinBackoff()));
+    }
+
+    @Override
+    @Value.Auxiliary
+    @Value.Derived
+    public Optional<RequestRootCache> getRequestRootCache() {
+        return Optional.of(new RequestRootCache());
+    }
+
+    @Override
+    @Value.Derived
+    public Optional<RequestScheduler> getRequestScheduler() {
+        return getConcurrencyLimits().isEmpty() ? Optional.empty() : Optional.of(new RequestScheduler(getConcurrencyLimits()));
+    }
+
+    @Override
+    @Value.Derived
+    public Optional<ResponseCache> getResponseCache() {
+        return getResponseCacheConfiguration().map(ResponseCache::new);
+    }
+
     @Override
     @Value.Default
     public RootProvider getRootProvider() {
@@ -154,6 +210,16 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(Mono.empty());
     }
 
+    @Value.Check
+    void check() {
+        String error = getConfigurationError();
+
+        if (error != null) {
+            disposeResources();
+            throw new IllegalStateException(String.format("Cannot build DefaultConnectionContext, %s", error));
+        }
+    }
+
     /**
      * Additional configuration for the underlying HttpClient
      */
@@ -164,26 +230,58 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract String getApiHost();
 
+    /**
+     * The maximum number of concurrent requests per {@link RequestPriority}.  Requests beyond the limit of their priority wait for an earlier request to complete,
+     * so limiting {@link RequestPriority#BULK} to less than the {@link #getConnectionPoolSize() connection pool size} keeps connections available to
+     * {@link RequestPriority#INTERACTIVE} requests.  Requests are not limited by default.
+     */
+    abstract Map<RequestPriority, Integer> getConcurrencyLimits();
+
     /**
      * The {@code CONNECT_TIMEOUT_MILLIS} value
      */
     abstract Optional<Duration> getConnectTimeout();
 
+    /**
+     * The (optional) configuration of the connection pool.  Values that are set override the {@link #getConnectionPoolSize() connection pool size} and the
+     * default of an unlimited number of pending requests.
+     */
+    abstract Optional<ConnectionPoolConfiguration> getConnectionPoolConfiguration();
+
     @Value.Derived
     Optional<ConnectionProvider> getConnectionProvider() {
-        ConnectionProvider.Builder builder = ConnectionProvider.builder("cloudfoundry-client");
+        if (getSharedResources().isPresent()) {
+            return Optional.empty();
+        }
 
         return Optional.ofNullable(getConnectionPoolSize())
-            .map(connectionPoolSize -> builder.maxConnections(connectionPoolSize)
-                .pendingAcquireMaxCount(-1)
-                .build());
+            .map(connectionPoolSize -> ConnectionPools.create("cloudfoundry-client", connectionPoolSize, getConnectionPoolConfiguration(), getHostConnectionPools(),
+                getHttp2MaxConcurrentStreams(), getConnectionPoolMetricsRegistrar()));
     }
 
+    /**
+     * Connection pool configuration for specific hosts, e.g. a separate pool for the UAA or Doppler hosts.  Keys are either a host, which applies to ports
+     * {@code 443} and {@code 80}, or a {@code host:port} pair.  IPv6 literals are enclosed in brackets when paired with a port, e.g. {@code [::1]:8443}.  Values that are not set fall back to the {@link #getConnectionPoolConfiguration() connection pool
+     * configuration}.
+     */
+    abstract Map<String, ConnectionPoolConfiguration> getHostConnectionPools();
+
+    /**
+     * The maximum number of concurrent streams per connection when using HTTP/2.  Can only be set when the {@link #getProtocol() protocol} is
+     * {@link HttpProtocol#H2} or {@link HttpProtocol#H2C}.  Defaults to the limit advertised by the server.
+     */
+    abstract Optional<Long> getHttp2MaxConcurrentStreams();
+
     /**
      * The {@code SO_KEEPALIVE} value
      */
     abstract Optional<Boolean> getKeepAlive();
 
+    /**
+     * The configuration of the cache that root payloads and refresh tokens are persisted to between processes.  Persistent caching is disabled if not set.
+     */
+    abstract Optional<PersistentCacheConfiguration> getPersistentCacheConfiguration();
+
     /**
      * The port for the Cloud Foundry instance. Defaults to {@code 443}.
      */
@@ -194,11 +292,33 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract List<DeserializationProblemHandler> getProblemHandlers();
 
+    /**
+     * The HTTP protocol to use. {@link HttpProtocol#H2} and {@link HttpProtocol#H2C} both enable HTTP/2: negotiated with ALPN over secure connections and with an
+     * {@code h2c} upgrade otherwise, falling back to HTTP/1.1 when the server does not support HTTP/2. Defaults to {@link HttpProtocol#HTTP11}.
+     */
+    abstract Optional<HttpProtocol> getProtocol();
+
     /**
      * The (optional) proxy configuration
      */
     abstract Optional<ProxyConfiguration> getProxyConfiguration();
 
+    /**
+     * The (optional) configuration of client-side pacing against the rate limit of the Cloud Controller.  When configured, requests are delayed once the
+     * {@code X-RateLimit-Remaining} budget of their user is exhausted, and {@code 429} responses are retried.  Requests are not paced by default.
+     */
+    abstract Optional<RateLimitConfiguration> getRateLimitConfiguration();
+
+    /**
+     * Whether identical concurrent {@code GET} requests (same URI and token subject) share a single exchange and its parsed response. Defaults to {@code false}.
+     */
+    abstract Optional<Boolean> getRequestCoalescing();
+
+    /**
+     * The (optional) configuration of the conditional {@code GET} response cache.  Responses are not cached by default.
+     */
+    abstract Optional<ResponseCacheConfiguration> getResponseCacheConfiguration();
+
     /**
      * Whether the connection to the root API should be secure (i.e. using HTTPS). Defaults to {@code true}.
      */
@@ -209,7 +329,7 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<Boolean> getSkipSslValidation();
 
-    @Value.Derived
+    @Value.Lazy
     Optional<SslCertificateTruster> getSslCertificateTruster() {
         if (getSkipSslValidation().orElse(false)) {
             return Optional.of(new DefaultSslCertificateTruster(getProxyConfiguration(), getThreadPool()));
@@ -234,12 +354,41 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     abstract Optional<Duration> getSslHandshakeTimeout();
 
     @Value.Derived
+    ConnectionPoolMetricsRegistrar getConnectionPoolMetricsRegistrar() {
+        return new ConnectionPoolMetricsRegistrar(String.format("%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
+    }
+
+    /**
+     * Event loops and a connection pool shared with other connection contexts.  When set, the connection pool and thread pool of this context are not created,
+     * so {@code connectionPoolSize}, {@code connectionPoolConfiguration}, {@code hostConnectionPools}, {@code http2MaxConcurrentStreams} and
+     * {@code threadPoolSize} cannot be set and are configured on the shared resources instead.  The connection pool metrics of this context are registered under
+     * the name of the shared resources, and {@link #dispose()} only releases this context's use of them.  The resources are only retained once this context
+     * first uses them, so a copy made with {@code builder().from(context)} shares the HTTP client of the original and does not retain them unless it trusts
+     * certificates itself.
+     */
+    abstract Optional<SharedConnectionResources> getSharedResources();
+
+    synchronized Optional<SharedConnectionResources.Lease> getSharedResourcesLease() {
+        if (this.sharedResourcesLease == null) {
+            this.sharedResourcesLease = getSharedResources().map(SharedConnectionResources::retain).orElse(null);
+        }
+
+        return Optional.ofNullable(this.sharedResourcesLease);
+    }
+
+    @Value.Lazy
     LoopResources getThreadPool() {
-        return LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true);
+        return getSharedResourcesLease()
+            .map(SharedConnectionResources.Lease::getLoopResources)
+            .orElseGet(() -> LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true));
     }
 
     @PostConstruct
     void monitorByteBufAllocator() {
+        if (getSharedResources().isPresent()) {
+            return;
+        }
+
         try {
             ObjectName name = getByteBufAllocatorObjectName();
 
@@ -262,10 +411,11 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private HttpClient configureHttpClient(HttpClient client) {
         client = configureProxy(client);
-        client = client.runOn(getThreadPool())
+        client = client.runOn(getThreadPool(), getSharedResourcesLease().map(SharedConnectionResources.Lease::isPreferNative).orElse(LoopResources.DEFAULT_NATIVE))
             .option(SO_SNDBUF, SEND_RECEIVE_BUFFER_SIZE)
             .option(SO_RCVBUF, SEND_RECEIVE_BUFFER_SIZE);
         client = configureKeepAlive(client);
+        client = configureProtocol(client);
         client = client.wiretap("cloudfoundry-client.wire", LogLevel.TRACE);
 
         return configureConnectTimeout(client);
@@ -277,6 +427,14 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(client);
     }
 
+    private HttpClient configureProtocol(HttpClient client) {
+        if (!isHttp2()) {
+            return client;
+        }
+
+        return getSecure().orElse(true) ? client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11) : client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
     private HttpClient configureProxy(HttpClient client) {
         return getProxyConfiguration()
             .map(proxyConfiguration -> proxyConfiguration.configure(client))
@@ -285,7 +443,9 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private void configureSsl(SslProvider.SslContextSpec ssl){
         try{
-            SslProvider.Builder builder = ssl.sslContext(createSslContextBuilder().build());
+            SslProvider.Builder builder = isHttp2() ?
+                ssl.sslContext(Http2SslContextSpec.forClient().configure(this::configureTrustManager)) :
+                ssl.sslContext(createSslContextBuilder().build());
 
             getSslCloseNotifyReadTimeout().ifPresent(builder::closeNotifyReadTimeout);
             getSslHandshakeTimeout().ifPresent(builder::handshakeTimeout);
@@ -296,17 +456,22 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     }
 
     private HttpClient createHttpClient() {
-        return getConnectionProvider()
+        return getSharedResourcesLease()
+            .map(SharedConnectionResources.Lease::getConnectionProvider)
+            .orElseGet(this::getConnectionProvider)
             .map(HttpClient::create)
             .orElse(HttpClient.create());
     }
 
-    private SslContextBuilder createSslContextBuilder() {
-        SslContextBuilder sslContextBuilder = SslContextBuilder.forClient();
-
+    private void configureTrustManager(SslContextBuilder sslContextBuilder) {
         getSslCertificateTruster()
             .map(this::createTrustManagerFactory)
             .ifPresent(sslContextBuilder::trustManager);
+    }
+
+    private SslContextBuilder createSslContextBuilder() {
+        SslContextBuilder sslContextBuilder = SslContextBuilder.forClient();
+        configureTrustManager(sslContextBuilder);
 
         return sslContextBuilder;
     }
@@ -319,4 +484,57 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ByteBufAllocator,endpoint=%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
     }
 
+    private void disposeResources() {
+        if (getSharedResources().isPresent()) {
+            synchronized (this) {
+                if (this.sharedResourcesLease != null) {
+                    this.sharedResourcesLease.release();
+                }
+            }
+
+            return;
+        }
+
+        getConnectionProvider().ifPresent(ConnectionProvider::dispose);
+        getThreadPool().dispose();
+    }
+
+    private String getConfigurationError() {
+        if (getHttp2MaxConcurrentStreams().isPresent() && !isHttp2()) {
+            return "http2MaxConcurrentStreams requires protocol H2 or H2C";
+        }
+
+        if (!getSharedResources().isPresent()) {
+            return null;
+        }
+
+        if (!Objects.equals(getConnectionPoolSize(), ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS)) {
+            return "connectionPoolSize cannot be set with sharedResources";
+        }
+
+        if (getConnectionPoolConfiguration().isPresent()) {
+            return "connectionPoolConfiguration cannot be set with sharedResources";
+        }
+
+        if (!getHostConnectionPools().isEmpty()) {
+            return "hostConnectionPools cannot be set with sharedResources";
+        }
+
+        if (getHttp2MaxConcurrentStreams().isPresent()) {
+            return "http2MaxConcurrentStreams cannot be set with sharedResources";
+        }
+
+        if (getThreadPoolSize() != LoopResources.DEFAULT_IO_WORKER_COUNT) {
+            return "threadPoolSize cannot be set with sharedResources";
+        }
+
+        return null;
+    }
+
+    private boolean isHttp2() {
+        return getProtocol()
+            .map(protocol -> protocol == HttpProtocol.H2 || protocol == HttpProtocol.H2C)
+            .orElse(false);
+    }
+
 }
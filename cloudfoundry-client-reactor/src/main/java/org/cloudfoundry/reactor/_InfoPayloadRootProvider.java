@@ -17,6 +17,7 @@
 package org.cloudfoundry.reactor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.immutables.value.Value;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -47,19 +48,19 @@ abstract class _InfoPayloadRootProvider extends AbstractRootProvider {
 
     abstract ObjectMapper getObjectMapper();
 
-    private UriComponentsBuilder buildInfoUri(UriComponentsBuilder root) {
+    private RequestUriBuilder buildInfoUri(RequestUriBuilder root) {
         return root.pathSegment("v2", "info");
     }
 
     @SuppressWarnings("unchecked")
     @Value.Derived
     private Mono<Map<String, String>> getInfo(ConnectionContext connectionContext) {
-        return createOperator(connectionContext)
+        return persistentlyCached("info", connectionContext, createOperator(connectionContext)
             .flatMap(operator -> operator.get()
                 .uri(this::buildInfoUri)
                 .response()
                 .parseBody(Map.class))
-            .map(payload -> (Map<String, String>) payload)
+            .map(payload -> (Map<String, String>) payload))
             .switchIfEmpty(Mono.error(new IllegalArgumentException("Info endpoint does not contain a payload")))
             .checkpoint();
     }
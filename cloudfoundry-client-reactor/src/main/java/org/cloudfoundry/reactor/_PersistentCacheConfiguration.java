@@ -0,0 +1,46 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the persistent cache of API root payloads and refresh tokens.  Short-lived processes that share a cache directory skip root discovery and
+ * negotiate their first access token with a single refresh token grant.  Refresh tokens are stored unencrypted, so the directory should only be readable by the
+ * user running the process; the cache creates it, and each of its files, with owner-only permissions where the file system supports them.
+ */
+@Value.Immutable
+abstract class _PersistentCacheConfiguration {
+
+    /**
+     * The directory to store cached entries in
+     */
+    public abstract Path getDirectory();
+
+    /**
+     * How long a cached root payload is used before it is discovered again.  Refresh tokens are cached until they expire, or for this long if their expiry
+     * cannot be read.  Defaults to one day.
+     */
+    @Value.Default
+    public Duration getTimeToLive() {
+        return Duration.ofDays(1);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Configuration of client-side pacing against the Cloud Controller rate limit
+ */
+@Value.Immutable
+abstract class _RateLimitConfiguration {
+
+    /**
+     * The longest a request is delayed, either before being sent or before being retried.  A request that would have to wait longer is sent, or fails, immediately.
+     * Defaults to one minute.
+     */
+    @Value.Default
+    public Duration getMaxDelay() {
+        return Duration.ofMinutes(1);
+    }
+
+    /**
+     * The maximum number of times a request is retried after a {@code 429 TOO MANY REQUESTS} or a {@code 503 SERVICE UNAVAILABLE} with {@code Retry-After}.
+     * Defaults to {@code 3}.
+     */
+    @Value.Default
+    public Integer getMaxRetries() {
+        return 3;
+    }
+
+    /**
+     * The backoff before the first retry, doubled for each subsequent retry and randomized with jitter.  A longer {@code Retry-After} takes precedence.  Defaults
+     * to one second.
+     */
+    @Value.Default
+    public Duration getMinBackoff() {
+        return Duration.ofSeconds(1);
+    }
+
+}
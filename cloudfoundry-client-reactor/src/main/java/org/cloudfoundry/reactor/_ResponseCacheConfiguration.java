@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuration of the conditional {@code GET} response cache
+ */
+@Value.Immutable
+abstract class _ResponseCacheConfiguration {
+
+    /**
+     * The maximum number of responses to cache.  The least recently used response is evicted once the limit is reached.  Defaults to {@code 1000}.
+     */
+    @Value.Default
+    public Integer getMaximumSize() {
+        return 1000;
+    }
+
+    /**
+     * Time to live by resource type, keyed by path with identifiers replaced by {@code {id}}, e.g. {@code /v3/stacks} or {@code /v3/processes/{id}/stats}.  The
+     * longest key that prefixes the path of a request applies, otherwise the {@link #getTimeToLive() default time to live}.
+     */
+    public abstract Map<String, Duration> getResourceTimeToLives();
+
+    /**
+     * How long after its time to live a response may still be served while it is revalidated in the background.  Defaults to zero.
+     */
+    public abstract Optional<Duration> getStaleWhileRevalidate();
+
+    /**
+     * How long a response is served without contacting the server.  Defaults to zero, meaning that every request is revalidated with {@code If-None-Match} or
+     * {@code If-Modified-Since} and only the transfer and deserialization of unchanged payloads are saved.
+     */
+    public abstract Optional<Duration> getTimeToLive();
+
+}
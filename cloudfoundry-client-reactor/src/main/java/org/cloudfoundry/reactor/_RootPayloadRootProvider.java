@@ -54,13 +54,13 @@ abstract class _RootPayloadRootProvider extends AbstractRootProvider {
     @SuppressWarnings("unchecked")
     @Value.Derived
     private Mono<Map<String, String>> getPayload(ConnectionContext connectionContext) {
-        return createOperator(connectionContext)
+        return persistentlyCached("root", connectionContext, createOperator(connectionContext)
             .flatMap(operator -> operator.get()
                 .uri(Function.identity())
                 .response()
                 .parseBody(Map.class))
             .map(payload -> (Map<String, Map<String, Map<String, String>>>) payload)
-            .map(this::processPayload)
+            .map(this::processPayload))
             .switchIfEmpty(Mono.error(new IllegalArgumentException("Root endpoint does not contain a payload")))
             .checkpoint();
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuration of {@link SharedConnectionResources}
+ */
+@Value.Immutable
+abstract class _SharedConnectionResourcesConfiguration {
+
+    /**
+     * The number of connections per remote host. Setting this to {@code null} disables connection pooling.
+     */
+    @Nullable
+    @Value.Default
+    public Integer getConnectionPoolSize() {
+        return ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+    }
+
+    /**
+     * The name of the resources, used to name their threads, their connection pool and their MBeans. Defaults to {@code cloudfoundry-client-shared}.
+     */
+    @Value.Default
+    public String getName() {
+        return "cloudfoundry-client-shared";
+    }
+
+    /**
+     * The number of worker threads to use when processing requests and responses
+     */
+    @Value.Default
+    public Integer getThreadPoolSize() {
+        return LoopResources.DEFAULT_IO_WORKER_COUNT;
+    }
+
+    /**
+     * The (optional) configuration of the connection pool of each host
+     */
+    abstract Optional<ConnectionPoolConfiguration> getConnectionPoolConfiguration();
+
+    /**
+     * Connection pool configuration for specific hosts. Keys are either a host, which applies to ports {@code 443} and {@code 80}, or a {@code host:port} pair.
+     * IPv6 literals are enclosed in brackets when paired with a port, e.g. {@code [::1]:8443}.
+     */
+    abstract Map<String, ConnectionPoolConfiguration> getHostConnectionPools();
+
+    /**
+     * Whether to use the native transport (e.g. epoll on Linux) when it is available on the classpath. Defaults to {@code true}.
+     */
+    abstract Optional<Boolean> getPreferNative();
+
+}
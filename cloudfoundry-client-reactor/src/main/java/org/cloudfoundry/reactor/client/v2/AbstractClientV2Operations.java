@@ -16,11 +16,14 @@
 
 package org.cloudfoundry.reactor.client.v2;
 
+import com.fasterxml.jackson.databind.JavaType;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.QueryBuilder;
@@ -29,10 +32,10 @@ import org.cloudfoundry.reactor.util.DelegatingUriQueryParameterBuilder;
 import org.cloudfoundry.reactor.util.ErrorPayloadMappers;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameterBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
@@ -50,14 +53,16 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
     }
 
     @Override
-    protected Mono<Operator> createOperator() {
-        return super.createOperator().map(this::attachErrorPayloadMapper);
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("cloud_controller_v2")
+                .withErrorPayloadMapper(
+                        ErrorPayloadMappers.clientV2(this.connectionContext.getObjectMapper()));
     }
 
     protected final <T> Mono<T> delete(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -72,7 +77,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
 
     protected final <T> Flux<T> get(
             Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Function<ByteBufFlux, Flux<T>> bodyTransformer) {
         return createOperator()
                 .flatMapMany(
@@ -92,7 +97,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> get(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -104,10 +109,37 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
                                         .parseBody(responseType));
     }
 
+    protected final <T extends Resource<?>, U extends PaginatedResponse<T>> Flux<T> getResources(
+            Object requestPayload,
+            Class<U> responseType,
+            Consumer<? super U> paginationConsumer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
+        JavaType resourceType =
+                this.connectionContext
+                        .getObjectMapper()
+                        .getTypeFactory()
+                        .constructType(responseType)
+                        .findTypeParameters(PaginatedResponse.class)[0];
+
+        return createOperator()
+                .flatMapMany(
+                        operator ->
+                                operator.get()
+                                        .uri(
+                                                queryTransformer(requestPayload)
+                                                        .andThen(uriTransformer))
+                                        .response()
+                                        .parseBodyElements(
+                                                responseType,
+                                                "resources",
+                                                resourceType,
+                                                paginationConsumer));
+    }
+
     protected final <T> Mono<T> post(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -123,7 +155,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> put(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<MultipartHttpClientRequest> requestTransformer,
             Runnable onTerminate) {
         return createOperator()
@@ -142,7 +174,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> put(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -155,11 +187,6 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
                                         .parseBody(responseType));
     }
 
-    private Operator attachErrorPayloadMapper(Operator operator) {
-        return operator.withErrorPayloadMapper(
-                ErrorPayloadMappers.clientV2(this.connectionContext.getObjectMapper()));
-    }
-
     private MultipartHttpClientRequest createMultipartRequest(
             HttpClientRequest request, HttpClientForm form) {
         return new MultipartHttpClientRequest(
@@ -180,8 +207,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
         };
     }
 
-    private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(
-            Object requestPayload) {
+    private Function<RequestUriBuilder, RequestUriBuilder> queryTransformer(Object requestPayload) {
         return builder -> {
             Stream<UriQueryParameter> parameters =
                     getUriQueryParameterBuilder().build(requestPayload);
@@ -100,11 +100,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         AssociateApplicationRouteResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "routes",
-                                        request.getRouteId()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -114,8 +113,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         CopyApplicationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "copy_bits"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("copy_bits"))
                 .checkpoint();
     }
 
@@ -133,7 +133,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return delete(
                         request,
                         Void.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId()))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -142,7 +144,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return get(
                         request,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "download"),
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("download"),
                         ByteBufFlux::asByteArray)
                 .checkpoint();
     }
@@ -152,8 +156,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return get(
                         request,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "droplet", "download"),
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("droplet", "download"),
                         ByteBufFlux::asByteArray)
                 .checkpoint();
     }
@@ -163,7 +168,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return get(
                         request,
                         ApplicationEnvironmentResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("env"))
                 .checkpoint();
     }
 
@@ -172,7 +180,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return get(
                         request,
                         GetApplicationResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId()))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -183,8 +193,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         GetApplicationPermissionsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "permissions"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("permissions"))
                 .checkpoint();
     }
 
@@ -194,8 +205,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         ApplicationInstancesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "instances"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("instances"))
                 .checkpoint();
     }
 
@@ -211,7 +223,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         ListApplicationRoutesResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "routes"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("routes"))
                 .checkpoint();
     }
 
@@ -222,8 +236,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         ListApplicationServiceBindingsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "service_bindings"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("service_bindings"))
                 .checkpoint();
     }
 
@@ -233,11 +248,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "routes",
-                                        request.getRouteId()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -247,11 +261,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "service_bindings",
-                                        request.getServiceBindingId()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("service_bindings")
+                                        .pathVariable(request.getServiceBindingId()))
                 .checkpoint();
     }
 
@@ -261,7 +274,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         RestageApplicationResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "restage"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("restage"))
                 .checkpoint();
     }
 
@@ -270,7 +285,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return get(
                         request,
                         ApplicationStatisticsResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId(), "stats"))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("stats"))
                 .checkpoint();
     }
 
@@ -280,7 +298,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         SummaryApplicationResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "summary"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("summary"))
                 .checkpoint();
     }
 
@@ -290,11 +310,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "instances",
-                                        request.getIndex()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("instances")
+                                        .pathVariable(request.getIndex()))
                 .checkpoint();
     }
 
@@ -303,7 +322,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return put(
                         request,
                         UpdateApplicationResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId()))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -344,8 +365,9 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
                         request,
                         UploadApplicationDropletResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "droplet", "upload"),
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("droplet", "upload"),
                         multipartRequest -> upload(multipartRequest, request),
                         () -> {})
                 .checkpoint();
@@ -356,7 +378,10 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations
         return put(
                         request,
                         UploadApplicationResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId(), "bits"),
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("bits"),
                         multipartRequest ->
                                 upload(request.getApplication(), multipartRequest, request),
                         onTerminate)
@@ -56,8 +56,8 @@ public final class ReactorApplicationUsageEvents extends AbstractClientV2Operati
                         request,
                         GetApplicationUsageEventResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "app_usage_events", request.getApplicationUsageEventId()))
+                                builder.pathSegment("app_usage_events")
+                                        .pathVariable(request.getApplicationUsageEventId()))
                 .checkpoint();
     }
 
@@ -76,7 +76,9 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
         return delete(
                         request,
                         DeleteBuildpackResponse.class,
-                        builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+                        builder ->
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId()))
                 .checkpoint();
     }
 
@@ -85,7 +87,9 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
         return get(
                         request,
                         GetBuildpackResponse.class,
-                        builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+                        builder ->
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId()))
                 .checkpoint();
     }
 
@@ -103,7 +107,9 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
         return put(
                         request,
                         UpdateBuildpackResponse.class,
-                        builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+                        builder ->
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId()))
                 .checkpoint();
     }
 
@@ -144,7 +150,9 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
                         request,
                         UploadBuildpackResponse.class,
                         builder ->
-                                builder.pathSegment("buildpacks", request.getBuildpackId(), "bits"),
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId())
+                                        .pathSegment("bits"),
                         multipartRequest ->
                                 upload(request.getBuildpack(), multipartRequest, filename),
                         onTerminate)
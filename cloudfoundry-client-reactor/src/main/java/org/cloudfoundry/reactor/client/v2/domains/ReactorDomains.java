@@ -67,7 +67,8 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
         return delete(
                         request,
                         DeleteDomainResponse.class,
-                        builder -> builder.pathSegment("domains", request.getDomainId()))
+                        builder ->
+                                builder.pathSegment("domains").pathVariable(request.getDomainId()))
                 .checkpoint();
     }
 
@@ -77,7 +78,8 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
         return get(
                         request,
                         GetDomainResponse.class,
-                        builder -> builder.pathSegment("domains", request.getDomainId()))
+                        builder ->
+                                builder.pathSegment("domains").pathVariable(request.getDomainId()))
                 .checkpoint();
     }
 
@@ -94,7 +96,10 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
         return get(
                         request,
                         ListDomainSpacesResponse.class,
-                        builder -> builder.pathSegment("domains", request.getDomainId(), "spaces"))
+                        builder ->
+                                builder.pathSegment("domains")
+                                        .pathVariable(request.getDomainId())
+                                        .pathSegment("spaces"))
                 .checkpoint();
     }
 }
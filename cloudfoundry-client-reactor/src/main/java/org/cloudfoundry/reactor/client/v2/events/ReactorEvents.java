@@ -53,7 +53,7 @@ public final class ReactorEvents extends AbstractClientV2Operations implements E
         return get(
                         request,
                         GetEventResponse.class,
-                        builder -> builder.pathSegment("events", request.getEventId()))
+                        builder -> builder.pathSegment("events").pathVariable(request.getEventId()))
                 .checkpoint();
     }
 
@@ -56,7 +56,8 @@ public final class ReactorFeatureFlags extends AbstractClientV2Operations implem
                         request,
                         GetFeatureFlagResponse.class,
                         builder ->
-                                builder.pathSegment("config", "feature_flags", request.getName()))
+                                builder.pathSegment("config", "feature_flags")
+                                        .pathVariable(request.getName()))
                 .checkpoint();
     }
 
@@ -75,7 +76,8 @@ public final class ReactorFeatureFlags extends AbstractClientV2Operations implem
                         request,
                         SetFeatureFlagResponse.class,
                         builder ->
-                                builder.pathSegment("config", "feature_flags", request.getName()))
+                                builder.pathSegment("config", "feature_flags")
+                                        .pathVariable(request.getName()))
                 .checkpoint();
     }
 }
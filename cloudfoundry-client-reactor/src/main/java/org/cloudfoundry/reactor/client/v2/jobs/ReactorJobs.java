@@ -51,7 +51,7 @@ public final class ReactorJobs extends AbstractClientV2Operations implements Job
         return get(
                         request,
                         GetJobResponse.class,
-                        builder -> builder.pathSegment("jobs", request.getJobId()))
+                        builder -> builder.pathSegment("jobs").pathVariable(request.getJobId()))
                 .checkpoint();
     }
 }
@@ -72,9 +72,8 @@ public final class ReactorOrganizationQuotaDefinitions extends AbstractClientV2O
                         request,
                         DeleteOrganizationQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "quota_definitions",
-                                        request.getOrganizationQuotaDefinitionId()))
+                                builder.pathSegment("quota_definitions")
+                                        .pathVariable(request.getOrganizationQuotaDefinitionId()))
                 .checkpoint();
     }
 
@@ -85,9 +84,8 @@ public final class ReactorOrganizationQuotaDefinitions extends AbstractClientV2O
                         request,
                         GetOrganizationQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "quota_definitions",
-                                        request.getOrganizationQuotaDefinitionId()))
+                                builder.pathSegment("quota_definitions")
+                                        .pathVariable(request.getOrganizationQuotaDefinitionId()))
                 .checkpoint();
     }
 
@@ -108,9 +106,8 @@ public final class ReactorOrganizationQuotaDefinitions extends AbstractClientV2O
                         request,
                         UpdateOrganizationQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "quota_definitions",
-                                        request.getOrganizationQuotaDefinitionId()))
+                                builder.pathSegment("quota_definitions")
+                                        .pathVariable(request.getOrganizationQuotaDefinitionId()))
                 .checkpoint();
     }
 }
@@ -115,11 +115,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationAuditorResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "auditors",
-                                        request.getAuditorId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("auditors")
+                                        .pathVariable(request.getAuditorId()))
                 .checkpoint();
     }
 
@@ -130,8 +129,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationAuditorByUsernameResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "auditors"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("auditors"))
                 .checkpoint();
     }
 
@@ -142,11 +142,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationBillingManagerResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "billing_managers",
-                                        request.getBillingManagerId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("billing_managers")
+                                        .pathVariable(request.getBillingManagerId()))
                 .checkpoint();
     }
 
@@ -158,10 +157,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationBillingManagerByUsernameResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "billing_managers"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("billing_managers"))
                 .checkpoint();
     }
 
@@ -172,11 +170,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationManagerResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "managers",
-                                        request.getManagerId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("managers")
+                                        .pathVariable(request.getManagerId()))
                 .checkpoint();
     }
 
@@ -187,8 +184,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationManagerByUsernameResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "managers"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("managers"))
                 .checkpoint();
     }
 
@@ -199,11 +197,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationPrivateDomainResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "private_domains",
-                                        request.getPrivateDomainId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("private_domains")
+                                        .pathVariable(request.getPrivateDomainId()))
                 .checkpoint();
     }
 
@@ -214,11 +211,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationUserResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "users",
-                                        request.getUserId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("users")
+                                        .pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -229,8 +225,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         AssociateOrganizationUserByUsernameResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "users"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("users"))
                 .checkpoint();
     }
 
@@ -249,7 +246,8 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         DeleteOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment("organizations", request.getOrganizationId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -259,7 +257,8 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         GetOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment("organizations", request.getOrganizationId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -270,10 +269,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         GetOrganizationInstanceUsageResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "instance_usage"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("instance_usage"))
                 .checkpoint();
     }
 
@@ -284,10 +282,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         GetOrganizationMemoryUsageResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "memory_usage"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("memory_usage"))
                 .checkpoint();
     }
 
@@ -298,8 +295,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         GetOrganizationUserRolesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "user_roles"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("user_roles"))
                 .checkpoint();
     }
 
@@ -319,8 +317,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationAuditorsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "auditors"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("auditors"))
                 .checkpoint();
     }
 
@@ -331,10 +330,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationBillingManagersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "billing_managers"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("billing_managers"))
                 .checkpoint();
     }
 
@@ -346,8 +344,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationDomainsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "domains"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("domains"))
                 .checkpoint();
     }
 
@@ -358,8 +357,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationManagersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "managers"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("managers"))
                 .checkpoint();
     }
 
@@ -370,10 +370,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationPrivateDomainsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "private_domains"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("private_domains"))
                 .checkpoint();
     }
 
@@ -384,8 +383,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationServicesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "services"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("services"))
                 .checkpoint();
     }
 
@@ -396,10 +396,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationSpaceQuotaDefinitionsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "space_quota_definitions"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("space_quota_definitions"))
                 .checkpoint();
     }
 
@@ -409,8 +408,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationSpacesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "spaces"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("spaces"))
                 .checkpoint();
     }
 
@@ -420,8 +420,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         ListOrganizationUsersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "users"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("users"))
                 .checkpoint();
     }
 
@@ -431,11 +432,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "auditors",
-                                        request.getAuditorId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("auditors")
+                                        .pathVariable(request.getAuditorId()))
                 .checkpoint();
     }
 
@@ -445,8 +445,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "auditors"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("auditors"))
                 .checkpoint();
     }
 
@@ -456,11 +457,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "billing_managers",
-                                        request.getBillingManagerId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("billing_managers")
+                                        .pathVariable(request.getBillingManagerId()))
                 .checkpoint();
     }
 
@@ -471,10 +471,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "billing_managers"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("billing_managers"))
                 .checkpoint();
     }
 
@@ -484,11 +483,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "managers",
-                                        request.getManagerId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("managers")
+                                        .pathVariable(request.getManagerId()))
                 .checkpoint();
     }
 
@@ -498,8 +496,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "managers"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("managers"))
                 .checkpoint();
     }
 
@@ -509,11 +508,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "private_domains",
-                                        request.getPrivateDomainId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("private_domains")
+                                        .pathVariable(request.getPrivateDomainId()))
                 .checkpoint();
     }
 
@@ -523,11 +521,10 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "users",
-                                        request.getUserId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("users")
+                                        .pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -537,8 +534,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "users"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("users"))
                 .checkpoint();
     }
 
@@ -548,8 +546,9 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         SummaryOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "summary"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("summary"))
                 .checkpoint();
     }
 
@@ -559,7 +558,8 @@ public final class ReactorOrganizations extends AbstractClientV2Operations
                         request,
                         UpdateOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment("organizations", request.getOrganizationId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 }
@@ -70,8 +70,8 @@ public final class ReactorPrivateDomains extends AbstractClientV2Operations
                         request,
                         DeletePrivateDomainResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "private_domains", request.getPrivateDomainId()))
+                                builder.pathSegment("private_domains")
+                                        .pathVariable(request.getPrivateDomainId()))
                 .checkpoint();
     }
 
@@ -81,8 +81,8 @@ public final class ReactorPrivateDomains extends AbstractClientV2Operations
                         request,
                         GetPrivateDomainResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "private_domains", request.getPrivateDomainId()))
+                                builder.pathSegment("private_domains")
+                                        .pathVariable(request.getPrivateDomainId()))
                 .checkpoint();
     }
 
@@ -102,10 +102,9 @@ public final class ReactorPrivateDomains extends AbstractClientV2Operations
                         request,
                         ListPrivateDomainSharedOrganizationsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "private_domains",
-                                        request.getPrivateDomainId(),
-                                        "shared_organizations"))
+                                builder.pathSegment("private_domains")
+                                        .pathVariable(request.getPrivateDomainId())
+                                        .pathSegment("shared_organizations"))
                 .checkpoint();
     }
 }
@@ -68,7 +68,8 @@ public final class ReactorRouteMappings extends AbstractClientV2Operations
                         request,
                         DeleteRouteMappingResponse.class,
                         builder ->
-                                builder.pathSegment("route_mappings", request.getRouteMappingId()))
+                                builder.pathSegment("route_mappings")
+                                        .pathVariable(request.getRouteMappingId()))
                 .checkpoint();
     }
 
@@ -78,7 +79,8 @@ public final class ReactorRouteMappings extends AbstractClientV2Operations
                         request,
                         GetRouteMappingResponse.class,
                         builder ->
-                                builder.pathSegment("route_mappings", request.getRouteMappingId()))
+                                builder.pathSegment("route_mappings")
+                                        .pathVariable(request.getRouteMappingId()))
                 .checkpoint();
     }
 
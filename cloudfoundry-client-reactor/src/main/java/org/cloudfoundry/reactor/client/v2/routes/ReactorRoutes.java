@@ -73,11 +73,10 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
                         request,
                         AssociateRouteApplicationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "routes",
-                                        request.getRouteId(),
-                                        "apps",
-                                        request.getApplicationId()))
+                                builder.pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -92,7 +91,7 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
         return delete(
                         request,
                         DeleteRouteResponse.class,
-                        builder -> builder.pathSegment("routes", request.getRouteId()))
+                        builder -> builder.pathSegment("routes").pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -102,10 +101,11 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
                         request,
                         Boolean.class,
                         builder -> {
-                            builder.pathSegment(
-                                    "routes", "reserved", "domain", request.getDomainId());
+                            builder.pathSegment("routes", "reserved", "domain")
+                                    .pathVariable(request.getDomainId());
                             Optional.ofNullable(request.getHost())
-                                    .ifPresent(host -> builder.pathSegment("host", host));
+                                    .ifPresent(
+                                            host -> builder.pathSegment("host").pathVariable(host));
                             return builder;
                         })
                 .defaultIfEmpty(true)
@@ -118,7 +118,7 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
         return get(
                         request,
                         GetRouteResponse.class,
-                        builder -> builder.pathSegment("routes", request.getRouteId()))
+                        builder -> builder.pathSegment("routes").pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -134,7 +134,10 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
         return get(
                         request,
                         ListRouteApplicationsResponse.class,
-                        builder -> builder.pathSegment("routes", request.getRouteId(), "apps"))
+                        builder ->
+                                builder.pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("apps"))
                 .checkpoint();
     }
 
@@ -144,8 +147,9 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
                         request,
                         ListRouteMappingsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "routes", request.getRouteId(), "route_mappings"))
+                                builder.pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("route_mappings"))
                 .checkpoint();
     }
 
@@ -155,11 +159,10 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "routes",
-                                        request.getRouteId(),
-                                        "apps",
-                                        request.getApplicationId()))
+                                builder.pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -168,7 +171,7 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
         return put(
                         request,
                         UpdateRouteResponse.class,
-                        builder -> builder.pathSegment("routes", request.getRouteId()))
+                        builder -> builder.pathSegment("routes").pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 }
@@ -76,11 +76,10 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         AssociateSecurityGroupSpaceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups",
-                                        request.getSecurityGroupId(),
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -99,8 +98,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         DeleteSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -110,8 +109,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         GetSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -141,8 +140,9 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         ListSecurityGroupSpacesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId(), "spaces"))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("spaces"))
                 .checkpoint();
     }
 
@@ -162,10 +162,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "config",
-                                        "running_security_groups",
-                                        request.getSecurityGroupId()))
+                                builder.pathSegment("config", "running_security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -175,11 +173,10 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups",
-                                        request.getSecurityGroupId(),
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -189,10 +186,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "config",
-                                        "staging_security_groups",
-                                        request.getSecurityGroupId()))
+                                builder.pathSegment("config", "staging_security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -203,10 +198,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         SetSecurityGroupRunningDefaultResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "config",
-                                        "running_security_groups",
-                                        request.getSecurityGroupId()))
+                                builder.pathSegment("config", "running_security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -217,10 +210,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         SetSecurityGroupStagingDefaultResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "config",
-                                        "staging_security_groups",
-                                        request.getSecurityGroupId()))
+                                builder.pathSegment("config", "staging_security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -230,8 +221,8 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
                         request,
                         UpdateSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 }
@@ -70,8 +70,8 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations
                         request,
                         DeleteServiceBindingResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_bindings", request.getServiceBindingId()))
+                                builder.pathSegment("service_bindings")
+                                        .pathVariable(request.getServiceBindingId()))
                 .checkpoint();
     }
 
@@ -81,8 +81,8 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations
                         request,
                         GetServiceBindingResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_bindings", request.getServiceBindingId()))
+                                builder.pathSegment("service_bindings")
+                                        .pathVariable(request.getServiceBindingId()))
                 .checkpoint();
     }
 
@@ -93,10 +93,9 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations
                         request,
                         GetServiceBindingParametersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_bindings",
-                                        request.getServiceBindingId(),
-                                        "parameters"))
+                                builder.pathSegment("service_bindings")
+                                        .pathVariable(request.getServiceBindingId())
+                                        .pathSegment("parameters"))
                 .checkpoint();
     }
 
@@ -69,8 +69,8 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_brokers", request.getServiceBrokerId()))
+                                builder.pathSegment("service_brokers")
+                                        .pathVariable(request.getServiceBrokerId()))
                 .checkpoint();
     }
 
@@ -80,8 +80,8 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations
                         request,
                         GetServiceBrokerResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_brokers", request.getServiceBrokerId()))
+                                builder.pathSegment("service_brokers")
+                                        .pathVariable(request.getServiceBrokerId()))
                 .checkpoint();
     }
 
@@ -100,8 +100,8 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations
                         request,
                         UpdateServiceBrokerResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_brokers", request.getServiceBrokerId()))
+                                builder.pathSegment("service_brokers")
+                                        .pathVariable(request.getServiceBrokerId()))
                 .checkpoint();
     }
 }
@@ -75,11 +75,10 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         BindServiceInstanceRouteResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "routes",
-                                        request.getRouteId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -98,8 +97,8 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         DeleteServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances", request.getServiceInstanceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId()))
                 .checkpoint();
     }
 
@@ -109,8 +108,8 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         GetServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances", request.getServiceInstanceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId()))
                 .checkpoint();
     }
 
@@ -121,10 +120,9 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         GetServiceInstanceParametersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "parameters"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("parameters"))
                 .checkpoint();
     }
 
@@ -135,10 +133,9 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         GetServiceInstancePermissionsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "permissions"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("permissions"))
                 .checkpoint();
     }
 
@@ -158,10 +155,9 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         ListServiceInstanceRoutesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "routes"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("routes"))
                 .checkpoint();
     }
 
@@ -172,10 +168,9 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         ListServiceInstanceServiceBindingsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "service_bindings"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("service_bindings"))
                 .checkpoint();
     }
 
@@ -186,10 +181,9 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         ListServiceInstanceServiceKeysResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "service_keys"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("service_keys"))
                 .checkpoint();
     }
 
@@ -199,11 +193,10 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "routes",
-                                        request.getRouteId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -213,8 +206,8 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations
                         request,
                         UpdateServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances", request.getServiceInstanceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId()))
                 .checkpoint();
     }
 }
@@ -66,7 +66,9 @@ public final class ReactorServiceKeys extends AbstractClientV2Operations impleme
         return delete(
                         request,
                         Void.class,
-                        builder -> builder.pathSegment("service_keys", request.getServiceKeyId()))
+                        builder ->
+                                builder.pathSegment("service_keys")
+                                        .pathVariable(request.getServiceKeyId()))
                 .checkpoint();
     }
 
@@ -75,7 +77,9 @@ public final class ReactorServiceKeys extends AbstractClientV2Operations impleme
         return get(
                         request,
                         GetServiceKeyResponse.class,
-                        builder -> builder.pathSegment("service_keys", request.getServiceKeyId()))
+                        builder ->
+                                builder.pathSegment("service_keys")
+                                        .pathVariable(request.getServiceKeyId()))
                 .checkpoint();
     }
 
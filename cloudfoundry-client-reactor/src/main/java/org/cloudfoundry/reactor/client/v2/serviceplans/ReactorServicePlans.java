@@ -59,7 +59,9 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
         return delete(
                         request,
                         DeleteServicePlanResponse.class,
-                        builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+                        builder ->
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId()))
                 .checkpoint();
     }
 
@@ -68,7 +70,9 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
         return get(
                         request,
                         GetServicePlanResponse.class,
-                        builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+                        builder ->
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId()))
                 .checkpoint();
     }
 
@@ -88,10 +92,9 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
                         request,
                         ListServicePlanServiceInstancesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_plans",
-                                        request.getServicePlanId(),
-                                        "service_instances"))
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId())
+                                        .pathSegment("service_instances"))
                 .checkpoint();
     }
 
@@ -100,7 +103,9 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
         return put(
                         request,
                         UpdateServicePlanResponse.class,
-                        builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+                        builder ->
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId()))
                 .checkpoint();
     }
 }
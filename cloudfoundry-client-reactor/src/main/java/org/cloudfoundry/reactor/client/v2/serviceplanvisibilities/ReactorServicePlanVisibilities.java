@@ -72,9 +72,8 @@ public final class ReactorServicePlanVisibilities extends AbstractClientV2Operat
                         request,
                         DeleteServicePlanVisibilityResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_plan_visibilities",
-                                        request.getServicePlanVisibilityId()))
+                                builder.pathSegment("service_plan_visibilities")
+                                        .pathVariable(request.getServicePlanVisibilityId()))
                 .checkpoint();
     }
 
@@ -84,9 +83,8 @@ public final class ReactorServicePlanVisibilities extends AbstractClientV2Operat
                         request,
                         GetServicePlanVisibilityResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_plan_visibilities",
-                                        request.getServicePlanVisibilityId()))
+                                builder.pathSegment("service_plan_visibilities")
+                                        .pathVariable(request.getServicePlanVisibilityId()))
                 .checkpoint();
     }
 
@@ -107,9 +105,8 @@ public final class ReactorServicePlanVisibilities extends AbstractClientV2Operat
                         request,
                         UpdateServicePlanVisibilityResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_plan_visibilities",
-                                        request.getServicePlanVisibilityId()))
+                                builder.pathSegment("service_plan_visibilities")
+                                        .pathVariable(request.getServicePlanVisibilityId()))
                 .checkpoint();
     }
 }
@@ -57,7 +57,9 @@ public final class ReactorServices extends AbstractClientV2Operations implements
         return delete(
                         request,
                         DeleteServiceResponse.class,
-                        builder -> builder.pathSegment("services", request.getServiceId()))
+                        builder ->
+                                builder.pathSegment("services")
+                                        .pathVariable(request.getServiceId()))
                 .checkpoint();
     }
 
@@ -66,7 +68,9 @@ public final class ReactorServices extends AbstractClientV2Operations implements
         return get(
                         request,
                         GetServiceResponse.class,
-                        builder -> builder.pathSegment("services", request.getServiceId()))
+                        builder ->
+                                builder.pathSegment("services")
+                                        .pathVariable(request.getServiceId()))
                 .checkpoint();
     }
 
@@ -83,8 +87,9 @@ public final class ReactorServices extends AbstractClientV2Operations implements
                         request,
                         ListServiceServicePlansResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "services", request.getServiceId(), "service_plans"))
+                                builder.pathSegment("services")
+                                        .pathVariable(request.getServiceId())
+                                        .pathSegment("service_plans"))
                 .checkpoint();
     }
 }
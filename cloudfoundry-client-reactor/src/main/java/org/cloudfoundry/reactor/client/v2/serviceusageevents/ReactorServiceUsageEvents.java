@@ -56,8 +56,8 @@ public final class ReactorServiceUsageEvents extends AbstractClientV2Operations
                         request,
                         GetServiceUsageEventResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_usage_events", request.getServiceUsageEventId()))
+                                builder.pathSegment("service_usage_events")
+                                        .pathVariable(request.getServiceUsageEventId()))
                 .checkpoint();
     }
 
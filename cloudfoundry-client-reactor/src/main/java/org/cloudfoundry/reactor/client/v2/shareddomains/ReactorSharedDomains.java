@@ -68,7 +68,8 @@ public final class ReactorSharedDomains extends AbstractClientV2Operations
                         request,
                         DeleteSharedDomainResponse.class,
                         builder ->
-                                builder.pathSegment("shared_domains", request.getSharedDomainId()))
+                                builder.pathSegment("shared_domains")
+                                        .pathVariable(request.getSharedDomainId()))
                 .checkpoint();
     }
 
@@ -78,7 +79,8 @@ public final class ReactorSharedDomains extends AbstractClientV2Operations
                         request,
                         GetSharedDomainResponse.class,
                         builder ->
-                                builder.pathSegment("shared_domains", request.getSharedDomainId()))
+                                builder.pathSegment("shared_domains")
+                                        .pathVariable(request.getSharedDomainId()))
                 .checkpoint();
     }
 
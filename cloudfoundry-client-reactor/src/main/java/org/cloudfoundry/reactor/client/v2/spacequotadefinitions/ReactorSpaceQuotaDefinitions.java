@@ -67,11 +67,10 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
                         request,
                         AssociateSpaceQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quota_definitions",
-                                        request.getSpaceQuotaDefinitionId(),
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("space_quota_definitions")
+                                        .pathVariable(request.getSpaceQuotaDefinitionId())
+                                        .pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -92,9 +91,8 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
                         request,
                         DeleteSpaceQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quota_definitions",
-                                        request.getSpaceQuotaDefinitionId()))
+                                builder.pathSegment("space_quota_definitions")
+                                        .pathVariable(request.getSpaceQuotaDefinitionId()))
                 .checkpoint();
     }
 
@@ -104,9 +102,8 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
                         request,
                         GetSpaceQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quota_definitions",
-                                        request.getSpaceQuotaDefinitionId()))
+                                builder.pathSegment("space_quota_definitions")
+                                        .pathVariable(request.getSpaceQuotaDefinitionId()))
                 .checkpoint();
     }
 
@@ -126,10 +123,9 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
                         request,
                         ListSpaceQuotaDefinitionSpacesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quota_definitions",
-                                        request.getSpaceQuotaDefinitionId(),
-                                        "spaces"))
+                                builder.pathSegment("space_quota_definitions")
+                                        .pathVariable(request.getSpaceQuotaDefinitionId())
+                                        .pathSegment("spaces"))
                 .checkpoint();
     }
 
@@ -139,11 +135,10 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quota_definitions",
-                                        request.getSpaceQuotaDefinitionId(),
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("space_quota_definitions")
+                                        .pathVariable(request.getSpaceQuotaDefinitionId())
+                                        .pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -154,9 +149,8 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
                         request,
                         UpdateSpaceQuotaDefinitionResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quota_definitions",
-                                        request.getSpaceQuotaDefinitionId()))
+                                builder.pathSegment("space_quota_definitions")
+                                        .pathVariable(request.getSpaceQuotaDefinitionId()))
                 .checkpoint();
     }
 }
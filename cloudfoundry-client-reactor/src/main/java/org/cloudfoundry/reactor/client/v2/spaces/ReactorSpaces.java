@@ -109,11 +109,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         AssociateSpaceAuditorResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "auditors",
-                                        request.getAuditorId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("auditors")
+                                        .pathVariable(request.getAuditorId()))
                 .checkpoint();
     }
 
@@ -123,7 +122,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return put(
                         request,
                         AssociateSpaceAuditorByUsernameResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("auditors"))
                 .checkpoint();
     }
 
@@ -134,11 +136,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         AssociateSpaceDeveloperResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "developers",
-                                        request.getDeveloperId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("developers")
+                                        .pathVariable(request.getDeveloperId()))
                 .checkpoint();
     }
 
@@ -149,7 +150,9 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         AssociateSpaceDeveloperByUsernameResponse.class,
                         builder ->
-                                builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("developers"))
                 .checkpoint();
     }
 
@@ -160,11 +163,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         AssociateSpaceManagerResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "managers",
-                                        request.getManagerId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("managers")
+                                        .pathVariable(request.getManagerId()))
                 .checkpoint();
     }
 
@@ -174,7 +176,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return put(
                         request,
                         AssociateSpaceManagerByUsernameResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("managers"))
                 .checkpoint();
     }
 
@@ -185,11 +190,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         AssociateSpaceSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "security_groups",
-                                        request.getSecurityGroupId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -204,7 +208,7 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return delete(
                         request,
                         DeleteSpaceResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId()))
+                        builder -> builder.pathSegment("spaces").pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -213,7 +217,7 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         GetSpaceResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId()))
+                        builder -> builder.pathSegment("spaces").pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -222,7 +226,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         GetSpaceSummaryResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "summary"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("summary"))
                 .checkpoint();
     }
 
@@ -238,7 +245,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceApplicationsResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "apps"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("apps"))
                 .checkpoint();
     }
 
@@ -247,7 +257,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceAuditorsResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("auditors"))
                 .checkpoint();
     }
 
@@ -257,7 +270,9 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         ListSpaceDevelopersResponse.class,
                         builder ->
-                                builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("developers"))
                 .checkpoint();
     }
 
@@ -267,7 +282,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceDomainsResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "domains"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("domains"))
                 .checkpoint();
     }
 
@@ -276,7 +294,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceEventsResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "events"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("events"))
                 .checkpoint();
     }
 
@@ -285,7 +306,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceManagersResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("managers"))
                 .checkpoint();
     }
 
@@ -294,7 +318,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceRoutesResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("routes"))
                 .checkpoint();
     }
 
@@ -305,8 +332,9 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         ListSpaceSecurityGroupsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces", request.getSpaceId(), "security_groups"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("security_groups"))
                 .checkpoint();
     }
 
@@ -317,8 +345,9 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         ListSpaceServiceInstancesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces", request.getSpaceId(), "service_instances"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("service_instances"))
                 .checkpoint();
     }
 
@@ -327,7 +356,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return get(
                         request,
                         ListSpaceServicesResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "services"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("services"))
                 .checkpoint();
     }
 
@@ -337,7 +369,9 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         ListSpaceUserRolesResponse.class,
                         builder ->
-                                builder.pathSegment("spaces", request.getSpaceId(), "user_roles"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("user_roles"))
                 .checkpoint();
     }
 
@@ -347,11 +381,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "auditors",
-                                        request.getAuditorId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("auditors")
+                                        .pathVariable(request.getAuditorId()))
                 .checkpoint();
     }
 
@@ -361,7 +394,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return delete(
                         request,
                         RemoveSpaceAuditorByUsernameResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("auditors"))
                 .checkpoint();
     }
 
@@ -371,11 +407,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "developers",
-                                        request.getDeveloperId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("developers")
+                                        .pathVariable(request.getDeveloperId()))
                 .checkpoint();
     }
 
@@ -386,7 +421,9 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         RemoveSpaceDeveloperByUsernameResponse.class,
                         builder ->
-                                builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("developers"))
                 .checkpoint();
     }
 
@@ -396,11 +433,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "managers",
-                                        request.getManagerId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("managers")
+                                        .pathVariable(request.getManagerId()))
                 .checkpoint();
     }
 
@@ -410,7 +446,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return delete(
                         request,
                         RemoveSpaceManagerByUsernameResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+                        builder ->
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("managers"))
                 .checkpoint();
     }
 
@@ -420,11 +459,10 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "security_groups",
-                                        request.getSecurityGroupId()))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -433,7 +471,7 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         return put(
                         request,
                         UpdateSpaceResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId()))
+                        builder -> builder.pathSegment("spaces").pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 }
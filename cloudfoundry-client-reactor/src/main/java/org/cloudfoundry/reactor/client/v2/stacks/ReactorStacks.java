@@ -63,7 +63,7 @@ public final class ReactorStacks extends AbstractClientV2Operations implements S
         return delete(
                         request,
                         DeleteStackResponse.class,
-                        builder -> builder.pathSegment("stacks", request.getStackId()))
+                        builder -> builder.pathSegment("stacks").pathVariable(request.getStackId()))
                 .checkpoint();
     }
 
@@ -72,7 +72,7 @@ public final class ReactorStacks extends AbstractClientV2Operations implements S
         return get(
                         request,
                         GetStackResponse.class,
-                        builder -> builder.pathSegment("stacks", request.getStackId()))
+                        builder -> builder.pathSegment("stacks").pathVariable(request.getStackId()))
                 .checkpoint();
     }
 
@@ -68,11 +68,10 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         AssociateUserProvidedServiceInstanceRouteResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId(),
-                                        "routes",
-                                        request.getRouteId()))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId())
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -92,9 +91,8 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId()))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId()))
                 .checkpoint();
     }
 
@@ -105,9 +103,8 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         GetUserProvidedServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId()))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId()))
                 .checkpoint();
     }
 
@@ -128,10 +125,9 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         ListUserProvidedServiceInstanceRoutesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId(),
-                                        "routes"))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId())
+                                        .pathSegment("routes"))
                 .checkpoint();
     }
 
@@ -142,10 +138,9 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         ListUserProvidedServiceInstanceServiceBindingsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId(),
-                                        "service_bindings"))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId())
+                                        .pathSegment("service_bindings"))
                 .checkpoint();
     }
 
@@ -155,11 +150,10 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId(),
-                                        "routes",
-                                        request.getRouteId()))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId())
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -170,9 +164,8 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
                         request,
                         UpdateUserProvidedServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "user_provided_service_instances",
-                                        request.getUserProvidedServiceInstanceId()))
+                                builder.pathSegment("user_provided_service_instances")
+                                        .pathVariable(request.getUserProvidedServiceInstanceId()))
                 .checkpoint();
     }
 }
@@ -98,11 +98,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserAuditedOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "audited_organizations",
-                                        request.getAuditedOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("audited_organizations")
+                                        .pathVariable(request.getAuditedOrganizationId()))
                 .checkpoint();
     }
 
@@ -113,11 +112,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserAuditedSpaceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "audited_spaces",
-                                        request.getAuditedSpaceId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("audited_spaces")
+                                        .pathVariable(request.getAuditedSpaceId()))
                 .checkpoint();
     }
 
@@ -129,11 +127,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserBillingManagedOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "billing_managed_organizations",
-                                        request.getBillingManagedOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("billing_managed_organizations")
+                                        .pathVariable(request.getBillingManagedOrganizationId()))
                 .checkpoint();
     }
 
@@ -144,11 +141,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserManagedOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "managed_organizations",
-                                        request.getManagedOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("managed_organizations")
+                                        .pathVariable(request.getManagedOrganizationId()))
                 .checkpoint();
     }
 
@@ -159,11 +155,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserManagedSpaceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "managed_spaces",
-                                        request.getManagedSpaceId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("managed_spaces")
+                                        .pathVariable(request.getManagedSpaceId()))
                 .checkpoint();
     }
 
@@ -174,11 +169,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "organizations",
-                                        request.getOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -188,11 +182,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         AssociateUserSpaceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -207,7 +200,7 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
         return delete(
                         request,
                         DeleteUserResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId()))
+                        builder -> builder.pathSegment("users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -216,7 +209,7 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
         return get(
                         request,
                         GetUserResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId()))
+                        builder -> builder.pathSegment("users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -233,8 +226,9 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         ListUserAuditedOrganizationsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users", request.getUserId(), "audited_organizations"))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("audited_organizations"))
                 .checkpoint();
     }
 
@@ -245,7 +239,9 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         ListUserAuditedSpacesResponse.class,
                         builder ->
-                                builder.pathSegment("users", request.getUserId(), "audited_spaces"))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("audited_spaces"))
                 .checkpoint();
     }
 
@@ -256,10 +252,9 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         ListUserBillingManagedOrganizationsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "billing_managed_organizations"))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("billing_managed_organizations"))
                 .checkpoint();
     }
 
@@ -270,8 +265,9 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         ListUserManagedOrganizationsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users", request.getUserId(), "managed_organizations"))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("managed_organizations"))
                 .checkpoint();
     }
 
@@ -282,7 +278,9 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         ListUserManagedSpacesResponse.class,
                         builder ->
-                                builder.pathSegment("users", request.getUserId(), "managed_spaces"))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("managed_spaces"))
                 .checkpoint();
     }
 
@@ -293,7 +291,9 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         ListUserOrganizationsResponse.class,
                         builder ->
-                                builder.pathSegment("users", request.getUserId(), "organizations"))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("organizations"))
                 .checkpoint();
     }
 
@@ -302,7 +302,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
         return get(
                         request,
                         ListUserSpacesResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId(), "spaces"))
+                        builder ->
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("spaces"))
                 .checkpoint();
     }
 
@@ -312,11 +315,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "audited_organizations",
-                                        request.getAuditedOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("audited_organizations")
+                                        .pathVariable(request.getAuditedOrganizationId()))
                 .checkpoint();
     }
 
@@ -326,11 +328,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "audited_spaces",
-                                        request.getAuditedSpaceId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("audited_spaces")
+                                        .pathVariable(request.getAuditedSpaceId()))
                 .checkpoint();
     }
 
@@ -341,11 +342,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "billing_managed_organizations",
-                                        request.getBillingManagedOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("billing_managed_organizations")
+                                        .pathVariable(request.getBillingManagedOrganizationId()))
                 .checkpoint();
     }
 
@@ -355,11 +355,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "managed_organizations",
-                                        request.getManagedOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("managed_organizations")
+                                        .pathVariable(request.getManagedOrganizationId()))
                 .checkpoint();
     }
 
@@ -369,11 +368,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "managed_spaces",
-                                        request.getManagedSpaceId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("managed_spaces")
+                                        .pathVariable(request.getManagedSpaceId()))
                 .checkpoint();
     }
 
@@ -383,11 +381,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "organizations",
-                                        request.getOrganizationId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -397,11 +394,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "users",
-                                        request.getUserId(),
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -410,7 +406,10 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
         return get(
                         request,
                         SummaryUserResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId(), "summary"))
+                        builder ->
+                                builder.pathSegment("users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("summary"))
                 .checkpoint();
     }
 
@@ -419,7 +418,7 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
         return put(
                         request,
                         UpdateUserResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId()))
+                        builder -> builder.pathSegment("users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 }
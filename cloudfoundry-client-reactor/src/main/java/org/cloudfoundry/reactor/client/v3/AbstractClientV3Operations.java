@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.client.v3;
 
+import com.fasterxml.jackson.databind.JavaType;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import org.cloudfoundry.client.v3.PaginatedResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.HttpClientResponseWithParsedBody;
 import org.cloudfoundry.reactor.TokenProvider;
@@ -32,6 +34,7 @@ import org.cloudfoundry.reactor.util.DelegatingUriQueryParameterBuilder;
 import org.cloudfoundry.reactor.util.ErrorPayloadMappers;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameterBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
@@ -65,13 +68,14 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     }
 
     @Override
-    protected Mono<Operator> createOperator() {
-        return super.createOperator().map(this::attachErrorPayloadMapper);
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("cloud_controller_v3")
+                .withErrorPayloadMapper(
+                        ErrorPayloadMappers.clientV3(this.connectionContext.getObjectMapper()));
     }
 
     protected final Mono<String> delete(
-            Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Object requestPayload, Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -88,7 +92,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> delete(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -104,7 +108,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<HttpClientResponseWithParsedBody<T>> deleteWithResponse(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -119,7 +123,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
 
     protected final <T> Flux<T> get(
             Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Function<ByteBufFlux, Flux<T>> bodyTransformer) {
         return createOperator()
                 .flatMapMany(
@@ -139,7 +143,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> get(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -151,10 +155,37 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
                                         .parseBody(responseType));
     }
 
+    protected final <T, U extends PaginatedResponse<T>> Flux<T> getResources(
+            Object requestPayload,
+            Class<U> responseType,
+            Consumer<? super U> paginationConsumer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
+        JavaType resourceType =
+                this.connectionContext
+                        .getObjectMapper()
+                        .getTypeFactory()
+                        .constructType(responseType)
+                        .findTypeParameters(PaginatedResponse.class)[0];
+
+        return createOperator()
+                .flatMapMany(
+                        operator ->
+                                operator.get()
+                                        .uri(
+                                                queryTransformer(requestPayload)
+                                                        .andThen(uriTransformer))
+                                        .response()
+                                        .parseBodyElements(
+                                                responseType,
+                                                "resources",
+                                                resourceType,
+                                                paginationConsumer));
+    }
+
     protected final <T> Mono<T> patch(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -170,7 +201,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<HttpClientResponseWithParsedBody<T>> patchWithResponse(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -186,7 +217,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> post(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<MultipartHttpClientRequest> requestTransformer,
             Runnable onTerminate) {
         return createOperator()
@@ -205,7 +236,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected <T> Mono<T> post(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -219,8 +250,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     }
 
     protected final Mono<String> post(
-            Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Object requestPayload, Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -238,7 +268,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
             byte[] requestPayload,
             String contentType,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -267,7 +297,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<HttpClientResponseWithParsedBody<T>> postWithResponse(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -283,7 +313,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     protected final <T> Mono<T> put(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -296,11 +326,6 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
                                         .parseBody(responseType));
     }
 
-    private Operator attachErrorPayloadMapper(Operator operator) {
-        return operator.withErrorPayloadMapper(
-                ErrorPayloadMappers.clientV3(this.connectionContext.getObjectMapper()));
-    }
-
     private MultipartHttpClientRequest createMultipartRequest(
             HttpClientRequest request, HttpClientForm form) {
         return new MultipartHttpClientRequest(
@@ -321,8 +346,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
         };
     }
 
-    private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(
-            Object requestPayload) {
+    private Function<RequestUriBuilder, RequestUriBuilder> queryTransformer(Object requestPayload) {
         return builder -> {
             Stream<UriQueryParameter> parameters =
                     getUriQueryParameterBuilder().build(requestPayload);
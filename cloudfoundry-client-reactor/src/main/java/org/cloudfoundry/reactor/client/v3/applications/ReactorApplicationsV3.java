@@ -112,7 +112,11 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
 
     @Override
     public Mono<String> delete(DeleteApplicationRequest request) {
-        return delete(request, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return delete(
+                        request,
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -121,7 +125,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
         return get(
                         request,
                         GetApplicationResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId()))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -132,8 +138,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationCurrentDropletResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "droplets", "current"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("droplets", "current"))
                 .checkpoint();
     }
 
@@ -144,11 +151,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationCurrentDropletRelationshipResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "relationships",
-                                        "current_droplet"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("relationships", "current_droplet"))
                 .checkpoint();
     }
 
@@ -158,7 +163,10 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
         return get(
                         request,
                         GetApplicationEnvironmentResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("env"))
                 .checkpoint();
     }
 
@@ -169,10 +177,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationEnvironmentVariablesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "environment_variables"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("environment_variables"))
                 .checkpoint();
     }
 
@@ -182,11 +189,10 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationFeatureResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "features",
-                                        request.getFeatureName()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("features")
+                                        .pathVariable(request.getFeatureName()))
                 .checkpoint();
     }
 
@@ -197,8 +203,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationPermissionsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "permissions"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("permissions"))
                 .checkpoint();
     }
 
@@ -208,11 +215,10 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationProcessResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "processes",
-                                        request.getType()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("processes")
+                                        .pathVariable(request.getType()))
                 .checkpoint();
     }
 
@@ -223,12 +229,11 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationProcessStatisticsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "processes",
-                                        request.getType(),
-                                        "stats"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("processes")
+                                        .pathVariable(request.getType())
+                                        .pathSegment("stats"))
                 .checkpoint();
     }
 
@@ -239,8 +244,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         GetApplicationSshEnabledResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "ssh_enabled"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("ssh_enabled"))
                 .checkpoint();
     }
 
@@ -256,7 +262,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ListApplicationBuildsResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "builds"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("builds"))
                 .checkpoint();
     }
 
@@ -267,7 +275,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ListApplicationDropletsResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "droplets"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("droplets"))
                 .checkpoint();
     }
 
@@ -278,7 +288,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ListApplicationFeaturesResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "features"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("features"))
                 .checkpoint();
     }
 
@@ -289,7 +301,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ListApplicationPackagesResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "packages"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("packages"))
                 .checkpoint();
     }
 
@@ -300,8 +314,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ListApplicationProcessesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "processes"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("processes"))
                 .checkpoint();
     }
 
@@ -311,7 +326,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ListApplicationRoutesResponse.class,
                         builder ->
-                                builder.pathSegment("apps", request.getApplicationId(), "routes"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("routes"))
                 .checkpoint();
     }
 
@@ -320,7 +337,10 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
         return get(
                         request,
                         ListApplicationTasksResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId(), "tasks"))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("tasks"))
                 .checkpoint();
     }
 
@@ -330,13 +350,11 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         ScaleApplicationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "processes",
-                                        request.getType(),
-                                        "actions",
-                                        "scale"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("processes")
+                                        .pathVariable(request.getType())
+                                        .pathSegment("actions", "scale"))
                 .checkpoint();
     }
 
@@ -347,11 +365,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         SetApplicationCurrentDropletResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "relationships",
-                                        "current_droplet"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("relationships", "current_droplet"))
                 .checkpoint();
     }
 
@@ -361,8 +377,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         StartApplicationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "actions", "start"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("actions", "start"))
                 .checkpoint();
     }
 
@@ -372,8 +389,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         RestartApplicationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "actions", "restart"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("actions", "restart"))
                 .checkpoint();
     }
 
@@ -383,8 +401,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         StopApplicationResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "actions", "stop"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("actions", "stop"))
                 .checkpoint();
     }
 
@@ -394,13 +413,12 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "processes",
-                                        request.getType(),
-                                        "instances",
-                                        request.getIndex()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("processes")
+                                        .pathVariable(request.getType())
+                                        .pathSegment("instances")
+                                        .pathVariable(request.getIndex()))
                 .checkpoint();
     }
 
@@ -409,7 +427,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
         return patch(
                         request,
                         UpdateApplicationResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId()))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId()))
                 .checkpoint();
     }
 
@@ -420,10 +440,9 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         UpdateApplicationEnvironmentVariablesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "environment_variables"))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("environment_variables"))
                 .checkpoint();
     }
 
@@ -434,11 +453,10 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations
                         request,
                         UpdateApplicationFeatureResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "apps",
-                                        request.getApplicationId(),
-                                        "features",
-                                        request.getFeatureName()))
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("features")
+                                        .pathVariable(request.getFeatureName()))
                 .checkpoint();
     }
 }
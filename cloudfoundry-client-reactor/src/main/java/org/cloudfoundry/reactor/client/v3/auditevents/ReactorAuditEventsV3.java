@@ -42,7 +42,9 @@ public class ReactorAuditEventsV3 extends AbstractClientV3Operations implements
         return get(
                         request,
                         GetAuditEventResponse.class,
-                        builder -> builder.pathSegment("audit_events", request.getEventId()))
+                        builder ->
+                                builder.pathSegment("audit_events")
+                                        .pathVariable(request.getEventId()))
                 .checkpoint();
     }
 
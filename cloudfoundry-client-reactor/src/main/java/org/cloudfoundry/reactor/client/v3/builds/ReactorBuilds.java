@@ -61,7 +61,7 @@ public final class ReactorBuilds extends AbstractClientV3Operations implements B
         return get(
                         request,
                         GetBuildResponse.class,
-                        builder -> builder.pathSegment("builds", request.getBuildId()))
+                        builder -> builder.pathSegment("builds").pathVariable(request.getBuildId()))
                 .checkpoint();
     }
 
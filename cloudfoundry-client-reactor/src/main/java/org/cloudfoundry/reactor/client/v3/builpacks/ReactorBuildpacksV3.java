@@ -74,7 +74,9 @@ public final class ReactorBuildpacksV3 extends AbstractClientV3Operations implem
     public Mono<String> delete(DeleteBuildpackRequest request) {
         return delete(
                         request,
-                        builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+                        builder ->
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId()))
                 .checkpoint();
     }
 
@@ -83,7 +85,9 @@ public final class ReactorBuildpacksV3 extends AbstractClientV3Operations implem
         return get(
                         request,
                         GetBuildpackResponse.class,
-                        builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+                        builder ->
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId()))
                 .checkpoint();
     }
 
@@ -101,7 +105,9 @@ public final class ReactorBuildpacksV3 extends AbstractClientV3Operations implem
         return patch(
                         request,
                         UpdateBuildpackResponse.class,
-                        builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+                        builder ->
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId()))
                 .checkpoint();
     }
 
@@ -140,8 +146,9 @@ public final class ReactorBuildpacksV3 extends AbstractClientV3Operations implem
                         request,
                         UploadBuildpackResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "buildpacks", request.getBuildpackId(), "upload"),
+                                builder.pathSegment("buildpacks")
+                                        .pathVariable(request.getBuildpackId())
+                                        .pathSegment("upload"),
                         outbound -> upload(request.getBits(), outbound),
                         onTerminate)
                 .checkpoint();
@@ -59,11 +59,9 @@ public final class ReactorDeploymentsV3 extends AbstractClientV3Operations
                         request,
                         CancelDeploymentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "deployments",
-                                        request.getDeploymentId(),
-                                        "actions",
-                                        "cancel"))
+                                builder.pathSegment("deployments")
+                                        .pathVariable(request.getDeploymentId())
+                                        .pathSegment("actions", "cancel"))
                 .checkpoint();
     }
 
@@ -81,7 +79,9 @@ public final class ReactorDeploymentsV3 extends AbstractClientV3Operations
         return get(
                         request,
                         GetDeploymentResponse.class,
-                        builder -> builder.pathSegment("deployments", request.getDeploymentId()))
+                        builder ->
+                                builder.pathSegment("deployments")
+                                        .pathVariable(request.getDeploymentId()))
                 .checkpoint();
     }
 
@@ -65,8 +65,9 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
                         request,
                         CheckReservedRoutesResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "domains", request.getDomainId(), "route_reservations"))
+                                builder.pathSegment("domains")
+                                        .pathVariable(request.getDomainId())
+                                        .pathSegment("route_reservations"))
                 .checkpoint();
     }
 
@@ -78,7 +79,10 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
 
     @Override
     public Mono<String> delete(DeleteDomainRequest request) {
-        return delete(request, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return delete(
+                        request,
+                        builder ->
+                                builder.pathSegment("domains").pathVariable(request.getDomainId()))
                 .checkpoint();
     }
 
@@ -87,7 +91,8 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
         return get(
                         request,
                         GetDomainResponse.class,
-                        builder -> builder.pathSegment("domains", request.getDomainId()))
+                        builder ->
+                                builder.pathSegment("domains").pathVariable(request.getDomainId()))
                 .checkpoint();
     }
 
@@ -103,11 +108,9 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
                         request,
                         ShareDomainResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "domains",
-                                        request.getDomainId(),
-                                        "relationships",
-                                        "shared_organizations"))
+                                builder.pathSegment("domains")
+                                        .pathVariable(request.getDomainId())
+                                        .pathSegment("relationships", "shared_organizations"))
                 .checkpoint();
     }
 
@@ -117,12 +120,10 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "domains",
-                                        request.getDomainId(),
-                                        "relationships",
-                                        "shared_organizations",
-                                        request.getOrganizationId()))
+                                builder.pathSegment("domains")
+                                        .pathVariable(request.getDomainId())
+                                        .pathSegment("relationships", "shared_organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -131,7 +132,8 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
         return patch(
                         request,
                         UpdateDomainResponse.class,
-                        builder -> builder.pathSegment("domains", request.getDomainId()))
+                        builder ->
+                                builder.pathSegment("domains").pathVariable(request.getDomainId()))
                 .checkpoint();
     }
 }
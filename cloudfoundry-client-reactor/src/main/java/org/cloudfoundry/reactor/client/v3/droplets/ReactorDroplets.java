@@ -58,7 +58,11 @@ public final class ReactorDroplets extends AbstractClientV3Operations implements
 
     @Override
     public Mono<String> delete(DeleteDropletRequest request) {
-        return delete(request, builder -> builder.pathSegment("droplets", request.getDropletId()))
+        return delete(
+                        request,
+                        builder ->
+                                builder.pathSegment("droplets")
+                                        .pathVariable(request.getDropletId()))
                 .checkpoint();
     }
 
@@ -67,7 +71,9 @@ public final class ReactorDroplets extends AbstractClientV3Operations implements
         return get(
                         request,
                         GetDropletResponse.class,
-                        builder -> builder.pathSegment("droplets", request.getDropletId()))
+                        builder ->
+                                builder.pathSegment("droplets")
+                                        .pathVariable(request.getDropletId()))
                 .checkpoint();
     }
 
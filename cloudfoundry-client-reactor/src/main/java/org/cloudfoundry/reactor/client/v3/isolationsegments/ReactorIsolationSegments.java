@@ -70,11 +70,9 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         AddIsolationSegmentOrganizationEntitlementResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments",
-                                        request.getIsolationSegmentId(),
-                                        "relationships",
-                                        "organizations"))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId())
+                                        .pathSegment("relationships", "organizations"))
                 .checkpoint();
     }
 
@@ -93,8 +91,8 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments", request.getIsolationSegmentId()))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId()))
                 .checkpoint();
     }
 
@@ -104,8 +102,8 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         GetIsolationSegmentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments", request.getIsolationSegmentId()))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId()))
                 .checkpoint();
     }
 
@@ -125,10 +123,9 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         ListIsolationSegmentEntitledOrganizationsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments",
-                                        request.getIsolationSegmentId(),
-                                        "organizations"))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId())
+                                        .pathSegment("organizations"))
                 .checkpoint();
     }
 
@@ -140,11 +137,9 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         ListIsolationSegmentOrganizationsRelationshipResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments",
-                                        request.getIsolationSegmentId(),
-                                        "relationships",
-                                        "organizations"))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId())
+                                        .pathSegment("relationships", "organizations"))
                 .checkpoint();
     }
 
@@ -155,11 +150,9 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         ListIsolationSegmentSpacesRelationshipResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments",
-                                        request.getIsolationSegmentId(),
-                                        "relationships",
-                                        "spaces"))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId())
+                                        .pathSegment("relationships", "spaces"))
                 .checkpoint();
     }
 
@@ -170,12 +163,10 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments",
-                                        request.getIsolationSegmentId(),
-                                        "relationships",
-                                        "organizations",
-                                        request.getOrganizationId()))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId())
+                                        .pathSegment("relationships", "organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -185,8 +176,8 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations
                         request,
                         UpdateIsolationSegmentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "isolation_segments", request.getIsolationSegmentId()))
+                                builder.pathSegment("isolation_segments")
+                                        .pathVariable(request.getIsolationSegmentId()))
                 .checkpoint();
     }
 }
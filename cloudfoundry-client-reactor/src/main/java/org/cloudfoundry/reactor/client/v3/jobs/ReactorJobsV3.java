@@ -51,7 +51,7 @@ public final class ReactorJobsV3 extends AbstractClientV3Operations implements J
         return get(
                         request,
                         GetJobResponse.class,
-                        builder -> builder.pathSegment("jobs", request.getJobId()))
+                        builder -> builder.pathSegment("jobs").pathVariable(request.getJobId()))
                 .checkpoint();
     }
 }
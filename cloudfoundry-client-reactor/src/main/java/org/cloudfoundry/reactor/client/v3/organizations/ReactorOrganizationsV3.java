@@ -71,11 +71,9 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         AssignOrganizationDefaultIsolationSegmentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "relationships",
-                                        "default_isolation_segment"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("relationships", "default_isolation_segment"))
                 .checkpoint();
     }
 
@@ -93,7 +91,8 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
         return delete(
                         request,
                         builder ->
-                                builder.pathSegment("organizations", request.getOrganizationId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -103,7 +102,8 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         GetOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment("organizations", request.getOrganizationId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 
@@ -114,11 +114,9 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         GetOrganizationDefaultDomainResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "domains",
-                                        "default"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("domains", "default"))
                 .checkpoint();
     }
 
@@ -129,11 +127,9 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         GetOrganizationDefaultIsolationSegmentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "relationships",
-                                        "default_isolation_segment"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("relationships", "default_isolation_segment"))
                 .checkpoint();
     }
 
@@ -144,10 +140,9 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         GetOrganizationUsageSummaryResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations",
-                                        request.getOrganizationId(),
-                                        "usage_summary"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("usage_summary"))
                 .checkpoint();
     }
 
@@ -167,8 +162,9 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         ListOrganizationDomainsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organizations", request.getOrganizationId(), "domains"))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId())
+                                        .pathSegment("domains"))
                 .checkpoint();
     }
 
@@ -178,7 +174,8 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations
                         request,
                         UpdateOrganizationResponse.class,
                         builder ->
-                                builder.pathSegment("organizations", request.getOrganizationId()))
+                                builder.pathSegment("organizations")
+                                        .pathVariable(request.getOrganizationId()))
                 .checkpoint();
     }
 }
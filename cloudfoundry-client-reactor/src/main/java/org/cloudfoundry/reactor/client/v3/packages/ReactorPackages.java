@@ -85,7 +85,11 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
 
     @Override
     public Mono<String> delete(DeletePackageRequest request) {
-        return delete(request, builder -> builder.pathSegment("packages", request.getPackageId()))
+        return delete(
+                        request,
+                        builder ->
+                                builder.pathSegment("packages")
+                                        .pathVariable(request.getPackageId()))
                 .checkpoint();
     }
 
@@ -94,7 +98,9 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
         return get(
                         request,
                         builder ->
-                                builder.pathSegment("packages", request.getPackageId(), "download"),
+                                builder.pathSegment("packages")
+                                        .pathVariable(request.getPackageId())
+                                        .pathSegment("download"),
                         ByteBufFlux::asByteArray)
                 .checkpoint();
     }
@@ -104,7 +110,9 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
         return get(
                         request,
                         GetPackageResponse.class,
-                        builder -> builder.pathSegment("packages", request.getPackageId()))
+                        builder ->
+                                builder.pathSegment("packages")
+                                        .pathVariable(request.getPackageId()))
                 .checkpoint();
     }
 
@@ -120,7 +128,9 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
                         request,
                         ListPackageDropletsResponse.class,
                         builder ->
-                                builder.pathSegment("packages", request.getPackageId(), "droplets"))
+                                builder.pathSegment("packages")
+                                        .pathVariable(request.getPackageId())
+                                        .pathSegment("droplets"))
                 .checkpoint();
     }
 
@@ -158,7 +168,9 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
                         request,
                         UploadPackageResponse.class,
                         builder ->
-                                builder.pathSegment("packages", request.getPackageId(), "upload"),
+                                builder.pathSegment("packages")
+                                        .pathVariable(request.getPackageId())
+                                        .pathSegment("upload"),
                         outbound -> upload(request.getBits(), request.getResources(), outbound),
                         onTerminate)
                 .checkpoint();
@@ -60,7 +60,9 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
         return get(
                         request,
                         GetProcessResponse.class,
-                        builder -> builder.pathSegment("processes", request.getProcessId()))
+                        builder ->
+                                builder.pathSegment("processes")
+                                        .pathVariable(request.getProcessId()))
                 .checkpoint();
     }
 
@@ -70,7 +72,9 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
                         request,
                         GetProcessStatisticsResponse.class,
                         builder ->
-                                builder.pathSegment("processes", request.getProcessId(), "stats"))
+                                builder.pathSegment("processes")
+                                        .pathVariable(request.getProcessId())
+                                        .pathSegment("stats"))
                 .checkpoint();
     }
 
@@ -89,8 +93,9 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
                         request,
                         ScaleProcessResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "processes", request.getProcessId(), "actions", "scale"))
+                                builder.pathSegment("processes")
+                                        .pathVariable(request.getProcessId())
+                                        .pathSegment("actions", "scale"))
                 .checkpoint();
     }
 
@@ -100,11 +105,10 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "processes",
-                                        request.getProcessId(),
-                                        "instances",
-                                        request.getIndex()))
+                                builder.pathSegment("processes")
+                                        .pathVariable(request.getProcessId())
+                                        .pathSegment("instances")
+                                        .pathVariable(request.getIndex()))
                 .checkpoint();
     }
 
@@ -113,7 +117,9 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
         return patch(
                         request,
                         UpdateProcessResponse.class,
-                        builder -> builder.pathSegment("processes", request.getProcessId()))
+                        builder ->
+                                builder.pathSegment("processes")
+                                        .pathVariable(request.getProcessId()))
                 .checkpoint();
     }
 }
@@ -60,8 +60,8 @@ public class ReactorOrganizationQuotasV3 extends AbstractClientV3Operations
                         request,
                         GetOrganizationQuotaResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organization_quotas", request.getOrganizationQuotaId()))
+                                builder.pathSegment("organization_quotas")
+                                        .pathVariable(request.getOrganizationQuotaId()))
                 .checkpoint();
     }
 
@@ -80,8 +80,8 @@ public class ReactorOrganizationQuotasV3 extends AbstractClientV3Operations
                         request,
                         UpdateOrganizationQuotaResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organization_quotas", request.getOrganizationQuotaId()))
+                                builder.pathSegment("organization_quotas")
+                                        .pathVariable(request.getOrganizationQuotaId()))
                 .checkpoint();
     }
 
@@ -90,8 +90,8 @@ public class ReactorOrganizationQuotasV3 extends AbstractClientV3Operations
         return delete(
                         request,
                         builder ->
-                                builder.pathSegment(
-                                        "organization_quotas", request.getOrganizationQuotaId()))
+                                builder.pathSegment("organization_quotas")
+                                        .pathVariable(request.getOrganizationQuotaId()))
                 .checkpoint();
     }
 
@@ -101,11 +101,9 @@ public class ReactorOrganizationQuotasV3 extends AbstractClientV3Operations
                         request,
                         ApplyOrganizationQuotaResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "organization_quotas",
-                                        request.getOrganizationQuotaId(),
-                                        "relationships",
-                                        "organizations"))
+                                builder.pathSegment("organization_quotas")
+                                        .pathVariable(request.getOrganizationQuotaId())
+                                        .pathSegment("relationships", "organizations"))
                 .checkpoint();
     }
 }
@@ -58,7 +58,9 @@ public class ReactorSpaceQuotasV3 extends AbstractClientV3Operations implements
         return get(
                         request,
                         GetSpaceQuotaResponse.class,
-                        builder -> builder.pathSegment("space_quotas", request.getSpaceQuotaId()))
+                        builder ->
+                                builder.pathSegment("space_quotas")
+                                        .pathVariable(request.getSpaceQuotaId()))
                 .checkpoint();
     }
 
@@ -76,7 +78,9 @@ public class ReactorSpaceQuotasV3 extends AbstractClientV3Operations implements
         return patch(
                         request,
                         UpdateSpaceQuotaResponse.class,
-                        builder -> builder.pathSegment("space_quotas", request.getSpaceQuotaId()))
+                        builder ->
+                                builder.pathSegment("space_quotas")
+                                        .pathVariable(request.getSpaceQuotaId()))
                 .checkpoint();
     }
 
@@ -84,7 +88,9 @@ public class ReactorSpaceQuotasV3 extends AbstractClientV3Operations implements
     public Mono<String> delete(DeleteSpaceQuotaRequest request) {
         return delete(
                         request,
-                        builder -> builder.pathSegment("space_quotas", request.getSpaceQuotaId()))
+                        builder ->
+                                builder.pathSegment("space_quotas")
+                                        .pathVariable(request.getSpaceQuotaId()))
                 .checkpoint();
     }
 
@@ -94,11 +100,9 @@ public class ReactorSpaceQuotasV3 extends AbstractClientV3Operations implements
                         request,
                         ApplySpaceQuotaResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quotas",
-                                        request.getSpaceQuotaId(),
-                                        "relationships",
-                                        "spaces"))
+                                builder.pathSegment("space_quotas")
+                                        .pathVariable(request.getSpaceQuotaId())
+                                        .pathSegment("relationships", "spaces"))
                 .checkpoint();
     }
 
@@ -108,12 +112,10 @@ public class ReactorSpaceQuotasV3 extends AbstractClientV3Operations implements
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "space_quotas",
-                                        request.getSpaceQuotaId(),
-                                        "relationships",
-                                        "spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("space_quotas")
+                                        .pathVariable(request.getSpaceQuotaId())
+                                        .pathSegment("relationships", "spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 }
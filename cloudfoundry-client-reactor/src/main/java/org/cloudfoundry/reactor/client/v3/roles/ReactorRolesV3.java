@@ -65,7 +65,9 @@ public final class ReactorRolesV3 extends AbstractClientV3Operations implements
         return delete(
                         request,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("roles", request.getRoleId()))
+                                uriComponentsBuilder
+                                        .pathSegment("roles")
+                                        .pathVariable(request.getRoleId()))
                 .checkpoint();
     }
 
@@ -75,7 +77,9 @@ public final class ReactorRolesV3 extends AbstractClientV3Operations implements
                         request,
                         GetRoleResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("roles", request.getRoleId()))
+                                uriComponentsBuilder
+                                        .pathSegment("roles")
+                                        .pathVariable(request.getRoleId()))
                 .checkpoint();
     }
 
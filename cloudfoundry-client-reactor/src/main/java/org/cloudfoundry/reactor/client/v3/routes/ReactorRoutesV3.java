@@ -58,7 +58,9 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
         return delete(
                         request,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -68,7 +70,9 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
                         request,
                         GetRouteResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 
@@ -79,8 +83,10 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
                         request,
                         InsertRouteDestinationsResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment(
-                                        "routes", request.getRouteId(), "destinations"))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("destinations"))
                 .checkpoint();
     }
 
@@ -100,8 +106,10 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
                         request,
                         ListRouteDestinationsResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment(
-                                        "routes", request.getRouteId(), "destinations"))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("destinations"))
                 .checkpoint();
     }
 
@@ -111,11 +119,11 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
                         request,
                         Void.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment(
-                                        "routes",
-                                        request.getRouteId(),
-                                        "destinations",
-                                        request.getDestinationId()))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("destinations")
+                                        .pathVariable(request.getDestinationId()))
                 .checkpoint();
     }
 
@@ -126,8 +134,10 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
                         request,
                         ReplaceRouteDestinationsResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment(
-                                        "routes", request.getRouteId(), "destinations"))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId())
+                                        .pathSegment("destinations"))
                 .checkpoint();
     }
 
@@ -137,7 +147,9 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
                         request,
                         UpdateRouteResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+                                uriComponentsBuilder
+                                        .pathSegment("routes")
+                                        .pathVariable(request.getRouteId()))
                 .checkpoint();
     }
 }
@@ -80,8 +80,8 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         GetSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -100,8 +100,8 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         UpdateSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -110,8 +110,8 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
         return delete(
                         request,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups", request.getSecurityGroupId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId()))
                 .checkpoint();
     }
 
@@ -122,11 +122,9 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         BindRunningSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups",
-                                        request.getSecurityGroupId(),
-                                        "relationships",
-                                        "running_spaces"))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("relationships", "running_spaces"))
                 .checkpoint();
     }
 
@@ -137,11 +135,9 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         BindStagingSecurityGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups",
-                                        request.getSecurityGroupId(),
-                                        "relationships",
-                                        "staging_spaces"))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("relationships", "staging_spaces"))
                 .checkpoint();
     }
 
@@ -151,12 +147,10 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups",
-                                        request.getSecurityGroupId(),
-                                        "relationships",
-                                        "staging_spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("relationships", "staging_spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -166,12 +160,10 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "security_groups",
-                                        request.getSecurityGroupId(),
-                                        "relationships",
-                                        "running_spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("security_groups")
+                                        .pathVariable(request.getSecurityGroupId())
+                                        .pathSegment("relationships", "running_spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -182,8 +174,9 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         ListRunningSecurityGroupsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces", request.getSpaceId(), "running_security_groups"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("running_security_groups"))
                 .checkpoint();
     }
 
@@ -194,8 +187,9 @@ public final class ReactorSecurityGroupsV3 extends AbstractClientV3Operations
                         request,
                         ListStagingSecurityGroupsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces", request.getSpaceId(), "staging_security_groups"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("staging_security_groups"))
                 .checkpoint();
     }
 }
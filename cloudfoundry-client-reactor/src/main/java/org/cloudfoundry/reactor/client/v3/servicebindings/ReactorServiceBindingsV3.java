@@ -82,9 +82,8 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations
         return delete(
                         request,
                         builder ->
-                                builder.pathSegment(
-                                        "service_credential_bindings",
-                                        request.getServiceBindingId()))
+                                builder.pathSegment("service_credential_bindings")
+                                        .pathVariable(request.getServiceBindingId()))
                 .checkpoint();
     }
 
@@ -94,9 +93,8 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations
                         request,
                         GetServiceBindingResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_credential_bindings",
-                                        request.getServiceBindingId()))
+                                builder.pathSegment("service_credential_bindings")
+                                        .pathVariable(request.getServiceBindingId()))
                 .checkpoint();
     }
 
@@ -107,10 +105,9 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations
                         request,
                         GetServiceBindingDetailsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_credential_bindings",
-                                        request.getServiceBindingId(),
-                                        "details"))
+                                builder.pathSegment("service_credential_bindings")
+                                        .pathVariable(request.getServiceBindingId())
+                                        .pathSegment("details"))
                 .checkpoint();
     }
 
@@ -121,10 +118,9 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations
                         request,
                         GetServiceBindingParametersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_credential_bindings",
-                                        request.getServiceBindingId(),
-                                        "parameters"))
+                                builder.pathSegment("service_credential_bindings")
+                                        .pathVariable(request.getServiceBindingId())
+                                        .pathSegment("parameters"))
                 .checkpoint();
     }
 
@@ -143,9 +139,8 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations
                         request,
                         UpdateServiceBindingResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_credential_bindings",
-                                        request.getServiceBindingId()))
+                                builder.pathSegment("service_credential_bindings")
+                                        .pathVariable(request.getServiceBindingId()))
                 .checkpoint();
     }
 }
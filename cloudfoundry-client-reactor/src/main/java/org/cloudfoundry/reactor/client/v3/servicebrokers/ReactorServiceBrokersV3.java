@@ -38,8 +38,8 @@ public final class ReactorServiceBrokersV3 extends AbstractClientV3Operations
         return delete(
                         request,
                         builder ->
-                                builder.pathSegment(
-                                        "service_brokers", request.getServiceBrokerId()))
+                                builder.pathSegment("service_brokers")
+                                        .pathVariable(request.getServiceBrokerId()))
                 .checkpoint();
     }
 
@@ -49,8 +49,8 @@ public final class ReactorServiceBrokersV3 extends AbstractClientV3Operations
                         request,
                         GetServiceBrokerResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_brokers", request.getServiceBrokerId()))
+                                builder.pathSegment("service_brokers")
+                                        .pathVariable(request.getServiceBrokerId()))
                 .checkpoint();
     }
 
@@ -69,8 +69,8 @@ public final class ReactorServiceBrokersV3 extends AbstractClientV3Operations
                         request,
                         ServiceBrokerResource.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_brokers", request.getServiceBrokerId()))
+                                builder.pathSegment("service_brokers")
+                                        .pathVariable(request.getServiceBrokerId()))
                 .map(
                         responseTuple ->
                                 UpdateServiceBrokerResponse.builder()
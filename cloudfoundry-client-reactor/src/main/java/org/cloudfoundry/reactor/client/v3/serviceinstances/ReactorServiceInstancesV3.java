@@ -91,8 +91,8 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         GetServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances", request.getServiceInstanceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId()))
                 .checkpoint();
     }
 
@@ -102,8 +102,8 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         String.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances", request.getServiceInstanceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId()))
                 .map(this::getJobId)
                 .checkpoint();
     }
@@ -115,10 +115,9 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         GetManagedServiceParametersResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "parameters"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("parameters"))
                 .checkpoint();
     }
 
@@ -129,10 +128,9 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         GetUserProvidedCredentialsResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "credentials"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("credentials"))
                 .checkpoint();
     }
 
@@ -152,11 +150,9 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         ListSharedSpacesRelationshipResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "relationships",
-                                        "shared_spaces"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("relationships", "shared_spaces"))
                 .checkpoint();
     }
 
@@ -166,11 +162,9 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         ShareServiceInstanceResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "relationships",
-                                        "shared_spaces"))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("relationships", "shared_spaces"))
                 .checkpoint();
     }
 
@@ -180,12 +174,10 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances",
-                                        request.getServiceInstanceId(),
-                                        "relationships",
-                                        "shared_spaces",
-                                        request.getSpaceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId())
+                                        .pathSegment("relationships", "shared_spaces")
+                                        .pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -195,8 +187,8 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
                         request,
                         ServiceInstanceResource.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_instances", request.getServiceInstanceId()))
+                                builder.pathSegment("service_instances")
+                                        .pathVariable(request.getServiceInstanceId()))
                 .map(
                         responseTuple ->
                                 UpdateServiceInstanceResponse.builder()
@@ -58,8 +58,8 @@ public final class ReactorServiceOfferingsV3 extends AbstractClientV3Operations
                         request,
                         Void.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_offerings", request.getServiceOfferingId()))
+                                builder.pathSegment("service_offerings")
+                                        .pathVariable(request.getServiceOfferingId()))
                 .checkpoint();
     }
 
@@ -69,8 +69,8 @@ public final class ReactorServiceOfferingsV3 extends AbstractClientV3Operations
                         request,
                         GetServiceOfferingResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_offerings", request.getServiceOfferingId()))
+                                builder.pathSegment("service_offerings")
+                                        .pathVariable(request.getServiceOfferingId()))
                 .checkpoint();
     }
 
@@ -89,8 +89,8 @@ public final class ReactorServiceOfferingsV3 extends AbstractClientV3Operations
                         request,
                         UpdateServiceOfferingResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_offerings", request.getServiceOfferingId()))
+                                builder.pathSegment("service_offerings")
+                                        .pathVariable(request.getServiceOfferingId()))
                 .checkpoint();
     }
 }
@@ -59,7 +59,9 @@ public final class ReactorServicePlansV3 extends AbstractClientV3Operations
         return delete(
                         request,
                         Void.class,
-                        builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+                        builder ->
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId()))
                 .checkpoint();
     }
 
@@ -68,7 +70,9 @@ public final class ReactorServicePlansV3 extends AbstractClientV3Operations
         return get(
                         request,
                         GetServicePlanResponse.class,
-                        builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+                        builder ->
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId()))
                 .checkpoint();
     }
 
@@ -86,7 +90,9 @@ public final class ReactorServicePlansV3 extends AbstractClientV3Operations
         return patch(
                         request,
                         UpdateServicePlanResponse.class,
-                        builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+                        builder ->
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId()))
                 .checkpoint();
     }
 
@@ -97,8 +103,9 @@ public final class ReactorServicePlansV3 extends AbstractClientV3Operations
                         request,
                         UpdateServicePlanVisibilityResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "service_plans", request.getServicePlanId(), "visibility"))
+                                builder.pathSegment("service_plans")
+                                        .pathVariable(request.getServicePlanId())
+                                        .pathSegment("visibility"))
                 .checkpoint();
     }
 }
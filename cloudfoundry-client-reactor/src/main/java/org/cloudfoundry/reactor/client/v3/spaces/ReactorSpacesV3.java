@@ -68,11 +68,9 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
                         "application/x-yaml",
                         ApplyManifestResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "actions",
-                                        "apply_manifest"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("actions", "apply_manifest"))
                 .map(
                         responseTuple ->
                                 ApplyManifestResponse.builder()
@@ -89,11 +87,9 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
                         request,
                         AssignSpaceIsolationSegmentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "relationships",
-                                        "isolation_segment"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("relationships", "isolation_segment"))
                 .checkpoint();
     }
 
@@ -105,7 +101,9 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
 
     @Override
     public Mono<String> delete(DeleteSpaceRequest request) {
-        return delete(request, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return delete(
+                        request,
+                        builder -> builder.pathSegment("spaces").pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -114,8 +112,10 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
         return delete(
                         request,
                         builder ->
-                                builder.pathSegment("spaces", request.getSpaceId(), "routes")
-                                        .query("unmapped=true"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("routes")
+                                        .queryParam("unmapped", true))
                 .checkpoint();
     }
 
@@ -124,7 +124,7 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
         return get(
                         request,
                         GetSpaceResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId()))
+                        builder -> builder.pathSegment("spaces").pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 
@@ -135,11 +135,9 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
                         request,
                         GetSpaceIsolationSegmentResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "spaces",
-                                        request.getSpaceId(),
-                                        "relationships",
-                                        "isolation_segment"))
+                                builder.pathSegment("spaces")
+                                        .pathVariable(request.getSpaceId())
+                                        .pathSegment("relationships", "isolation_segment"))
                 .checkpoint();
     }
 
@@ -154,7 +152,7 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
         return patch(
                         request,
                         UpdateSpaceResponse.class,
-                        builder -> builder.pathSegment("spaces", request.getSpaceId()))
+                        builder -> builder.pathSegment("spaces").pathVariable(request.getSpaceId()))
                 .checkpoint();
     }
 }
@@ -68,7 +68,9 @@ public class ReactorStacksV3 extends AbstractClientV3Operations implements Stack
                         request,
                         Void.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("stacks", request.getStackId()))
+                                uriComponentsBuilder
+                                        .pathSegment("stacks")
+                                        .pathVariable(request.getStackId()))
                 .checkpoint();
     }
 
@@ -78,7 +80,9 @@ public class ReactorStacksV3 extends AbstractClientV3Operations implements Stack
                         request,
                         GetStackResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("stacks", request.getStackId()))
+                                uriComponentsBuilder
+                                        .pathSegment("stacks")
+                                        .pathVariable(request.getStackId()))
                 .checkpoint();
     }
 
@@ -97,7 +101,9 @@ public class ReactorStacksV3 extends AbstractClientV3Operations implements Stack
                         request,
                         UpdateStackResponse.class,
                         uriComponentsBuilder ->
-                                uriComponentsBuilder.pathSegment("stacks", request.getStackId()))
+                                uriComponentsBuilder
+                                        .pathSegment("stacks")
+                                        .pathVariable(request.getStackId()))
                 .checkpoint();
     }
 }
@@ -59,7 +59,10 @@ public final class ReactorTasks extends AbstractClientV3Operations implements Ta
         return put(
                         request,
                         CancelTaskResponse.class,
-                        builder -> builder.pathSegment("tasks", request.getTaskId(), "cancel"))
+                        builder ->
+                                builder.pathSegment("tasks")
+                                        .pathVariable(request.getTaskId())
+                                        .pathSegment("cancel"))
                 .checkpoint();
     }
 
@@ -68,7 +71,10 @@ public final class ReactorTasks extends AbstractClientV3Operations implements Ta
         return post(
                         request,
                         CreateTaskResponse.class,
-                        builder -> builder.pathSegment("apps", request.getApplicationId(), "tasks"))
+                        builder ->
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("tasks"))
                 .checkpoint();
     }
 
@@ -77,7 +83,7 @@ public final class ReactorTasks extends AbstractClientV3Operations implements Ta
         return get(
                         request,
                         GetTaskResponse.class,
-                        builder -> builder.pathSegment("tasks", request.getTaskId()))
+                        builder -> builder.pathSegment("tasks").pathVariable(request.getTaskId()))
                 .checkpoint();
     }
 
@@ -55,7 +55,7 @@ public class ReactorUsersV3 extends AbstractClientV3Operations implements UsersV
         return get(
                         request,
                         GetUserResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId()))
+                        builder -> builder.pathSegment("users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -70,7 +70,7 @@ public class ReactorUsersV3 extends AbstractClientV3Operations implements UsersV
         return patch(
                         request,
                         UpdateUserResponse.class,
-                        builder -> builder.pathSegment("users", request.getUserId()))
+                        builder -> builder.pathSegment("users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -79,7 +79,7 @@ public class ReactorUsersV3 extends AbstractClientV3Operations implements UsersV
         return delete(
                         request,
                         Void.class,
-                        builder -> builder.pathSegment("users", request.getUserId()))
+                        builder -> builder.pathSegment("users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 }
@@ -23,7 +23,8 @@ import java.util.function.Function;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
@@ -39,8 +40,13 @@ abstract class AbstractDopplerOperations extends AbstractReactorOperations {
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
+    @Override
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("doppler");
+    }
+
     final <T> Flux<T> get(
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Function<HttpClientResponse, ChannelHandler> channelHandlerBuilder,
             Function<ByteBufFlux, Flux<T>> bodyTransformer) {
         return createOperator()
@@ -56,8 +62,7 @@ abstract class AbstractDopplerOperations extends AbstractReactorOperations {
                                                                 responseWithBody.getBody())));
     }
 
-    final Flux<InputStream> ws(
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final Flux<InputStream> ws(Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMapMany(operator -> operator.websocket().uri(uriTransformer).get());
     }
@@ -43,8 +43,9 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
     Flux<Envelope> containerMetrics(ContainerMetricsRequest request) {
         return get(
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "containermetrics"),
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("containermetrics"),
                         MultipartCodec::createDecoder,
                         MultipartCodec::decode)
                 .map(ReactorDopplerEndpoints::toEnvelope)
@@ -52,7 +53,8 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
     }
 
     Flux<Envelope> firehose(FirehoseRequest request) {
-        return ws(builder -> builder.pathSegment("firehose", request.getSubscriptionId()))
+        return ws(builder ->
+                        builder.pathSegment("firehose").pathVariable(request.getSubscriptionId()))
                 .map(ReactorDopplerEndpoints::toEnvelope)
                 .checkpoint();
     }
@@ -60,8 +62,9 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
     Flux<Envelope> recentLogs(RecentLogsRequest request) {
         return get(
                         builder ->
-                                builder.pathSegment(
-                                        "apps", request.getApplicationId(), "recentlogs"),
+                                builder.pathSegment("apps")
+                                        .pathVariable(request.getApplicationId())
+                                        .pathSegment("recentlogs"),
                         MultipartCodec::createDecoder,
                         MultipartCodec::decode)
                 .map(ReactorDopplerEndpoints::toEnvelope)
@@ -69,7 +72,10 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
     }
 
     Flux<Envelope> stream(StreamRequest request) {
-        return ws(builder -> builder.pathSegment("apps", request.getApplicationId(), "stream"))
+        return ws(builder ->
+                        builder.pathSegment("apps")
+                                .pathVariable(request.getApplicationId())
+                                .pathSegment("stream"))
                 .map(ReactorDopplerEndpoints::toEnvelope)
                 .checkpoint();
     }
@@ -23,9 +23,10 @@ import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
+import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
 public class AbstractLogCacheOperations extends AbstractReactorOperations {
@@ -38,26 +39,32 @@ public class AbstractLogCacheOperations extends AbstractReactorOperations {
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
+    @Override
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("log_cache");
+    }
+
     protected final <T> Mono<T> get(
-            Object requestPayload, Class<T> responseType, String... pathSegments) {
+            Object requestPayload,
+            Class<T> responseType,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
                                 operator.get()
                                         .uri(
-                                                buildPathSegments(pathSegments)
+                                                buildPath(uriTransformer)
                                                         .andThen(queryTransformer(requestPayload)))
                                         .response()
                                         .parseBody(responseType));
     }
 
-    private Function<UriComponentsBuilder, UriComponentsBuilder> buildPathSegments(
-            String[] pathSegments) {
-        return builder -> builder.pathSegment("api", "v1").pathSegment(pathSegments);
+    private Function<RequestUriBuilder, RequestUriBuilder> buildPath(
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
+        return builder -> uriTransformer.apply(builder.pathSegment("api", "v1"));
     }
 
-    private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(
-            Object requestPayload) {
+    private Function<RequestUriBuilder, RequestUriBuilder> queryTransformer(Object requestPayload) {
         return builder -> {
             Stream<UriQueryParameter> parameters = new QueryBuilder().build(requestPayload);
             UriQueryParameters.set(builder, parameters);
@@ -38,14 +38,20 @@ final class ReactorLogCacheEndpoints extends AbstractLogCacheOperations {
     }
 
     Mono<InfoResponse> info(InfoRequest request) {
-        return get(request, InfoResponse.class, "info").checkpoint();
+        return get(request, InfoResponse.class, builder -> builder.pathSegment("info"))
+                .checkpoint();
     }
 
     Mono<MetaResponse> meta(MetaRequest request) {
-        return get(request, MetaResponse.class, "meta").checkpoint();
+        return get(request, MetaResponse.class, builder -> builder.pathSegment("meta"))
+                .checkpoint();
     }
 
     Mono<ReadResponse> read(ReadRequest request) {
-        return get(request, ReadResponse.class, "read", request.getSourceId()).checkpoint();
+        return get(
+                        request,
+                        ReadResponse.class,
+                        builder -> builder.pathSegment("read").pathVariable(request.getSourceId()))
+                .checkpoint();
     }
 }
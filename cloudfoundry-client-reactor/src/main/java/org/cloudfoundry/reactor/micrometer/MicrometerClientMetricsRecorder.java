@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cloudfoundry.reactor.ClientMetricsRecorder;
+
+/**
+ * A {@link ClientMetricsRecorder} that records to a Micrometer {@link MeterRegistry}.  Requests are recorded as the {@code cloudfoundry.client.requests} timer,
+ * with a percentile histogram, tagged by {@code api}, {@code method}, {@code endpoint} and {@code status}, where {@code status} is the class of the status code
+ * (e.g. {@code 2xx}).  The {@code cloudfoundry.client.requests.queued} gauge reports the sum of the queue depths of all recorders on a registry.
+ */
+public final class MicrometerClientMetricsRecorder implements ClientMetricsRecorder {
+
+    private static final Map<MeterRegistry, QueueDepths> QUEUE_DEPTHS = new WeakHashMap<>();
+
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    public MicrometerClientMetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        synchronized (QUEUE_DEPTHS) {
+            QUEUE_DEPTHS.computeIfAbsent(meterRegistry, QueueDepths::register).add(this.queueDepth);
+        }
+    }
+
+    @Override
+    public void recordCoalescedRequest(String api, String endpoint) {
+        Counter.builder("cloudfoundry.client.requests.coalesced")
+                .description("Requests that shared the in-flight exchange of an identical request")
+                .tags("api", api, "endpoint", endpoint)
+                .register(this.meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordInvalidTokenRetry(String api) {
+        Counter.builder("cloudfoundry.client.token.invalid.retries")
+                .description("Requests retried because of a 401 UNAUTHORIZED response")
+                .tag("api", api)
+                .register(this.meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordQueueDepth(int queueDepth) {
+        this.queueDepth.set(queueDepth);
+    }
+
+    @Override
+    public void recordRequest(
+            String api, String method, String endpoint, int status, long durationNanos) {
+        Timer.builder("cloudfoundry.client.requests")
+                .description("Time until response headers are received")
+                .tags(
+                        "api", api,
+                        "method", method,
+                        "endpoint", endpoint,
+                        "status", getStatusClass(status))
+                .publishPercentileHistogram()
+                .register(this.meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordThrottledRetry(String api, int status) {
+        Counter.builder("cloudfoundry.client.requests.throttled.retries")
+                .description("Requests retried because of a 429 or 503 response")
+                .tags("api", api, "status", String.valueOf(status))
+                .register(this.meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordTokenNegotiation(String grantType) {
+        Counter.builder("cloudfoundry.client.token.negotiations")
+                .description("Tokens negotiated with the UAA")
+                .tag("grant_type", grantType)
+                .register(this.meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordWarnings(String api, String endpoint, int count) {
+        Counter.builder("cloudfoundry.client.warnings")
+                .description("X-Cf-Warnings received in responses")
+                .tags("api", api, "endpoint", endpoint)
+                .register(this.meterRegistry)
+                .increment(count);
+    }
+
+    private static String getStatusClass(int status) {
+        int statusClass = status / 100;
+        return statusClass >= 1 && statusClass <= 5
+                ? STATUS_CLASSES[statusClass - 1]
+                : String.valueOf(status);
+    }
+
+    /**
+     * The queue depths of the recorders of a registry.  A registry only keeps the first gauge registered with a name, so the recorders share one gauge.
+     */
+    private static final class QueueDepths {
+
+        private final Set<AtomicInteger> queueDepths =
+                Collections.newSetFromMap(new WeakHashMap<>());
+
+        private static QueueDepths register(MeterRegistry meterRegistry) {
+            QueueDepths queueDepths = new QueueDepths();
+
+            Gauge.builder("cloudfoundry.client.requests.queued", queueDepths, QueueDepths::sum)
+                    .description("Requests delayed to stay within the rate limit of the server")
+                    .register(meterRegistry);
+
+            return queueDepths;
+        }
+
+        private synchronized void add(AtomicInteger queueDepth) {
+            this.queueDepths.add(queueDepth);
+        }
+
+        private synchronized double sum() {
+            return this.queueDepths.stream().mapToInt(AtomicInteger::get).sum();
+        }
+    }
+}
@@ -23,9 +23,10 @@ import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
+import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
 public abstract class AbstractNetworkingOperations extends AbstractReactorOperations {
@@ -38,9 +39,13 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
+    @Override
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("networking");
+    }
+
     protected final <T> Mono<T> get(
-            Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Class<T> responseType, Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -53,7 +58,7 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
     protected final <T> Mono<T> get(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -68,7 +73,7 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
     protected final <T> Mono<T> post(
             Object request,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -82,7 +87,7 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
     protected final <T> Mono<T> put(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -93,8 +98,7 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
                                         .parseBody(responseType));
     }
 
-    private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(
-            Object requestPayload) {
+    private Function<RequestUriBuilder, RequestUriBuilder> queryTransformer(Object requestPayload) {
         return builder -> {
             Stream<UriQueryParameter> parameters = new QueryBuilder().build(requestPayload);
             UriQueryParameters.set(builder, parameters);
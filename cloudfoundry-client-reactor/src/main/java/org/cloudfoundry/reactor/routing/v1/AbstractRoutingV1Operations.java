@@ -22,7 +22,8 @@ import java.util.function.Function;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
@@ -38,9 +39,13 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
+    @Override
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("routing_v1");
+    }
+
     protected final <T> Mono<T> get(
-            Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Class<T> responseType, Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -52,7 +57,7 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
 
     protected final <T> Flux<T> get(
             Function<HttpClientResponse, ChannelHandler> handlerBuilder,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Function<ByteBufFlux, Flux<T>> bodyTransformer) {
         return createOperator()
                 .flatMapMany(
@@ -70,7 +75,7 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
     protected final <T> Mono<T> post(
             Object request,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -84,7 +89,7 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
     protected final <T> Mono<T> put(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -62,8 +62,8 @@ public class ReactorRouterGroups extends AbstractRoutingV1Operations implements
                         request,
                         UpdateRouterGroupResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "v1", "router_groups", request.getRouterGroupId()))
+                                builder.pathSegment("v1", "router_groups")
+                                        .pathVariable(request.getRouterGroupId()))
                 .checkpoint();
     }
 }
@@ -21,17 +21,17 @@ import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED;
 import static reactor.core.publisher.Sinks.EmitFailureHandler.FAIL_FAST;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
-import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
@@ -42,16 +42,20 @@ import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.util.ErrorPayloadMappers;
 import org.cloudfoundry.reactor.util.JsonCodec;
+import org.cloudfoundry.reactor.util.JsonWebTokens;
 import org.cloudfoundry.reactor.util.Operator;
 import org.cloudfoundry.reactor.util.OperatorContext;
+import org.cloudfoundry.reactor.util.PersistentCache;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UserAgent;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.http.client.HttpClientForm;
 import reactor.netty.http.client.HttpClientRequest;
@@ -77,12 +81,23 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
     protected final ConcurrentMap<ConnectionContext, Mono<String>> accessTokens =
             new ConcurrentHashMap<>(1);
 
+    private final ConcurrentMap<ConnectionContext, String> currentTokens =
+            new ConcurrentHashMap<>(1);
+
     private final ConcurrentMap<ConnectionContext, RefreshToken> refreshTokenStreams =
             new ConcurrentHashMap<>(1);
 
     private final ConcurrentMap<ConnectionContext, String> refreshTokens =
             new ConcurrentHashMap<>(1);
 
+    private final ConcurrentMap<ConnectionContext, Mono<String>> renewals =
+            new ConcurrentHashMap<>(1);
+
+    private final ConcurrentMap<ConnectionContext, Disposable> scheduledRenewals =
+            new ConcurrentHashMap<>(1);
+
+    private final Set<ConnectionContext> tokenRequests = ConcurrentHashMap.newKeySet(1);
+
     /**
      * The client id. Defaults to {@code cf}.
      */
@@ -99,6 +114,17 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
         return "";
     }
 
+    /**
+     * How long before an access token expires to negotiate its replacement in the background. Requests keep using the current token until the replacement
+     * has been negotiated. A token is only renewed if one has been requested since it was negotiated, so that connections that have become idle stop
+     * renewing; the next token requested on such a connection is renegotiated. A zero or negative duration disables proactive renewal, in which case tokens
+     * are only renegotiated once they have been rejected. Defaults to 30 seconds.
+     */
+    @Value.Default
+    public Duration getTokenRefreshLeadTime() {
+        return Duration.ofSeconds(30);
+    }
+
     /**
      * Returns a {@link Flux} of refresh tokens for a connection
      *
@@ -111,6 +137,10 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
 
     @Override
     public final Mono<String> getToken(ConnectionContext connectionContext) {
+        if (!this.tokenRequests.contains(connectionContext)) {
+            this.tokenRequests.add(connectionContext);
+        }
+
         return this.accessTokens.computeIfAbsent(connectionContext, this::token);
     }
 
@@ -119,9 +149,35 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
         String refreshToken = this.refreshTokens.remove(connectionContext);
         if (refreshToken != null) {
             this.accessTokens.put(connectionContext, token(connectionContext, refreshToken));
+            return;
+        }
+
+        // a renewal is already in flight, so wait for it rather than reusing the rejected token
+        Mono<String> renewal = this.renewals.get(connectionContext);
+        if (renewal != null) {
+            this.accessTokens.put(connectionContext, renewal);
         }
     }
 
+    @Override
+    public void invalidate(ConnectionContext connectionContext, String rejectedToken) {
+        String currentToken = this.currentTokens.get(connectionContext);
+        if (rejectedToken != null && currentToken != null && !currentToken.equals(rejectedToken)) {
+            LOGGER.debug("Rejected token has already been replaced");
+            return;
+        }
+
+        invalidate(connectionContext);
+    }
+
+    /**
+     * Identifies the user that tokens are negotiated for, so that refresh tokens from the persistent cache are only used on behalf of the same user.  Refresh
+     * tokens are not persisted if empty.
+     */
+    Optional<String> getIdentity() {
+        return Optional.of("");
+    }
+
     /**
      * The identity zone subdomain
      */
@@ -138,8 +194,28 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
 
     private Mono<String> token(ConnectionContext connectionContext) {
         Mono<String> token =
-                primaryToken(connectionContext)
-                        .doOnSubscribe(s -> LOGGER.debug("Negotiating using token provider"));
+                persistedRefreshToken(connectionContext)
+                        .flatMap(
+                                refreshToken ->
+                                        refreshToken(connectionContext, refreshToken)
+                                                .doOnSubscribe(
+                                                        s -> {
+                                                            LOGGER.debug(
+                                                                    "Negotiating using persisted"
+                                                                            + " refresh token");
+                                                            recordTokenNegotiation(
+                                                                    connectionContext,
+                                                                    "refresh_token");
+                                                        }))
+                        .switchIfEmpty(
+                                primaryToken(connectionContext)
+                                        .doOnSubscribe(
+                                                s -> {
+                                                    LOGGER.debug(
+                                                            "Negotiating using token provider");
+                                                    recordTokenNegotiation(
+                                                            connectionContext, "primary");
+                                                }));
 
         return cacheResult(connectionContext, token);
     }
@@ -147,7 +223,11 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
     private Mono<String> token(ConnectionContext connectionContext, String refreshToken) {
         Mono<String> token =
                 refreshToken(connectionContext, refreshToken)
-                        .doOnSubscribe(s -> LOGGER.debug("Negotiating using refresh token"))
+                        .doOnSubscribe(
+                                s -> {
+                                    LOGGER.debug("Negotiating using refresh token");
+                                    recordTokenNegotiation(connectionContext, "refresh_token");
+                                })
                         // fall back to primary token in case the refresh_token grant fails
                         // (expired, revoked, ...)
                         .switchIfEmpty(
@@ -166,49 +246,47 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Access Token: {}", accessToken);
 
-            parseToken(accessToken)
+            JsonWebTokens.getClaims(accessToken)
                     .ifPresent(
                             claims -> {
                                 LOGGER.debug(
                                         "Access Token Issued At:  {} UTC",
-                                        toLocalDateTime(claims.getIssuedAt()));
+                                        getDateTime(claims, "iat").orElse(null));
                                 LOGGER.debug(
                                         "Access Token Expires At: {} UTC",
-                                        toLocalDateTime(claims.getExpiration()));
+                                        getDateTime(claims, "exp").orElse(null));
                             });
         }
 
         return String.format("%s %s", payload.get(TOKEN_TYPE), accessToken);
     }
 
-    private static Optional<Claims> parseToken(String token) {
-        if (!token.contains(".")) {
-            return Optional.empty();
-        }
+    private static Optional<LocalDateTime> getDateTime(JsonNode claims, String name) {
+        return getInstant(claims, name).map(instant -> LocalDateTime.from(instant.atZone(UTC)));
+    }
 
-        try {
-            String jws = token.substring(0, token.lastIndexOf('.') + 1);
-            JwtParser parser = Jwts.parser().build();
+    private static Optional<Instant> getInstant(JsonNode claims, String name) {
+        return Optional.ofNullable(claims.get(name))
+                .filter(JsonNode::isNumber)
+                .map(claim -> Instant.ofEpochSecond(claim.asLong()));
+    }
 
-            return Optional.of(parser.parseClaimsJwt(jws).getBody());
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+    private static void recordTokenNegotiation(
+            ConnectionContext connectionContext, String grantType) {
+        connectionContext
+                .getMetricsRecorder()
+                .ifPresent(recorder -> recorder.recordTokenNegotiation(grantType));
     }
 
     private static void setContentType(HttpHeaders httpHeaders) {
         httpHeaders.set(CONTENT_TYPE, APPLICATION_X_WWW_FORM_URLENCODED);
     }
 
-    private static LocalDateTime toLocalDateTime(Date date) {
-        return LocalDateTime.from(date.toInstant().atZone(UTC));
-    }
-
-    private static Function<UriComponentsBuilder, UriComponentsBuilder> tokenUriTransformer(
+    private static Function<RequestUriBuilder, RequestUriBuilder> tokenUriTransformer(
             String identityZoneId) {
         return root -> {
             if (identityZoneId != null) {
-                root.host(String.format("%s.%s", identityZoneId, root.build().getHost()));
+                root.host(String.format("%s.%s", identityZoneId, root.getHost()));
             }
 
             return root.pathSegment("oauth", "token");
@@ -225,11 +303,13 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
     private Operator createOperator(ConnectionContext connectionContext, String root) {
         OperatorContext context = OperatorContext.of(connectionContext, root);
         return new Operator(context, connectionContext.getHttpClient())
+                .withApi("uaa")
                 .withErrorPayloadMapper(
                         ErrorPayloadMappers.uaa(connectionContext.getObjectMapper()));
     }
 
-    private Consumer<Map<String, String>> extractRefreshToken(ConnectionContext connectionContext) {
+    private Consumer<Map<String, String>> extractRefreshToken(
+            ConnectionContext connectionContext, String root) {
         return payload ->
                 Optional.ofNullable(payload.get(REFRESH_TOKEN))
                         .ifPresent(
@@ -237,20 +317,19 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
                                     if (LOGGER.isDebugEnabled()) {
                                         LOGGER.debug("Refresh Token: {}", refreshToken);
 
-                                        parseToken(refreshToken)
+                                        JsonWebTokens.getClaims(refreshToken)
                                                 .ifPresent(
                                                         claims -> {
                                                             LOGGER.debug(
                                                                     "Refresh Token Issued At:  {}"
                                                                             + " UTC",
-                                                                    toLocalDateTime(
-                                                                            claims.getIssuedAt()));
+                                                                    getDateTime(claims, "iat")
+                                                                            .orElse(null));
                                                             LOGGER.debug(
                                                                     "Refresh Token Expires At: {}"
                                                                             + " UTC",
-                                                                    toLocalDateTime(
-                                                                            claims
-                                                                                    .getExpiration()));
+                                                                    getDateTime(claims, "exp")
+                                                                            .orElse(null));
                                                         });
                                     }
 
@@ -261,22 +340,69 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
                                 });
     }
 
+    private String getPersistentCacheKey(String root, String identity) {
+        return String.format(
+                "refresh-token:%s:%s:%s:%s",
+                root,
+                Optional.ofNullable(getIdentityZoneSubdomain()).orElse(""),
+                getClientId(),
+                identity);
+    }
+
     private RefreshToken getRefreshTokenStream(ConnectionContext connectionContext) {
         return this.refreshTokenStreams.computeIfAbsent(connectionContext, c -> new RefreshToken());
     }
 
+    // the persistent cache is kept on the file system, so it is read and written off the event loop
+    private Mono<String> persistedRefreshToken(ConnectionContext connectionContext) {
+        return Mono.justOrEmpty(connectionContext.getPersistentCache())
+                .flatMap(
+                        cache ->
+                                connectionContext
+                                        .getRootProvider()
+                                        .getRoot(AUTHORIZATION_ENDPOINT, connectionContext)
+                                        .flatMap(
+                                                root ->
+                                                        Mono.justOrEmpty(getIdentity())
+                                                                .flatMap(
+                                                                        identity ->
+                                                                                readRefreshToken(
+                                                                                        cache, root,
+                                                                                        identity))));
+    }
+
+    private Mono<Void> persistRefreshToken(
+            ConnectionContext connectionContext, String root, Map<String, String> payload) {
+        String refreshToken = payload.get(REFRESH_TOKEN);
+
+        return Mono.justOrEmpty(connectionContext.getPersistentCache())
+                .filter(cache -> refreshToken != null)
+                .flatMap(
+                        cache ->
+                                Mono.justOrEmpty(getIdentity())
+                                        .flatMap(
+                                                identity ->
+                                                        writeRefreshToken(
+                                                                cache,
+                                                                root,
+                                                                identity,
+                                                                refreshToken)));
+    }
+
     private Mono<String> primaryToken(ConnectionContext connectionContext) {
-        return requestToken(
-                connectionContext,
-                this::tokenRequestTransformer,
-                tokensExtractor(connectionContext));
+        return requestToken(connectionContext, this::tokenRequestTransformer);
+    }
+
+    private Mono<String> readRefreshToken(PersistentCache cache, String root, String identity) {
+        return Mono.fromCallable(
+                        () -> cache.get(getPersistentCacheKey(root, identity), String.class))
+                .flatMap(Mono::justOrEmpty)
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     private Mono<String> refreshToken(ConnectionContext connectionContext, String refreshToken) {
         return requestToken(
-                        connectionContext,
-                        refreshTokenGrantTokenRequestTransformer(refreshToken),
-                        tokensExtractor(connectionContext))
+                        connectionContext, refreshTokenGrantTokenRequestTransformer(refreshToken))
                 .doOnError(t -> LOGGER.error("Refresh token grant error.", t))
                 .onErrorResume(t -> Mono.empty());
     }
@@ -293,23 +419,88 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
 
     private Mono<String> requestToken(
             ConnectionContext connectionContext,
-            BiConsumer<HttpClientRequest, HttpClientForm> tokenRequestTransformer,
-            Function<ByteBufFlux, Mono<String>> tokenExtractor) {
+            BiConsumer<HttpClientRequest, HttpClientForm> tokenRequestTransformer) {
         return connectionContext
                 .getRootProvider()
                 .getRoot(AUTHORIZATION_ENDPOINT, connectionContext)
-                .map(root -> createOperator(connectionContext, root))
                 .flatMap(
-                        operator ->
-                                operator.headers(this::addHeaders)
+                        root ->
+                                createOperator(connectionContext, root)
+                                        .headers(this::addHeaders)
                                         .post()
                                         .uri(tokenUriTransformer(getIdentityZoneSubdomain()))
                                         .sendForm(tokenRequestTransformer)
                                         .response()
                                         .parseBodyToToken(
                                                 responseWithBody ->
-                                                        tokenExtractor.apply(
-                                                                responseWithBody.getBody())));
+                                                        tokensExtractor(connectionContext, root)
+                                                                .apply(
+                                                                        responseWithBody
+                                                                                .getBody())));
+    }
+
+    private void renew(ConnectionContext connectionContext, String expiringToken) {
+        if (!expiringToken.equals(this.currentTokens.get(connectionContext))
+                || this.renewals.containsKey(connectionContext)) {
+            return;
+        }
+
+        this.scheduledRenewals.remove(connectionContext);
+
+        // the connection is idle, so stop renewing and let the next token request renegotiate
+        if (!this.tokenRequests.contains(connectionContext)) {
+            LOGGER.debug("Not renewing access token of idle connection");
+            invalidate(connectionContext);
+            return;
+        }
+
+        String refreshToken = this.refreshTokens.remove(connectionContext);
+        Mono<String> renewal =
+                refreshToken != null
+                        ? token(connectionContext, refreshToken)
+                        : token(connectionContext);
+
+        this.renewals.put(connectionContext, renewal);
+        LOGGER.debug("Renewing access token ahead of expiry");
+        renewal.doFinally(signal -> this.renewals.remove(connectionContext, renewal))
+                .subscribe(
+                        token -> this.accessTokens.put(connectionContext, renewal),
+                        t -> {
+                            LOGGER.warn("Unable to renew access token ahead of expiry", t);
+
+                            if (refreshToken != null) {
+                                this.refreshTokens.putIfAbsent(connectionContext, refreshToken);
+                            }
+                        });
+    }
+
+    private void scheduleRenewal(
+            ConnectionContext connectionContext, String token, Optional<JsonNode> claims) {
+        this.currentTokens.put(connectionContext, token);
+        this.tokenRequests.remove(connectionContext);
+
+        Duration leadTime = getTokenRefreshLeadTime();
+        Disposable renewal =
+                claims.flatMap(c -> getInstant(c, "exp"))
+                        .filter(expiration -> !leadTime.isZero() && !leadTime.isNegative())
+                        .map(
+                                expiration ->
+                                        Duration.between(Instant.now(), expiration).minus(leadTime))
+                        .filter(delay -> !delay.isNegative())
+                        .map(
+                                delay ->
+                                        Mono.delay(delay)
+                                                .subscribe(
+                                                        ignored -> renew(connectionContext, token)))
+                        .orElse(null);
+
+        Disposable previous =
+                renewal != null
+                        ? this.scheduledRenewals.put(connectionContext, renewal)
+                        : this.scheduledRenewals.remove(connectionContext);
+        if (previous != null) {
+            previous.dispose();
+        }
     }
 
     private void setAuthorization(HttpHeaders headers) {
@@ -338,12 +529,38 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
 
     @SuppressWarnings("unchecked")
     private Function<ByteBufFlux, Mono<String>> tokensExtractor(
-            ConnectionContext connectionContext) {
+            ConnectionContext connectionContext, String root) {
         return body ->
                 JsonCodec.decode(connectionContext.getObjectMapper(), body, Map.class)
                         .map(payload -> (Map<String, String>) payload)
-                        .doOnNext(extractRefreshToken(connectionContext))
-                        .map(AbstractUaaTokenProvider::extractAccessToken);
+                        .doOnNext(extractRefreshToken(connectionContext, root))
+                        .delayUntil(
+                                payload -> persistRefreshToken(connectionContext, root, payload))
+                        .map(
+                                payload -> {
+                                    String token = extractAccessToken(payload);
+                                    scheduleRenewal(
+                                            connectionContext,
+                                            token,
+                                            JsonWebTokens.getClaims(payload.get(ACCESS_TOKEN)));
+                                    return token;
+                                });
+    }
+
+    private Mono<Void> writeRefreshToken(
+            PersistentCache cache, String root, String identity, String refreshToken) {
+        Instant expiration =
+                JsonWebTokens.getClaims(refreshToken)
+                        .flatMap(claims -> getInstant(claims, "exp"))
+                        .orElseGet(() -> Instant.now().plus(cache.getTimeToLive()));
+
+        return Mono.<Void>fromRunnable(
+                        () ->
+                                cache.put(
+                                        getPersistentCacheKey(root, identity),
+                                        refreshToken,
+                                        expiration))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     private static final class RefreshToken {
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.tokenprovider;
 
+import java.util.Optional;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.immutables.value.Value;
 import reactor.netty.http.client.HttpClientForm;
@@ -32,6 +33,14 @@ abstract class _OneTimePasscodeTokenProvider extends AbstractUaaTokenProvider {
      */
     abstract String getPasscode();
 
+    /**
+     * The passcode can only be used once, so it does not identify the user and refresh tokens are not persisted
+     */
+    @Override
+    Optional<String> getIdentity() {
+        return Optional.empty();
+    }
+
     @Override
     void tokenRequestTransformer(HttpClientRequest request, HttpClientForm form) {
         form.multipart(false)
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.tokenprovider;
 
+import java.util.Optional;
 import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.immutables.value.Value;
@@ -44,6 +45,11 @@ abstract class _PasswordGrantTokenProvider extends AbstractUaaTokenProvider {
      */
     abstract String getUsername();
 
+    @Override
+    Optional<String> getIdentity() {
+        return Optional.of(getUsername());
+    }
+
     @Override
     void tokenRequestTransformer(HttpClientRequest request, HttpClientForm form) {
         form.multipart(false)
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.tokenprovider;
 
+import java.util.Optional;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.immutables.value.Value;
 import reactor.netty.http.client.HttpClientForm;
@@ -32,6 +33,11 @@ abstract class _RefreshTokenGrantTokenProvider extends AbstractUaaTokenProvider
      */
     abstract String getToken();
 
+    @Override
+    Optional<String> getIdentity() {
+        return Optional.of(getToken());
+    }
+
     @Override
     void tokenRequestTransformer(HttpClientRequest request, HttpClientForm form) {
         form.multipart(false)
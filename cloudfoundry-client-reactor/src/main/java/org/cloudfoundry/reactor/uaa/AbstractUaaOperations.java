@@ -27,9 +27,9 @@ import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.ErrorPayloadMappers;
 import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClientResponse;
 
@@ -44,14 +44,16 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     }
 
     @Override
-    protected Mono<Operator> createOperator() {
-        return super.createOperator().map(this::attachErrorPayloadMapper);
+    protected Operator configureOperator(Operator operator) {
+        return operator.withApi("uaa")
+                .withErrorPayloadMapper(
+                        ErrorPayloadMappers.uaa(this.connectionContext.getObjectMapper()));
     }
 
     protected final <T> Mono<T> delete(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -66,8 +68,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     }
 
     protected final Mono<HttpClientResponse> get(
-            Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Object requestPayload, Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -82,7 +83,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
 
     protected final Mono<HttpClientResponse> get(
             Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<HttpHeaders> headersTransformer) {
         return createOperator()
                 .flatMap(
@@ -103,7 +104,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
 
     protected final Mono<HttpClientResponse> get(
             Object requestPayload,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<HttpHeaders> headersTransformer,
             Function<HttpHeaders, Mono<? extends HttpHeaders>> headersWhenTransformer) {
         return createOperator()
@@ -127,7 +128,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> get(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -143,7 +144,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> get(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<HttpHeaders> headersTransformer) {
         return createOperator()
                 .flatMap(
@@ -165,7 +166,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> patch(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -182,7 +183,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> post(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<HttpHeaders> headersTransformer) {
         return createOperator()
                 .flatMap(
@@ -205,7 +206,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> post(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer,
             Consumer<HttpHeaders> headersTransformer,
             Function<HttpHeaders, Mono<? extends HttpHeaders>> headersWhenTransformer) {
         return createOperator()
@@ -230,7 +231,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> post(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -247,7 +248,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     protected final <T> Mono<T> put(
             Object requestPayload,
             Class<T> responseType,
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
         return createOperator()
                 .flatMap(
                         operator ->
@@ -274,13 +275,7 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
         VersionBuilder.augment(httpHeaders, requestPayload);
     }
 
-    private Operator attachErrorPayloadMapper(Operator operator) {
-        return operator.withErrorPayloadMapper(
-                ErrorPayloadMappers.uaa(this.connectionContext.getObjectMapper()));
-    }
-
-    private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(
-            Object requestPayload) {
+    private Function<RequestUriBuilder, RequestUriBuilder> queryTransformer(Object requestPayload) {
         return builder -> {
             Stream<UriQueryParameter> parameters = new QueryBuilder().build(requestPayload);
             UriQueryParameters.set(builder, parameters);
@@ -16,33 +16,45 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwsHeader;
-import io.jsonwebtoken.SigningKeyResolver;
-import java.security.Key;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
 import org.cloudfoundry.uaa.tokens.TokenKey;
 import org.cloudfoundry.uaa.tokens.Tokens;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
-final class UaaSigningKeyResolver implements SigningKeyResolver {
+/**
+ * Resolves the UAA keys that sign tokens, keyed by key id.  Lookups of known keys read an immutable snapshot without locking.  An unknown key id, e.g. after a
+ * key rotation, refreshes the snapshot, and a snapshot older than {@link #REFRESH_INTERVAL} is refreshed in the background while its keys continue to be served.
+ * Concurrent refreshes share a single request to the UAA.
+ */
+final class UaaSigningKeyResolver {
+
+    static final Duration REFRESH_INTERVAL = Duration.ofMinutes(15);
 
     private static final String BEGIN = "-----BEGIN PUBLIC KEY-----";
 
     private static final String END = "-----END PUBLIC KEY-----";
 
-    private final Object monitor = new Object();
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.token");
+
+    private final AtomicReference<Mono<SigningKeys>> refresh = new AtomicReference<>();
 
-    private final Map<String, Key> signingKeys = new HashMap<>();
+    private volatile SigningKeys signingKeys = new SigningKeys(Collections.emptyMap(), Instant.MIN);
 
     private final Tokens tokens;
 
@@ -50,16 +62,42 @@ final class UaaSigningKeyResolver implements SigningKeyResolver {
         this.tokens = tokens;
     }
 
-    @Override
-    @SuppressWarnings("rawtypes")
-    public Key resolveSigningKey(JwsHeader header, Claims claims) {
-        return getKey(header.getKeyId());
-    }
+    /**
+     * Returns the signing key with a given key id
+     *
+     * @param keyId the key id
+     * @return the signing key, or an {@link IllegalStateException} if the UAA does not have a key with that id
+     */
+    Mono<PublicKey> getKey(String keyId) {
+        SigningKeys current = this.signingKeys;
+
+        PublicKey key = current.keys.get(keyId);
+        if (key != null) {
+            if (current.isStale()) {
+                refreshKeys()
+                        .subscribe(
+                                keys -> {},
+                                t -> LOGGER.warn("Unable to refresh UAA signing keys", t));
+            }
 
-    @Override
-    @SuppressWarnings("rawtypes")
-    public Key resolveSigningKey(JwsHeader jwsHeader, byte[] bytes) {
-        return getKey(jwsHeader.getKeyId());
+            return Mono.just(key);
+        }
+
+        return refreshKeys()
+                .handle(
+                        (keys, sink) -> {
+                            PublicKey refreshed = keys.keys.get(keyId);
+
+                            if (refreshed != null) {
+                                sink.next(refreshed);
+                            } else {
+                                sink.error(
+                                        new IllegalStateException(
+                                                String.format(
+                                                        "Unable to retrieve signing key %s",
+                                                        keyId)));
+                            }
+                        });
     }
 
     private static byte[] decode(TokenKey tokenKey) {
@@ -67,7 +105,7 @@ final class UaaSigningKeyResolver implements SigningKeyResolver {
                 .decode(tokenKey.getValue().replace(BEGIN, "").replace(END, "").trim());
     }
 
-    private static Key generateKey(TokenKey tokenKey) {
+    private static PublicKey generateKey(TokenKey tokenKey) {
         try {
             return KeyFactory.getInstance(tokenKey.getKeyType().toString())
                     .generatePublic(new X509EncodedKeySpec(decode(tokenKey)));
@@ -76,32 +114,42 @@ final class UaaSigningKeyResolver implements SigningKeyResolver {
         }
     }
 
-    private Key getKey(String keyId) {
-        synchronized (this.monitor) {
-            Key key = this.signingKeys.get(keyId);
-            if (key != null) {
-                return key;
-            }
-
-            refreshKeys();
-
-            key = this.signingKeys.get(keyId);
-            if (key != null) {
-                return key;
-            }
-
-            throw new IllegalStateException(
-                    String.format("Unable to retrieve signing key %s", keyId));
+    private Mono<SigningKeys> refreshKeys() {
+        Mono<SigningKeys> inFlight = this.refresh.get();
+        if (inFlight != null) {
+            return inFlight;
         }
-    }
 
-    private void refreshKeys() {
-        this.signingKeys.clear();
-        this.signingKeys.putAll(
+        AtomicReference<Mono<SigningKeys>> candidate = new AtomicReference<>();
+        candidate.set(
                 this.tokens
                         .listKeys(ListTokenKeysRequest.builder().build())
                         .flatMapIterable(ListTokenKeysResponse::getKeys)
-                        .collectMap(TokenKey::getId, UaaSigningKeyResolver::generateKey)
-                        .block(Duration.ofMinutes(5)));
+                        .collect(
+                                HashMap<String, PublicKey>::new,
+                                (keys, tokenKey) ->
+                                        keys.put(tokenKey.getId(), generateKey(tokenKey)))
+                        .map(keys -> new SigningKeys(keys, Instant.now()))
+                        .doOnNext(keys -> this.signingKeys = keys)
+                        .doFinally(signalType -> this.refresh.compareAndSet(candidate.get(), null))
+                        .share());
+
+        return this.refresh.compareAndSet(null, candidate.get()) ? candidate.get() : refreshKeys();
+    }
+
+    private static final class SigningKeys {
+
+        private final Map<String, PublicKey> keys;
+
+        private final Instant refreshed;
+
+        private SigningKeys(Map<String, PublicKey> keys, Instant refreshed) {
+            this.keys = keys;
+            this.refreshed = refreshed;
+        }
+
+        private boolean isStale() {
+            return this.refreshed.plus(REFRESH_INTERVAL).isBefore(Instant.now());
+        }
     }
 }
@@ -18,26 +18,32 @@ package org.cloudfoundry.reactor.uaa;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SigningKeyResolver;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.util.JsonWebTokens;
 import org.cloudfoundry.uaa.tokens.Tokens;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 final class UsernameProvider {
 
+    private static final int MAX_CACHED_TOKENS = 256;
+
     private final ConnectionContext connectionContext;
 
-    private final SigningKeyResolver signingKeyResolver;
+    private final UaaSigningKeyResolver signingKeyResolver;
 
     private final TokenProvider tokenProvider;
 
+    private final Map<String, Username> usernames = new ConcurrentHashMap<>();
+
     UsernameProvider(
             ConnectionContext connectionContext, TokenProvider tokenProvider, Tokens tokens) {
         this(connectionContext, new UaaSigningKeyResolver(tokens), tokenProvider);
@@ -45,7 +51,7 @@ final class UsernameProvider {
 
     UsernameProvider(
             ConnectionContext connectionContext,
-            SigningKeyResolver signingKeyResolver,
+            UaaSigningKeyResolver signingKeyResolver,
             TokenProvider tokenProvider) {
         this.connectionContext = connectionContext;
         this.tokenProvider = tokenProvider;
@@ -54,8 +60,7 @@ final class UsernameProvider {
 
     Mono<String> get() {
         return getToken(this.connectionContext, this.tokenProvider)
-                .publishOn(Schedulers.boundedElastic())
-                .map(this::getUsername)
+                .flatMap(this::getUsername)
                 .retryWhen(
                         Retry.max(1)
                                 .filter(ExpiredJwtException.class::isInstance)
@@ -65,19 +70,77 @@ final class UsernameProvider {
                                                         this.connectionContext)));
     }
 
+    private static String getKeyId(String token) {
+        return JsonWebTokens.getHeader(token)
+                .orElseThrow(
+                        () ->
+                                new IllegalStateException(
+                                        "Unable to retrieve signing key id from token"))
+                .path("kid")
+                .asText(null);
+    }
+
     private static Mono<String> getToken(
             ConnectionContext connectionContext, TokenProvider tokenProvider) {
         return Mono.defer(() -> tokenProvider.getToken(connectionContext))
                 .map(s -> s.split(" ")[1]);
     }
 
-    private String getUsername(String token) {
-        JwtParser parser = Jwts.parser().setSigningKeyResolver(this.signingKeyResolver).build();
+    private void cacheUsername(String token, Claims claims, String username) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
 
-        Jws<Claims> jws = parser.parseClaimsJws(token);
+        if (this.usernames.size() >= MAX_CACHED_TOKENS) {
+            this.usernames.clear();
+        }
 
-        return Optional.ofNullable(jws.getBody().get("user_name", String.class))
-                .orElseThrow(
-                        () -> new IllegalStateException("Unable to retrieve username from token"));
+        this.usernames.put(token, new Username(expiration.toInstant(), username));
+    }
+
+    private Mono<String> getUsername(String token) {
+        Username cached = this.usernames.get(token);
+        if (cached != null) {
+            if (cached.isValid()) {
+                return Mono.just(cached.value);
+            }
+
+            this.usernames.remove(token, cached);
+        }
+
+        return Mono.fromCallable(() -> getKeyId(token))
+                .flatMap(this.signingKeyResolver::getKey)
+                .map(key -> getUsername(token, key));
+    }
+
+    private String getUsername(String token, PublicKey key) {
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+
+        String username =
+                Optional.ofNullable(claims.get("user_name", String.class))
+                        .orElseThrow(
+                                () ->
+                                        new IllegalStateException(
+                                                "Unable to retrieve username from token"));
+
+        cacheUsername(token, claims, username);
+        return username;
+    }
+
+    private static final class Username {
+
+        private final Instant expiration;
+
+        private final String value;
+
+        private Username(Instant expiration, String value) {
+            this.expiration = expiration;
+            this.value = value;
+        }
+
+        private boolean isValid() {
+            return Instant.now().isBefore(this.expiration);
+        }
     }
 }
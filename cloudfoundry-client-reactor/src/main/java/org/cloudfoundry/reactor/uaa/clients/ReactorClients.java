@@ -114,8 +114,9 @@ public final class ReactorClients extends AbstractUaaOperations implements Clien
                         request,
                         ChangeSecretResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "oauth", "clients", request.getClientId(), "secret"))
+                                builder.pathSegment("oauth", "clients")
+                                        .pathVariable(request.getClientId())
+                                        .pathSegment("secret"))
                 .checkpoint();
     }
 
@@ -133,7 +134,9 @@ public final class ReactorClients extends AbstractUaaOperations implements Clien
         return delete(
                         request,
                         DeleteClientResponse.class,
-                        builder -> builder.pathSegment("oauth", "clients", request.getClientId()))
+                        builder ->
+                                builder.pathSegment("oauth", "clients")
+                                        .pathVariable(request.getClientId()))
                 .checkpoint();
     }
 
@@ -142,7 +145,9 @@ public final class ReactorClients extends AbstractUaaOperations implements Clien
         return get(
                         request,
                         GetClientResponse.class,
-                        builder -> builder.pathSegment("oauth", "clients", request.getClientId()))
+                        builder ->
+                                builder.pathSegment("oauth", "clients")
+                                        .pathVariable(request.getClientId()))
                 .checkpoint();
     }
 
@@ -152,8 +157,9 @@ public final class ReactorClients extends AbstractUaaOperations implements Clien
                         request,
                         GetMetadataResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "oauth", "clients", request.getClientId(), "meta"))
+                                builder.pathSegment("oauth", "clients")
+                                        .pathVariable(request.getClientId())
+                                        .pathSegment("meta"))
                 .checkpoint();
     }
 
@@ -189,7 +195,9 @@ public final class ReactorClients extends AbstractUaaOperations implements Clien
         return put(
                         request,
                         UpdateClientResponse.class,
-                        builder -> builder.pathSegment("oauth", "clients", request.getClientId()))
+                        builder ->
+                                builder.pathSegment("oauth", "clients")
+                                        .pathVariable(request.getClientId()))
                 .checkpoint();
     }
 
@@ -199,8 +207,9 @@ public final class ReactorClients extends AbstractUaaOperations implements Clien
                         request,
                         UpdateMetadataResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "oauth", "clients", request.getClientId(), "meta"))
+                                builder.pathSegment("oauth", "clients")
+                                        .pathVariable(request.getClientId())
+                                        .pathSegment("meta"))
                 .checkpoint();
     }
 }
@@ -75,7 +75,10 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
         return post(
                         request,
                         AddMemberResponse.class,
-                        builder -> builder.pathSegment("Groups", request.getGroupId(), "members"))
+                        builder ->
+                                builder.pathSegment("Groups")
+                                        .pathVariable(request.getGroupId())
+                                        .pathSegment("members"))
                 .checkpoint();
     }
 
@@ -85,11 +88,10 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
                         request,
                         CheckMembershipResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "Groups",
-                                        request.getGroupId(),
-                                        "members",
-                                        request.getMemberId()))
+                                builder.pathSegment("Groups")
+                                        .pathVariable(request.getGroupId())
+                                        .pathSegment("members")
+                                        .pathVariable(request.getMemberId()))
                 .checkpoint();
     }
 
@@ -104,7 +106,7 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
         return delete(
                         request,
                         DeleteGroupResponse.class,
-                        builder -> builder.pathSegment("Groups", request.getGroupId()))
+                        builder -> builder.pathSegment("Groups").pathVariable(request.getGroupId()))
                 .checkpoint();
     }
 
@@ -113,7 +115,7 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
         return get(
                         request,
                         GetGroupResponse.class,
-                        builder -> builder.pathSegment("Groups", request.getGroupId()))
+                        builder -> builder.pathSegment("Groups").pathVariable(request.getGroupId()))
                 .checkpoint();
     }
 
@@ -138,7 +140,10 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
         return get(
                         request,
                         ListMembersResponse.class,
-                        builder -> builder.pathSegment("Groups", request.getGroupId(), "members"))
+                        builder ->
+                                builder.pathSegment("Groups")
+                                        .pathVariable(request.getGroupId())
+                                        .pathSegment("members"))
                 .checkpoint();
     }
 
@@ -157,11 +162,10 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
                         request,
                         RemoveMemberResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "Groups",
-                                        request.getGroupId(),
-                                        "members",
-                                        request.getMemberId()))
+                                builder.pathSegment("Groups")
+                                        .pathVariable(request.getGroupId())
+                                        .pathSegment("members")
+                                        .pathVariable(request.getMemberId()))
                 .checkpoint();
     }
 
@@ -172,15 +176,12 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
                         request,
                         UnmapExternalGroupByGroupDisplayNameResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "Groups",
-                                        "External",
-                                        "displayName",
-                                        request.getGroupDisplayName(),
-                                        "externalGroup",
-                                        request.getExternalGroup(),
-                                        "origin",
-                                        request.getOrigin()))
+                                builder.pathSegment("Groups", "External", "displayName")
+                                        .pathVariable(request.getGroupDisplayName())
+                                        .pathSegment("externalGroup")
+                                        .pathVariable(request.getExternalGroup())
+                                        .pathSegment("origin")
+                                        .pathVariable(request.getOrigin()))
                 .checkpoint();
     }
 
@@ -191,15 +192,12 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
                         request,
                         UnmapExternalGroupByGroupIdResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                        "Groups",
-                                        "External",
-                                        "groupId",
-                                        request.getGroupId(),
-                                        "externalGroup",
-                                        request.getExternalGroup(),
-                                        "origin",
-                                        request.getOrigin()))
+                                builder.pathSegment("Groups", "External", "groupId")
+                                        .pathVariable(request.getGroupId())
+                                        .pathSegment("externalGroup")
+                                        .pathVariable(request.getExternalGroup())
+                                        .pathSegment("origin")
+                                        .pathVariable(request.getOrigin()))
                 .checkpoint();
     }
 
@@ -208,7 +206,7 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
         return put(
                         request,
                         UpdateGroupResponse.class,
-                        builder -> builder.pathSegment("Groups", request.getGroupId()))
+                        builder -> builder.pathSegment("Groups").pathVariable(request.getGroupId()))
                 .checkpoint();
     }
 }
@@ -72,9 +72,8 @@ public final class ReactorIdentityProviders extends AbstractUaaOperations
                         request,
                         DeleteIdentityProviderResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                                "identity-providers",
-                                                request.getIdentityProviderId())
+                                builder.pathSegment("identity-providers")
+                                        .pathVariable(request.getIdentityProviderId())
                                         .queryParam("rawConfig", true))
                 .checkpoint();
     }
@@ -85,9 +84,8 @@ public final class ReactorIdentityProviders extends AbstractUaaOperations
                         request,
                         GetIdentityProviderResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                                "identity-providers",
-                                                request.getIdentityProviderId())
+                                builder.pathSegment("identity-providers")
+                                        .pathVariable(request.getIdentityProviderId())
                                         .queryParam("rawConfig", true))
                 .checkpoint();
     }
@@ -109,9 +107,8 @@ public final class ReactorIdentityProviders extends AbstractUaaOperations
                         request,
                         UpdateIdentityProviderResponse.class,
                         builder ->
-                                builder.pathSegment(
-                                                "identity-providers",
-                                                request.getIdentityProviderId())
+                                builder.pathSegment("identity-providers")
+                                        .pathVariable(request.getIdentityProviderId())
                                         .queryParam("rawConfig", true))
                 .checkpoint();
     }
@@ -69,7 +69,8 @@ public final class ReactorIdentityZones extends AbstractUaaOperations implements
                         request,
                         DeleteIdentityZoneResponse.class,
                         builder ->
-                                builder.pathSegment("identity-zones", request.getIdentityZoneId()))
+                                builder.pathSegment("identity-zones")
+                                        .pathVariable(request.getIdentityZoneId()))
                 .checkpoint();
     }
 
@@ -79,7 +80,8 @@ public final class ReactorIdentityZones extends AbstractUaaOperations implements
                         request,
                         GetIdentityZoneResponse.class,
                         builder ->
-                                builder.pathSegment("identity-zones", request.getIdentityZoneId()))
+                                builder.pathSegment("identity-zones")
+                                        .pathVariable(request.getIdentityZoneId()))
                 .checkpoint();
     }
 
@@ -98,7 +100,8 @@ public final class ReactorIdentityZones extends AbstractUaaOperations implements
                         request,
                         UpdateIdentityZoneResponse.class,
                         builder ->
-                                builder.pathSegment("identity-zones", request.getIdentityZoneId()))
+                                builder.pathSegment("identity-zones")
+                                        .pathVariable(request.getIdentityZoneId()))
                 .checkpoint();
     }
 }
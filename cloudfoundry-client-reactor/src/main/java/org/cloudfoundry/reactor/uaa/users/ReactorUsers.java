@@ -71,7 +71,10 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         return put(
                         request,
                         ChangeUserPasswordResponse.class,
-                        builder -> builder.pathSegment("Users", request.getUserId(), "password"))
+                        builder ->
+                                builder.pathSegment("Users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("password"))
                 .checkpoint();
     }
 
@@ -86,7 +89,7 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         return delete(
                         request,
                         DeleteUserResponse.class,
-                        builder -> builder.pathSegment("Users", request.getUserId()))
+                        builder -> builder.pathSegment("Users").pathVariable(request.getUserId()))
                 .checkpoint();
     }
 
@@ -95,7 +98,10 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         return patch(
                         request,
                         ExpirePasswordResponse.class,
-                        builder -> builder.pathSegment("Users", request.getUserId(), "status"))
+                        builder ->
+                                builder.pathSegment("Users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("status"))
                 .checkpoint();
     }
 
@@ -105,7 +111,10 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         return get(
                         request,
                         GetUserVerificationLinkResponse.class,
-                        builder -> builder.pathSegment("Users", request.getUserId(), "verify-link"))
+                        builder ->
+                                builder.pathSegment("Users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("verify-link"))
                 .checkpoint();
     }
 
@@ -138,7 +147,7 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         return put(
                         request,
                         UpdateUserResponse.class,
-                        builder -> builder.pathSegment("Users", request.getId()))
+                        builder -> builder.pathSegment("Users").pathVariable(request.getId()))
                 .checkpoint();
     }
 
@@ -153,7 +162,10 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         return get(
                         request,
                         VerifyUserResponse.class,
-                        builder -> builder.pathSegment("Users", request.getUserId(), "verify"))
+                        builder ->
+                                builder.pathSegment("Users")
+                                        .pathVariable(request.getUserId())
+                                        .pathSegment("verify"))
                 .checkpoint();
     }
 }
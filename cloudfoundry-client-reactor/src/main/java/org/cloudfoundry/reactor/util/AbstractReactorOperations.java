@@ -23,7 +23,6 @@ import java.util.Map;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import reactor.core.publisher.Mono;
-import reactor.netty.http.client.HttpClient;
 
 public abstract class AbstractReactorOperations {
 
@@ -37,6 +36,8 @@ public abstract class AbstractReactorOperations {
 
     protected final TokenProvider tokenProvider;
 
+    private volatile Operator operator;
+
     protected AbstractReactorOperations(
             ConnectionContext connectionContext,
             Mono<String> root,
@@ -49,13 +50,17 @@ public abstract class AbstractReactorOperations {
     }
 
     protected Mono<Operator> createOperator() {
-        HttpClient httpClient = this.connectionContext.getHttpClient();
+        return this.root.map(this::getOperator);
+    }
 
-        return this.root
-                .map(this::buildOperatorContext)
-                .map(context -> new Operator(context, httpClient))
-                .map(operator -> operator.headers(this::addHeaders))
-                .map(operator -> operator.headersWhen(this::addHeadersWhen));
+    /**
+     * Apply configuration that is common to every request made by these operations.  Called once per root, rather than once per request.
+     *
+     * @param operator the operator to configure
+     * @return the configured operator
+     */
+    protected Operator configureOperator(Operator operator) {
+        return operator;
     }
 
     private void addHeaders(HttpHeaders httpHeaders) {
@@ -70,6 +75,23 @@ public abstract class AbstractReactorOperations {
                 .map(token -> httpHeaders.set(AUTHORIZATION, token));
     }
 
+    private Operator getOperator(String root) {
+        Operator operator = this.operator;
+
+        if (operator == null || !operator.context.getRoot().equals(root)) {
+            operator =
+                    configureOperator(
+                            new Operator(
+                                            buildOperatorContext(root),
+                                            this.connectionContext.getHttpClient())
+                                    .headers(this::addHeaders)
+                                    .headersWhen(this::addHeadersWhen));
+            this.operator = operator;
+        }
+
+        return operator;
+    }
+
     private OperatorContext buildOperatorContext(String root) {
         return OperatorContext.builder()
                 .connectionContext(this.connectionContext)
@@ -17,18 +17,33 @@
 package org.cloudfoundry.reactor.util;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.cloudfoundry.reactor.client.MethodNameComparator;
 import reactor.core.Exceptions;
 
 public final class AnnotationUtils {
 
+    private static final ClassValue<Map<Class<?>, List<?>>> ACCESSORS =
+            new ClassValue<Map<Class<?>, List<?>>>() {
+
+                @Override
+                protected Map<Class<?>, List<?>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private AnnotationUtils() {}
 
     public static class AnnotatedValue<T extends Annotation> {
@@ -71,13 +86,29 @@ public final class AnnotationUtils {
 
     public static <T extends Annotation> Stream<AnnotatedValue<T>> streamAnnotatedValues(
             Object instance, Class<T> annotationClass) {
-        Class<?> instanceClass = instance.getClass();
-        return Arrays.stream(instanceClass.getMethods())
-                .sorted(MethodNameComparator.INSTANCE)
-                .map(processMethod(instance, annotationClass))
+        return getAccessors(instance.getClass(), annotationClass).stream()
+                .map(accessor -> accessor.getAnnotatedValue(instance))
                 .filter(Objects::nonNull);
     }
 
+    private static <T extends Annotation> List<AnnotatedAccessor<T>> createAccessors(
+            Class<?> instanceClass, Class<T> annotationClass) {
+        List<AnnotatedAccessor<T>> accessors = new ArrayList<>();
+
+        Arrays.stream(instanceClass.getMethods())
+                .sorted(MethodNameComparator.INSTANCE)
+                .forEach(
+                        method ->
+                                findAnnotation(method, annotationClass)
+                                        .map(
+                                                annotation ->
+                                                        new AnnotatedAccessor<>(
+                                                                annotation, getGetter(method)))
+                                        .ifPresent(accessors::add));
+
+        return Collections.unmodifiableList(accessors);
+    }
+
     private static <T extends Annotation> Optional<T> findAnnotation(
             Method method, Class<T> annotationType) {
         Class<?> clazz = method.getDeclaringClass();
@@ -102,26 +133,56 @@ public final class AnnotationUtils {
         return Optional.ofNullable(annotation);
     }
 
-    private static Optional<Object> getValue(Method method, Object instance) {
+    @SuppressWarnings("unchecked")
+    private static <T extends Annotation> List<AnnotatedAccessor<T>> getAccessors(
+            Class<?> instanceClass, Class<T> annotationClass) {
+        return (List<AnnotatedAccessor<T>>)
+                ACCESSORS
+                        .get(instanceClass)
+                        .computeIfAbsent(
+                                annotationClass,
+                                key -> createAccessors(instanceClass, annotationClass));
+    }
+
+    private static MethodHandle getGetter(Method method) {
+        MethodHandle getter;
+
         try {
-            return Optional.ofNullable(method.invoke(instance));
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw Exceptions.propagate(e);
+            getter = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // Public method declared by a non-public type
+            try {
+                method.setAccessible(true);
+                getter = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException f) {
+                throw Exceptions.propagate(f);
+            }
         }
-    }
 
-    private static <T extends Annotation>
-            Function<T, Optional<AnnotatedValue<T>>> processAnnotation(
-                    Method method, Object instance) {
-        return annotation ->
-                getValue(method, instance).map(value -> new AnnotatedValue<T>(annotation, value));
+        return getter.asType(MethodType.methodType(Object.class, Object.class));
     }
 
-    private static <T extends Annotation> Function<Method, AnnotatedValue<T>> processMethod(
-            Object instance, Class<T> annotationClass) {
-        return method ->
-                findAnnotation(method, annotationClass)
-                        .flatMap(processAnnotation(method, instance))
-                        .orElse(null);
+    private static final class AnnotatedAccessor<T extends Annotation> {
+
+        private final T annotation;
+
+        private final MethodHandle getter;
+
+        private AnnotatedAccessor(T annotation, MethodHandle getter) {
+            this.annotation = annotation;
+            this.getter = getter;
+        }
+
+        private AnnotatedValue<T> getAnnotatedValue(Object instance) {
+            Object value;
+
+            try {
+                value = this.getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw Exceptions.propagate(t);
+            }
+
+            return value != null ? new AnnotatedValue<>(this.annotation, value) : null;
+        }
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.util.ResponseCache.CachedResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * A {@code GET} request whose parsed response can be shared: served from, and stored in, the {@link ResponseCache} of a connection context, or coalesced with
+ * identical in-flight requests by its {@link RequestCoalescer}.  Requests with any other method invalidate the cached responses for the resource they modify
+ * and for its collection instead, once they have succeeded.
+ */
+final class CacheableRequest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.cache");
+
+    private final ResponseCache cache;
+
+    private final RequestCoalescer coalescer;
+
+    private final OperatorContext context;
+
+    private final String path;
+
+    private final String pathTemplate;
+
+    private final boolean shared;
+
+    private final String uri;
+
+    private CacheableRequest(
+            ResponseCache cache,
+            RequestCoalescer coalescer,
+            OperatorContext context,
+            String uri,
+            String path,
+            String pathTemplate,
+            boolean shared) {
+        this.cache = cache;
+        this.coalescer = coalescer;
+        this.context = context;
+        this.path = path;
+        this.pathTemplate = pathTemplate;
+        this.shared = shared;
+        this.uri = uri;
+    }
+
+    static CacheableRequest of(
+            OperatorContext context, HttpMethod method, RequestUriBuilder uri, String uriString) {
+        ConnectionContext connectionContext = context.getConnectionContext();
+        ResponseCache cache = connectionContext.getResponseCache().orElse(null);
+        RequestCoalescer coalescer = connectionContext.getRequestCoalescer().orElse(null);
+
+        if (!HttpMethod.GET.equals(method)) {
+            return cache != null
+                    ? new CacheableRequest(
+                            cache,
+                            null,
+                            context,
+                            uriString,
+                            uri.getPath(),
+                            uri.getPathTemplate(),
+                            false)
+                    : null;
+        }
+
+        if (cache == null && coalescer == null) {
+            return null;
+        }
+
+        return new CacheableRequest(
+                cache, coalescer, context, uriString, uri.getPath(), uri.getPathTemplate(), true);
+    }
+
+    <T> Mono<T> coalesce(String key, Class<T> bodyType, Mono<T> request, Runnable onCoalesced) {
+        if (this.coalescer == null) {
+            return request;
+        }
+
+        return this.coalescer.coalesce(bodyType.getName() + ' ' + key, request, onCoalesced);
+    }
+
+    CachedResponse get(String key) {
+        return this.cache != null ? this.cache.get(key) : null;
+    }
+
+    /**
+     * Returns the key of the request: its URI and, for authenticated requests, the subject of the token
+     */
+    Mono<String> getKey() {
+        return this.context
+                .getTokenProvider()
+                .map(
+                        tokenProvider ->
+                                tokenProvider
+                                        .getToken(this.context.getConnectionContext())
+                                        .map(token -> TokenSubject.of(token) + ' ' + this.uri))
+                .orElseGet(() -> Mono.just(this.uri));
+    }
+
+    /**
+     * Removes the cached responses affected by a request that modifies the resource at its path.  Called once the request has succeeded, and does nothing for
+     * shared requests.
+     */
+    void invalidate() {
+        if (!this.shared) {
+            this.cache.invalidate(this.path, this.pathTemplate);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the response of the request can be shared, i.e. it is a {@code GET} request
+     */
+    boolean isShared() {
+        return this.shared;
+    }
+
+    void put(String key, Object value, HttpHeaders headers) {
+        if (this.cache != null) {
+            this.cache.put(key, this.path, this.pathTemplate, value, headers);
+        }
+    }
+
+    void refresh(String key, CachedResponse cached, HttpHeaders headers) {
+        this.cache.refresh(key, cached, headers);
+    }
+
+    /**
+     * Revalidates a stale cached response in the background, in the context of the request that it was served to
+     *
+     * @param cached      the cached response
+     * @param exchange    the exchange that revalidates the response
+     * @param contextView the context of the request
+     */
+    void revalidate(CachedResponse cached, Mono<?> exchange, ContextView contextView) {
+        exchange.doFinally(signalType -> cached.stopRevalidation())
+                .contextWrite(contextView)
+                .subscribe(
+                        value -> {},
+                        error ->
+                                LOGGER.warn(
+                                        "Unable to revalidate cached response for {}",
+                                        this.uri,
+                                        error));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Registers a {@link ConnectionPoolMetricsMXBean} for each connection pool, i.e. each remote host, of a {@link ConnectionProvider}.  The beans are registered
+ * alongside the {@link ByteBufAllocatorMetricProviderMXBean} of the same endpoint.
+ */
+public final class ConnectionPoolMetricsRegistrar implements ConnectionProvider.MeterRegistrar {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client");
+
+    private final String endpoint;
+
+    /**
+     * Creates a new instance
+     *
+     * @param endpoint the endpoint of the connection context, e.g. {@code api.run.pivotal.io/443}
+     */
+    public ConnectionPoolMetricsRegistrar(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            ObjectName name = getObjectName(id, remoteAddress);
+
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOGGER.error("Unable to unregister ConnectionPool MBean", e);
+        }
+    }
+
+    @Override
+    public void registerMetrics(
+            String poolName,
+            String id,
+            SocketAddress remoteAddress,
+            ConnectionPoolMetrics metrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            ObjectName name = getObjectName(id, remoteAddress);
+
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+
+            server.registerMBean(new ConnectionPoolMetricsWrapper(metrics), name);
+        } catch (JMException e) {
+            LOGGER.error("Unable to register ConnectionPool MBean", e);
+        }
+    }
+
+    private static String getRemoteHost(SocketAddress remoteAddress) {
+        if (remoteAddress instanceof InetSocketAddress) {
+            InetSocketAddress address = (InetSocketAddress) remoteAddress;
+            return String.format("%s:%d", address.getHostString(), address.getPort());
+        }
+
+        return String.valueOf(remoteAddress);
+    }
+
+    private ObjectName getObjectName(String id, SocketAddress remoteAddress) throws JMException {
+        return ObjectName.getInstance(
+                String.format(
+                        "org.cloudfoundry.reactor:type=ConnectionPool,endpoint=%s,remoteHost=%s,id=%s",
+                        this.endpoint,
+                        ObjectName.quote(getRemoteHost(remoteAddress)),
+                        ObjectName.quote(id)));
+    }
+}
@@ -19,9 +19,18 @@ package org.cloudfoundry.reactor.util;
 import static io.netty.handler.codec.http.HttpStatusClass.CLIENT_ERROR;
 import static io.netty.handler.codec.http.HttpStatusClass.SERVER_ERROR;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.handler.codec.http.HttpStatusClass;
-import java.util.Map;
+import io.netty.util.ReferenceCountUtil;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 import org.cloudfoundry.UnknownCloudFoundryException;
 import org.cloudfoundry.client.v2.ClientV2Exception;
@@ -30,26 +39,31 @@ import org.cloudfoundry.client.v3.Errors;
 import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
 import org.cloudfoundry.uaa.UaaException;
 import reactor.core.publisher.Mono;
-import reactor.netty.ByteBufFlux;
 import reactor.netty.Connection;
 import reactor.netty.http.client.HttpClientResponse;
 
+/**
+ * Mappers of error responses to exceptions.  Error payloads are read in full and decoded directly from the received buffers, after which the connection is
+ * returned to its pool for reuse rather than closed.
+ */
 public final class ErrorPayloadMappers {
 
-    @SuppressWarnings("unchecked")
     public static ErrorPayloadMapper clientV2(ObjectMapper objectMapper) {
         return inbound ->
                 inbound.flatMap(
                         mapToError(
+                                UnknownCloudFoundryException::new,
                                 (statusCode, payload) -> {
-                                    Map<String, Object> map =
-                                            objectMapper.readValue(payload, Map.class);
-                                    Integer code = (Integer) map.get("code");
-                                    String description = (String) map.get("description");
-                                    String errorCode = (String) map.get("error_code");
+                                    ClientV2Error error =
+                                            objectMapper.readValue(
+                                                    (InputStream) new ByteBufInputStream(payload),
+                                                    ClientV2Error.class);
 
                                     return new ClientV2Exception(
-                                            statusCode, code, description, errorCode);
+                                            statusCode,
+                                            error.code,
+                                            error.description,
+                                            error.errorCode);
                                 }));
     }
 
@@ -57,55 +71,66 @@ public final class ErrorPayloadMappers {
         return inbound ->
                 inbound.flatMap(
                         mapToError(
+                                UnknownCloudFoundryException::new,
                                 (statusCode, payload) -> {
-                                    Errors errors = objectMapper.readValue(payload, Errors.class);
+                                    Errors errors =
+                                            objectMapper.readValue(
+                                                    (InputStream) new ByteBufInputStream(payload),
+                                                    Errors.class);
                                     return new ClientV3Exception(statusCode, errors.getErrors());
                                 }));
     }
 
     public static ErrorPayloadMapper fallback() {
+        // an error without a payload is not mapped to an exception by the fallback
         return inbound ->
                 inbound.flatMap(
-                        responseWithConnection -> {
-                            HttpClientResponse response = responseWithConnection.getResponse();
-
-                            if (isError(response)) {
-                                Connection connection = responseWithConnection.getConnection();
-                                ByteBufFlux body =
-                                        ByteBufFlux.fromInbound(connection.inbound().receive());
-
-                                return body.aggregate()
-                                        .asString()
-                                        .doFinally(signalType -> connection.channel().close())
-                                        .flatMap(
-                                                payload -> {
-                                                    return Mono.error(
-                                                            new UnknownCloudFoundryException(
-                                                                    response.status().code(),
-                                                                    payload));
-                                                });
-                            }
-
-                            return Mono.just(responseWithConnection);
-                        });
+                        mapToError(
+                                statusCode -> null,
+                                (statusCode, payload) ->
+                                        new UnknownCloudFoundryException(
+                                                statusCode,
+                                                payload.toString(StandardCharsets.UTF_8))));
     }
 
-    @SuppressWarnings("unchecked")
     public static ErrorPayloadMapper uaa(ObjectMapper objectMapper) {
         return inbound ->
                 inbound.flatMap(
                         mapToError(
+                                UnknownCloudFoundryException::new,
                                 (statusCode, payload) -> {
-                                    Map<String, Object> map =
-                                            objectMapper.readValue(payload, Map.class);
-                                    String error = (String) map.get("error");
-                                    String errorDescription = (String) map.get("error_description");
+                                    // the raw payload is part of the exception, so it is read
+                                    // before the buffer is consumed by the parser
+                                    String raw = payload.toString(StandardCharsets.UTF_8);
+                                    JsonNode error =
+                                            objectMapper.readTree(
+                                                    (InputStream) new ByteBufInputStream(payload));
+
+                                    if (!error.isObject()) {
+                                        throw new IllegalArgumentException(
+                                                "UAA error payload is not an object");
+                                    }
 
                                     return new UaaException(
-                                            statusCode, error, errorDescription, payload);
+                                            statusCode,
+                                            textValue(error, "error"),
+                                            textValue(error, "error_description"),
+                                            raw);
                                 }));
     }
 
+    private static Mono<ByteBuf> aggregate(Connection connection) {
+        return connection
+                .inbound()
+                .receive()
+                .collect(
+                        ByteBufAllocator.DEFAULT::compositeBuffer,
+                        (CompositeByteBuf composite, ByteBuf byteBuf) ->
+                                composite.addComponent(true, byteBuf.retain()))
+                .cast(ByteBuf.class)
+                .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease);
+    }
+
     private static boolean isError(HttpClientResponse response) {
         HttpStatusClass statusClass = response.status().codeClass();
         return statusClass == CLIENT_ERROR || statusClass == SERVER_ERROR;
@@ -113,46 +138,65 @@ public final class ErrorPayloadMappers {
 
     private static Function<
                     HttpClientResponseWithConnection, Mono<HttpClientResponseWithConnection>>
-            mapToError(ExceptionGenerator exceptionGenerator) {
+            mapToError(
+                    Function<Integer, RuntimeException> emptyPayloadExceptionGenerator,
+                    ExceptionGenerator exceptionGenerator) {
         return response -> {
             if (!isError(response.getResponse())) {
                 return Mono.just(response);
             }
 
-            Connection connection = response.getConnection();
-            ByteBufFlux body =
-                    ByteBufFlux.fromInbound(
-                            connection
-                                    .inbound()
-                                    .receive()
-                                    .doFinally(signalType -> connection.dispose()));
-
-            return body.aggregate()
-                    .asString()
-                    .switchIfEmpty(
-                            Mono.error(
-                                    new UnknownCloudFoundryException(
-                                            response.getResponse().status().code())))
-                    .flatMap(
+            int statusCode = response.getResponse().status().code();
+
+            // consuming the whole payload allows the connection to be released back to the pool
+            return aggregate(response.getConnection())
+                    .mapNotNull(
                             payload -> {
                                 try {
-                                    return Mono.error(
-                                            exceptionGenerator.apply(
-                                                    response.getResponse().status().code(),
-                                                    payload));
-                                } catch (Exception e) {
-                                    return Mono.error(
-                                            new UnknownCloudFoundryException(
-                                                    response.getResponse().status().code(),
-                                                    payload));
+                                    return payload.isReadable()
+                                            ? toException(exceptionGenerator, statusCode, payload)
+                                            : emptyPayloadExceptionGenerator.apply(statusCode);
+                                } finally {
+                                    payload.release();
                                 }
-                            });
+                            })
+                    .flatMap(Mono::error);
         };
     }
 
+    private static String textValue(JsonNode node, String fieldName) {
+        JsonNode value = node.get(fieldName);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static RuntimeException toException(
+            ExceptionGenerator exceptionGenerator, int statusCode, ByteBuf payload) {
+        int readerIndex = payload.readerIndex();
+
+        try {
+            return exceptionGenerator.apply(statusCode, payload);
+        } catch (Exception e) {
+            return new UnknownCloudFoundryException(
+                    statusCode, payload.readerIndex(readerIndex).toString(StandardCharsets.UTF_8));
+        }
+    }
+
     @FunctionalInterface
     private interface ExceptionGenerator {
 
-        RuntimeException apply(Integer statusCode, String payload) throws Exception;
+        RuntimeException apply(Integer statusCode, ByteBuf payload) throws Exception;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class ClientV2Error {
+
+        @JsonProperty("code")
+        private Integer code;
+
+        @JsonProperty("description")
+        private String description;
+
+        @JsonProperty("error_code")
+        private String errorCode;
     }
 }
@@ -16,17 +16,22 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
-import io.netty.handler.codec.json.JsonObjectDecoder;
-import java.nio.charset.Charset;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.NettyOutbound;
@@ -36,30 +41,78 @@ public final class JsonCodec {
 
     private static final int MAX_PAYLOAD_SIZE = 100 * 1024 * 1024;
 
+    /**
+     * Decode a payload as it arrives, releasing each received buffer once it has been parsed.  The parsed payload is retained in full until it is bound, so
+     * peak memory is comparable to aggregating the payload first; use {@link #decodeElements(ObjectMapper, ByteBufFlux, Class, String, JavaType, Consumer)}
+     * to bind the elements of a large collection as they arrive.
+     *
+     * @param objectMapper the {@link ObjectMapper} to use
+     * @param responseBody the payload to decode
+     * @param responseType the type of the payload
+     * @param <T>          the type of the payload
+     * @return the decoded payload
+     */
     public static <T> Mono<T> decode(
             ObjectMapper objectMapper, ByteBufFlux responseBody, Class<T> responseType) {
-        return responseBody
-                .aggregate()
-                .asByteArray()
-                .map(
-                        payload -> {
-                            try {
-                                return objectMapper.readValue(payload, responseType);
-                            } catch (Throwable t) {
-                                throw new JsonParsingException(
-                                        t.getMessage(),
-                                        t,
-                                        new String(payload, Charset.defaultCharset()));
-                            }
-                        });
+        return decode(objectMapper, responseBody, objectMapper.constructType(responseType));
     }
 
-    public static void setDecodeHeaders(HttpHeaders httpHeaders) {
-        httpHeaders.set(HttpHeaderNames.ACCEPT, HttpHeaderValues.APPLICATION_JSON);
+    /**
+     * Decode a payload to a generic type
+     *
+     * @param objectMapper the {@link ObjectMapper} to use
+     * @param responseBody the payload to decode
+     * @param responseType the type of the payload
+     * @param <T>          the type of the payload
+     * @return the decoded payload
+     */
+    public static <T> Mono<T> decode(
+            ObjectMapper objectMapper, ByteBufFlux responseBody, JavaType responseType) {
+        return Mono.using(
+                () -> new NonBlockingJsonDecoder(objectMapper, MAX_PAYLOAD_SIZE),
+                decoder ->
+                        responseBody
+                                .doOnNext(decoder::feed)
+                                .then(Mono.fromCallable(() -> decoder.<T>complete(responseType))),
+                NonBlockingJsonDecoder::close);
+    }
+
+    /**
+     * Decode the elements of a top-level array field as they arrive, rather than after the whole payload has been received
+     *
+     * @param objectMapper   the {@link ObjectMapper} to use
+     * @param responseBody   the payload to decode
+     * @param responseType   the type of the payload, bound with the array field omitted once the payload is complete
+     * @param elementsField  the name of the top-level array field
+     * @param elementType    the type of the elements of the array field
+     * @param remainderConsumer a callback for the payload with the array field omitted
+     * @param <T>            the type of the elements
+     * @param <U>            the type of the payload
+     * @return the elements of the array field
+     */
+    public static <T, U> Flux<T> decodeElements(
+            ObjectMapper objectMapper,
+            ByteBufFlux responseBody,
+            Class<U> responseType,
+            String elementsField,
+            JavaType elementType,
+            Consumer<? super U> remainderConsumer) {
+        return Flux.using(
+                () ->
+                        new NonBlockingJsonElementDecoder(
+                                objectMapper, MAX_PAYLOAD_SIZE, elementsField, elementType),
+                decoder ->
+                        responseBody
+                                .concatMapIterable(decoder::<T>feedElements)
+                                .concatWith(
+                                        Mono.fromCallable(() -> decoder.complete(responseType))
+                                                .doOnNext(remainderConsumer)
+                                                .then(Mono.empty())),
+                NonBlockingJsonDecoder::close);
     }
 
-    static JsonObjectDecoder createDecoder() {
-        return new JsonObjectDecoder(MAX_PAYLOAD_SIZE);
+    public static void setDecodeHeaders(HttpHeaders httpHeaders) {
+        httpHeaders.set(HttpHeaderNames.ACCEPT, HttpHeaderValues.APPLICATION_JSON);
     }
 
     static BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> encode(
@@ -69,18 +122,37 @@ public final class JsonCodec {
             return (request, outbound) -> Mono.empty();
         }
 
-        return (request, outbound) -> {
-            try {
-                byte[] bytes = objectMapper.writeValueAsBytes(requestPayload);
-                String contentLength = String.valueOf(bytes.length);
-                Mono<byte[]> body = Mono.just(bytes);
+        // the body is only allocated once the send publisher is subscribed, after which the
+        // outbound owns it and releases it when written or discarded
+        return (request, outbound) ->
+                outbound.send(
+                                Mono.fromCallable(
+                                        () -> {
+                                            ByteBuf body =
+                                                    encode(
+                                                            objectMapper,
+                                                            requestPayload,
+                                                            outbound.alloc());
+                                            request.header(
+                                                    HttpHeaderNames.CONTENT_LENGTH,
+                                                    String.valueOf(body.readableBytes()));
+                                            request.header(
+                                                    HttpHeaderNames.CONTENT_TYPE,
+                                                    HttpHeaderValues.APPLICATION_JSON);
+                                            return body;
+                                        }))
+                        .then();
+    }
 
-                request.header(HttpHeaderNames.CONTENT_LENGTH, contentLength);
-                request.header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
-                return outbound.sendByteArray(body);
-            } catch (JsonProcessingException e) {
-                throw Exceptions.propagate(e);
-            }
-        };
+    static ByteBuf encode(ObjectMapper objectMapper, Object payload, ByteBufAllocator allocator) {
+        ByteBuf byteBuf = allocator.buffer();
+
+        try (ByteBufOutputStream out = new ByteBufOutputStream(byteBuf)) {
+            objectMapper.writeValue((OutputStream) out, payload);
+            return byteBuf;
+        } catch (IOException e) {
+            byteBuf.release();
+            throw Exceptions.propagate(e);
+        }
     }
 }
@@ -27,6 +27,9 @@ final class JsonParsingException extends RuntimeException {
         this.payload = payload;
     }
 
+    /**
+     * Returns the beginning of the payload that failed to parse.  Payloads are decoded incrementally, so only a bounded prefix is retained.
+     */
     public String getPayload() {
         return this.payload;
     }
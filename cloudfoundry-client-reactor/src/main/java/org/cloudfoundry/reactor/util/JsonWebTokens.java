@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Utilities for reading the segments of a JSON Web Token.  Segments are only decoded, not verified, so their contents must not be trusted unless the token's
+ * signature is verified separately.
+ */
+public final class JsonWebTokens {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private JsonWebTokens() {}
+
+    /**
+     * Read the claims of a token
+     *
+     * @param token the token
+     * @return the claims of the token, or empty if the token is {@code null} or not a JSON Web Token
+     */
+    public static Optional<JsonNode> getClaims(String token) {
+        return readSegment(token, 1);
+    }
+
+    /**
+     * Read the header of a token
+     *
+     * @param token the token
+     * @return the header of the token, or empty if the token is {@code null} or not a JSON Web Token
+     */
+    public static Optional<JsonNode> getHeader(String token) {
+        return readSegment(token, 0);
+    }
+
+    private static Optional<JsonNode> readSegment(String token, int index) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int start = 0;
+        for (int i = 0; i < index; i++) {
+            start = token.indexOf('.', start) + 1;
+
+            if (start == 0) {
+                return Optional.empty();
+            }
+        }
+
+        int end = token.indexOf('.', start);
+        if (end == -1) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(
+                            OBJECT_MAPPER.readTree(
+                                    Base64.getUrlDecoder().decode(token.substring(start, end))))
+                    .filter(JsonNode::isObject);
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+}
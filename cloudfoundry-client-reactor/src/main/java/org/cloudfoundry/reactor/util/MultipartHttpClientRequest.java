@@ -16,10 +16,12 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpHeaderNames;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -85,19 +87,14 @@ public final class MultipartHttpClientRequest {
 
         private String name;
 
-        private ByteArrayInputStream payload;
+        private Object payload;
 
         private PartHttpClientRequest(ObjectMapper objectMapper) {
             this.objectMapper = objectMapper;
         }
 
         public void send(Object source) {
-            try {
-                byte[] bytes = this.objectMapper.writeValueAsBytes(source);
-                this.payload = new ByteArrayInputStream(bytes);
-            } catch (JsonProcessingException e) {
-                throw Exceptions.propagate(e);
-            }
+            this.payload = source;
         }
 
         public void sendFile(Path file) {
@@ -128,7 +125,18 @@ public final class MultipartHttpClientRequest {
                 return form.file(
                         this.name, getFilenameOrDefault(), this.file.toFile(), this.contentType);
             } else if (this.payload != null) {
-                return form.file(this.name, this.payload, this.contentType);
+                // this part is not zero-copy: HttpClientForm only accepts in-memory parts as an
+                // InputStream, which the upload copies into its own buffer.  The pooled buffer is
+                // only a staging area and is released as soon as the part has been added
+                ByteBuf body =
+                        JsonCodec.encode(
+                                this.objectMapper, this.payload, PooledByteBufAllocator.DEFAULT);
+
+                try (ByteBufInputStream in = new ByteBufInputStream(body, true)) {
+                    return form.file(this.name, in, this.contentType);
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
             }
             return form;
         }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.TooLongFrameException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Incrementally parses a JSON payload as {@link ByteBuf} chunks arrive.  Each chunk is handed to Jackson's non-blocking parser without being copied and the resulting
+ * tokens are captured in a {@link TokenBuffer}, so the chunk can be released as soon as {@link #feed(ByteBuf)} returns.  This avoids aggregating the network
+ * buffers into a single contiguous copy of the payload, but it does not reduce the peak memory needed to decode a payload: the tokens of the whole payload are
+ * retained until {@link #complete(Class)} binds them, and are typically no smaller than the payload itself.  Large collections should be decoded with
+ * {@link NonBlockingJsonElementDecoder}, which binds and releases each element as soon as it is complete.  Instances are not thread-safe and are expected to
+ * be fed serially from a single subscription.
+ */
+class NonBlockingJsonDecoder implements AutoCloseable {
+
+    private static final int MAX_PAYLOAD_PREFIX_SIZE = 8 * 1024;
+
+    private final ByteBufferFeeder feeder;
+
+    private final long maxPayloadSize;
+
+    final ObjectMapper objectMapper;
+
+    final JsonParser parser;
+
+    private final ByteArrayOutputStream payloadPrefix = new ByteArrayOutputStream();
+
+    private final TokenBuffer tokenBuffer;
+
+    private long payloadSize;
+
+    NonBlockingJsonDecoder(ObjectMapper objectMapper, long maxPayloadSize) {
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new JsonParsingException(e.getMessage(), e, "");
+        }
+
+        this.feeder = (ByteBufferFeeder) this.parser.getNonBlockingInputFeeder();
+        this.maxPayloadSize = maxPayloadSize;
+        this.objectMapper = objectMapper;
+        this.tokenBuffer = createTokenBuffer();
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.parser.close();
+            this.tokenBuffer.close();
+        } catch (IOException e) {
+            // Nothing to release beyond in-memory state
+        }
+    }
+
+    /**
+     * Complete the payload and bind the accumulated tokens to a value
+     *
+     * @param valueType the type to bind to
+     * @param <T>       the type to bind to
+     * @return the bound value or {@code null} if the payload was empty
+     */
+    <T> T complete(Class<T> valueType) {
+        return complete(this.objectMapper.constructType(valueType));
+    }
+
+    /**
+     * Complete the payload and bind the accumulated tokens to a value
+     *
+     * @param valueType the type to bind to
+     * @param <T>       the type to bind to
+     * @return the bound value or {@code null} if the payload was empty
+     */
+    <T> T complete(JavaType valueType) {
+        try {
+            this.feeder.endOfInput();
+            drain();
+
+            if (this.tokenBuffer.firstToken() == null) {
+                return null;
+            }
+
+            return bind(this.tokenBuffer, valueType);
+        } catch (IOException e) {
+            throw new JsonParsingException(e.getMessage(), e, getPayloadPrefix());
+        }
+    }
+
+    /**
+     * Parse all complete tokens in a chunk.  The chunk is not retained once this method returns.
+     *
+     * @param byteBuf the chunk to parse
+     */
+    void feed(ByteBuf byteBuf) {
+        this.payloadSize += byteBuf.readableBytes();
+        if (this.payloadSize > this.maxPayloadSize) {
+            throw new TooLongFrameException(
+                    String.format(
+                            "JSON payload exceeds maximum size of %d bytes", this.maxPayloadSize));
+        }
+
+        capturePayloadPrefix(byteBuf);
+
+        try {
+            for (ByteBuffer byteBuffer : byteBuf.nioBuffers()) {
+                this.feeder.feedInput(byteBuffer);
+                drain();
+            }
+        } catch (IOException e) {
+            throw new JsonParsingException(e.getMessage(), e, getPayloadPrefix());
+        }
+    }
+
+    final <T> T bind(TokenBuffer tokens, JavaType valueType) throws IOException {
+        try (JsonParser parser = tokens.asParser(this.objectMapper)) {
+            return this.objectMapper.readValue(parser, valueType);
+        }
+    }
+
+    final TokenBuffer createTokenBuffer() {
+        TokenBuffer tokens = new TokenBuffer(this.parser);
+        tokens.forceUseOfBigDecimal(
+                this.objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        return tokens;
+    }
+
+    final String getPayloadPrefix() {
+        return new String(this.payloadPrefix.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Handle a single parsed token.  By default, the token is appended to the accumulated payload.
+     *
+     * @param token the token at the current position of {@link #parser}
+     * @param tokenBuffer the accumulated payload
+     */
+    void onToken(JsonToken token, TokenBuffer tokenBuffer) throws IOException {
+        tokenBuffer.copyCurrentEvent(this.parser);
+    }
+
+    private void capturePayloadPrefix(ByteBuf byteBuf) {
+        int length =
+                Math.min(
+                        byteBuf.readableBytes(),
+                        MAX_PAYLOAD_PREFIX_SIZE - this.payloadPrefix.size());
+
+        if (length > 0) {
+            byte[] bytes = new byte[length];
+            byteBuf.getBytes(byteBuf.readerIndex(), bytes);
+            this.payloadPrefix.write(bytes, 0, length);
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = this.parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            onToken(token, this.tokenBuffer);
+        }
+    }
+}
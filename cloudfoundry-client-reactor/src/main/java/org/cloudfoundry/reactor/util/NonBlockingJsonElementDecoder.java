@@ -0,0 +1,149 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link NonBlockingJsonDecoder} that binds each element of a top-level array field (e.g. {@code resources}) as soon as the element is complete.  The elements are
+ * not retained and all other fields are accumulated as the payload, so that the remainder of the document can be bound once the input is complete.
+ */
+final class NonBlockingJsonElementDecoder extends NonBlockingJsonDecoder {
+
+    private final JavaType elementType;
+
+    private final String elementsField;
+
+    private final List<Object> elements = new ArrayList<>();
+
+    private TokenBuffer element;
+
+    private int elementDepth;
+
+    private int depth;
+
+    private boolean inElements;
+
+    private boolean pendingElements;
+
+    NonBlockingJsonElementDecoder(
+            ObjectMapper objectMapper,
+            long maxPayloadSize,
+            String elementsField,
+            JavaType elementType) {
+        super(objectMapper, maxPayloadSize);
+        this.elementsField = elementsField;
+        this.elementType = elementType;
+    }
+
+    /**
+     * Parse all complete tokens in a chunk, returning the elements completed by the chunk
+     *
+     * @param byteBuf the chunk to parse
+     * @param <T>     the type of the elements
+     * @return the elements completed by the chunk
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> feedElements(ByteBuf byteBuf) {
+        feed(byteBuf);
+
+        if (this.elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<T> completed = new ArrayList<>((List<T>) this.elements);
+        this.elements.clear();
+        return completed;
+    }
+
+    @Override
+    void onToken(JsonToken token, TokenBuffer tokenBuffer) throws IOException {
+        if (this.element != null) {
+            onElementToken(token);
+        } else if (this.inElements) {
+            onElementsToken(token);
+        } else if (this.pendingElements) {
+            this.pendingElements = false;
+
+            if (token == JsonToken.START_ARRAY) {
+                this.inElements = true;
+            } else if (token != JsonToken.VALUE_NULL) {
+                tokenBuffer.writeFieldName(this.elementsField);
+                onPayloadToken(token, tokenBuffer);
+            }
+        } else if (this.depth == 1
+                && token == JsonToken.FIELD_NAME
+                && this.elementsField.equals(this.parser.currentName())) {
+            this.pendingElements = true;
+        } else {
+            onPayloadToken(token, tokenBuffer);
+        }
+    }
+
+    private void completeElement() throws IOException {
+        try {
+            this.elements.add(bind(this.element, this.elementType));
+        } finally {
+            this.element.close();
+            this.element = null;
+        }
+    }
+
+    private void onElementToken(JsonToken token) throws IOException {
+        this.element.copyCurrentEvent(this.parser);
+
+        if (token.isStructStart()) {
+            this.elementDepth++;
+        } else if (token.isStructEnd() && --this.elementDepth == 0) {
+            completeElement();
+        }
+    }
+
+    private void onElementsToken(JsonToken token) throws IOException {
+        if (token == JsonToken.END_ARRAY) {
+            this.inElements = false;
+            return;
+        }
+
+        this.element = createTokenBuffer();
+        this.element.copyCurrentEvent(this.parser);
+
+        if (token.isStructStart()) {
+            this.elementDepth = 1;
+        } else {
+            completeElement();
+        }
+    }
+
+    private void onPayloadToken(JsonToken token, TokenBuffer tokenBuffer) throws IOException {
+        tokenBuffer.copyCurrentEvent(this.parser);
+
+        if (token.isStructStart()) {
+            this.depth++;
+        } else if (token.isStructEnd()) {
+            this.depth--;
+        }
+    }
+}
@@ -16,9 +16,10 @@
 
 package org.cloudfoundry.reactor.util;
 
+import static io.netty.handler.codec.http.HttpHeaderNames.AUTHORIZATION;
+
+import com.fasterxml.jackson.databind.JavaType;
 import io.netty.channel.ChannelHandler;
-import io.netty.handler.codec.http.HttpHeaderNames;
-import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -30,11 +31,13 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.HttpClientResponseWithBody;
 import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
 import org.cloudfoundry.reactor.HttpClientResponseWithParsedBody;
+import org.cloudfoundry.reactor.util.ResponseCache.CachedResponse;
+import org.cloudfoundry.util.TracingUtils;
 import org.reactivestreams.Publisher;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
@@ -46,15 +49,23 @@ import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
 import reactor.netty.http.websocket.WebsocketInbound;
 import reactor.netty.http.websocket.WebsocketOutbound;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 import reactor.util.retry.Retry;
 
 public class Operator extends OperatorContextAware {
 
     private final HttpClient httpClient;
 
+    private volatile Operator redirectingOperator;
+
     public Operator(OperatorContext context, HttpClient httpClient) {
+        this(context, httpClient, true);
+    }
+
+    private Operator(OperatorContext context, HttpClient httpClient, boolean attachRequestLogger) {
         super(context);
-        this.httpClient = httpClient;
+        this.httpClient = attachRequestLogger ? attachRequestLogger(httpClient) : httpClient;
     }
 
     public UriConfiguration delete() {
@@ -62,7 +73,14 @@ public class Operator extends OperatorContextAware {
     }
 
     public Operator followRedirects() {
-        return new Operator(this.context, this.httpClient.followRedirect(true));
+        Operator operator = this.redirectingOperator;
+
+        if (operator == null) {
+            operator = new Operator(this.context, this.httpClient.followRedirect(true), false);
+            this.redirectingOperator = operator;
+        }
+
+        return operator;
     }
 
     public UriConfiguration get() {
@@ -70,12 +88,13 @@ public class Operator extends OperatorContextAware {
     }
 
     public Operator headers(Consumer<HttpHeaders> headersTransformer) {
-        return new Operator(this.context, this.httpClient.headers(headersTransformer));
+        return new Operator(this.context, this.httpClient.headers(headersTransformer), false);
     }
 
     public Operator headersWhen(
             Function<HttpHeaders, Mono<? extends HttpHeaders>> headersWhenTransformer) {
-        return new Operator(this.context, this.httpClient.headersWhen(headersWhenTransformer));
+        return new Operator(
+                this.context, this.httpClient.headersWhen(headersWhenTransformer), false);
     }
 
     public UriConfiguration patch() {
@@ -91,38 +110,65 @@ public class Operator extends OperatorContextAware {
     }
 
     public UriConfiguration request(HttpMethod method) {
-        return new UriConfiguration(
-                this.context, attachRequestLogger(this.httpClient).request(method));
+        return new UriConfiguration(this.context, method, this.httpClient.request(method));
     }
 
     public WebsocketUriConfiguration websocket() {
         return new WebsocketUriConfiguration(this.context, this.httpClient.websocket());
     }
 
+    public Operator withApi(String api) {
+        return new Operator(this.context.withApi(api), this.httpClient, false);
+    }
+
     public Operator withErrorPayloadMapper(ErrorPayloadMapper errorPayloadMapper) {
         return new Operator(
-                this.context.withErrorPayloadMapper(errorPayloadMapper), this.httpClient);
+                this.context.withErrorPayloadMapper(errorPayloadMapper), this.httpClient, false);
     }
 
     private static HttpClient attachRequestLogger(HttpClient httpClient) {
-        RequestLogger requestLogger = new RequestLogger();
         return httpClient
-                .doAfterRequest((request, connection) -> requestLogger.request(request))
-                .doAfterResponseSuccess((response, connection) -> requestLogger.response(response))
-                .doOnResponseError((response, connection) -> requestLogger.response(response));
+                .doOnRequest(
+                        (request, connection) -> {
+                            ResponseCache.addValidators(request);
+
+                            if (TracingUtils.isEnabled()) {
+                                RequestTracing.inject(request);
+                            }
+                        })
+                .doAfterRequest(RequestLogger::logRequest)
+                .doAfterResponseSuccess(
+                        (response, connection) -> RequestLogger.logResponse(response, connection))
+                .doOnResponseError(
+                        (response, error) -> {
+                            if (response instanceof Connection) {
+                                RequestLogger.logResponse(response, (Connection) response);
+                            }
+                        });
     }
 
     public static class PayloadConfiguration extends OperatorContextAware {
 
+        private final CacheableRequest cacheableRequest;
+
+        private final RequestObservation observation;
+
         private final HttpClient.RequestSender requestSender;
 
-        PayloadConfiguration(OperatorContext context, HttpClient.RequestSender requestSender) {
+        PayloadConfiguration(
+                OperatorContext context,
+                HttpClient.RequestSender requestSender,
+                RequestObservation observation,
+                CacheableRequest cacheableRequest) {
             super(context);
+            this.cacheableRequest = cacheableRequest;
+            this.observation = observation;
             this.requestSender = requestSender;
         }
 
         public ResponseReceiver response() {
-            return new ResponseReceiver(this.context, this.requestSender);
+            return new ResponseReceiver(
+                    this.context, this.requestSender, this.observation, this.cacheableRequest);
         }
 
         public ResponseReceiverConstructor send(Object payload) {
@@ -133,14 +179,16 @@ public class Operator extends OperatorContextAware {
                 BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> requestTransformer) {
             HttpClient.ResponseReceiver<?> responseReceiver =
                     this.requestSender.send(requestTransformer);
-            return new ResponseReceiverConstructor(this.context, responseReceiver);
+            return new ResponseReceiverConstructor(
+                    this.context, responseReceiver, this.observation, this.cacheableRequest);
         }
 
         public ResponseReceiverConstructor sendForm(
                 BiConsumer<HttpClientRequest, HttpClientForm> requestTransformer) {
             HttpClient.ResponseReceiver<?> responseReceiver =
                     this.requestSender.sendForm(requestTransformer);
-            return new ResponseReceiverConstructor(this.context, responseReceiver);
+            return new ResponseReceiverConstructor(
+                    this.context, responseReceiver, this.observation, this.cacheableRequest);
         }
 
         private BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> serialized(
@@ -151,13 +199,23 @@ public class Operator extends OperatorContextAware {
 
     public static class ResponseReceiver extends OperatorContextAware {
 
+        private final CacheableRequest cacheableRequest;
+
         private final List<Function<HttpClientResponse, ChannelHandler>> channelHandlerBuilders =
                 new ArrayList<>();
 
+        private final RequestObservation observation;
+
         private final HttpClient.ResponseReceiver<?> responseReceiver;
 
-        ResponseReceiver(OperatorContext context, HttpClient.ResponseReceiver<?> responseReceiver) {
+        ResponseReceiver(
+                OperatorContext context,
+                HttpClient.ResponseReceiver<?> responseReceiver,
+                RequestObservation observation,
+                CacheableRequest cacheableRequest) {
             super(context);
+            this.cacheableRequest = cacheableRequest;
+            this.observation = observation;
             this.responseReceiver = responseReceiver;
         }
 
@@ -168,12 +226,7 @@ public class Operator extends OperatorContextAware {
         }
 
         public Mono<HttpClientResponse> get() {
-            return this.responseReceiver
-                    .responseConnection(
-                            (response, connection) ->
-                                    Mono.just(
-                                            HttpClientResponseWithConnection.of(
-                                                    connection, response)))
+            return responses()
                     .transform(this::processResponse)
                     .flatMap(
                             httpClientResponseWithConnection -> {
@@ -193,20 +246,33 @@ public class Operator extends OperatorContextAware {
         }
 
         public <T> Mono<T> parseBody(Class<T> bodyType) {
-            addJsonDecoderToChannelHandlers();
+            if (this.cacheableRequest != null && this.cacheableRequest.isShared()) {
+                return parseSharedBody(bodyType);
+            }
+
             return parseBodyToMono(
                     responseWithBody -> deserialized(responseWithBody.getBody(), bodyType));
         }
 
+        public <T, U> Flux<T> parseBodyElements(
+                Class<U> bodyType,
+                String elementsField,
+                JavaType elementType,
+                Consumer<? super U> remainderConsumer) {
+            return parseBodyToFlux(
+                    responseWithBody ->
+                            JsonCodec.decodeElements(
+                                    this.context.getConnectionContext().getObjectMapper(),
+                                    responseWithBody.getBody(),
+                                    bodyType,
+                                    elementsField,
+                                    elementType,
+                                    remainderConsumer));
+        }
+
         public <T> Mono<HttpClientResponseWithParsedBody<T>> parseBodyWithResponse(
                 Class<T> bodyType) {
-            addJsonDecoderToChannelHandlers();
-            return this.responseReceiver
-                    .responseConnection(
-                            (response, connection) ->
-                                    Mono.just(
-                                            HttpClientResponseWithConnection.of(
-                                                    connection, response)))
+            return responses()
                     .transform(this::processResponse)
                     .flatMap(
                             httpClientResponseWithConnection ->
@@ -233,12 +299,7 @@ public class Operator extends OperatorContextAware {
 
         public <T> Flux<T> parseBodyToFlux(
                 Function<HttpClientResponseWithBody, Publisher<T>> responseTransformer) {
-            return this.responseReceiver
-                    .responseConnection(
-                            (response, connection) ->
-                                    Mono.just(
-                                            HttpClientResponseWithConnection.of(
-                                                    connection, response)))
+            return responses()
                     .transform(this::processResponse)
                     .flatMap(
                             httpClientResponseWithConnection ->
@@ -258,12 +319,7 @@ public class Operator extends OperatorContextAware {
 
         public <T> Mono<T> parseBodyToToken(
                 Function<HttpClientResponseWithBody, Publisher<T>> responseTransformer) {
-            return this.responseReceiver
-                    .responseConnection(
-                            (response, connection) ->
-                                    Mono.just(
-                                            HttpClientResponseWithConnection.of(
-                                                    connection, response)))
+            return responses()
                     .transform(
                             this.context
                                     .getErrorPayloadMapper()
@@ -280,20 +336,30 @@ public class Operator extends OperatorContextAware {
                     .singleOrEmpty();
         }
 
-        private static boolean isUnauthorized(HttpClientResponseWithConnection response) {
-            return HttpResponseStatus.UNAUTHORIZED.equals(response.getResponse().status());
+        private Flux<HttpClientResponseWithConnection> responses() {
+            ConnectionContext connectionContext = this.context.getConnectionContext();
+            Flux<HttpClientResponseWithConnection> responses =
+                    this.responseReceiver
+                            .responseConnection(
+                                    (response, connection) ->
+                                            Mono.just(
+                                                    HttpClientResponseWithConnection.of(
+                                                            connection, response)))
+                            .transform(this.observation::record);
+            Flux<HttpClientResponseWithConnection> scheduled =
+                    connectionContext
+                            .getRequestScheduler()
+                            .map(scheduler -> scheduler.schedule(responses))
+                            .orElse(responses);
+
+            return connectionContext
+                    .getRequestPacer()
+                    .map(pacer -> pacer.pace(this.context, scheduled, this.observation))
+                    .orElse(scheduled);
         }
 
-        private void addJsonDecoderToChannelHandlers() {
-            addChannelHandler(
-                    response -> {
-                        if (HttpHeaderValues.APPLICATION_JSON.contentEquals(
-                                response.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE))) {
-                            return JsonCodec.createDecoder();
-                        }
-
-                        return null;
-                    });
+        private static boolean isUnauthorized(HttpClientResponseWithConnection response) {
+            return HttpResponseStatus.UNAUTHORIZED.equals(response.getResponse().status());
         }
 
         private void attachChannelHandlers(HttpClientResponse response, Connection connection) {
@@ -306,6 +372,15 @@ public class Operator extends OperatorContextAware {
             }
         }
 
+        private Flux<HttpClientResponseWithConnection> invalidateCache(
+                Flux<HttpClientResponseWithConnection> inbound) {
+            if (this.cacheableRequest == null) {
+                return inbound;
+            }
+
+            return inbound.doOnNext(response -> this.cacheableRequest.invalidate());
+        }
+
         private <T> Mono<T> deserialized(ByteBufFlux body, Class<T> bodyType) {
             return JsonCodec.decode(
                     this.context.getConnectionContext().getObjectMapper(), body, bodyType);
@@ -316,12 +391,16 @@ public class Operator extends OperatorContextAware {
             return inbound.doOnNext(
                     response -> {
                         if (isUnauthorized(response)) {
+                            this.observation.recordInvalidTokenRetry();
                             this.context
                                     .getTokenProvider()
                                     .ifPresent(
                                             tokenProvider ->
                                                     tokenProvider.invalidate(
-                                                            this.context.getConnectionContext()));
+                                                            this.context.getConnectionContext(),
+                                                            response.getResponse()
+                                                                    .requestHeaders()
+                                                                    .get(AUTHORIZATION)));
                             // we don't need the body, but we need to consume the body so
                             // reactor-netty can reuse the connection
                             //   if not, this will result in connections that don't close & the pool
@@ -338,14 +417,107 @@ public class Operator extends OperatorContextAware {
 
         private Flux<HttpClientResponseWithConnection> processResponse(
                 Flux<HttpClientResponseWithConnection> inbound) {
-            return inbound.transform(this::invalidateToken)
+            return inbound.transform(this::retryThrottled)
+                    .transform(this::invalidateToken)
                     .retryWhen(
                             Retry.max(this.context.getConnectionContext().getInvalidTokenRetries())
                                     .filter(InvalidTokenException.class::isInstance))
                     .transform(
                             this.context
                                     .getErrorPayloadMapper()
-                                    .orElse(ErrorPayloadMappers.fallback()));
+                                    .orElse(ErrorPayloadMappers.fallback()))
+                    .transform(this::invalidateCache);
+        }
+
+        private <T> Mono<T> exchange(Class<T> bodyType, String key, CachedResponse cached) {
+            return this.cacheableRequest.coalesce(
+                    key,
+                    bodyType,
+                    revalidate(bodyType, key, cached),
+                    this.observation::recordCoalescedRequest);
+        }
+
+        private <T> Mono<T> parseSharedBody(Class<T> bodyType) {
+            return Mono.deferContextual(
+                    contextView ->
+                            this.cacheableRequest
+                                    .getKey()
+                                    .flatMap(key -> parseSharedBody(bodyType, key, contextView)));
+        }
+
+        private <T> Mono<T> parseSharedBody(
+                Class<T> bodyType, String key, ContextView contextView) {
+            CachedResponse cached = this.cacheableRequest.get(key);
+            T value = cached != null ? cached.getValue(bodyType) : null;
+
+            if (value == null) {
+                return exchange(bodyType, key, null);
+            }
+
+            if (cached.isFresh()) {
+                return Mono.just(value);
+            }
+
+            if (cached.isServableWhileRevalidating()) {
+                if (cached.startRevalidation()) {
+                    this.cacheableRequest.revalidate(
+                            cached, exchange(bodyType, key, cached), contextView);
+                }
+
+                return Mono.just(value);
+            }
+
+            return exchange(bodyType, key, cached);
+        }
+
+        private <T> Mono<T> revalidate(Class<T> bodyType, String key, CachedResponse cached) {
+            Mono<T> revalidated =
+                    responses()
+                            .transform(this::processResponse)
+                            .flatMap(
+                                    httpClientResponseWithConnection ->
+                                            transformResponse(
+                                                    httpClientResponseWithConnection,
+                                                    (body, response) ->
+                                                            revalidated(
+                                                                    body, response, bodyType, key,
+                                                                    cached)))
+                            .singleOrEmpty();
+
+            return cached != null
+                    ? revalidated.contextWrite(
+                            Context.of(ResponseCache.CACHED_RESPONSE_KEY, cached))
+                    : revalidated;
+        }
+
+        private <T> Mono<T> revalidated(
+                ByteBufFlux body,
+                HttpClientResponse response,
+                Class<T> bodyType,
+                String key,
+                CachedResponse cached) {
+            HttpHeaders headers = response.responseHeaders();
+
+            if (cached != null && HttpResponseStatus.NOT_MODIFIED.equals(response.status())) {
+                return body.then(
+                        Mono.fromSupplier(
+                                () -> {
+                                    this.cacheableRequest.refresh(key, cached, headers);
+                                    return cached.getValue(bodyType);
+                                }));
+            }
+
+            return deserialized(body, bodyType)
+                    .doOnNext(value -> this.cacheableRequest.put(key, value, headers));
+        }
+
+        private Flux<HttpClientResponseWithConnection> retryThrottled(
+                Flux<HttpClientResponseWithConnection> inbound) {
+            return this.context
+                    .getConnectionContext()
+                    .getRequestPacer()
+                    .map(pacer -> pacer.retry(inbound, this.observation))
+                    .orElse(inbound);
         }
 
         private <E> Mono<E> transformResponse(
@@ -379,32 +551,53 @@ public class Operator extends OperatorContextAware {
 
     public static class ResponseReceiverConstructor extends OperatorContextAware {
 
+        private final CacheableRequest cacheableRequest;
+
+        private final RequestObservation observation;
+
         private final HttpClient.ResponseReceiver<?> responseReceiver;
 
         ResponseReceiverConstructor(
-                OperatorContext context, HttpClient.ResponseReceiver<?> responseReceiver) {
+                OperatorContext context,
+                HttpClient.ResponseReceiver<?> responseReceiver,
+                RequestObservation observation,
+                CacheableRequest cacheableRequest) {
             super(context);
+            this.cacheableRequest = cacheableRequest;
+            this.observation = observation;
             this.responseReceiver = responseReceiver;
         }
 
         public ResponseReceiver response() {
-            return new ResponseReceiver(this.context, this.responseReceiver);
+            return new ResponseReceiver(
+                    this.context, this.responseReceiver, this.observation, this.cacheableRequest);
         }
     }
 
     public static class UriConfiguration extends OperatorContextAware {
 
+        private final HttpMethod method;
+
         private final HttpClient.RequestSender requestSender;
 
-        private UriConfiguration(OperatorContext context, HttpClient.RequestSender requestSender) {
+        private UriConfiguration(
+                OperatorContext context,
+                HttpMethod method,
+                HttpClient.RequestSender requestSender) {
             super(context);
+            this.method = method;
             this.requestSender = requestSender;
         }
 
         public PayloadConfiguration uri(
-                Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-            String uri = transformRoot(uriTransformer);
-            return new PayloadConfiguration(this.context, this.requestSender.uri(uri));
+                Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
+            RequestUriBuilder uri = transformRoot(uriTransformer);
+            String uriString = uri.toUriString();
+            return new PayloadConfiguration(
+                    this.context,
+                    this.requestSender.uri(uriString),
+                    RequestObservation.of(this.context, this.method, uri),
+                    CacheableRequest.of(this.context, this.method, uri, uriString));
         }
     }
 
@@ -440,8 +633,8 @@ public class Operator extends OperatorContextAware {
         }
 
         public WebsocketResponseReceiver uri(
-                Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-            String uri = transformRoot(uriTransformer);
+                Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
+            String uri = transformRoot(uriTransformer).toUriString();
             logWebsocketRequest(uri);
 
             return new WebsocketResponseReceiver(this.sender.uri(uri));
@@ -461,10 +654,15 @@ class OperatorContextAware {
         this.context = context;
     }
 
-    protected String transformRoot(
-            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        UriComponentsBuilder uriComponentsBuilder =
-                UriComponentsBuilder.fromUriString(this.context.getRoot());
-        return uriTransformer.apply(uriComponentsBuilder).encode().build().toUriString();
+    protected RequestUriBuilder transformRoot(
+            Function<RequestUriBuilder, RequestUriBuilder> uriTransformer) {
+        String root = this.context.getRoot();
+
+        return uriTransformer.apply(
+                this.context
+                        .getConnectionContext()
+                        .getRequestRootCache()
+                        .map(cache -> cache.fromUriString(root))
+                        .orElseGet(() -> RequestUriBuilder.fromUriString(root)));
     }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import org.cloudfoundry.reactor.PersistentCacheConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of small values that survives the process, with one file per entry in a configured directory.  Entries are written to a temporary file that is then
+ * atomically moved into place, so concurrent processes never read a partial entry.  The cache is best effort: entries that are missing, expired or unreadable are
+ * reported as absent, and failures to write are logged and otherwise ignored.
+ */
+public final class PersistentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.cache");
+
+    private static final String EXPIRATION = "expiration";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY =
+            PosixFilePermissions.fromString("rwx------");
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE =
+            PosixFilePermissions.fromString("rw-------");
+
+    private static final String VALUE = "value";
+
+    private final Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Duration timeToLive;
+
+    public PersistentCache(PersistentCacheConfiguration configuration) {
+        this.directory = configuration.getDirectory();
+        this.timeToLive = configuration.getTimeToLive();
+    }
+
+    /**
+     * Returns the unexpired value of an entry
+     *
+     * @param key       the key of the entry
+     * @param valueType the type of the value
+     * @param <T>       the type of the value
+     * @return the value, or empty if there is no unexpired entry
+     */
+    public <T> Optional<T> get(String key, JavaType valueType) {
+        Path file = getFile(key);
+
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode entry = this.objectMapper.readTree(file.toFile());
+
+            if (Instant.ofEpochMilli(entry.path(EXPIRATION).asLong()).isBefore(Instant.now())) {
+                remove(key);
+                return Optional.empty();
+            }
+
+            return Optional.ofNullable(
+                    this.objectMapper.convertValue(entry.path(VALUE), valueType));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.debug("Unable to read cache entry {}", file, e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the unexpired value of an entry
+     *
+     * @param key       the key of the entry
+     * @param valueType the type of the value
+     * @param <T>       the type of the value
+     * @return the value, or empty if there is no unexpired entry
+     */
+    public <T> Optional<T> get(String key, Class<T> valueType) {
+        return get(key, this.objectMapper.constructType(valueType));
+    }
+
+    /**
+     * Returns the time to live of entries stored without an explicit expiration
+     */
+    public Duration getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Store an entry for the {@link #getTimeToLive() time to live} of the cache
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     */
+    public void put(String key, Object value) {
+        put(key, value, Instant.now().plus(this.timeToLive));
+    }
+
+    /**
+     * Store an entry until a given instant
+     *
+     * @param key        the key of the entry
+     * @param value      the value of the entry
+     * @param expiration the instant after which the entry is no longer returned
+     */
+    public void put(String key, Object value, Instant expiration) {
+        Path file = getFile(key);
+        Path temporary = null;
+
+        try {
+            createDirectory();
+
+            ObjectNode entry = this.objectMapper.createObjectNode();
+            entry.put(EXPIRATION, expiration.toEpochMilli());
+            entry.set(VALUE, this.objectMapper.valueToTree(value));
+
+            temporary = createTemporaryFile();
+            Files.write(temporary, this.objectMapper.writeValueAsBytes(entry));
+            move(temporary, file);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Unable to write cache entry {}", file, e);
+            deleteQuietly(temporary);
+        }
+    }
+
+    /**
+     * Remove an entry
+     *
+     * @param key the key of the entry
+     */
+    public void remove(String key) {
+        deleteQuietly(getFile(key));
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to delete cache entry {}", file, e);
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(key.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Set<PosixFilePermission> permissions) {
+        return new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(permissions)};
+    }
+
+    private void createDirectory() throws IOException {
+        if (Files.isDirectory(this.directory)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(this.directory, ownerOnly(OWNER_ONLY_DIRECTORY));
+        } catch (UnsupportedOperationException e) {
+            Files.createDirectories(this.directory);
+        } catch (FileAlreadyExistsException e) {
+            // Created concurrently
+        }
+    }
+
+    private Path createTemporaryFile() throws IOException {
+        try {
+            return Files.createTempFile(
+                    this.directory, ".entry", ".tmp", ownerOnly(OWNER_ONLY_FILE));
+        } catch (UnsupportedOperationException e) {
+            return Files.createTempFile(this.directory, ".entry", ".tmp");
+        }
+    }
+
+    private Path getFile(String key) {
+        return this.directory.resolve(hash(key) + ".json");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.cloudfoundry.reactor.RequestPriority;
+import org.cloudfoundry.util.TracingUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces identical concurrent requests: while a request is in flight, subscriptions to a request with the same key and {@link RequestPriority} share its
+ * exchange and its result, rather than making a request of their own.  The exchange runs in the Reactor {@code Context} of the subscription that started it,
+ * so requests of different priorities are never coalesced, and when tracing is enabled the span of each coalesced subscription is annotated with the span
+ * that started the exchange.  The shared exchange is not cancelled when an individual subscriber, including the one that started it, cancels; it is only
+ * cancelled once every subscriber has cancelled.
+ */
+public final class RequestCoalescer {
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    private final Map<String, InFlightRequest<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of requests that have shared the exchange of an identical in-flight request
+     */
+    public long getCoalescedCount() {
+        return this.coalescedCount.sum();
+    }
+
+    /**
+     * Returns the number of exchanges currently in flight
+     */
+    public int getInFlightCount() {
+        return this.inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Mono<T> coalesce(String key, Mono<T> request, Runnable onCoalesced) {
+        return Mono.deferContextual(
+                contextView -> {
+                    String prioritizedKey =
+                            contextView.getOrDefault(
+                                            RequestPriority.CONTEXT_KEY,
+                                            RequestPriority.INTERACTIVE)
+                                    + " "
+                                    + key;
+
+                    InFlightRequest<T> candidate =
+                            new InFlightRequest<>(
+                                    prioritizedKey,
+                                    request,
+                                    TracingUtils.isEnabled()
+                                            ? RequestTracing.getSpanContext(contextView)
+                                            : null);
+                    InFlightRequest<T> existing =
+                            (InFlightRequest<T>)
+                                    this.inFlight.putIfAbsent(prioritizedKey, candidate);
+
+                    if (existing == null) {
+                        return candidate.response;
+                    }
+
+                    this.coalescedCount.increment();
+                    onCoalesced.run();
+
+                    if (existing.spanContext != null && TracingUtils.isEnabled()) {
+                        RequestTracing.annotateCoalesced(contextView, existing.spanContext);
+                    }
+
+                    return existing.response;
+                });
+    }
+
+    private final class InFlightRequest<T> {
+
+        private final Mono<T> response;
+
+        private final Object spanContext;
+
+        private InFlightRequest(String key, Mono<T> request, Object spanContext) {
+            this.response =
+                    request.doFinally(
+                                    signalType -> RequestCoalescer.this.inFlight.remove(key, this))
+                            .share();
+            this.spanContext = spanContext;
+        }
+    }
+}
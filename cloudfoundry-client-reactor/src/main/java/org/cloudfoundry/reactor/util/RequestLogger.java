@@ -16,10 +16,13 @@
 
 package org.cloudfoundry.reactor.util;
 
+import io.netty.util.AttributeKey;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.cloudfoundry.util.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.netty.Connection;
 import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
 
@@ -31,6 +34,9 @@ public class RequestLogger {
 
     private static final String CF_WARNINGS = "X-Cf-Warnings";
 
+    private static final AttributeKey<RequestLogger> IN_FLIGHT =
+            AttributeKey.valueOf("cloudfoundry-client.request-logger");
+
     private long requestSentTime;
 
     public void request(HttpClientRequest request) {
@@ -42,7 +48,9 @@ public class RequestLogger {
             return;
         }
 
-        String elapsed = TimeUtils.asTime(System.currentTimeMillis() - this.requestSentTime);
+        String elapsed =
+                TimeUtils.asTime(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.requestSentTime));
         List<String> warnings = response.responseHeaders().getAll(CF_WARNINGS);
 
         if (warnings.isEmpty()) {
@@ -77,12 +85,43 @@ public class RequestLogger {
         }
     }
 
+    /**
+     * Log a request sent on a connection, retaining the timing needed to log its response on the connection itself.  Nothing is allocated unless request or
+     * response logging is enabled.
+     *
+     * @param request    the request
+     * @param connection the connection the request was sent on
+     */
+    static void logRequest(HttpClientRequest request, Connection connection) {
+        if (!REQUEST_LOGGER.isDebugEnabled() && !RESPONSE_LOGGER.isDebugEnabled()) {
+            return;
+        }
+
+        RequestLogger requestLogger = new RequestLogger();
+        requestLogger.request(request);
+        connection.channel().attr(IN_FLIGHT).set(requestLogger);
+    }
+
+    /**
+     * Log the response to the request most recently logged on a connection
+     *
+     * @param response   the response
+     * @param connection the connection the response was received on
+     */
+    static void logResponse(HttpClientResponse response, Connection connection) {
+        RequestLogger requestLogger = connection.channel().attr(IN_FLIGHT).getAndSet(null);
+
+        if (requestLogger != null) {
+            requestLogger.response(response);
+        }
+    }
+
     public void websocketRequest(String uri) {
         request("WS     {}", uri);
     }
 
     private void request(String message, String uri) {
         REQUEST_LOGGER.debug(message, uri);
-        this.requestSentTime = System.currentTimeMillis();
+        this.requestSentTime = System.nanoTime();
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.List;
+import java.util.Optional;
+import org.cloudfoundry.reactor.ClientMetricsRecorder;
+import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
+import org.cloudfoundry.util.TracingUtils;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * The observation of a single request: metrics recorded to the {@link ClientMetricsRecorder} of a connection context and, if a tracer is configured with
+ * {@link TracingUtils}, a client span.  When neither is configured, {@link #NONE} is used and nothing is measured.
+ */
+final class RequestObservation {
+
+    static final RequestObservation NONE = new RequestObservation(null, false, null, null, null);
+
+    private static final String CF_WARNINGS = "X-Cf-Warnings";
+
+    private final String api;
+
+    private final String endpoint;
+
+    private final String method;
+
+    private final ClientMetricsRecorder recorder;
+
+    private final boolean traced;
+
+    private RequestObservation(
+            ClientMetricsRecorder recorder,
+            boolean traced,
+            String api,
+            String method,
+            String endpoint) {
+        this.api = api;
+        this.endpoint = endpoint;
+        this.method = method;
+        this.recorder = recorder;
+        this.traced = traced;
+    }
+
+    static RequestObservation of(
+            OperatorContext context, HttpMethod method, RequestUriBuilder uri) {
+        Optional<ClientMetricsRecorder> recorder =
+                context.getConnectionContext().getMetricsRecorder();
+
+        boolean traced = TracingUtils.isEnabled();
+
+        if (!recorder.isPresent() && !traced) {
+            return NONE;
+        }
+
+        return new RequestObservation(
+                recorder.orElse(null),
+                traced,
+                context.getApi().orElse("unknown"),
+                method.name(),
+                uri.getPathTemplate());
+    }
+
+    Flux<HttpClientResponseWithConnection> record(
+            Flux<HttpClientResponseWithConnection> responses) {
+        Flux<HttpClientResponseWithConnection> observed = responses;
+
+        if (this.recorder != null) {
+            observed =
+                    Flux.defer(
+                            () -> {
+                                long start = System.nanoTime();
+                                return responses.doOnNext(
+                                        response ->
+                                                recordResponse(
+                                                        response.getResponse(),
+                                                        System.nanoTime() - start));
+                            });
+        }
+
+        if (this.traced) {
+            observed = RequestTracing.trace(observed, this.api, this.method, this.endpoint);
+        }
+
+        return observed;
+    }
+
+    void recordCoalescedRequest() {
+        if (this.recorder != null) {
+            this.recorder.recordCoalescedRequest(this.api, this.endpoint);
+        }
+    }
+
+    void recordQueueDepth(int queueDepth) {
+        if (this.recorder != null) {
+            this.recorder.recordQueueDepth(queueDepth);
+        }
+    }
+
+    void recordThrottledRetry(int status) {
+        if (this.recorder != null) {
+            this.recorder.recordThrottledRetry(this.api, status);
+        }
+    }
+
+    void recordInvalidTokenRetry() {
+        if (this.recorder != null) {
+            this.recorder.recordInvalidTokenRetry(this.api);
+        }
+    }
+
+    private void recordResponse(HttpClientResponse response, long durationNanos) {
+        this.recorder.recordRequest(
+                this.api, this.method, this.endpoint, response.status().code(), durationNanos);
+
+        List<String> warnings = response.responseHeaders().getAll(CF_WARNINGS);
+        if (!warnings.isEmpty()) {
+            this.recorder.recordWarnings(this.api, this.endpoint, warnings.size());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.RETRY_AFTER;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Paces requests against the rate limit of the server.  The remaining budget of each user, identified by the subject of their token, is tracked from the
+ * {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset} headers of responses.  Once the budget is exhausted, requests are delayed until it is reset.
+ * Requests answered with {@code 429 TOO MANY REQUESTS}, or {@code 503 SERVICE UNAVAILABLE} with {@code Retry-After}, are retried after the longer of the
+ * {@code Retry-After} delay and a jittered exponential backoff.
+ */
+public final class RequestPacer {
+
+    private static final String ANONYMOUS = "";
+
+    private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+
+    private static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    private final long maxDelay;
+
+    private final int maxRetries;
+
+    private final Duration minBackoff;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /**
+     * Creates a new instance
+     *
+     * @param maxDelay   the longest a request is delayed
+     * @param maxRetries the maximum number of retries of a throttled request
+     * @param minBackoff the backoff before the first retry
+     */
+    public RequestPacer(Duration maxDelay, int maxRetries, Duration minBackoff) {
+        this.maxDelay = maxDelay.toMillis();
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+    }
+
+    /**
+     * Returns the number of requests that are currently delayed
+     */
+    public int getQueueDepth() {
+        return this.queueDepth.get();
+    }
+
+    static boolean isThrottled(HttpClientResponseWithConnection response) {
+        HttpResponseStatus status = response.getResponse().status();
+
+        return HttpResponseStatus.TOO_MANY_REQUESTS.equals(status)
+                || (HttpResponseStatus.SERVICE_UNAVAILABLE.equals(status)
+                        && response.getResponse().responseHeaders().contains(RETRY_AFTER));
+    }
+
+    /**
+     * Delay a request until the budget of its user allows it, and track the budget from its responses
+     */
+    Flux<HttpClientResponseWithConnection> pace(
+            OperatorContext context,
+            Flux<HttpClientResponseWithConnection> responses,
+            RequestObservation observation) {
+        return getSubject(context)
+                .flatMapMany(
+                        subject -> {
+                            Budget budget =
+                                    this.budgets.computeIfAbsent(subject, key -> new Budget());
+                            Flux<HttpClientResponseWithConnection> tracked =
+                                    responses.doOnNext(
+                                            response ->
+                                                    budget.update(
+                                                            response.getResponse()
+                                                                    .responseHeaders(),
+                                                            isThrottled(response)));
+
+                            long delay = budget.reserve(System.currentTimeMillis());
+                            if (delay <= 0 || delay > this.maxDelay) {
+                                return tracked;
+                            }
+
+                            observation.recordQueueDepth(this.queueDepth.incrementAndGet());
+                            return Mono.delay(Duration.ofMillis(delay + jitter(delay)))
+                                    .doFinally(
+                                            signalType ->
+                                                    observation.recordQueueDepth(
+                                                            this.queueDepth.decrementAndGet()))
+                                    .thenMany(tracked);
+                        });
+    }
+
+    /**
+     * Retry throttled responses.  The body of a throttled response is discarded so that its connection can be reused.  Once the retries are exhausted, the
+     * throttled response is passed on.
+     */
+    Flux<HttpClientResponseWithConnection> retry(
+            Flux<HttpClientResponseWithConnection> inbound, RequestObservation observation) {
+        return Flux.defer(
+                () -> {
+                    AtomicInteger retries = new AtomicInteger();
+
+                    return inbound.doOnNext(
+                                    response -> {
+                                        if (isThrottled(response)
+                                                && retries.getAndIncrement() < this.maxRetries
+                                                && getRetryAfter(response) <= this.maxDelay) {
+                                            observation.recordThrottledRetry(
+                                                    response.getResponse().status().code());
+                                            response.getConnection()
+                                                    .inbound()
+                                                    .receive()
+                                                    .subscribe(byteBuf -> {}, ex -> {});
+                                            throw new ThrottledException();
+                                        }
+                                    })
+                            .retryWhen(
+                                    Retry.backoff(Long.MAX_VALUE, this.minBackoff)
+                                            .maxBackoff(Duration.ofMillis(this.maxDelay))
+                                            .jitter(0.5)
+                                            .filter(ThrottledException.class::isInstance));
+                });
+    }
+
+    private static long getRetryAfter(HttpClientResponseWithConnection response) {
+        return Math.max(
+                0,
+                parseRetryAt(response.getResponse().responseHeaders(), System.currentTimeMillis())
+                        - System.currentTimeMillis());
+    }
+
+    private static Mono<String> getSubject(OperatorContext context) {
+        return context.getTokenProvider()
+                .map(
+                        tokenProvider ->
+                                tokenProvider
+                                        .getToken(context.getConnectionContext())
+                                        .map(TokenSubject::of))
+                .orElseGet(() -> Mono.just(ANONYMOUS));
+    }
+
+    private static long jitter(long delay) {
+        return ThreadLocalRandom.current().nextLong(Math.min(delay, 1000) / 2 + 1);
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        try {
+            return value != null ? Long.parseLong(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns the time, in epoch milliseconds, after which a throttled request may be retried
+     */
+    private static long parseRetryAt(HttpHeaders headers, long now) {
+        String retryAfter = headers.get(RETRY_AFTER);
+
+        if (retryAfter == null) {
+            return now;
+        }
+
+        long seconds = parseLong(retryAfter, -1);
+        if (seconds >= 0) {
+            return now + seconds * 1000;
+        }
+
+        try {
+            return ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant()
+                    .toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return now;
+        }
+    }
+
+    private static final class Budget {
+
+        private long remaining = -1;
+
+        private long resetAt;
+
+        /**
+         * Reserve a request against the budget, returning the time in milliseconds that the request must be delayed by
+         */
+        synchronized long reserve(long now) {
+            if (now >= this.resetAt) {
+                return 0;
+            }
+
+            if (this.remaining > 0) {
+                this.remaining--;
+                return 0;
+            }
+
+            return this.resetAt - now;
+        }
+
+        synchronized void update(HttpHeaders headers, boolean throttled) {
+            long now = System.currentTimeMillis();
+
+            if (throttled) {
+                this.remaining = 0;
+                this.resetAt = Math.max(Math.max(this.resetAt, now), parseRetryAt(headers, now));
+                return;
+            }
+
+            long remaining = parseLong(headers.get(RATE_LIMIT_REMAINING), -1);
+            long reset = parseLong(headers.get(RATE_LIMIT_RESET), -1);
+
+            if (remaining >= 0 && reset >= 0) {
+                this.remaining = remaining;
+                this.resetAt = reset * 1000;
+            }
+        }
+    }
+
+    private static final class ThrottledException extends RuntimeException {
+
+        private static final long serialVersionUID = 6125207461513532473L;
+
+        private ThrottledException() {}
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of parsed request roots.  An instance is held by each {@link org.cloudfoundry.reactor.ConnectionContext}, whose clients only ever use a handful of
+ * roots, so that every root is parsed once per context.
+ */
+public final class RequestRootCache {
+
+    private final Map<String, RequestUriBuilder.Root> roots = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new builder from a root URI, parsing the root only if it has not been seen before
+     *
+     * @param root the root URI.  Typically something like {@code https://api.run.pivotal.io/v3}.
+     * @return the builder
+     */
+    public RequestUriBuilder fromUriString(String root) {
+        return RequestUriBuilder.fromRoot(
+                this.roots.computeIfAbsent(root, RequestUriBuilder.Root::new));
+    }
+}
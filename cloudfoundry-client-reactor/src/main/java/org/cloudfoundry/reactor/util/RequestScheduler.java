@@ -0,0 +1,215 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
+import org.cloudfoundry.reactor.RequestPriority;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.netty.Connection;
+
+/**
+ * Admits requests through a lane per {@link RequestPriority}, each with its own concurrency limit.  A request holds its place in the lane until its response has
+ * been consumed and its connection released, and waiting requests are admitted in order.  Capping the {@link RequestPriority#BULK bulk} lane below the size of the
+ * connection pool leaves connections available to {@link RequestPriority#INTERACTIVE interactive} requests, however much background work is queued.
+ */
+public final class RequestScheduler {
+
+    private final Map<RequestPriority, Lane> lanes = new EnumMap<>(RequestPriority.class);
+
+    /**
+     * Creates a new instance
+     *
+     * @param concurrencyLimits the maximum number of concurrent requests per priority.  Priorities without a limit are not queued.
+     */
+    public RequestScheduler(Map<RequestPriority, Integer> concurrencyLimits) {
+        for (RequestPriority priority : RequestPriority.values()) {
+            this.lanes.put(
+                    priority,
+                    new Lane(concurrencyLimits.getOrDefault(priority, Integer.MAX_VALUE)));
+        }
+    }
+
+    /**
+     * Returns the number of requests of a priority that are currently admitted
+     */
+    public int getActiveCount(RequestPriority priority) {
+        return this.lanes.get(priority).getActiveCount();
+    }
+
+    /**
+     * Returns the number of requests of a priority that are waiting to be admitted
+     */
+    public int getQueuedCount(RequestPriority priority) {
+        return this.lanes.get(priority).getQueuedCount();
+    }
+
+    Flux<HttpClientResponseWithConnection> schedule(
+            Flux<HttpClientResponseWithConnection> responses) {
+        return Flux.deferContextual(
+                contextView -> {
+                    Lane lane =
+                            this.lanes.get(
+                                    contextView.getOrDefault(
+                                            RequestPriority.CONTEXT_KEY,
+                                            RequestPriority.INTERACTIVE));
+
+                    if (lane.isUnlimited()) {
+                        return responses;
+                    }
+
+                    return lane.acquire()
+                            .flatMapMany(
+                                    permit ->
+                                            responses
+                                                    .doOnNext(
+                                                            response ->
+                                                                    permit.releaseOnTerminate(
+                                                                            response
+                                                                                    .getConnection()))
+                                                    .doFinally(
+                                                            signalType ->
+                                                                    permit
+                                                                            .releaseUnlessAttached()));
+                });
+    }
+
+    private static final class Lane {
+
+        private final int limit;
+
+        private final Queue<Waiter> waiters = new ArrayDeque<>();
+
+        private int active;
+
+        private Lane(int limit) {
+            this.limit = limit;
+        }
+
+        private Mono<Permit> acquire() {
+            return Mono.create(
+                    sink -> {
+                        Permit permit = new Permit(this);
+                        Waiter waiter = new Waiter(permit, sink);
+                        boolean granted;
+
+                        synchronized (this) {
+                            granted = this.active < this.limit;
+
+                            if (granted) {
+                                this.active++;
+                            } else {
+                                this.waiters.add(waiter);
+                            }
+                        }
+
+                        if (granted) {
+                            sink.success(permit);
+                        } else {
+                            sink.onCancel(() -> cancel(waiter));
+                        }
+                    });
+        }
+
+        private void cancel(Waiter waiter) {
+            boolean removed;
+
+            synchronized (this) {
+                removed = this.waiters.remove(waiter);
+            }
+
+            if (!removed) {
+                waiter.permit.release();
+            }
+        }
+
+        private synchronized int getActiveCount() {
+            return this.active;
+        }
+
+        private synchronized int getQueuedCount() {
+            return this.waiters.size();
+        }
+
+        private boolean isUnlimited() {
+            return this.limit == Integer.MAX_VALUE;
+        }
+
+        private void release() {
+            Waiter next;
+
+            synchronized (this) {
+                next = this.waiters.poll();
+
+                if (next == null) {
+                    this.active--;
+                }
+            }
+
+            if (next != null) {
+                next.sink.success(next.permit);
+            }
+        }
+    }
+
+    private static final class Permit {
+
+        private final AtomicBoolean attached = new AtomicBoolean();
+
+        private final Lane lane;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Lane lane) {
+            this.lane = lane;
+        }
+
+        private void release() {
+            if (this.released.compareAndSet(false, true)) {
+                this.lane.release();
+            }
+        }
+
+        private void releaseOnTerminate(Connection connection) {
+            this.attached.set(true);
+            connection.onTerminate().subscribe(null, error -> release(), this::release);
+        }
+
+        private void releaseUnlessAttached() {
+            if (!this.attached.get()) {
+                release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Permit permit;
+
+        private final MonoSink<Permit> sink;
+
+        private Waiter(Permit permit, MonoSink<Permit> sink) {
+            this.permit = permit;
+            this.sink = sink;
+        }
+    }
+}
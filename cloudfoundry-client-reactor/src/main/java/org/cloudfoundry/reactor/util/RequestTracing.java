@@ -0,0 +1,154 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
+import org.cloudfoundry.util.TracingUtils;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.context.ContextView;
+
+/**
+ * OpenTelemetry client spans for requests.  This class must only be loaded when {@link TracingUtils#isEnabled()} is {@code true}, so that OpenTelemetry is not
+ * required on the classpath otherwise.
+ */
+final class RequestTracing {
+
+    private static final AttributeKey<String> COALESCED_SPAN_ID =
+            AttributeKey.stringKey("cloudfoundry.coalesced_with.span_id");
+
+    private static final AttributeKey<String> COALESCED_TRACE_ID =
+            AttributeKey.stringKey("cloudfoundry.coalesced_with.trace_id");
+
+    private static final TextMapSetter<HttpHeaders> SETTER =
+            (headers, key, value) -> {
+                if (headers != null) {
+                    headers.set(key, value);
+                }
+            };
+
+    private static final String VCAP_REQUEST_ID = "X-Vcap-Request-Id";
+
+    private RequestTracing() {}
+
+    /**
+     * Inject the W3C {@code traceparent} header of the span of a request into the request
+     *
+     * @param request the request
+     */
+    static void inject(HttpClientRequest request) {
+        Object context = request.currentContextView().getOrDefault(TracingUtils.CONTEXT_KEY, null);
+
+        if (context != null) {
+            W3CTraceContextPropagator.getInstance()
+                    .inject((Context) context, request.requestHeaders(), SETTER);
+        }
+    }
+
+    /**
+     * Annotate the span of a coalesced request with the span of the request whose exchange it shares
+     *
+     * @param contextView the context of the coalesced request
+     * @param spanContext the {@link SpanContext} of the request whose exchange is shared, as returned by {@link #getSpanContext(ContextView)}
+     */
+    static void annotateCoalesced(ContextView contextView, Object spanContext) {
+        SpanContext shared = (SpanContext) spanContext;
+
+        if (shared.isValid()) {
+            Span.fromContext(getContext(contextView))
+                    .addEvent(
+                            "cloudfoundry.request.coalesced",
+                            Attributes.of(
+                                    COALESCED_TRACE_ID,
+                                    shared.getTraceId(),
+                                    COALESCED_SPAN_ID,
+                                    shared.getSpanId()));
+        }
+    }
+
+    /**
+     * Returns the {@link SpanContext} of the span of the operation in a context
+     *
+     * @param contextView the context
+     * @return the span context, which is invalid if there is no span
+     */
+    static Object getSpanContext(ContextView contextView) {
+        return Span.fromContext(getContext(contextView)).getSpanContext();
+    }
+
+    static Flux<HttpClientResponseWithConnection> trace(
+            Flux<HttpClientResponseWithConnection> responses,
+            String api,
+            String method,
+            String endpoint) {
+        return Flux.deferContextual(
+                contextView -> {
+                    Context parent = getContext(contextView);
+                    Span span =
+                            TracingUtils.getTracer()
+                                    .spanBuilder(method + " " + endpoint)
+                                    .setParent(parent)
+                                    .setSpanKind(SpanKind.CLIENT)
+                                    .setAttribute("cloudfoundry.api", api)
+                                    .setAttribute("http.request.method", method)
+                                    .setAttribute("url.template", endpoint)
+                                    .startSpan();
+
+                    return responses
+                            .doOnNext(response -> onResponse(span, response.getResponse()))
+                            .doOnError(
+                                    t -> {
+                                        span.recordException(t);
+                                        span.setStatus(StatusCode.ERROR);
+                                    })
+                            .doFinally(signalType -> span.end())
+                            .contextWrite(
+                                    context ->
+                                            context.put(
+                                                    TracingUtils.CONTEXT_KEY, parent.with(span)));
+                });
+    }
+
+    private static Context getContext(ContextView contextView) {
+        Object context = contextView.getOrDefault(TracingUtils.CONTEXT_KEY, null);
+        return context != null ? (Context) context : Context.current();
+    }
+
+    private static void onResponse(Span span, HttpClientResponse response) {
+        int status = response.status().code();
+        span.setAttribute("http.response.status_code", status);
+
+        String requestId = response.responseHeaders().get(VCAP_REQUEST_ID);
+        if (requestId != null) {
+            span.setAttribute("cloudfoundry.vcap_request_id", requestId);
+        }
+
+        if (status >= 400) {
+            span.setStatus(StatusCode.ERROR);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * A lightweight builder for request URIs.  Roots can be parsed once and cached in a {@link RequestRootCache}, path segments and query parameters are escaped
+ * as they are appended, and literal values that need no escaping are copied without any intermediate allocation.  Escaping matches that of Spring's
+ * {@code UriComponentsBuilder.encode()}: path segments and query parameter names are escaped as URI template literals, while values added with
+ * {@link #queryParamStrict(String, Object)} are escaped as URI variables.
+ */
+public final class RequestUriBuilder {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final StringBuilder path;
+
+    private final StringBuilder pathTemplate;
+
+    private final Root root;
+
+    private String host;
+
+    private Map<String, List<String>> queryParams;
+
+    private RequestUriBuilder(Root root) {
+        this.host = root.host;
+        this.path = new StringBuilder(root.path.length() + 64).append(root.path);
+        this.pathTemplate = new StringBuilder(root.path.length() + 64).append(root.path);
+        this.root = root;
+    }
+
+    /**
+     * Create a new builder from a root URI.  The root is parsed on every call, use a {@link RequestRootCache} to parse each root once.
+     *
+     * @param root the root URI.  Typically something like {@code https://api.run.pivotal.io/v3}.
+     * @return the builder
+     */
+    public static RequestUriBuilder fromUriString(String root) {
+        return new RequestUriBuilder(new Root(root));
+    }
+
+    /**
+     * Adapt a URI transformer written against Spring's {@link UriComponentsBuilder}, as accepted by {@link Operator} and the {@code Abstract*Operations} request
+     * helpers before they took a {@link RequestUriBuilder}.  Overloads of those methods cannot be kept, as both forms erase to the same signature.  The
+     * transformer is applied to a {@link UriComponentsBuilder} of the URI built so far, which is then encoded, expanded, and replaces the host, path, and query of
+     * the builder.  The adapted path is included verbatim in the {@link #getPathTemplate() path template}.
+     *
+     * @param uriTransformer the transformer of {@link UriComponentsBuilder}s
+     * @return a transformer of {@link RequestUriBuilder}s
+     * @deprecated transform a {@link RequestUriBuilder} instead, which does not re-parse and re-encode the URI of every request
+     */
+    @Deprecated
+    public static Function<RequestUriBuilder, RequestUriBuilder> fromUriComponentsTransformer(
+            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return builder -> {
+            UriComponents uriComponents =
+                    uriTransformer
+                            .apply(UriComponentsBuilder.fromUriString(builder.toUriString()))
+                            .encode()
+                            .build();
+            String path = uriComponents.getPath() != null ? uriComponents.getPath() : "";
+
+            builder.host = uriComponents.getHost();
+            builder.path.setLength(0);
+            builder.path.append(path);
+            builder.pathTemplate.setLength(0);
+            builder.pathTemplate.append(path);
+            builder.queryParams = null;
+
+            uriComponents
+                    .getQueryParams()
+                    .forEach(
+                            (name, values) -> {
+                                if (builder.queryParams == null) {
+                                    builder.queryParams = new LinkedHashMap<>();
+                                }
+
+                                builder.queryParams.put(name, new ArrayList<>(values));
+                            });
+
+            return builder;
+        };
+    }
+
+    static RequestUriBuilder fromRoot(Root root) {
+        return new RequestUriBuilder(root);
+    }
+
+    /**
+     * Returns the host of the URI
+     */
+    public String getHost() {
+        return this.host;
+    }
+
+    /**
+     * Set the host of the URI
+     *
+     * @param host the host
+     * @return this builder
+     */
+    public RequestUriBuilder host(String host) {
+        this.host = host;
+        return this;
+    }
+
+    /**
+     * Append a path to the URI.  The path is treated as literal and is included verbatim in the {@link #getPathTemplate() path template}.
+     *
+     * @param path the unescaped path
+     * @return this builder
+     */
+    public RequestUriBuilder path(String path) {
+        if (path == null || path.isEmpty()) {
+            return this;
+        }
+
+        appendPath(this.path, path);
+        appendPath(this.pathTemplate, path);
+        return this;
+    }
+
+    /**
+     * Append literal path segments to the URI, such as {@code "v3", "apps"}.  The segments are included verbatim in the {@link #getPathTemplate() path
+     * template}, so identifiers, names, and any other request-specific values must be appended with {@link #pathVariable(String)} instead.  Empty segments
+     * are ignored.
+     *
+     * @param pathSegments the unescaped path segments
+     * @return this builder
+     */
+    public RequestUriBuilder pathSegment(String... pathSegments) {
+        for (String pathSegment : pathSegments) {
+            if (hasText(pathSegment)) {
+                int start = this.path.length();
+                this.path.append('/');
+                escape(this.path, pathSegment, RequestUriBuilder::isPathSegmentCharacter);
+                this.pathTemplate.append(this.path, start, this.path.length());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Append a request-specific path segment to the URI, such as the id of a resource.  The segment is replaced by {@code {id}} in the
+     * {@link #getPathTemplate() path template}.  An empty segment is ignored.
+     *
+     * @param pathVariable the unescaped path segment
+     * @return this builder
+     */
+    public RequestUriBuilder pathVariable(String pathVariable) {
+        if (hasText(pathVariable)) {
+            this.path.append('/');
+            escape(this.path, pathVariable, RequestUriBuilder::isPathSegmentCharacter);
+            this.pathTemplate.append("/{id}");
+        }
+
+        return this;
+    }
+
+    /**
+     * Add a query parameter, escaped as a URI template literal
+     *
+     * @param name   the unescaped name
+     * @param values the values
+     * @return this builder
+     */
+    public RequestUriBuilder queryParam(String name, Object... values) {
+        List<String> encodedValues = getQueryParamValues(name);
+
+        if (values == null || values.length == 0) {
+            encodedValues.add(null);
+        } else {
+            for (Object value : values) {
+                encodedValues.add(
+                        value != null
+                                ? escape(value.toString(), RequestUriBuilder::isQueryCharacter)
+                                : null);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Add a query parameter whose value is escaped as a URI variable, i.e. every character outside the unreserved set is escaped
+     *
+     * @param name  the unescaped name
+     * @param value the value
+     * @return this builder
+     */
+    public RequestUriBuilder queryParamStrict(String name, Object value) {
+        getQueryParamValues(name)
+                .add(escape(String.valueOf(value), RequestUriBuilder::isUnreservedCharacter));
+        return this;
+    }
+
+    /**
+     * Returns the escaped path of the URI
+     */
+    public String getPath() {
+        return this.path.length() == 0 ? "/" : this.path.toString();
+    }
+
+    /**
+     * Returns the escaped path of the URI with every {@link #pathVariable(String) path variable} replaced by {@code {id}}, suitable for tagging metrics
+     */
+    public String getPathTemplate() {
+        return this.pathTemplate.length() == 0 ? "/" : this.pathTemplate.toString();
+    }
+
+    /**
+     * Returns the escaped URI
+     */
+    public String toUriString() {
+        StringBuilder uri =
+                new StringBuilder(this.root.prefix.length() + this.path.length() + 32)
+                        .append(this.root.scheme)
+                        .append("://");
+
+        if (this.root.userInfo != null) {
+            uri.append(this.root.userInfo).append('@');
+        }
+
+        uri.append(this.host);
+
+        if (this.root.port != -1) {
+            uri.append(':').append(this.root.port);
+        }
+
+        uri.append(this.path);
+
+        if (this.queryParams != null) {
+            char separator = '?';
+
+            for (Map.Entry<String, List<String>> entry : this.queryParams.entrySet()) {
+                for (String value : entry.getValue()) {
+                    uri.append(separator).append(entry.getKey());
+                    separator = '&';
+
+                    if (value != null) {
+                        uri.append('=').append(value);
+                    }
+                }
+            }
+        }
+
+        return uri.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toUriString();
+    }
+
+    private static String escape(String value, CharacterFilter allowed) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!allowed.isAllowed(value.charAt(i))) {
+                return escape(new StringBuilder(value.length() + 16), value, allowed).toString();
+            }
+        }
+
+        return value;
+    }
+
+    private static StringBuilder escape(
+            StringBuilder builder, String value, CharacterFilter allowed) {
+        int length = value.length();
+        int i = 0;
+
+        while (i < length && allowed.isAllowed(value.charAt(i))) {
+            i++;
+        }
+
+        if (i == length) {
+            return builder.append(value);
+        }
+
+        builder.append(value, 0, i);
+
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            if (b >= 0 && allowed.isAllowed((char) b)) {
+                builder.append((char) b);
+            } else {
+                builder.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+            }
+        }
+
+        return builder;
+    }
+
+    private static void appendPath(StringBuilder builder, String path) {
+        int length = builder.length();
+        if (length > 0 && builder.charAt(length - 1) == '/' && path.charAt(0) == '/') {
+            builder.setLength(length - 1);
+        } else if ((length == 0 || builder.charAt(length - 1) != '/') && path.charAt(0) != '/') {
+            builder.append('/');
+        }
+
+        escape(builder, path, RequestUriBuilder::isPathCharacter);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static boolean isPathCharacter(char c) {
+        return isPathSegmentCharacter(c) || c == '/';
+    }
+
+    private static boolean isPathSegmentCharacter(char c) {
+        return isUnreservedCharacter(c) || isSubDelimiter(c) || c == ':' || c == '@';
+    }
+
+    private static boolean isQueryCharacter(char c) {
+        return (isPathSegmentCharacter(c) || c == '/' || c == '?') && c != '=' && c != '&';
+    }
+
+    private static boolean isSubDelimiter(char c) {
+        switch (c) {
+            case '!':
+            case '$':
+            case '&':
+            case '\'':
+            case '(':
+            case ')':
+            case '*':
+            case '+':
+            case ',':
+            case ';':
+            case '=':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isUnreservedCharacter(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '.'
+                || c == '_'
+                || c == '~';
+    }
+
+    private List<String> getQueryParamValues(String name) {
+        if (this.queryParams == null) {
+            this.queryParams = new LinkedHashMap<>();
+        }
+
+        return this.queryParams.computeIfAbsent(
+                escape(name, RequestUriBuilder::isQueryCharacter), key -> new ArrayList<>(1));
+    }
+
+    @FunctionalInterface
+    private interface CharacterFilter {
+
+        boolean isAllowed(char c);
+    }
+
+    static final class Root {
+
+        private final String host;
+
+        private final String path;
+
+        private final int port;
+
+        private final String prefix;
+
+        private final String scheme;
+
+        private final String userInfo;
+
+        Root(String root) {
+            URI uri = URI.create(root);
+            String rawPath = uri.getRawPath() != null ? uri.getRawPath() : "";
+
+            this.host = uri.getHost();
+            this.path =
+                    rawPath.endsWith("/") ? rawPath.substring(0, rawPath.length() - 1) : rawPath;
+            this.port = uri.getPort();
+            this.prefix = root;
+            this.scheme = uri.getScheme();
+            this.userInfo = uri.getRawUserInfo();
+        }
+    }
+}
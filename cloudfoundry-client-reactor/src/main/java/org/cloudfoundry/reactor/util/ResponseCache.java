@@ -0,0 +1,291 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.ETAG;
+import static io.netty.handler.codec.http.HttpHeaderNames.IF_MODIFIED_SINCE;
+import static io.netty.handler.codec.http.HttpHeaderNames.IF_NONE_MATCH;
+import static io.netty.handler.codec.http.HttpHeaderNames.LAST_MODIFIED;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cloudfoundry.reactor.ResponseCacheConfiguration;
+import reactor.netty.http.client.HttpClientRequest;
+
+/**
+ * A cache of parsed {@code GET} responses, keyed by request URI and token subject.  Responses are revalidated with {@code If-None-Match} and
+ * {@code If-Modified-Since} once their time to live has passed and the cached value is reused when the server responds with {@code 304 Not Modified}.  Cached
+ * values are shared between subscribers and must therefore be immutable, as the generated payload types are.
+ */
+public final class ResponseCache {
+
+    static final String CACHED_RESPONSE_KEY = "cloudfoundry-client.cached-response";
+
+    private static final List<String> OWNED_PATH_SEGMENTS =
+            Arrays.asList("actions", "relationships");
+
+    private static final String PATH_VARIABLE = "{id}";
+
+    private final LinkedHashMap<String, CachedResponse> entries;
+
+    private final long defaultTimeToLive;
+
+    private final List<Map.Entry<String, Long>> resourceTimeToLives = new ArrayList<>();
+
+    private final long staleWhileRevalidate;
+
+    public ResponseCache(ResponseCacheConfiguration configuration) {
+        int maximumSize = configuration.getMaximumSize();
+
+        this.defaultTimeToLive = configuration.getTimeToLive().orElse(Duration.ZERO).toNanos();
+        this.entries =
+                new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                        return size() > maximumSize;
+                    }
+                };
+        this.staleWhileRevalidate =
+                configuration.getStaleWhileRevalidate().orElse(Duration.ZERO).toNanos();
+
+        configuration
+                .getResourceTimeToLives()
+                .forEach(
+                        (path, timeToLive) ->
+                                this.resourceTimeToLives.add(
+                                        new AbstractMap.SimpleImmutableEntry<>(
+                                                path, timeToLive.toNanos())));
+        this.resourceTimeToLives.sort(
+                Comparator.comparingInt((Map.Entry<String, Long> entry) -> entry.getKey().length())
+                        .reversed());
+    }
+
+    /**
+     * Removes all cached responses
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached responses
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    static void addValidators(HttpClientRequest request) {
+        CachedResponse cached =
+                request.currentContextView().getOrDefault(CACHED_RESPONSE_KEY, null);
+
+        if (cached == null) {
+            return;
+        }
+
+        if (cached.etag != null) {
+            request.header(IF_NONE_MATCH, cached.etag);
+        }
+
+        if (cached.lastModified != null) {
+            request.header(IF_MODIFIED_SINCE, cached.lastModified);
+        }
+    }
+
+    CachedResponse get(String key) {
+        synchronized (this.entries) {
+            return this.entries.get(key);
+        }
+    }
+
+    /**
+     * Remove the cached responses affected by a request that modifies the resource at a path: those for the owning resource and the paths below it, and those
+     * for the collection containing the owning resource with any query.  The owning resource of an {@code actions} or {@code relationships} path, e.g.
+     * {@code /v3/apps/{id}/actions/start}, is the resource the action or relationship belongs to, e.g. {@code /v3/apps/{id}}.
+     */
+    void invalidate(String path, String pathTemplate) {
+        String[] segments = path.split("/", -1);
+        String[] templateSegments = pathTemplate.split("/", -1);
+
+        int owner = segments.length;
+        if (segments.length == templateSegments.length) {
+            for (int i = 1; i < templateSegments.length; i++) {
+                if (PATH_VARIABLE.equals(templateSegments[i - 1])
+                        && OWNED_PATH_SEGMENTS.contains(templateSegments[i])) {
+                    owner = i;
+                    break;
+                }
+            }
+        }
+
+        String ownerPath = String.join("/", Arrays.copyOf(segments, owner));
+        String collectionPath =
+                owner > 1 && PATH_VARIABLE.equals(templateSegments[owner - 1])
+                        ? String.join("/", Arrays.copyOf(segments, owner - 1))
+                        : null;
+
+        synchronized (this.entries) {
+            if (this.entries.isEmpty()) {
+                return;
+            }
+
+            this.entries
+                    .values()
+                    .removeIf(
+                            cached ->
+                                    isAtOrBelow(cached.path, ownerPath)
+                                            || cached.path.equals(collectionPath));
+        }
+    }
+
+    CachedResponse put(
+            String key, String path, String pathTemplate, Object value, HttpHeaders headers) {
+        return put(key, path, pathTemplate, value, headers.get(ETAG), headers.get(LAST_MODIFIED));
+    }
+
+    CachedResponse refresh(String key, CachedResponse cached, HttpHeaders headers) {
+        String etag = headers.get(ETAG);
+        String lastModified = headers.get(LAST_MODIFIED);
+
+        return put(
+                key,
+                cached.path,
+                cached.pathTemplate,
+                cached.value,
+                etag != null ? etag : cached.etag,
+                lastModified != null ? lastModified : cached.lastModified);
+    }
+
+    private static boolean isAtOrBelow(String path, String ancestor) {
+        return path.startsWith(ancestor)
+                && (path.length() == ancestor.length() || path.charAt(ancestor.length()) == '/');
+    }
+
+    private long getTimeToLive(String pathTemplate) {
+        for (Map.Entry<String, Long> resourceTimeToLive : this.resourceTimeToLives) {
+            if (pathTemplate.startsWith(resourceTimeToLive.getKey())) {
+                return resourceTimeToLive.getValue();
+            }
+        }
+
+        return this.defaultTimeToLive;
+    }
+
+    private CachedResponse put(
+            String key,
+            String path,
+            String pathTemplate,
+            Object value,
+            String etag,
+            String lastModified) {
+        long timeToLive = getTimeToLive(pathTemplate);
+        CachedResponse cached =
+                new CachedResponse(
+                        path,
+                        pathTemplate,
+                        value,
+                        etag,
+                        lastModified,
+                        System.nanoTime() + timeToLive,
+                        timeToLive > 0 ? this.staleWhileRevalidate : 0);
+
+        synchronized (this.entries) {
+            if (etag == null && lastModified == null && timeToLive == 0) {
+                this.entries.remove(key);
+            } else {
+                this.entries.put(key, cached);
+            }
+        }
+
+        return cached;
+    }
+
+    static final class CachedResponse {
+
+        private final String etag;
+
+        private final long expiresAt;
+
+        private final String lastModified;
+
+        private final String path;
+
+        private final String pathTemplate;
+
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        private final long staleWhileRevalidate;
+
+        private final Object value;
+
+        private CachedResponse(
+                String path,
+                String pathTemplate,
+                Object value,
+                String etag,
+                String lastModified,
+                long expiresAt,
+                long staleWhileRevalidate) {
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+            this.lastModified = lastModified;
+            this.path = path;
+            this.pathTemplate = pathTemplate;
+            this.staleWhileRevalidate = staleWhileRevalidate;
+            this.value = value;
+        }
+
+        /**
+         * Returns the cached value if it is of the requested type, otherwise {@code null}
+         */
+        <T> T getValue(Class<T> type) {
+            return type.isInstance(this.value) ? type.cast(this.value) : null;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - this.expiresAt < 0;
+        }
+
+        boolean isServableWhileRevalidating() {
+            return System.nanoTime() - (this.expiresAt + this.staleWhileRevalidate) < 0;
+        }
+
+        /**
+         * Returns {@code true} if the caller should start a background revalidation, i.e. no other revalidation is in progress
+         */
+        boolean startRevalidation() {
+            return this.revalidating.compareAndSet(false, true);
+        }
+
+        void stopRevalidation() {
+            this.revalidating.set(false);
+        }
+    }
+}
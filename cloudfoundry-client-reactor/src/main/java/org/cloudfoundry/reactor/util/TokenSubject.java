@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The subject of an access token, used to tell apart responses shared between requests.  The subject is the {@code user_id} claim of the token, falling back
+ * to its {@code sub} claim, so that the tokens issued to a user over time share a subject.  The claims are read from the payload of the token without verifying
+ * its signature, which is the server's concern.  The subject of the most recently seen token is remembered, so that the token is only decoded when it changes.
+ */
+final class TokenSubject {
+
+    private static volatile TokenSubject last;
+
+    private final String subject;
+
+    private final String token;
+
+    private TokenSubject(String token, String subject) {
+        this.subject = subject;
+        this.token = token;
+    }
+
+    /**
+     * Returns the subject of a token, or the token itself if it is not a JWT with a subject
+     *
+     * @param token the token, optionally prefixed with its type (e.g. {@code bearer})
+     * @return the subject
+     */
+    static String of(String token) {
+        TokenSubject tokenSubject = last;
+
+        if (tokenSubject == null || !tokenSubject.token.equals(token)) {
+            tokenSubject = new TokenSubject(token, parse(token));
+            last = tokenSubject;
+        }
+
+        return tokenSubject.subject;
+    }
+
+    private static String getText(JsonNode claims, String name) {
+        JsonNode claim = claims.get(name);
+        return claim != null && claim.isTextual() ? claim.asText() : null;
+    }
+
+    private static String parse(String token) {
+        return JsonWebTokens.getClaims(token)
+                .map(
+                        claims -> {
+                            String userId = getText(claims, "user_id");
+                            return userId != null ? userId : getText(claims, "sub");
+                        })
+                .orElse(token);
+    }
+}
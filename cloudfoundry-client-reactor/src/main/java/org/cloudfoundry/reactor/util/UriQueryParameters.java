@@ -21,6 +21,15 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 public class UriQueryParameters {
 
+    public static void set(
+            RequestUriBuilder builder, Stream<UriQueryParameter> uriQueryParameters) {
+        // Values are escaped as strictly as URI variables:
+        uriQueryParameters.forEach(
+                uriQueryParameter ->
+                        builder.queryParamStrict(
+                                uriQueryParameter.getKey(), uriQueryParameter.getValue()));
+    }
+
     public static void set(
             UriComponentsBuilder builder, Stream<UriQueryParameter> uriQueryParameters) {
         // Replace all literal values with URI variables to apply more strict encoding:
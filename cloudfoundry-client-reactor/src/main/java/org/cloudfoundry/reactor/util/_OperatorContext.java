@@ -25,6 +25,11 @@ import java.util.Optional;
 @Value.Immutable(copy = true)
 public interface _OperatorContext {
 
+    /**
+     * The name of the API that requests are made to, used to tag metrics
+     */
+    Optional<String> getApi();
+
     @Value.Parameter
     ConnectionContext getConnectionContext();
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import java.util.Collections;
+import java.util.function.UnaryOperator;
+import org.cloudfoundry.client.v3.stacks.GetStackRequest;
+import org.cloudfoundry.client.v3.stacks.GetStackResponse;
+import org.cloudfoundry.reactor.client.v3.stacks.ReactorStacksV3;
+import org.junit.jupiter.api.AfterEach;
+import reactor.core.publisher.Mono;
+
+/**
+ * Base class for tests of the request handling configured on a {@link DefaultConnectionContext}, such as caching and pacing, exercised by getting a stack
+ */
+abstract class AbstractStacksRestTest extends AbstractRestTest {
+
+    static final String STACK_ID = "11c916c9-c2f9-440e-8e73-102e79c4704d";
+
+    final DefaultConnectionContext connectionContext;
+
+    final ReactorStacksV3 stacks;
+
+    AbstractStacksRestTest(UnaryOperator<DefaultConnectionContext.Builder> configuration) {
+        this.connectionContext = configuration.apply(connectionContextBuilder()).build();
+        this.stacks = stacks(this.connectionContext, TOKEN_PROVIDER);
+    }
+
+    @AfterEach
+    final void dispose() {
+        this.connectionContext.dispose();
+    }
+
+    final DefaultConnectionContext.Builder connectionContextBuilder() {
+        return DefaultConnectionContext.builder()
+                .apiHost(this.mockWebServer.getHostName())
+                .port(this.mockWebServer.getPort())
+                .secure(false);
+    }
+
+    final Mono<GetStackResponse> getStack() {
+        return getStack(this.stacks);
+    }
+
+    static Mono<GetStackResponse> getStack(ReactorStacksV3 stacks) {
+        return stacks.get(GetStackRequest.builder().stackId(STACK_ID).build());
+    }
+
+    static TestRequest.Builder getStackRequest() {
+        return TestRequest.builder().method(GET).path("/stacks/" + STACK_ID);
+    }
+
+    static TestResponse.Builder getStackResponse() {
+        return TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/stacks/GET_{id}_response.json");
+    }
+
+    final void mockGetStack() {
+        mockGetStack(getStackResponse().build());
+    }
+
+    final void mockGetStack(TestResponse response) {
+        mockRequest(getStackRequest().build(), response);
+    }
+
+    final void mockRequest(TestRequest request, TestResponse response) {
+        mockRequest(InteractionContext.builder().request(request).response(response).build());
+    }
+
+    final ReactorStacksV3 stacks(ConnectionContext connectionContext, TokenProvider tokenProvider) {
+        return new ReactorStacksV3(
+                connectionContext, this.root, tokenProvider, Collections.emptyMap());
+    }
+}
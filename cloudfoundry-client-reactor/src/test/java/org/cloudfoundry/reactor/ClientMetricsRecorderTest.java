@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.reactor;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import org.cloudfoundry.reactor.micrometer.MicrometerClientMetricsRecorder;
+import org.cloudfoundry.reactor.util.AbstractReactorOperations;
+import org.cloudfoundry.reactor.util.Operator;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class ClientMetricsRecorderTest extends AbstractRestTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DefaultConnectionContext connectionContext =
+            DefaultConnectionContext.builder()
+                    .apiHost(this.mockWebServer.getHostName())
+                    .metricsRecorder(new MicrometerClientMetricsRecorder(this.meterRegistry))
+                    .port(this.mockWebServer.getPort())
+                    .secure(false)
+                    .build();
+
+    @Test
+    void recordRequest() {
+        mockRequest(
+                InteractionContext.builder()
+                        .request(
+                                TestRequest.builder()
+                                        .method(GET)
+                                        .path("/v3/apps/0b4f6d26-0b2a-4ad5-95a1-cf38e3e08c47/env")
+                                        .build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .header("X-Cf-Warnings", "test-warning")
+                                        .build())
+                        .build());
+
+        createOperator()
+                .flatMap(
+                        operator ->
+                                operator.get()
+                                        .uri(
+                                                builder ->
+                                                        builder.pathSegment("v3", "apps")
+                                                                .pathVariable(
+                                                                        "0b4f6d26-0b2a-4ad5-95a1-cf38e3e08c47")
+                                                                .pathSegment("env"))
+                                        .response()
+                                        .get())
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(
+                        this.meterRegistry
+                                .get("cloudfoundry.client.requests")
+                                .tag("api", "test")
+                                .tag("endpoint", "/v3/apps/{id}/env")
+                                .tag("method", "GET")
+                                .tag("status", "2xx")
+                                .timer()
+                                .count())
+                .isEqualTo(1);
+        assertThat(
+                        this.meterRegistry
+                                .get("cloudfoundry.client.warnings")
+                                .tag("endpoint", "/v3/apps/{id}/env")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void recordQueueDepth() {
+        MicrometerClientMetricsRecorder first =
+                new MicrometerClientMetricsRecorder(this.meterRegistry);
+        MicrometerClientMetricsRecorder second =
+                new MicrometerClientMetricsRecorder(this.meterRegistry);
+
+        first.recordQueueDepth(2);
+        second.recordQueueDepth(3);
+
+        assertThat(this.meterRegistry.get("cloudfoundry.client.requests.queued").gauge().value())
+                .isEqualTo(5);
+    }
+
+    private Mono<Operator> createOperator() {
+        return new AbstractReactorOperations(
+                this.connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap()) {
+
+            @Override
+            protected Operator configureOperator(Operator operator) {
+                return operator.withApi("test");
+            }
+
+            private Mono<Operator> getOperator() {
+                return createOperator();
+            }
+        }.getOperator();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.net.InetSocketAddress;
+import org.junit.jupiter.api.Test;
+
+final class ConnectionPoolsTest {
+
+    @Test
+    void getRemoteAddressesHost() {
+        assertThat(ConnectionPools.getRemoteAddresses("test-host"))
+                .containsExactly(
+                        InetSocketAddress.createUnresolved("test-host", 443),
+                        InetSocketAddress.createUnresolved("test-host", 80));
+    }
+
+    @Test
+    void getRemoteAddressesHostAndPort() {
+        assertThat(ConnectionPools.getRemoteAddresses("test-host:8443"))
+                .containsExactly(InetSocketAddress.createUnresolved("test-host", 8443));
+    }
+
+    @Test
+    void getRemoteAddressesIpv6() {
+        assertThat(ConnectionPools.getRemoteAddresses("2001:db8::1"))
+                .containsExactly(
+                        InetSocketAddress.createUnresolved("2001:db8::1", 443),
+                        InetSocketAddress.createUnresolved("2001:db8::1", 80));
+    }
+
+    @Test
+    void getRemoteAddressesIpv6Bracketed() {
+        assertThat(ConnectionPools.getRemoteAddresses("[2001:db8::1]"))
+                .containsExactly(
+                        InetSocketAddress.createUnresolved("2001:db8::1", 443),
+                        InetSocketAddress.createUnresolved("2001:db8::1", 80));
+    }
+
+    @Test
+    void getRemoteAddressesIpv6BracketedAndPort() {
+        assertThat(ConnectionPools.getRemoteAddresses("[2001:db8::1]:8443"))
+                .containsExactly(InetSocketAddress.createUnresolved("2001:db8::1", 8443));
+    }
+
+    @Test
+    void getRemoteAddressesIpv6Unterminated() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ConnectionPools.getRemoteAddresses("[2001:db8::1"))
+                .withMessageContaining("unterminated IPv6 literal");
+    }
+}
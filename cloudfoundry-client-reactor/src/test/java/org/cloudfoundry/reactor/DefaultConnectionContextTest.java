@@ -19,14 +19,23 @@ package org.cloudfoundry.reactor;
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 import io.netty.handler.logging.ByteBufFormat;
 import io.netty.handler.logging.LogLevel;
+import java.lang.management.ManagementFactory;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.transport.ProxyProvider;
 import reactor.test.StepVerifier;
@@ -76,6 +85,138 @@ final class DefaultConnectionContextTest extends AbstractRestTest {
                 .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    void hostConnectionPools() throws JMException {
+        String host =
+                String.format(
+                        "%s:%d", this.mockWebServer.getHostName(), this.mockWebServer.getPort());
+
+        DefaultConnectionContext pooledConnectionContext =
+                DefaultConnectionContext.builder()
+                        .apiHost(this.mockWebServer.getHostName())
+                        .connectionPoolConfiguration(
+                                ConnectionPoolConfiguration.builder()
+                                        .maxIdleTime(Duration.ofSeconds(30))
+                                        .build())
+                        .hostConnectionPool(
+                                host,
+                                ConnectionPoolConfiguration.builder()
+                                        .lifo(true)
+                                        .maxConnections(3)
+                                        .pendingAcquireMaxCount(10)
+                                        .build())
+                        .port(this.mockWebServer.getPort())
+                        .secure(false)
+                        .build();
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/GET_response.json")
+                                        .build())
+                        .build());
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/v2/info").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/client/v2/info/GET_response.json")
+                                        .build())
+                        .build());
+
+        try {
+            pooledConnectionContext
+                    .getRootProvider()
+                    .getRoot("token_endpoint", pooledConnectionContext)
+                    .as(StepVerifier::create)
+                    .expectNext("http://localhost:8080/uaa")
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Set<ObjectName> names =
+                    server.queryNames(
+                            ObjectName.getInstance(
+                                    String.format(
+                                            "org.cloudfoundry.reactor:type=ConnectionPool,endpoint=%s/%d,remoteHost=%s,*",
+                                            this.mockWebServer.getHostName(),
+                                            this.mockWebServer.getPort(),
+                                            ObjectName.quote(host))),
+                            null);
+
+            assertThat(names).hasSize(1);
+            ObjectName name = names.iterator().next();
+            assertThat(server.getAttribute(name, "MaxAllocatedSize")).isEqualTo(3);
+            assertThat(server.getAttribute(name, "MaxPendingAcquireSize")).isEqualTo(10);
+        } finally {
+            pooledConnectionContext.dispose();
+        }
+    }
+
+    @Test
+    void http2FallsBackToHttp11() {
+        DefaultConnectionContext http2ConnectionContext =
+                DefaultConnectionContext.builder()
+                        .apiHost(this.mockWebServer.getHostName())
+                        .http2MaxConcurrentStreams(100L)
+                        .port(this.mockWebServer.getPort())
+                        .protocol(HttpProtocol.H2)
+                        .secure(false)
+                        .build();
+
+        assertThat(http2ConnectionContext.getHttpClient().configuration().protocols())
+                .containsExactlyInAnyOrder(HttpProtocol.H2C, HttpProtocol.HTTP11);
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/GET_response.json")
+                                        .build())
+                        .build());
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/v2/info").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/client/v2/info/GET_response.json")
+                                        .build())
+                        .build());
+
+        try {
+            http2ConnectionContext
+                    .getRootProvider()
+                    .getRoot("token_endpoint", http2ConnectionContext)
+                    .as(StepVerifier::create)
+                    .expectNext("http://localhost:8080/uaa")
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            http2ConnectionContext.dispose();
+        }
+    }
+
+    @Test
+    void http2MaxConcurrentStreamsRequiresHttp2() {
+        assertThatIllegalStateException()
+                .isThrownBy(
+                        () ->
+                                DefaultConnectionContext.builder()
+                                        .apiHost("test-host")
+                                        .http2MaxConcurrentStreams(100L)
+                                        .build())
+                .withMessageContaining("http2MaxConcurrentStreams requires protocol H2 or H2C");
+    }
+
     @Test
     void multipleInstances() {
         DefaultConnectionContext first =
@@ -91,6 +232,179 @@ final class DefaultConnectionContextTest extends AbstractRestTest {
         second.dispose();
     }
 
+    @Test
+    void persistentCache(@TempDir Path directory) {
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/GET_response.json")
+                                        .build())
+                        .build());
+
+        for (int i = 0; i < 2; i++) {
+            DefaultConnectionContext cachingConnectionContext =
+                    DefaultConnectionContext.builder()
+                            .apiHost(this.mockWebServer.getHostName())
+                            .persistentCacheConfiguration(
+                                    PersistentCacheConfiguration.builder()
+                                            .directory(directory)
+                                            .build())
+                            .port(this.mockWebServer.getPort())
+                            .secure(false)
+                            .build();
+
+            try {
+                cachingConnectionContext
+                        .getRootProvider()
+                        .getRoot("uaa", cachingConnectionContext)
+                        .as(StepVerifier::create)
+                        .expectNext(
+                                String.format(
+                                        "http://uaa.run.pivotal.io:%d",
+                                        this.mockWebServer.getPort()))
+                        .expectComplete()
+                        .verify(Duration.ofSeconds(5));
+            } finally {
+                cachingConnectionContext.dispose();
+            }
+        }
+    }
+
+    @Test
+    void sharedResourcesConflictingConfiguration() {
+        SharedConnectionResources sharedResources =
+                new SharedConnectionResources(
+                        SharedConnectionResourcesConfiguration.builder()
+                                .name("test-shared-conflicting")
+                                .build());
+
+        assertThatIllegalStateException()
+                .isThrownBy(
+                        () ->
+                                DefaultConnectionContext.builder()
+                                        .apiHost("test-host")
+                                        .connectionPoolSize(3)
+                                        .sharedResources(sharedResources)
+                                        .build())
+                .withMessageContaining("connectionPoolSize cannot be set with sharedResources");
+
+        assertThatIllegalStateException()
+                .isThrownBy(
+                        () ->
+                                DefaultConnectionContext.builder()
+                                        .apiHost("test-host")
+                                        .hostConnectionPool(
+                                                "test-host",
+                                                ConnectionPoolConfiguration.builder()
+                                                        .maxConnections(3)
+                                                        .build())
+                                        .sharedResources(sharedResources)
+                                        .build())
+                .withMessageContaining("hostConnectionPools cannot be set with sharedResources");
+
+        assertThat(sharedResources.getReferenceCount()).isZero();
+    }
+
+    @Test
+    void sharedResources() {
+        SharedConnectionResources sharedResources =
+                new SharedConnectionResources(
+                        SharedConnectionResourcesConfiguration.builder()
+                                .name("test-shared")
+                                .threadPoolSize(2)
+                                .build());
+
+        DefaultConnectionContext first =
+                DefaultConnectionContext.builder()
+                        .apiHost(this.mockWebServer.getHostName())
+                        .port(this.mockWebServer.getPort())
+                        .secure(false)
+                        .sharedResources(sharedResources)
+                        .build();
+
+        DefaultConnectionContext second =
+                DefaultConnectionContext.builder()
+                        .apiHost("test-host")
+                        .sharedResources(sharedResources)
+                        .build();
+
+        assertThat(sharedResources.getReferenceCount()).isEqualTo(2);
+        assertThat(first.getThreadPool()).isSameAs(second.getThreadPool());
+        assertThat(first.getConnectionProvider()).isEmpty();
+
+        second.dispose();
+        second.dispose();
+        assertThat(sharedResources.getReferenceCount()).isEqualTo(1);
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/GET_response.json")
+                                        .build())
+                        .build());
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/v2/info").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/client/v2/info/GET_response.json")
+                                        .build())
+                        .build());
+
+        try {
+            first.getRootProvider()
+                    .getRoot("token_endpoint", first)
+                    .as(StepVerifier::create)
+                    .expectNext("http://localhost:8080/uaa")
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            first.dispose();
+        }
+
+        assertThat(sharedResources.getReferenceCount()).isZero();
+        assertThat(first.getThreadPool().isDisposed()).isTrue();
+    }
+
+    @Test
+    void sharedResourcesCopy() {
+        SharedConnectionResources sharedResources =
+                new SharedConnectionResources(
+                        SharedConnectionResourcesConfiguration.builder()
+                                .name("test-shared")
+                                .threadPoolSize(2)
+                                .build());
+
+        DefaultConnectionContext original =
+                DefaultConnectionContext.builder()
+                        .apiHost("test-host")
+                        .sharedResources(sharedResources)
+                        .build();
+
+        DefaultConnectionContext copy =
+                DefaultConnectionContext.builder()
+                        .from(original)
+                        .cacheDuration(Duration.ofSeconds(1))
+                        .build();
+
+        assertThat(copy.getHttpClient()).isSameAs(original.getHttpClient());
+        assertThat(sharedResources.getReferenceCount()).isEqualTo(1);
+
+        original.dispose();
+        assertThat(sharedResources.getReferenceCount()).isZero();
+
+        copy.dispose();
+        assertThat(sharedResources.getReferenceCount()).isZero();
+    }
+
     @Test
     void configurationAlwaysApplied() {
         DefaultConnectionContext ctx =
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.cloudfoundry.reactor.util.RequestCoalescer;
+import org.cloudfoundry.util.TracingUtils;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+final class RequestCoalescerTest extends AbstractStacksRestTest {
+
+    RequestCoalescerTest() {
+        super(builder -> builder.requestCoalescing(true));
+    }
+
+    @Test
+    void coalesce() {
+        mockGetStack();
+
+        Mono.zip(getStack(), getStack())
+                .as(StepVerifier::create)
+                .consumeNextWith(
+                        responses -> assertThat(responses.getT2()).isSameAs(responses.getT1()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        RequestCoalescer coalescer = this.connectionContext.getRequestCoalescer().get();
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(1);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void coalesceAnnotatesSpan() {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        SdkTracerProvider tracerProvider =
+                SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                        .build();
+        TracingUtils.setTracer(tracerProvider.get("test"));
+
+        try {
+            mockGetStack();
+
+            Mono.zip(
+                            getStack().transform(TracingUtils.trace("first")),
+                            getStack().transform(TracingUtils.trace("second")))
+                    .as(StepVerifier::create)
+                    .expectNextCount(1)
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+
+            SpanData first = getSpan(exporter, "first");
+            SpanData second = getSpan(exporter, "second");
+
+            assertThat(second.getEvents())
+                    .singleElement()
+                    .satisfies(
+                            event -> {
+                                assertThat(event.getName())
+                                        .isEqualTo("cloudfoundry.request.coalesced");
+                                assertThat(event.getAttributes().asMap())
+                                        .containsValues(first.getTraceId(), first.getSpanId());
+                            });
+        } finally {
+            TracingUtils.setTracer(null);
+            tracerProvider.close();
+        }
+    }
+
+    @Test
+    void coalesceSurvivesCancelOfFirstSubscriber() {
+        mockGetStack(getStackResponse().headersDelay(Duration.ofMillis(500)).build());
+
+        RequestCoalescer coalescer = this.connectionContext.getRequestCoalescer().get();
+
+        Disposable first =
+                getStack().contextWrite(Context.of("test-subscriber", "first")).subscribe();
+        awaitUntil(() -> coalescer.getInFlightCount() == 1);
+
+        getStack()
+                .contextWrite(Context.of("test-subscriber", "second"))
+                .as(StepVerifier::create)
+                .then(
+                        () -> {
+                            awaitUntil(() -> coalescer.getCoalescedCount() == 1);
+                            first.dispose();
+                        })
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void notCoalescedAcrossPriorities() {
+        mockGetStack(getStackResponse().headersDelay(Duration.ofMillis(200)).build());
+        mockGetStack(getStackResponse().headersDelay(Duration.ofMillis(200)).build());
+
+        Mono.zip(
+                        getStack().contextWrite(RequestPriority.BULK),
+                        getStack().contextWrite(RequestPriority.INTERACTIVE))
+                .as(StepVerifier::create)
+                .consumeNextWith(
+                        responses -> assertThat(responses.getT2()).isNotSameAs(responses.getT1()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(this.connectionContext.getRequestCoalescer().get().getCoalescedCount()).isZero();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private static SpanData getSpan(InMemorySpanExporter exporter, String name) {
+        return exporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .get();
+    }
+}
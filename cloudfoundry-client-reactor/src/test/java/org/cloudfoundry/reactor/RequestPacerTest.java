@@ -0,0 +1,100 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.cloudfoundry.UnknownCloudFoundryException;
+import org.cloudfoundry.reactor.util.RequestPacer;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+final class RequestPacerTest extends AbstractStacksRestTest {
+
+    RequestPacerTest() {
+        super(
+                builder ->
+                        builder.rateLimitConfiguration(
+                                RateLimitConfiguration.builder()
+                                        .maxRetries(1)
+                                        .minBackoff(Duration.ofMillis(10))
+                                        .build()));
+    }
+
+    @Test
+    void pace() {
+        long reset = System.currentTimeMillis() / 1000 + 30;
+        mockGetStack(
+                getStackResponse()
+                        .header("X-RateLimit-Remaining", "0")
+                        .header("X-RateLimit-Reset", String.valueOf(reset))
+                        .build());
+        mockGetStack();
+
+        getStack()
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        RequestPacer pacer = this.connectionContext.getRequestPacer().get();
+
+        StepVerifier.withVirtualTime(this::getStack)
+                .expectSubscription()
+                .then(() -> assertThat(pacer.getQueueDepth()).isEqualTo(1))
+                .expectNoEvent(Duration.ofSeconds(25))
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(pacer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void retryExhausted() {
+        mockGetStack(TestResponse.builder().status(TOO_MANY_REQUESTS).build());
+        mockGetStack(TestResponse.builder().status(TOO_MANY_REQUESTS).build());
+
+        getStack()
+                .as(StepVerifier::create)
+                .consumeErrorWith(
+                        t ->
+                                assertThat(t)
+                                        .isInstanceOf(UnknownCloudFoundryException.class)
+                                        .hasFieldOrPropertyWithValue("statusCode", 429))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void retryTooManyRequests() {
+        mockGetStack(
+                TestResponse.builder()
+                        .status(TOO_MANY_REQUESTS)
+                        .header("Retry-After", "0")
+                        .build());
+        mockGetStack();
+
+        getStack()
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
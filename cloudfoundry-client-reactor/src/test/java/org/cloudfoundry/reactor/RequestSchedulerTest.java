@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.cloudfoundry.reactor.util.RequestScheduler;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+final class RequestSchedulerTest extends AbstractStacksRestTest {
+
+    RequestSchedulerTest() {
+        super(builder -> builder.concurrencyLimit(RequestPriority.BULK, 1));
+    }
+
+    @Test
+    void bulk() {
+        for (int i = 0; i < 3; i++) {
+            mockGetStack(getStackResponse().headersDelay(Duration.ofMillis(200)).build());
+        }
+
+        RequestScheduler scheduler = this.connectionContext.getRequestScheduler().get();
+
+        Flux.merge(getStack(), getStack(), getStack())
+                .contextWrite(RequestPriority.BULK)
+                .as(StepVerifier::create)
+                .expectSubscription()
+                .then(
+                        () -> {
+                            assertThat(scheduler.getActiveCount(RequestPriority.BULK))
+                                    .isLessThanOrEqualTo(1);
+                            assertThat(scheduler.getQueuedCount(RequestPriority.BULK))
+                                    .isGreaterThan(0);
+                        })
+                .expectNextCount(1)
+                .then(
+                        () -> {
+                            assertThat(scheduler.getActiveCount(RequestPriority.BULK))
+                                    .isLessThanOrEqualTo(1);
+                            assertThat(this.mockWebServer.getRequestCount()).isLessThanOrEqualTo(2);
+                        })
+                .expectNextCount(2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(scheduler.getQueuedCount(RequestPriority.BULK)).isZero();
+    }
+
+    @Test
+    void interactive() {
+        mockGetStack(getStackResponse().headersDelay(Duration.ofMillis(200)).build());
+        mockGetStack(getStackResponse().headersDelay(Duration.ofMillis(200)).build());
+
+        RequestScheduler scheduler = this.connectionContext.getRequestScheduler().get();
+
+        Flux.merge(getStack().contextWrite(RequestPriority.BULK), getStack())
+                .as(StepVerifier::create)
+                .expectSubscription()
+                .then(
+                        () -> {
+                            assertThat(scheduler.getActiveCount(RequestPriority.BULK)).isEqualTo(1);
+                            assertThat(scheduler.getQueuedCount(RequestPriority.BULK)).isZero();
+                            assertThat(scheduler.getQueuedCount(RequestPriority.INTERACTIVE))
+                                    .isZero();
+                        })
+                .expectNextCount(2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
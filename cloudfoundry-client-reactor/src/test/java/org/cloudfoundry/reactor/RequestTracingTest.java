@@ -0,0 +1,124 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cloudfoundry.reactor.util.AbstractReactorOperations;
+import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.util.TracingUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class RequestTracingTest extends AbstractRestTest {
+
+    private final DefaultConnectionContext connectionContext =
+            DefaultConnectionContext.builder()
+                    .apiHost(this.mockWebServer.getHostName())
+                    .port(this.mockWebServer.getPort())
+                    .secure(false)
+                    .build();
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    private final SdkTracerProvider tracerProvider =
+            SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(this.exporter))
+                    .build();
+
+    @AfterEach
+    void disableTracing() {
+        TracingUtils.setTracer(null);
+        this.tracerProvider.close();
+        this.connectionContext.dispose();
+    }
+
+    @BeforeEach
+    void enableTracing() {
+        TracingUtils.setTracer(this.tracerProvider.get("test"));
+    }
+
+    @Test
+    void propagateTraceparent() {
+        AtomicReference<String> traceparent = new AtomicReference<>();
+
+        mockRequest(
+                InteractionContext.builder()
+                        .request(
+                                TestRequest.builder()
+                                        .method(GET)
+                                        .path("/test-path")
+                                        .contents(
+                                                request ->
+                                                        traceparent.set(
+                                                                request.getT1().get("traceparent")))
+                                        .build())
+                        .response(TestResponse.builder().status(OK).build())
+                        .build());
+
+        createOperator()
+                .flatMap(
+                        operator ->
+                                operator.get().uri(uri -> uri.path("/test-path")).response().get())
+                .transform(TracingUtils.trace("test-operation"))
+                .as(StepVerifier::create)
+                .expectNextMatches(response -> response.status().equals(OK))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        List<SpanData> spans = this.exporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(2);
+
+        SpanData client =
+                spans.stream().filter(span -> span.getKind() == SpanKind.CLIENT).findFirst().get();
+        SpanData operation =
+                spans.stream()
+                        .filter(span -> span.getName().equals("test-operation"))
+                        .findFirst()
+                        .get();
+
+        assertThat(client.getName()).isEqualTo("GET /test-path");
+        assertThat(client.getParentSpanId()).isEqualTo(operation.getSpanId());
+        assertThat(client.getTraceId()).isEqualTo(operation.getTraceId());
+        assertThat(traceparent.get())
+                .isEqualTo(String.format("00-%s-%s-01", client.getTraceId(), client.getSpanId()));
+    }
+
+    private Mono<Operator> createOperator() {
+        return new AbstractReactorOperations(
+                this.connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap()) {
+
+            private Mono<Operator> getOperator() {
+                return createOperator();
+            }
+        }.getOperator();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import static io.netty.handler.codec.http.HttpMethod.DELETE;
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpMethod.POST;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cloudfoundry.client.v3.applications.GetApplicationRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.applications.StartApplicationRequest;
+import org.cloudfoundry.client.v3.stacks.DeleteStackRequest;
+import org.cloudfoundry.client.v3.stacks.GetStackResponse;
+import org.cloudfoundry.reactor.client.v3.applications.ReactorApplicationsV3;
+import org.cloudfoundry.reactor.client.v3.stacks.ReactorStacksV3;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class ResponseCacheTest extends AbstractStacksRestTest {
+
+    ResponseCacheTest() {
+        super(
+                builder ->
+                        builder.responseCacheConfiguration(
+                                ResponseCacheConfiguration.builder()
+                                        .resourceTimeToLive("/apps", Duration.ofMinutes(1))
+                                        .resourceTimeToLive("/stacks/{id}", Duration.ofMinutes(1))
+                                        .build()));
+    }
+
+    @Test
+    void fresh() {
+        mockGetStack(getStackResponse().header("ETag", "\"test-etag\"").build());
+
+        GetStackResponse first = getStack().block(Duration.ofSeconds(5));
+        GetStackResponse second = getStack().block(Duration.ofSeconds(5));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void invalidated() {
+        mockGetStack();
+        mockRequest(
+                TestRequest.builder().method(DELETE).path("/stacks/" + STACK_ID).build(),
+                TestResponse.builder().status(ACCEPTED).build());
+        mockGetStack();
+
+        GetStackResponse first = getStack().block(Duration.ofSeconds(5));
+
+        deleteStack().expectComplete().verify(Duration.ofSeconds(5));
+
+        assertThat(getStack().block(Duration.ofSeconds(5))).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void invalidatedByAction() {
+        ReactorApplicationsV3 applications =
+                new ReactorApplicationsV3(
+                        this.connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap());
+
+        mockGetApplication();
+        mockListApplications();
+        mockRequest(
+                TestRequest.builder()
+                        .method(POST)
+                        .path("/apps/test-application-id/actions/start")
+                        .build(),
+                TestResponse.builder()
+                        .status(OK)
+                        .payload("fixtures/client/v3/apps/POST_{id}_actions_start_response.json")
+                        .build());
+        mockGetApplication();
+        mockListApplications();
+
+        GetApplicationResponse application =
+                getApplication(applications).block(Duration.ofSeconds(5));
+        ListApplicationsResponse list = listApplications(applications).block(Duration.ofSeconds(5));
+
+        applications
+                .start(
+                        StartApplicationRequest.builder()
+                                .applicationId("test-application-id")
+                                .build())
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(getApplication(applications).block(Duration.ofSeconds(5)))
+                .isNotSameAs(application)
+                .isEqualTo(application);
+        assertThat(listApplications(applications).block(Duration.ofSeconds(5)))
+                .isNotSameAs(list)
+                .isEqualTo(list);
+    }
+
+    @Test
+    void notInvalidatedOnError() {
+        mockGetStack();
+        mockRequest(
+                TestRequest.builder().method(DELETE).path("/stacks/" + STACK_ID).build(),
+                TestResponse.builder()
+                        .status(BAD_REQUEST)
+                        .payload("fixtures/client/v3/error_response.json")
+                        .build());
+
+        GetStackResponse first = getStack().block(Duration.ofSeconds(5));
+
+        deleteStack().expectError().verify(Duration.ofSeconds(5));
+
+        assertThat(getStack().block(Duration.ofSeconds(5))).isSameAs(first);
+    }
+
+    @Test
+    void notModified() {
+        DefaultConnectionContext revalidatingConnectionContext =
+                connectionContextBuilder()
+                        .responseCacheConfiguration(ResponseCacheConfiguration.builder().build())
+                        .build();
+
+        ReactorStacksV3 stacks = stacks(revalidatingConnectionContext, TOKEN_PROVIDER);
+
+        mockGetStack(getStackResponse().header("ETag", "\"test-etag\"").build());
+        mockRequest(
+                getStackRequest().header("If-None-Match", "\"test-etag\"").build(),
+                TestResponse.builder().status(NOT_MODIFIED).build());
+
+        try {
+            AtomicReference<GetStackResponse> first = new AtomicReference<>();
+
+            getStack(stacks)
+                    .doOnNext(first::set)
+                    .then(getStack(stacks))
+                    .as(StepVerifier::create)
+                    .consumeNextWith(second -> assertThat(second).isSameAs(first.get()))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            revalidatingConnectionContext.dispose();
+        }
+    }
+
+    @Test
+    void sharedBetweenTokensOfUser() throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        PrivateKey privateKey = keyPairGenerator.generateKeyPair().getPrivate();
+
+        ReactorStacksV3 stacks =
+                stacks(
+                        this.connectionContext,
+                        connectionContext ->
+                                Mono.fromSupplier(
+                                        () ->
+                                                "bearer "
+                                                        + Jwts.builder()
+                                                                .claim("user_id", "test-user-id")
+                                                                .id(UUID.randomUUID().toString())
+                                                                .signWith(privateKey)
+                                                                .compact()));
+
+        mockGetStack();
+
+        GetStackResponse first = getStack(stacks).block(Duration.ofSeconds(5));
+
+        getStack(stacks)
+                .as(StepVerifier::create)
+                .consumeNextWith(second -> assertThat(second).isSameAs(first))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static Mono<GetApplicationResponse> getApplication(ReactorApplicationsV3 applications) {
+        return applications.get(
+                GetApplicationRequest.builder().applicationId("test-application-id").build());
+    }
+
+    private static Mono<ListApplicationsResponse> listApplications(
+            ReactorApplicationsV3 applications) {
+        return applications.list(ListApplicationsRequest.builder().name("test-name").build());
+    }
+
+    private StepVerifier.FirstStep<Void> deleteStack() {
+        return this.stacks
+                .delete(DeleteStackRequest.builder().stackId(STACK_ID).build())
+                .as(StepVerifier::create);
+    }
+
+    private void mockGetApplication() {
+        mockRequest(
+                TestRequest.builder().method(GET).path("/apps/test-application-id").build(),
+                TestResponse.builder()
+                        .status(OK)
+                        .payload("fixtures/client/v3/apps/GET_{id}_response.json")
+                        .build());
+    }
+
+    private void mockListApplications() {
+        mockRequest(
+                TestRequest.builder().method(GET).path("/apps?names=test-name").build(),
+                TestResponse.builder()
+                        .status(OK)
+                        .payload("fixtures/client/v3/apps/GET_response.json")
+                        .build());
+    }
+}
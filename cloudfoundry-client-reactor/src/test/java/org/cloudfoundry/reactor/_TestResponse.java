@@ -24,8 +24,10 @@ import org.immutables.value.Value;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Value.Immutable
 abstract class _TestResponse {
@@ -34,6 +36,11 @@ abstract class _TestResponse {
 
     abstract Optional<String> getContentType();
 
+    /**
+     * The time that the response headers are delayed by, e.g. to keep a request in flight
+     */
+    abstract Optional<Duration> getHeadersDelay();
+
     @AllowNulls
     abstract Map<String, String> getHeaders();
 
@@ -41,6 +48,7 @@ abstract class _TestResponse {
         MockResponse response = new MockResponse().setResponseCode(getStatus().code());
 
         getHeaders().forEach(response::addHeader);
+        getHeadersDelay().ifPresent(delay -> response.setHeadersDelay(delay.toMillis(), TimeUnit.MILLISECONDS));
 
         getPayload()
             .map(_TestResponse::getBuffer)
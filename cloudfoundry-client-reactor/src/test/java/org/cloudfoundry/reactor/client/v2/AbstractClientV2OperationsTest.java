@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client.v2;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
+import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
+import org.cloudfoundry.client.v2.stacks.StackResource;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.TestRequest;
+import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.AbstractClientApiTest;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class AbstractClientV2OperationsTest extends AbstractClientApiTest {
+
+    private final StacksOperations stacks =
+            new StacksOperations(CONNECTION_CONTEXT, this.root, TOKEN_PROVIDER);
+
+    @Test
+    void getResources() {
+        mockRequest(
+                InteractionContext.builder()
+                        .request(TestRequest.builder().method(GET).path("/stacks?page=1").build())
+                        .response(
+                                TestResponse.builder()
+                                        .status(OK)
+                                        .payload("fixtures/client/v2/stacks/GET_response.json")
+                                        .build())
+                        .build());
+
+        AtomicReference<ListStacksResponse> remainder = new AtomicReference<>();
+
+        this.stacks
+                .list(ListStacksRequest.builder().page(1).build(), remainder::set)
+                .map(resource -> resource.getEntity().getName())
+                .as(StepVerifier::create)
+                .expectNext("cflinuxfs2", "default-stack-name", "cider")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(remainder.get().getResources()).isNull();
+        assertThat(remainder.get().getTotalPages()).isEqualTo(1);
+        assertThat(remainder.get().getTotalResults()).isEqualTo(3);
+    }
+
+    private static final class StacksOperations extends AbstractClientV2Operations {
+
+        private StacksOperations(
+                ConnectionContext connectionContext,
+                Mono<String> root,
+                TokenProvider tokenProvider) {
+            super(connectionContext, root, tokenProvider, Collections.emptyMap());
+        }
+
+        private Flux<StackResource> list(
+                ListStacksRequest request, Consumer<ListStacksResponse> paginationConsumer) {
+            return getResources(
+                    request,
+                    ListStacksResponse.class,
+                    paginationConsumer,
+                    builder -> builder.pathSegment("stacks"));
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.tokenprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.PersistentCacheConfiguration;
+import org.cloudfoundry.reactor.RootProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class AbstractUaaTokenProviderTest {
+
+    private static final KeyPair KEY_PAIR = getKeyPair();
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+
+    private final DefaultConnectionContext connectionContext =
+            DefaultConnectionContext.builder()
+                    .apiHost(this.mockWebServer.getHostName())
+                    .port(this.mockWebServer.getPort())
+                    .rootProvider(new FixedRootProvider(this.mockWebServer.url("/").toString()))
+                    .secure(false)
+                    .build();
+
+    @AfterEach
+    void shutdown() throws IOException {
+        this.connectionContext.dispose();
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void invalidateRejectedTokenOnce() throws InterruptedException {
+        String first = accessToken("first", Duration.ofHours(1));
+        String second = accessToken("second", Duration.ofHours(1));
+        this.mockWebServer.enqueue(tokenResponse(first, "refresh-first"));
+        this.mockWebServer.enqueue(tokenResponse(second, "refresh-second"));
+
+        RefreshTokenGrantTokenProvider tokenProvider =
+                RefreshTokenGrantTokenProvider.builder().token("refresh-initial").build();
+
+        tokenProvider
+                .getToken(this.connectionContext)
+                .as(StepVerifier::create)
+                .expectNext("bearer " + first)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        tokenProvider.invalidate(this.connectionContext, "bearer " + first);
+        tokenProvider.invalidate(this.connectionContext, "bearer " + first);
+
+        tokenProvider
+                .getToken(this.connectionContext)
+                .as(StepVerifier::create)
+                .expectNext("bearer " + second)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        tokenProvider.invalidate(this.connectionContext, "bearer " + first);
+
+        tokenProvider
+                .getToken(this.connectionContext)
+                .as(StepVerifier::create)
+                .expectNext("bearer " + second)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(2);
+        assertThat(this.mockWebServer.takeRequest().getBody().readUtf8())
+                .contains("refresh_token=refresh-initial");
+        assertThat(this.mockWebServer.takeRequest().getBody().readUtf8())
+                .contains("refresh_token=refresh-first");
+    }
+
+    @Test
+    void oneTimePasscodeNotPersisted(@TempDir Path directory) throws InterruptedException {
+        String first = accessToken("first", Duration.ofHours(1));
+        String second = accessToken("second", Duration.ofHours(1));
+        this.mockWebServer.enqueue(tokenResponse(first, "refresh-first"));
+        this.mockWebServer.enqueue(tokenResponse(second, "refresh-second"));
+
+        for (String expected : new String[] {first, second}) {
+            DefaultConnectionContext connectionContext =
+                    DefaultConnectionContext.builder()
+                            .from(this.connectionContext)
+                            .persistentCacheConfiguration(
+                                    PersistentCacheConfiguration.builder()
+                                            .directory(directory)
+                                            .build())
+                            .build();
+
+            try {
+                OneTimePasscodeTokenProvider.builder()
+                        .passcode("test-passcode")
+                        .build()
+                        .getToken(connectionContext)
+                        .as(StepVerifier::create)
+                        .expectNext("bearer " + expected)
+                        .expectComplete()
+                        .verify(Duration.ofSeconds(5));
+            } finally {
+                connectionContext.dispose();
+            }
+        }
+
+        assertThat(this.mockWebServer.takeRequest().getBody().readUtf8())
+                .contains("passcode=test-passcode");
+        assertThat(this.mockWebServer.takeRequest().getBody().readUtf8())
+                .contains("passcode=test-passcode");
+    }
+
+    @Test
+    void persistedRefreshToken(@TempDir Path directory) throws InterruptedException {
+        String first = accessToken("first", Duration.ofHours(1));
+        String second = accessToken("second", Duration.ofHours(1));
+        this.mockWebServer.enqueue(tokenResponse(first, "refresh-first"));
+        this.mockWebServer.enqueue(tokenResponse(second, "refresh-second"));
+
+        for (String expected : new String[] {first, second}) {
+            DefaultConnectionContext connectionContext =
+                    DefaultConnectionContext.builder()
+                            .from(this.connectionContext)
+                            .persistentCacheConfiguration(
+                                    PersistentCacheConfiguration.builder()
+                                            .directory(directory)
+                                            .build())
+                            .build();
+
+            try {
+                PasswordGrantTokenProvider.builder()
+                        .password("test-password")
+                        .username("test-username")
+                        .build()
+                        .getToken(connectionContext)
+                        .as(StepVerifier::create)
+                        .expectNext("bearer " + expected)
+                        .expectComplete()
+                        .verify(Duration.ofSeconds(5));
+            } finally {
+                connectionContext.dispose();
+            }
+        }
+
+        assertThat(this.mockWebServer.takeRequest().getBody().readUtf8())
+                .contains("grant_type=password");
+        assertThat(this.mockWebServer.takeRequest().getBody().readUtf8())
+                .contains("grant_type=refresh_token")
+                .contains("refresh_token=refresh-first");
+    }
+
+    @Test
+    void renewAheadOfExpiry() {
+        String first = accessToken("first", Duration.ofSeconds(63));
+        String second = accessToken("second", Duration.ofHours(1));
+        this.mockWebServer.enqueue(tokenResponse(first, null));
+        this.mockWebServer.enqueue(tokenResponse(second, null));
+
+        ClientCredentialsGrantTokenProvider tokenProvider =
+                ClientCredentialsGrantTokenProvider.builder()
+                        .clientId("test-client-id")
+                        .clientSecret("test-client-secret")
+                        .tokenRefreshLeadTime(Duration.ofMinutes(1))
+                        .build();
+
+        tokenProvider
+                .getToken(this.connectionContext)
+                .as(StepVerifier::create)
+                .expectNext("bearer " + first)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Mono.defer(() -> tokenProvider.getToken(this.connectionContext))
+                .filter(token -> token.equals("bearer " + second))
+                .repeatWhenEmpty(
+                        attempts -> attempts.delayElements(Duration.ofMillis(100)).take(100))
+                .as(StepVerifier::create)
+                .expectNext("bearer " + second)
+                .expectComplete()
+                .verify(Duration.ofSeconds(15));
+
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void renewOnlyWhileRequested() throws InterruptedException {
+        String first = accessToken("first", Duration.ofSeconds(62));
+        this.mockWebServer.enqueue(tokenResponse(first, null));
+
+        ClientCredentialsGrantTokenProvider tokenProvider =
+                ClientCredentialsGrantTokenProvider.builder()
+                        .clientId("test-client-id")
+                        .clientSecret("test-client-secret")
+                        .tokenRefreshLeadTime(Duration.ofMinutes(1))
+                        .build();
+
+        tokenProvider
+                .getToken(this.connectionContext)
+                .as(StepVerifier::create)
+                .expectNext("bearer " + first)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Thread.sleep(3_000);
+
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    private static String accessToken(String subject, Duration validity) {
+        Instant now = Instant.now();
+
+        return Jwts.builder()
+                .expiration(Date.from(now.plus(validity)))
+                .issuedAt(Date.from(now))
+                .subject(subject)
+                .signWith(KEY_PAIR.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private static KeyPair getKeyPair() {
+        try {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            return keyPairGenerator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockResponse tokenResponse(String accessToken, String refreshToken) {
+        StringBuilder payload =
+                new StringBuilder("{\"token_type\":\"bearer\",\"access_token\":\"")
+                        .append(accessToken)
+                        .append('"');
+
+        if (refreshToken != null) {
+            payload.append(",\"refresh_token\":\"").append(refreshToken).append('"');
+        }
+
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(payload.append('}').toString());
+    }
+
+    private static final class FixedRootProvider implements RootProvider {
+
+        private final String root;
+
+        private FixedRootProvider(String root) {
+            this.root = root;
+        }
+
+        @Override
+        public Mono<String> getRoot(ConnectionContext connectionContext) {
+            return Mono.just(this.root);
+        }
+
+        @Override
+        public Mono<String> getRoot(String key, ConnectionContext connectionContext) {
+            return Mono.just(this.root);
+        }
+    }
+}
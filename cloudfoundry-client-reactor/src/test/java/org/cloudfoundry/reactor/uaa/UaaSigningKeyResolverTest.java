@@ -16,21 +16,17 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.impl.DefaultClaims;
-import io.jsonwebtoken.impl.DefaultJwsHeader;
-import io.jsonwebtoken.impl.security.AbstractJwk;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.time.Duration;
 import java.util.Base64;
-import java.util.HashMap;
 import org.cloudfoundry.uaa.tokens.KeyType;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
@@ -38,6 +34,7 @@ import org.cloudfoundry.uaa.tokens.TokenKey;
 import org.cloudfoundry.uaa.tokens.Tokens;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 final class UaaSigningKeyResolverTest {
 
@@ -65,13 +62,15 @@ final class UaaSigningKeyResolverTest {
                                                         .build())
                                         .build()));
 
-        HashMap<String, String> params = new HashMap<>();
-        params.put(AbstractJwk.KID.getId(), "test-key-id");
-        DefaultJwsHeader header = new DefaultJwsHeader(params);
-        Claims claims = new DefaultClaims(new HashMap<>());
+        this.signingKeyResolver
+                .getKey("test-key-id")
+                .then(this.signingKeyResolver.getKey("test-key-id"))
+                .as(StepVerifier::create)
+                .expectNext(publicKey)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
 
-        this.signingKeyResolver.resolveSigningKey(header, claims);
-        assertThat(this.signingKeyResolver.resolveSigningKey(header, claims)).isNotNull();
+        verify(this.tokens, times(1)).listKeys(ListTokenKeysRequest.builder().build());
     }
 
     @Test
@@ -94,29 +93,24 @@ final class UaaSigningKeyResolverTest {
                                                         .build())
                                         .build()));
 
-        HashMap<String, String> params = new HashMap<>();
-        params.put(AbstractJwk.KID.getId(), "test-key-id");
-        DefaultJwsHeader header = new DefaultJwsHeader(params);
-        Claims claims = new DefaultClaims(new HashMap<>());
-
-        assertThat(this.signingKeyResolver.resolveSigningKey(header, claims)).isNotNull();
+        this.signingKeyResolver
+                .getKey("test-key-id")
+                .as(StepVerifier::create)
+                .expectNext(publicKey)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
     }
 
     @Test
     void resolveUnknownKey() {
-        assertThrows(
-                IllegalStateException.class,
-                () -> {
-                    when(this.tokens.listKeys(ListTokenKeysRequest.builder().build()))
-                            .thenReturn(Mono.just(ListTokenKeysResponse.builder().build()));
-
-                    HashMap<String, String> params = new HashMap<>();
-                    params.put(AbstractJwk.KID.getId(), "test-key-id");
-                    DefaultJwsHeader header = new DefaultJwsHeader(params);
-                    Claims claims = new DefaultClaims(new HashMap<>());
-
-                    this.signingKeyResolver.resolveSigningKey(header, claims);
-                });
+        when(this.tokens.listKeys(ListTokenKeysRequest.builder().build()))
+                .thenReturn(Mono.just(ListTokenKeysResponse.builder().build()));
+
+        this.signingKeyResolver
+                .getKey("test-key-id")
+                .as(StepVerifier::create)
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
     }
 
     private static String getEncoded(PublicKey publicKey) {
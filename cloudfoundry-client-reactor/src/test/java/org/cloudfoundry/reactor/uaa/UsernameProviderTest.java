@@ -18,14 +18,12 @@ package org.cloudfoundry.reactor.uaa;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.SigningKeyResolver;
 import io.jsonwebtoken.impl.DefaultJwsHeader;
 import io.jsonwebtoken.impl.security.AbstractJwk;
 import java.security.KeyPair;
@@ -35,9 +33,15 @@ import java.security.PrivateKey;
 import java.sql.Date;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.HashMap;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.uaa.tokens.KeyType;
+import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
+import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
+import org.cloudfoundry.uaa.tokens.TokenKey;
+import org.cloudfoundry.uaa.tokens.Tokens;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -46,20 +50,41 @@ final class UsernameProviderTest {
 
     private final ConnectionContext connectionContext = mock(ConnectionContext.class);
 
-    private final SigningKeyResolver signingKeyResolver = mock(SigningKeyResolver.class);
-
     private final TokenProvider tokenProvider = mock(TokenProvider.class);
 
+    private final Tokens tokens = mock(Tokens.class);
+
     private final UsernameProvider usernameProvider =
-            new UsernameProvider(
-                    this.connectionContext, this.signingKeyResolver, this.tokenProvider);
+            new UsernameProvider(this.connectionContext, this.tokenProvider, this.tokens);
+
+    @Test
+    void getCachedToken() throws NoSuchAlgorithmException {
+        KeyPair keyPair = getKeyPair();
+        requestKeys(keyPair);
+
+        String token =
+                String.format(
+                        "bearer %s",
+                        getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
+        when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(token));
+
+        for (int i = 0; i < 2; i++) {
+            this.usernameProvider
+                    .get()
+                    .as(StepVerifier::create)
+                    .expectNext("test-username")
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(1));
+        }
+
+        verify(this.tokens, times(1)).listKeys(any(ListTokenKeysRequest.class));
+    }
 
     @SuppressWarnings("unchecked")
     @Test
     void getInvalidToken() throws NoSuchAlgorithmException {
         KeyPair keyPair = getKeyPair();
-        when(this.signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class)))
-                .thenReturn(keyPair.getPublic());
+        requestKeys(keyPair);
 
         String invalidToken =
                 String.format(
@@ -85,8 +110,7 @@ final class UsernameProviderTest {
     @Test
     void getValidToken() throws NoSuchAlgorithmException {
         KeyPair keyPair = getKeyPair();
-        when(this.signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class)))
-                .thenReturn(keyPair.getPublic());
+        requestKeys(keyPair);
 
         String token =
                 String.format(
@@ -115,6 +139,34 @@ final class UsernameProviderTest {
                 .compact();
     }
 
+    private void requestKeys(KeyPair keyPair) {
+        when(this.tokens.listKeys(any(ListTokenKeysRequest.class)))
+                .thenReturn(
+                        Mono.just(
+                                ListTokenKeysResponse.builder()
+                                        .key(
+                                                TokenKey.builder()
+                                                        .algorithm("RS256")
+                                                        .e("AQAB")
+                                                        .id("test-key-id")
+                                                        .keyType(KeyType.RSA)
+                                                        .n("test-modulus")
+                                                        .use("sig")
+                                                        .value(
+                                                                String.format(
+                                                                        "-----BEGIN PUBLIC"
+                                                                                + " KEY-----\n"
+                                                                                + "%s\n"
+                                                                                + "-----END PUBLIC"
+                                                                                + " KEY-----",
+                                                                        Base64.getMimeEncoder()
+                                                                                .encodeToString(
+                                                                                        keyPair.getPublic()
+                                                                                                .getEncoded())))
+                                                        .build())
+                                        .build()));
+    }
+
     private KeyPair getKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
         keyPairGenerator.initialize(2048);
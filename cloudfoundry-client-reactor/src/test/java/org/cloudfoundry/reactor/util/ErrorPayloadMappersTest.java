@@ -18,10 +18,13 @@ package org.cloudfoundry.reactor.util;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -279,6 +282,30 @@ final class ErrorPayloadMappersTest {
                 .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    void fallbackClientError() {
+        when(this.connection.inbound()).thenReturn(this.inbound);
+        when(this.inbound.receive())
+                .thenReturn(ByteBufFlux.fromString(Flux.just("Resource ", "Not Found")));
+        when(this.response.status()).thenReturn(NOT_FOUND);
+        HttpClientResponseWithConnection responseWithConnection =
+                buildResponseWithConnection(this.connection);
+
+        Flux.just(responseWithConnection)
+                .transform(ErrorPayloadMappers.fallback())
+                .as(StepVerifier::create)
+                .consumeErrorWith(
+                        t ->
+                                assertThat(t)
+                                        .isInstanceOf(UnknownCloudFoundryException.class)
+                                        .extracting("statusCode", "payload")
+                                        .containsExactly(NOT_FOUND.code(), "Resource Not Found"))
+                .verify(Duration.ofSeconds(1));
+
+        verify(this.connection, never()).channel();
+        verify(this.connection, never()).dispose();
+    }
+
     @Test
     void uaaBadPayload() throws IOException {
         when(this.connection.inbound()).thenReturn(this.inbound);
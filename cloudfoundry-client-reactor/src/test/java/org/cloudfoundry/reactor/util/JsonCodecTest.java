@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cloudfoundry.client.v3.stacks.CreateStackRequest;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.NettyOutbound;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.test.StepVerifier;
+
+final class JsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JavaType mapType =
+            this.objectMapper.constructType(new TypeReference<Map<String, Object>>() {});
+
+    @Test
+    void decodeElements() {
+        List<JsonNode> remainders = new ArrayList<>();
+
+        JsonCodec.<Map<String, Object>, JsonNode>decodeElements(
+                        this.objectMapper,
+                        chunks(
+                                "{\"pagination\":{\"total_pages\":2},\"reso",
+                                "urces\":[{\"name\":\"al",
+                                "pha\",\"tags\":[{}]},",
+                                "{\"name\":\"bravo\"}],\"links\":{}}"),
+                        JsonNode.class,
+                        "resources",
+                        this.mapType,
+                        remainders::add)
+                .map(resource -> resource.get("name"))
+                .as(StepVerifier::create)
+                .expectNext("alpha", "bravo")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(remainders).hasSize(1);
+        assertThat(remainders.get(0).has("resources")).isFalse();
+        assertThat(remainders.get(0).has("links")).isTrue();
+        assertThat(remainders.get(0).at("/pagination/total_pages").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void decodeEmpty() {
+        JsonCodec.decode(this.objectMapper, ByteBufFlux.fromInbound(Flux.empty()), this.mapType)
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void decodeInvalid() {
+        JsonCodec.decode(this.objectMapper, chunks("{\"alpha\" ", "\"bravo\"}"), this.mapType)
+                .as(StepVerifier::create)
+                .consumeErrorWith(
+                        t ->
+                                assertThat(t)
+                                        .isInstanceOf(JsonParsingException.class)
+                                        .extracting("payload")
+                                        .isEqualTo("{\"alpha\" \"bravo\"}"))
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void decodeSplitTokens() {
+        JsonCodec.<Map<String, Object>>decode(
+                        this.objectMapper,
+                        chunks("{\"al", "pha\":\"bra", "vo\",\"charlie\":[1,", "2", "3]}"),
+                        this.mapType)
+                .as(StepVerifier::create)
+                .consumeNextWith(
+                        payload ->
+                                assertThat(payload)
+                                        .containsEntry("alpha", "bravo")
+                                        .containsEntry("charlie", Arrays.asList(1, 23)))
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void encodeAllocatesBodyWhenSent() {
+        AtomicReference<Publisher<ByteBuf>> body = new AtomicReference<>();
+        HttpClientRequest request = mock(HttpClientRequest.class, RETURNS_SMART_NULLS);
+        NettyOutbound outbound = mock(NettyOutbound.class, RETURNS_SMART_NULLS);
+        NettyOutbound sending = mock(NettyOutbound.class, RETURNS_SMART_NULLS);
+
+        when(outbound.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(outbound.send(any()))
+                .thenAnswer(
+                        invocation -> {
+                            body.set(invocation.getArgument(0));
+                            return sending;
+                        });
+        when(sending.then()).thenReturn(Mono.empty());
+
+        Mono.from(
+                        JsonCodec.encode(
+                                        this.objectMapper,
+                                        CreateStackRequest.builder().name("test-name").build())
+                                .apply(request, outbound))
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        verify(outbound, never()).alloc();
+
+        ByteBuf sent = Mono.from(body.get()).block(Duration.ofSeconds(1));
+        try {
+            assertThat(sent.toString(StandardCharsets.UTF_8)).contains("\"name\":\"test-name\"");
+            verify(request)
+                    .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(sent.readableBytes()));
+        } finally {
+            sent.release();
+        }
+    }
+
+    private static ByteBufFlux chunks(String... chunks) {
+        return ByteBufFlux.fromString(Flux.just(chunks));
+    }
+}
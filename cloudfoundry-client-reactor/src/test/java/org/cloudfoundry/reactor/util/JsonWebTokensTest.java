@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import org.junit.jupiter.api.Test;
+
+final class JsonWebTokensTest {
+
+    @Test
+    void getClaims() throws NoSuchAlgorithmException {
+        String token =
+                Jwts.builder()
+                        .subject("test-subject")
+                        .signWith(getKeyPair().getPrivate(), Jwts.SIG.RS256)
+                        .compact();
+
+        assertThat(JsonWebTokens.getClaims(token))
+                .map(claims -> claims.get("sub").asText())
+                .hasValue("test-subject");
+    }
+
+    @Test
+    void getHeader() throws NoSuchAlgorithmException {
+        String token =
+                Jwts.builder()
+                        .header()
+                        .keyId("test-key-id")
+                        .and()
+                        .subject("test-subject")
+                        .signWith(getKeyPair().getPrivate(), Jwts.SIG.RS256)
+                        .compact();
+
+        assertThat(JsonWebTokens.getHeader(token))
+                .map(header -> header.get("kid").asText())
+                .hasValue("test-key-id");
+    }
+
+    @Test
+    void notJwt() {
+        assertThat(JsonWebTokens.getClaims(null)).isEmpty();
+        assertThat(JsonWebTokens.getClaims("test-token")).isEmpty();
+        assertThat(JsonWebTokens.getClaims("test.token")).isEmpty();
+        assertThat(JsonWebTokens.getHeader("test-token.test-token.test-token")).isEmpty();
+    }
+
+    private static KeyPair getKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        return keyPairGenerator.generateKeyPair();
+    }
+}
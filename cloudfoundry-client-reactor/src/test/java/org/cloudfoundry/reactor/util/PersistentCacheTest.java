@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.cloudfoundry.reactor.PersistentCacheConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class PersistentCacheTest {
+
+    @TempDir Path directory;
+
+    @Test
+    void expired() {
+        PersistentCache cache = cache();
+
+        cache.put("test-key", "test-value", Instant.now().minusSeconds(1));
+
+        assertThat(cache.get("test-key", String.class)).isEmpty();
+    }
+
+    @Test
+    void putAndGet() throws IOException {
+        PersistentCache cache = cache();
+
+        cache.put("test-key", Collections.singletonMap("alpha", "bravo"));
+
+        assertThat(cache.get("test-key", Map.class))
+                .hasValue(Collections.singletonMap("alpha", "bravo"));
+        assertThat(cache(this.directory).get("test-key", Map.class)).isPresent();
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Path cacheDirectory = this.directory.resolve("cache");
+
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDirectory)))
+                    .isEqualTo("rwx------");
+            try (Stream<Path> files = Files.list(cacheDirectory)) {
+                assertThat(files)
+                        .singleElement()
+                        .satisfies(
+                                file ->
+                                        assertThat(
+                                                        PosixFilePermissions.toString(
+                                                                Files.getPosixFilePermissions(
+                                                                        file)))
+                                                .isEqualTo("rw-------"));
+            }
+        }
+    }
+
+    @Test
+    void unreadable() throws IOException {
+        PersistentCache cache = cache();
+        cache.put("test-key", "test-value");
+
+        try (Stream<Path> files = Files.list(this.directory.resolve("cache"))) {
+            Files.write(files.findFirst().get(), "not-json".getBytes());
+        }
+
+        assertThat(cache.get("test-key", String.class)).isEmpty();
+    }
+
+    private PersistentCache cache() {
+        return cache(this.directory);
+    }
+
+    private static PersistentCache cache(Path directory) {
+        return new PersistentCache(
+                PersistentCacheConfiguration.builder()
+                        .directory(directory.resolve("cache"))
+                        .build());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+final class RequestUriBuilderTest {
+
+    @Test
+    void host() {
+        RequestUriBuilder builder = RequestUriBuilder.fromUriString("https://uaa.test:8443/");
+
+        assertThat(
+                        builder.host("zone." + builder.getHost())
+                                .pathSegment("oauth", "token")
+                                .toUriString())
+                .isEqualTo("https://zone.uaa.test:8443/oauth/token");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void fromUriComponentsTransformer() {
+        String root = "https://api.test/v3/";
+        Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer =
+                builder -> {
+                    builder.pathSegment("apps", "test id");
+                    UriQueryParameters.set(
+                            builder,
+                            Stream.of(
+                                    UriQueryParameter.of("names", "alpha,bravo"),
+                                    UriQueryParameter.of("label_selector", "env in (a=b)")));
+                    return builder;
+                };
+
+        RequestUriBuilder builder =
+                RequestUriBuilder.fromUriComponentsTransformer(uriTransformer)
+                        .apply(RequestUriBuilder.fromUriString(root));
+
+        assertThat(builder.toUriString())
+                .isEqualTo(
+                        uriTransformer
+                                .apply(UriComponentsBuilder.fromUriString(root))
+                                .encode()
+                                .build()
+                                .toUriString());
+        assertThat(builder.getPath()).isEqualTo("/v3/apps/test%20id");
+    }
+
+    @Test
+    void getPathTemplate() {
+        RequestUriBuilder builder =
+                RequestUriBuilder.fromUriString("https://uaa.test/")
+                        .pathSegment("oauth", "clients")
+                        .pathVariable("test-client-id")
+                        .pathSegment("secret");
+
+        assertThat(builder.getPath()).isEqualTo("/oauth/clients/test-client-id/secret");
+        assertThat(builder.getPathTemplate()).isEqualTo("/oauth/clients/{id}/secret");
+    }
+
+    @Test
+    void getPathTemplateLiteralSegments() {
+        assertThat(
+                        RequestUriBuilder.fromUriString("https://api.test")
+                                .pathSegment("v2", "apps", "0b4f6d26-0b2a-4ad5-95a1-cf38e3e08c47")
+                                .getPathTemplate())
+                .isEqualTo("/v2/apps/0b4f6d26-0b2a-4ad5-95a1-cf38e3e08c47");
+    }
+
+    @Test
+    void rootCache() {
+        RequestRootCache rootCache = new RequestRootCache();
+
+        assertThat(rootCache.fromUriString("https://api.test/v3").pathSegment("apps").toUriString())
+                .isEqualTo("https://api.test/v3/apps");
+        assertThat(
+                        rootCache
+                                .fromUriString("https://api.test/v3")
+                                .pathSegment("spaces")
+                                .toUriString())
+                .isEqualTo("https://api.test/v3/spaces");
+    }
+
+    @Test
+    void matchesUriComponentsBuilder() {
+        String root = "https://api.test/v3/";
+
+        assertThat(
+                        RequestUriBuilder.fromUriString(root)
+                                .pathSegment("apps", "", "test id ä/b", "env")
+                                .queryParam("names", "alpha,bravo")
+                                .queryParamStrict("label_selector", "env in (a=b)")
+                                .queryParam("names", "charlie")
+                                .queryParam("flag")
+                                .toUriString())
+                .isEqualTo(
+                        UriComponentsBuilder.fromUriString(root)
+                                .pathSegment("apps", "", "test id ä/b", "env")
+                                .queryParam("names", "alpha,bravo")
+                                .queryParam("label_selector", "{label_selector}")
+                                .queryParam("names", "charlie")
+                                .queryParam("flag")
+                                .encode()
+                                .buildAndExpand("env in (a=b)")
+                                .toUriString());
+    }
+}
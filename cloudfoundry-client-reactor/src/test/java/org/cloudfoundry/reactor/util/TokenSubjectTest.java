@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+final class TokenSubjectTest {
+
+    private final KeyPair keyPair = getKeyPair();
+
+    @Test
+    void clientToken() {
+        String token =
+                Jwts.builder()
+                        .subject("test-client-id")
+                        .signWith(this.keyPair.getPrivate())
+                        .compact();
+
+        assertThat(TokenSubject.of("bearer " + token)).isEqualTo("test-client-id");
+    }
+
+    @Test
+    void notJwt() {
+        assertThat(TokenSubject.of("bearer test-token")).isEqualTo("bearer test-token");
+    }
+
+    @Test
+    void userTokens() {
+        assertThat(TokenSubject.of("bearer " + getToken("test-user-id"))).isEqualTo("test-user-id");
+        assertThat(TokenSubject.of("bearer " + getToken("test-user-id"))).isEqualTo("test-user-id");
+        assertThat(TokenSubject.of("bearer " + getToken("other-user-id")))
+                .isEqualTo("other-user-id");
+    }
+
+    private static KeyPair getKeyPair() {
+        try {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            return keyPairGenerator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getToken(String userId) {
+        return Jwts.builder()
+                .claim("user_id", userId)
+                .id(UUID.randomUUID().toString())
+                .subject(userId)
+                .signWith(this.keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.client.v3.auditevents;
 
+import org.cloudfoundry.Nullable;
 import org.cloudfoundry.client.v3.FilterParameter;
 import org.cloudfoundry.client.v3.PaginatedRequest;
 import org.immutables.value.Value;
@@ -28,6 +29,20 @@ import java.util.List;
 @Value.Immutable
 abstract class _ListAuditEventsRequest extends PaginatedRequest {
 
+    /**
+     * The timestamp before which, exclusive, events were created
+     */
+    @FilterParameter("created_ats[lt]")
+    @Nullable
+    abstract String getCreatedAtsBefore();
+
+    /**
+     * The timestamp from which, inclusive, events were created
+     */
+    @FilterParameter("created_ats[gte]")
+    @Nullable
+    abstract String getCreatedAtsFrom();
+
     /**
      * The organization ids
      */
@@ -34,6 +34,8 @@ class ListAuditEventsRequestTest {
     @Test
     void valid() {
         ListAuditEventsRequest.builder()
+                .createdAtsBefore("2016-06-08T17:00:00Z")
+                .createdAtsFrom("2016-06-08T16:00:00Z")
                 .organizationIds("organization-id-1", "organization-id-2")
                 .type("test-type")
                 .orderBy("nothing")
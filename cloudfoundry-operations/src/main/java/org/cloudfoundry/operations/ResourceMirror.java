@@ -0,0 +1,778 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.Application;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.GetApplicationRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.AuditEventTarget;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsRequest;
+import org.cloudfoundry.client.v3.domains.Domain;
+import org.cloudfoundry.client.v3.domains.DomainResource;
+import org.cloudfoundry.client.v3.domains.ListDomainsRequest;
+import org.cloudfoundry.client.v3.organizations.GetOrganizationRequest;
+import org.cloudfoundry.client.v3.organizations.ListOrganizationsRequest;
+import org.cloudfoundry.client.v3.organizations.Organization;
+import org.cloudfoundry.client.v3.organizations.OrganizationResource;
+import org.cloudfoundry.client.v3.routes.GetRouteRequest;
+import org.cloudfoundry.client.v3.routes.ListRoutesRequest;
+import org.cloudfoundry.client.v3.routes.Route;
+import org.cloudfoundry.client.v3.routes.RouteResource;
+import org.cloudfoundry.client.v3.serviceinstances.GetServiceInstanceRequest;
+import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesRequest;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstance;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v3.spaces.GetSpaceRequest;
+import org.cloudfoundry.client.v3.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v3.spaces.Space;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
+import org.cloudfoundry.util.AdaptivePageSize;
+import org.cloudfoundry.util.AuditEventUtils;
+import org.cloudfoundry.util.PaginationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * An in-memory mirror of a foundation's organizations, spaces, applications, routes, domains, and service instances, indexed by id and by parent id and name
+ * so that names can be resolved to ids without listing collections.  The mirror is bootstrapped by listing every collection concurrently, kept current by
+ * tailing audit events and refreshing each changed resource, and reconciled by listing every collection again periodically to catch changes that audit events
+ * do not cover (e.g. domains).  Lookups are therefore eventually consistent with the foundation: callers should confirm a mirrored id with a request for the
+ * resource by id, checking that it still has the expected name, and fall back to listing when a lookup misses or the confirmation fails.  The operations in
+ * this module follow that policy for every mirrored id they use.  Callers that change resources themselves should {@link #invalidate(Type, String)
+ * invalidate} them, so that lookups do not return stale ids until the change has been mirrored.
+ */
+public final class ResourceMirror implements Disposable {
+
+    private static final List<String> AUDIT_EVENT_TYPES =
+            Arrays.asList(
+                    "audit.app.create",
+                    "audit.app.delete-request",
+                    "audit.app.update",
+                    "audit.organization.create",
+                    "audit.organization.delete-request",
+                    "audit.organization.update",
+                    "audit.route.create",
+                    "audit.route.delete-request",
+                    "audit.route.update",
+                    "audit.service_instance.create",
+                    "audit.service_instance.delete",
+                    "audit.service_instance.update",
+                    "audit.space.create",
+                    "audit.space.delete-request",
+                    "audit.space.update",
+                    "audit.user_provided_service_instance.create",
+                    "audit.user_provided_service_instance.delete",
+                    "audit.user_provided_service_instance.update");
+
+    private static final Duration DEFAULT_RECONCILIATION_INTERVAL = Duration.ofMinutes(15);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.operations");
+
+    private static final Duration MAXIMUM_BACKOFF = Duration.ofMinutes(1);
+
+    private static final Duration MINIMUM_BACKOFF = Duration.ofSeconds(1);
+
+    private static final int NOT_FOUND = 404;
+
+    private final CloudFoundryClient cloudFoundryClient;
+
+    private final Map<Type, AdaptivePageSize> pageSizes = createPageSizes();
+
+    private final Duration reconciliationInterval;
+
+    private final Disposable.Swap subscription = Disposables.swap();
+
+    private volatile Map<Type, Index> indexes = createIndexes();
+
+    private Reconciliation reconciliation;
+
+    private volatile Instant watermark;
+
+    /**
+     * Creates a new instance, reconciled every 15 minutes
+     *
+     * @param cloudFoundryClient the client to mirror resources from
+     */
+    public ResourceMirror(CloudFoundryClient cloudFoundryClient) {
+        this(cloudFoundryClient, DEFAULT_RECONCILIATION_INTERVAL);
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param cloudFoundryClient     the client to mirror resources from
+     * @param reconciliationInterval the interval between full listings of every collection
+     */
+    public ResourceMirror(CloudFoundryClient cloudFoundryClient, Duration reconciliationInterval) {
+        this.cloudFoundryClient = cloudFoundryClient;
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
+    @Override
+    public void dispose() {
+        this.subscription.dispose();
+    }
+
+    /**
+     * Returns the id of an application
+     *
+     * @param spaceId     the id of the space containing the application
+     * @param application the name of the application
+     * @return the id of the application, if mirrored
+     */
+    public Optional<String> getApplicationId(String spaceId, String application) {
+        return getId(Type.APPLICATION, spaceId, application);
+    }
+
+    /**
+     * Returns the id of a domain
+     *
+     * @param domain the name of the domain
+     * @return the id of the domain, if mirrored
+     */
+    public Optional<String> getDomainId(String domain) {
+        return getId(Type.DOMAIN, null, domain);
+    }
+
+    /**
+     * Removes a resource from the mirror, typically once the caller has deleted or renamed it, so that lookups fall back to requests until the change has been
+     * mirrored
+     *
+     * @param type the type of the resource
+     * @param id   the id of the resource
+     */
+    public void invalidate(Type type, String id) {
+        remove(type, id);
+    }
+
+    /**
+     * Returns the id of a resource
+     *
+     * @param type     the type of the resource
+     * @param parentId the id of the parent of the resource: the space of an application or service instance, the organization of a space, or the domain of a
+     *                 route.  {@code null} for organizations and domains.
+     * @param name     the name of the resource
+     * @return the id of the resource, if mirrored
+     */
+    public Optional<String> getId(Type type, String parentId, String name) {
+        return Optional.ofNullable(this.indexes.get(type).getId(parentId, name));
+    }
+
+    /**
+     * Returns the name of a resource
+     *
+     * @param type the type of the resource
+     * @param id   the id of the resource
+     * @return the name of the resource, if mirrored
+     */
+    public Optional<String> getName(Type type, String id) {
+        return Optional.ofNullable(this.indexes.get(type).get(id)).map(entry -> entry.name);
+    }
+
+    /**
+     * Returns the id of an organization
+     *
+     * @param organization the name of the organization
+     * @return the id of the organization, if mirrored
+     */
+    public Optional<String> getOrganizationId(String organization) {
+        return getId(Type.ORGANIZATION, null, organization);
+    }
+
+    /**
+     * Returns the id of the parent of a resource
+     *
+     * @param type the type of the resource
+     * @param id   the id of the resource
+     * @return the id of the parent of the resource, if mirrored and the resource has a parent
+     */
+    public Optional<String> getParentId(Type type, String id) {
+        return Optional.ofNullable(this.indexes.get(type).get(id)).map(entry -> entry.parentId);
+    }
+
+    /**
+     * Returns the id of a route
+     *
+     * @param domainId the id of the domain of the route
+     * @param host     the host of the route
+     * @param path     the path of the route
+     * @param port     the port of the route, or {@code null} for HTTP routes
+     * @return the id of the route, if mirrored
+     */
+    public Optional<String> getRouteId(String domainId, String host, String path, Integer port) {
+        return getId(Type.ROUTE, domainId, getRouteName(host, path, port));
+    }
+
+    /**
+     * Returns the id of a service instance
+     *
+     * @param spaceId         the id of the space containing the service instance
+     * @param serviceInstance the name of the service instance
+     * @return the id of the service instance, if mirrored
+     */
+    public Optional<String> getServiceInstanceId(String spaceId, String serviceInstance) {
+        return getId(Type.SERVICE_INSTANCE, spaceId, serviceInstance);
+    }
+
+    /**
+     * Returns the id of a space
+     *
+     * @param organizationId the id of the organization containing the space
+     * @param space          the name of the space
+     * @return the id of the space, if mirrored
+     */
+    public Optional<String> getSpaceId(String organizationId, String space) {
+        return getId(Type.SPACE, organizationId, space);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return this.subscription.isDisposed();
+    }
+
+    /**
+     * Returns the number of mirrored resources of a type
+     *
+     * @param type the type of the resources
+     * @return the number of mirrored resources
+     */
+    public int size(Type type) {
+        return this.indexes.get(type).size();
+    }
+
+    /**
+     * Bootstraps the mirror and then keeps it current until disposed
+     *
+     * @return {@code onComplete} once the mirror has been bootstrapped
+     */
+    public Mono<Void> start() {
+        return Mono.defer(
+                () -> {
+                    this.watermark = Instant.now();
+
+                    return reconcile()
+                            .doOnSuccess(
+                                    v ->
+                                            this.subscription.update(
+                                                    Mono.when(tail(), reconcilePeriodically())
+                                                            .subscribe(
+                                                                    null,
+                                                                    t ->
+                                                                            LOGGER.error(
+                                                                                    "Resource"
+                                                                                        + " mirror"
+                                                                                        + " stopped",
+                                                                                    t))));
+                });
+    }
+
+    private static Map<Type, Index> createIndexes() {
+        Map<Type, Index> indexes = new EnumMap<>(Type.class);
+
+        for (Type type : Type.values()) {
+            indexes.put(type, new Index());
+        }
+
+        return Collections.unmodifiableMap(indexes);
+    }
+
+    private static Map<Type, AdaptivePageSize> createPageSizes() {
+        Map<Type, AdaptivePageSize> pageSizes = new EnumMap<>(Type.class);
+
+        for (Type type : Type.values()) {
+            pageSizes.put(type, new AdaptivePageSize());
+        }
+
+        return Collections.unmodifiableMap(pageSizes);
+    }
+
+    private static String getRelationshipId(ToOneRelationship relationship) {
+        if (relationship == null || relationship.getData() == null) {
+            return null;
+        }
+
+        return relationship.getData().getId();
+    }
+
+    private static String getRouteName(String host, String path, Integer port) {
+        StringBuilder name = new StringBuilder();
+
+        if (host != null) {
+            name.append(host);
+        }
+
+        if (path != null) {
+            name.append(path);
+        }
+
+        if (port != null) {
+            name.append(':').append(port);
+        }
+
+        return name.toString();
+    }
+
+    private static boolean isDelete(String type) {
+        return type.endsWith(".delete") || type.endsWith(".delete-request");
+    }
+
+    private static boolean isNotFound(Throwable t) {
+        return t instanceof ClientV3Exception
+                && ((ClientV3Exception) t).getStatusCode() == NOT_FOUND;
+    }
+
+    private static Entry toEntry(Application application) {
+        return new Entry(
+                Type.APPLICATION,
+                application.getId(),
+                getRelationshipId(application.getRelationships().getSpace()),
+                application.getName());
+    }
+
+    private static Entry toEntry(Domain domain) {
+        return new Entry(Type.DOMAIN, domain.getId(), null, domain.getName());
+    }
+
+    private static Entry toEntry(Organization organization) {
+        return new Entry(Type.ORGANIZATION, organization.getId(), null, organization.getName());
+    }
+
+    private static Entry toEntry(Route route) {
+        return new Entry(
+                Type.ROUTE,
+                route.getId(),
+                getRelationshipId(route.getRelationships().getDomain()),
+                getRouteName(route.getHost(), route.getPath(), route.getPort()));
+    }
+
+    private static Entry toEntry(ServiceInstance serviceInstance) {
+        return new Entry(
+                Type.SERVICE_INSTANCE,
+                serviceInstance.getId(),
+                getRelationshipId(serviceInstance.getRelationships().getSpace()),
+                serviceInstance.getName());
+    }
+
+    private static Entry toEntry(Space space) {
+        return new Entry(
+                Type.SPACE,
+                space.getId(),
+                getRelationshipId(space.getRelationships().getOrganization()),
+                space.getName());
+    }
+
+    // domains have no audit events and are only refreshed by reconciliation
+    private static Type toType(String targetType) {
+        switch (targetType) {
+            case "app":
+                return Type.APPLICATION;
+            case "organization":
+                return Type.ORGANIZATION;
+            case "route":
+                return Type.ROUTE;
+            case "service_instance":
+            case "user_provided_service_instance":
+                return Type.SERVICE_INSTANCE;
+            case "space":
+                return Type.SPACE;
+            default:
+                return null;
+        }
+    }
+
+    private Mono<Void> apply(AuditEventResource event) {
+        AuditEventTarget target = event.getAuditEventTarget();
+        if (target == null || event.getType() == null) {
+            return Mono.empty();
+        }
+
+        Type type = toType(target.getType());
+        if (type == null) {
+            return Mono.empty();
+        }
+
+        if (isDelete(event.getType())) {
+            return Mono.fromRunnable(() -> remove(type, target.getId()));
+        }
+
+        return requestEntry(type, target.getId())
+                .doOnNext(this::put)
+                .onErrorResume(
+                        ResourceMirror::isNotFound,
+                        t -> Mono.fromRunnable(() -> remove(type, target.getId())))
+                .then();
+    }
+
+    private synchronized void put(Entry entry) {
+        this.indexes.get(entry.type).put(entry);
+
+        if (this.reconciliation != null) {
+            this.reconciliation.put(entry);
+        }
+    }
+
+    // changes made while the collections are being listed are made to the listing too, and take
+    // precedence over the listed resources, which may have been listed before the change
+    private Mono<Void> reconcile() {
+        return Mono.defer(
+                () -> {
+                    Reconciliation reconciliation = startReconciliation();
+
+                    return Flux.merge(
+                                    requestApplications().map(ResourceMirror::toEntry),
+                                    requestDomains().map(ResourceMirror::toEntry),
+                                    requestOrganizations().map(ResourceMirror::toEntry),
+                                    requestRoutes().map(ResourceMirror::toEntry),
+                                    requestServiceInstances().map(ResourceMirror::toEntry),
+                                    requestSpaces().map(ResourceMirror::toEntry))
+                            .doOnNext(entry -> reconcile(reconciliation, entry))
+                            .then(Mono.fromRunnable(() -> stopReconciliation(reconciliation, true)))
+                            .doFinally(signal -> stopReconciliation(reconciliation, false))
+                            .then();
+                });
+    }
+
+    private synchronized void reconcile(Reconciliation reconciliation, Entry entry) {
+        reconciliation.list(entry);
+    }
+
+    private Mono<Void> reconcilePeriodically() {
+        return Flux.interval(this.reconciliationInterval, this.reconciliationInterval)
+                .onBackpressureDrop()
+                .concatMap(
+                        i ->
+                                reconcile()
+                                        .onErrorResume(
+                                                t -> {
+                                                    LOGGER.warn(
+                                                            "Unable to reconcile resource mirror",
+                                                            t);
+                                                    return Mono.empty();
+                                                }))
+                .then();
+    }
+
+    private synchronized void remove(Type type, String id) {
+        this.indexes.get(type).remove(id);
+
+        if (this.reconciliation != null) {
+            this.reconciliation.remove(type, id);
+        }
+    }
+
+    private Flux<ApplicationResource> requestApplications() {
+        return PaginationUtils.requestClientV3Resources(
+                this.pageSizes.get(Type.APPLICATION),
+                (page, perPage) ->
+                        this.cloudFoundryClient
+                                .applicationsV3()
+                                .list(
+                                        ListApplicationsRequest.builder()
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private Flux<DomainResource> requestDomains() {
+        return PaginationUtils.requestClientV3Resources(
+                this.pageSizes.get(Type.DOMAIN),
+                (page, perPage) ->
+                        this.cloudFoundryClient
+                                .domainsV3()
+                                .list(
+                                        ListDomainsRequest.builder()
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private Mono<Entry> requestEntry(Type type, String id) {
+        switch (type) {
+            case APPLICATION:
+                return this.cloudFoundryClient
+                        .applicationsV3()
+                        .get(GetApplicationRequest.builder().applicationId(id).build())
+                        .map(ResourceMirror::toEntry);
+            case ORGANIZATION:
+                return this.cloudFoundryClient
+                        .organizationsV3()
+                        .get(GetOrganizationRequest.builder().organizationId(id).build())
+                        .map(ResourceMirror::toEntry);
+            case ROUTE:
+                return this.cloudFoundryClient
+                        .routesV3()
+                        .get(GetRouteRequest.builder().routeId(id).build())
+                        .map(ResourceMirror::toEntry);
+            case SERVICE_INSTANCE:
+                return this.cloudFoundryClient
+                        .serviceInstancesV3()
+                        .get(GetServiceInstanceRequest.builder().serviceInstanceId(id).build())
+                        .map(ResourceMirror::toEntry);
+            case SPACE:
+                return this.cloudFoundryClient
+                        .spacesV3()
+                        .get(GetSpaceRequest.builder().spaceId(id).build())
+                        .map(ResourceMirror::toEntry);
+            default:
+                return Mono.empty();
+        }
+    }
+
+    private Flux<OrganizationResource> requestOrganizations() {
+        return PaginationUtils.requestClientV3Resources(
+                this.pageSizes.get(Type.ORGANIZATION),
+                (page, perPage) ->
+                        this.cloudFoundryClient
+                                .organizationsV3()
+                                .list(
+                                        ListOrganizationsRequest.builder()
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private Flux<RouteResource> requestRoutes() {
+        return PaginationUtils.requestClientV3Resources(
+                this.pageSizes.get(Type.ROUTE),
+                (page, perPage) ->
+                        this.cloudFoundryClient
+                                .routesV3()
+                                .list(
+                                        ListRoutesRequest.builder()
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private Flux<ServiceInstanceResource> requestServiceInstances() {
+        return PaginationUtils.requestClientV3Resources(
+                this.pageSizes.get(Type.SERVICE_INSTANCE),
+                (page, perPage) ->
+                        this.cloudFoundryClient
+                                .serviceInstancesV3()
+                                .list(
+                                        ListServiceInstancesRequest.builder()
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private Flux<SpaceResource> requestSpaces() {
+        return PaginationUtils.requestClientV3Resources(
+                this.pageSizes.get(Type.SPACE),
+                (page, perPage) ->
+                        this.cloudFoundryClient
+                                .spacesV3()
+                                .list(
+                                        ListSpacesRequest.builder()
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private synchronized Reconciliation startReconciliation() {
+        this.reconciliation = new Reconciliation();
+        return this.reconciliation;
+    }
+
+    private synchronized void stopReconciliation(Reconciliation reconciliation, boolean complete) {
+        if (this.reconciliation != reconciliation) {
+            return;
+        }
+
+        if (complete) {
+            this.indexes = reconciliation.indexes;
+        }
+
+        this.reconciliation = null;
+    }
+
+    private Mono<Void> tail() {
+        ListAuditEventsRequest request =
+                ListAuditEventsRequest.builder().types(AUDIT_EVENT_TYPES).build();
+
+        return Flux.defer(
+                        () ->
+                                AuditEventUtils.tail(
+                                        this.cloudFoundryClient, request, this.watermark))
+                .concatMap(
+                        event ->
+                                apply(event)
+                                        .doOnSuccess(
+                                                v ->
+                                                        this.watermark =
+                                                                Instant.parse(
+                                                                        event.getCreatedAt())))
+                .retryWhen(
+                        Retry.backoff(Long.MAX_VALUE, MINIMUM_BACKOFF)
+                                .maxBackoff(MAXIMUM_BACKOFF)
+                                .doBeforeRetry(
+                                        signal ->
+                                                LOGGER.warn(
+                                                        "Unable to tail audit events for resource"
+                                                                + " mirror",
+                                                        signal.failure())))
+                .then();
+    }
+
+    /**
+     * The types of mirrored resources
+     */
+    public enum Type {
+
+        /**
+         * Applications, whose parent is a space
+         */
+        APPLICATION,
+
+        /**
+         * Domains, which have no parent.  The Cloud Controller does not record audit events for domains, so they are only refreshed by reconciliation.
+         */
+        DOMAIN,
+
+        /**
+         * Organizations, which have no parent
+         */
+        ORGANIZATION,
+
+        /**
+         * Routes, whose parent is a domain and whose name is the host, path, and port
+         */
+        ROUTE,
+
+        /**
+         * Service instances, whose parent is a space
+         */
+        SERVICE_INSTANCE,
+
+        /**
+         * Spaces, whose parent is an organization
+         */
+        SPACE
+    }
+
+    private static final class Entry {
+
+        private final String id;
+
+        private final String name;
+
+        private final String parentId;
+
+        private final Type type;
+
+        private Entry(Type type, String id, String parentId, String name) {
+            this.id = id;
+            this.name = name;
+            this.parentId = parentId;
+            this.type = type;
+        }
+
+        private String getKey() {
+            return getKey(this.parentId, this.name);
+        }
+
+        private static String getKey(String parentId, String name) {
+            return (parentId != null ? parentId : "") + '/' + name;
+        }
+    }
+
+    private static final class Reconciliation {
+
+        private final Map<Type, Index> indexes = createIndexes();
+
+        private final Set<String> touched = new HashSet<>();
+
+        private void list(Entry entry) {
+            if (!this.touched.contains(getKey(entry.type, entry.id))) {
+                this.indexes.get(entry.type).put(entry);
+            }
+        }
+
+        private void put(Entry entry) {
+            this.touched.add(getKey(entry.type, entry.id));
+            this.indexes.get(entry.type).put(entry);
+        }
+
+        private void remove(Type type, String id) {
+            this.touched.add(getKey(type, id));
+            this.indexes.get(type).remove(id);
+        }
+
+        private static String getKey(Type type, String id) {
+            return type + "/" + id;
+        }
+    }
+
+    private static final class Index {
+
+        private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+
+        private final Map<String, String> byParentAndName = new ConcurrentHashMap<>();
+
+        private Entry get(String id) {
+            return this.byId.get(id);
+        }
+
+        private String getId(String parentId, String name) {
+            return this.byParentAndName.get(Entry.getKey(parentId, name));
+        }
+
+        private void put(Entry entry) {
+            Entry previous = this.byId.put(entry.id, entry);
+
+            if (previous != null) {
+                this.byParentAndName.remove(previous.getKey(), previous.id);
+            }
+
+            this.byParentAndName.put(entry.getKey(), entry.id);
+        }
+
+        private void remove(String id) {
+            Entry previous = this.byId.remove(id);
+
+            if (previous != null) {
+                this.byParentAndName.remove(previous.getKey(), id);
+            }
+        }
+
+        private int size() {
+            return this.byId.size();
+        }
+    }
+}
@@ -18,8 +18,11 @@ package org.cloudfoundry.operations;
 
 import org.cloudfoundry.Nullable;
 import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.organizations.GetOrganizationRequest;
 import org.cloudfoundry.client.v3.organizations.ListOrganizationsRequest;
 import org.cloudfoundry.client.v3.organizations.OrganizationResource;
+import org.cloudfoundry.client.v3.spaces.GetSpaceRequest;
 import org.cloudfoundry.client.v3.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v3.spaces.SpaceResource;
 import org.cloudfoundry.doppler.DopplerClient;
@@ -64,6 +67,7 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * The default implementation of the {@link CloudFoundryOperations} interface
@@ -71,6 +75,8 @@ import java.util.Optional;
 @Value.Immutable
 abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations {
 
+    private static final int NOT_FOUND = 404;
+
     @Override
     @Value.Derived
     public Advanced advanced() {
@@ -80,7 +86,7 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Applications applications() {
-        return new DefaultApplications(getCloudFoundryClientPublisher(), getDopplerClientPublisher(), getLogCacheClientPublisher(), getSpaceId());
+        return new DefaultApplications(getCloudFoundryClientPublisher(), getDopplerClientPublisher(), getLogCacheClientPublisher(), getSpaceId(), getResourceMirror());
     }
 
     @Override
@@ -235,8 +241,10 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
         String organization = getOrganization();
 
         if (hasText(organization)) {
-            Mono<String> cached = getOrganization(getCloudFoundryClientPublisher(), organization)
-                .map(OrganizationResource::getId);
+            Mono<String> cached = getMirroredId(mirror -> mirror.getOrganizationId(organization))
+                .filterWhen(organizationId -> isOrganization(getCloudFoundryClientPublisher(), organizationId, organization))
+                .switchIfEmpty(getOrganization(getCloudFoundryClientPublisher(), organization)
+                    .map(OrganizationResource::getId));
 
             return getCacheDuration()
                 .map(cached::cache)
@@ -246,6 +254,12 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
         }
     }
 
+    /**
+     * The {@link ResourceMirror} to resolve names to ids from before falling back to requests.  The mirror must be started by the caller.
+     */
+    @Nullable
+    abstract ResourceMirror getResourceMirror();
+
     /**
      * The {@link RoutingClient} to use for operations functionality
      */
@@ -271,8 +285,10 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
 
         if (hasText(getSpace())) {
             Mono<String> cached = getOrganizationId()
-                .flatMap(organizationId -> getSpace(getCloudFoundryClientPublisher(), organizationId, space))
-                .map(SpaceResource::getId);
+                .flatMap(organizationId -> getMirroredId(mirror -> mirror.getSpaceId(organizationId, space))
+                    .filterWhen(spaceId -> isSpace(getCloudFoundryClientPublisher(), spaceId, space))
+                    .switchIfEmpty(getSpace(getCloudFoundryClientPublisher(), organizationId, space)
+                        .map(SpaceResource::getId)));
 
             return getCacheDuration()
                 .map(cached::cache)
@@ -330,6 +346,31 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
         return false;
     }
 
+    private static boolean isNotFound(Throwable t) {
+        return t instanceof ClientV3Exception && ((ClientV3Exception) t).getStatusCode() == NOT_FOUND;
+    }
+
+    // the mirror is eventually consistent, so a mirrored id is only used once it has been confirmed to still name the resource
+    private static Mono<Boolean> isOrganization(Mono<CloudFoundryClient> cloudFoundryClientPublisher, String organizationId, String organization) {
+        return cloudFoundryClientPublisher
+            .flatMap(cloudFoundryClient -> cloudFoundryClient.organizationsV3()
+                .get(GetOrganizationRequest.builder()
+                    .organizationId(organizationId)
+                    .build()))
+            .map(response -> organization.equals(response.getName()))
+            .onErrorResume(_DefaultCloudFoundryOperations::isNotFound, t -> Mono.just(false));
+    }
+
+    private static Mono<Boolean> isSpace(Mono<CloudFoundryClient> cloudFoundryClientPublisher, String spaceId, String space) {
+        return cloudFoundryClientPublisher
+            .flatMap(cloudFoundryClient -> cloudFoundryClient.spacesV3()
+                .get(GetSpaceRequest.builder()
+                    .spaceId(spaceId)
+                    .build()))
+            .map(response -> space.equals(response.getName()))
+            .onErrorResume(_DefaultCloudFoundryOperations::isNotFound, t -> Mono.just(false));
+    }
+
     private static Flux<OrganizationResource> requestOrganizations(Mono<CloudFoundryClient> cloudFoundryClientPublisher, String organization) {
         return cloudFoundryClientPublisher
             .flatMapMany(cloudFoundryClient -> PaginationUtils
@@ -351,4 +392,9 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
                         .build())));
     }
 
+    private Mono<String> getMirroredId(Function<ResourceMirror, Optional<String>> lookup) {
+        return Mono.defer(() -> Mono.justOrEmpty(Optional.ofNullable(getResourceMirror())
+            .flatMap(lookup)));
+    }
+
 }
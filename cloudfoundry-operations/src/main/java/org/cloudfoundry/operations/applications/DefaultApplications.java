@@ -105,6 +105,7 @@ import org.cloudfoundry.client.v2.stacks.GetStackResponse;
 import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
 import org.cloudfoundry.client.v2.stacks.StackResource;
 import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.client.v3.Lifecycle;
 import org.cloudfoundry.client.v3.Relationship;
 import org.cloudfoundry.client.v3.Resource;
@@ -157,6 +158,7 @@ import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.logcache.v1.EnvelopeBatch;
 import org.cloudfoundry.logcache.v1.LogCacheClient;
 import org.cloudfoundry.logcache.v1.ReadRequest;
+import org.cloudfoundry.operations.ResourceMirror;
 import org.cloudfoundry.operations.util.OperationsLogging;
 import org.cloudfoundry.util.DateUtils;
 import org.cloudfoundry.util.DelayTimeoutException;
@@ -211,6 +213,8 @@ public final class DefaultApplications implements Applications {
 
     private static final int MAX_NUMBER_OF_RECENT_EVENTS = 50;
 
+    private static final int NOT_FOUND = 404;
+
     private static final String STARTED_STATE = "STARTED";
 
     private static final String STOPPED_STATE = "STOPPED";
@@ -225,6 +229,8 @@ public final class DefaultApplications implements Applications {
 
     private final RandomWords randomWords;
 
+    private final ResourceMirror resourceMirror;
+
     private final Mono<String> spaceId;
 
     public DefaultApplications(
@@ -232,7 +238,31 @@ public final class DefaultApplications implements Applications {
             Mono<DopplerClient> dopplerClient,
             Mono<LogCacheClient> logCacheClient,
             Mono<String> spaceId) {
-        this(cloudFoundryClient, dopplerClient, logCacheClient, new WordListRandomWords(), spaceId);
+        this(cloudFoundryClient, dopplerClient, logCacheClient, spaceId, null);
+    }
+
+    public DefaultApplications(
+            Mono<CloudFoundryClient> cloudFoundryClient,
+            Mono<DopplerClient> dopplerClient,
+            Mono<LogCacheClient> logCacheClient,
+            Mono<String> spaceId,
+            ResourceMirror resourceMirror) {
+        this(
+                cloudFoundryClient,
+                dopplerClient,
+                logCacheClient,
+                new WordListRandomWords(),
+                resourceMirror,
+                spaceId);
+    }
+
+    DefaultApplications(
+            Mono<CloudFoundryClient> cloudFoundryClient,
+            Mono<DopplerClient> dopplerClient,
+            Mono<LogCacheClient> logCacheClient,
+            RandomWords randomWords,
+            Mono<String> spaceId) {
+        this(cloudFoundryClient, dopplerClient, logCacheClient, randomWords, null, spaceId);
     }
 
     DefaultApplications(
@@ -240,11 +270,13 @@ public final class DefaultApplications implements Applications {
             Mono<DopplerClient> dopplerClient,
             Mono<LogCacheClient> logCacheClient,
             RandomWords randomWords,
+            ResourceMirror resourceMirror,
             Mono<String> spaceId) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.dopplerClient = dopplerClient;
         this.logCacheClient = logCacheClient;
         this.randomWords = randomWords;
+        this.resourceMirror = resourceMirror;
         this.spaceId = spaceId;
     }
 
@@ -256,7 +288,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId),
@@ -327,7 +359,11 @@ public final class DefaultApplications implements Applications {
                                                                 cloudFoundryClient,
                                                                 applicationId))))
                 .delayUntil(function(DefaultApplications::removeServiceBindings))
-                .flatMap(function(DefaultApplications::requestDeleteApplication))
+                .flatMap(
+                        function(
+                                (cloudFoundryClient, applicationId) ->
+                                        requestDeleteApplication(cloudFoundryClient, applicationId)
+                                                .doOnSuccess(v -> invalidateMirror(applicationId))))
                 .transform(OperationsLogging.log("Delete Application"))
                 .checkpoint();
     }
@@ -340,7 +376,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationIdV3(
+                                                resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -373,7 +409,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationIdV3(
+                                                resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -424,7 +460,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -460,7 +496,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationIdV3(
+                                                resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -478,7 +514,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -528,7 +564,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationIdV3(
+                                                resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -548,7 +584,7 @@ public final class DefaultApplications implements Applications {
                 .flatMap(
                         function(
                                 (cloudFoundryClient, spaceId) ->
-                                        getApplicationId(
+                                        resolveApplicationId(
                                                 cloudFoundryClient, request.getName(), spaceId)))
                 .flatMapMany(
                         applicationId ->
@@ -564,7 +600,7 @@ public final class DefaultApplications implements Applications {
                     .flatMap(
                             function(
                                     (cloudFoundryClient, spaceId) ->
-                                            getApplicationId(
+                                            resolveApplicationId(
                                                     cloudFoundryClient,
                                                     request.getName(),
                                                     spaceId)))
@@ -713,7 +749,7 @@ public final class DefaultApplications implements Applications {
                 .flatMap(
                         function(
                                 (cloudFoundryClient, spaceId, manifestApp) ->
-                                        getApplicationIdV3(
+                                        resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         manifestApp.getName(),
                                                         spaceId)
@@ -744,7 +780,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -752,9 +788,12 @@ public final class DefaultApplications implements Applications {
                         function(
                                 (cloudFoundryClient, applicationId) ->
                                         requestUpdateApplicationName(
-                                                cloudFoundryClient,
-                                                applicationId,
-                                                request.getNewName())))
+                                                        cloudFoundryClient,
+                                                        applicationId,
+                                                        request.getNewName())
+                                                .doOnSuccess(
+                                                        response ->
+                                                                invalidateMirror(applicationId))))
                 .then()
                 .transform(OperationsLogging.log("Rename Application"))
                 .checkpoint();
@@ -768,7 +807,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -825,7 +864,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -848,7 +887,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationIdV3(
+                                                resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         request.getApplicationName(),
                                                         spaceId))))
@@ -871,7 +910,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -938,7 +977,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationId(
+                                                resolveApplicationId(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -962,7 +1001,7 @@ public final class DefaultApplications implements Applications {
                                 (cloudFoundryClient, spaceId) ->
                                         Mono.zip(
                                                 Mono.just(cloudFoundryClient),
-                                                getApplicationIdV3(
+                                                resolveApplicationIdV3(
                                                         cloudFoundryClient,
                                                         request.getName(),
                                                         spaceId))))
@@ -1942,6 +1981,20 @@ public final class DefaultApplications implements Applications {
                 .orElse(null);
     }
 
+    // the mirror is eventually consistent, so a mirrored id is only used once it has been confirmed
+    // to still name the application
+    private static Mono<Boolean> isApplication(
+            CloudFoundryClient cloudFoundryClient, String applicationId, String application) {
+        return cloudFoundryClient
+                .applicationsV3()
+                .get(
+                        org.cloudfoundry.client.v3.applications.GetApplicationRequest.builder()
+                                .applicationId(applicationId)
+                                .build())
+                .map(response -> application.equals(response.getName()))
+                .onErrorResume(DefaultApplications::isNotFound, t -> Mono.just(false));
+    }
+
     private static boolean isIdentical(String s, String t) {
         return Objects.equals(s, t);
     }
@@ -1950,6 +2003,11 @@ public final class DefaultApplications implements Applications {
         return state -> "RUNNING".equals(state) || "FAILED".equals(state);
     }
 
+    private static boolean isNotFound(Throwable t) {
+        return t instanceof ClientV3Exception
+                && ((ClientV3Exception) t).getStatusCode() == NOT_FOUND;
+    }
+
     private static Predicate<AbstractApplicationResource> isNotIn(String expectedState) {
         return resource -> isNotIn(resource, expectedState);
     }
@@ -3465,4 +3523,45 @@ public final class DefaultApplications implements Applications {
                                         "Package %s timed out during upload processing",
                                         packageId));
     }
+
+    private Mono<String> getMirroredApplicationId(String application, String spaceId) {
+        return Mono.defer(
+                () ->
+                        Mono.justOrEmpty(
+                                Optional.ofNullable(this.resourceMirror)
+                                        .flatMap(
+                                                mirror ->
+                                                        mirror.getApplicationId(
+                                                                spaceId, application))));
+    }
+
+    private void invalidateMirror(String applicationId) {
+        if (this.resourceMirror != null) {
+            this.resourceMirror.invalidate(ResourceMirror.Type.APPLICATION, applicationId);
+        }
+    }
+
+    private Mono<String> resolveApplicationId(
+            CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
+        return getMirroredApplicationId(application, spaceId)
+                .filterWhen(
+                        applicationId ->
+                                isApplication(cloudFoundryClient, applicationId, application))
+                .switchIfEmpty(
+                        Mono.defer(
+                                () -> getApplicationId(cloudFoundryClient, application, spaceId)));
+    }
+
+    private Mono<String> resolveApplicationIdV3(
+            CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
+        return getMirroredApplicationId(application, spaceId)
+                .filterWhen(
+                        applicationId ->
+                                isApplication(cloudFoundryClient, applicationId, application))
+                .switchIfEmpty(
+                        Mono.defer(
+                                () ->
+                                        getApplicationIdV3(
+                                                cloudFoundryClient, application, spaceId)));
+    }
 }
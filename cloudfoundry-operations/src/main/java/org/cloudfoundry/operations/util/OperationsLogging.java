@@ -20,6 +20,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.cloudfoundry.util.TimeUtils;
+import org.cloudfoundry.util.TracingUtils;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
@@ -36,8 +37,10 @@ public final class OperationsLogging {
 
     @SuppressWarnings("unchecked")
     public static <T extends Publisher<U>, U> Function<T, T> log(String message) {
+        Function<T, T> trace = TracingUtils.trace(message);
+
         if (!LOGGER.isDebugEnabled()) {
-            return f -> f;
+            return trace;
         }
 
         AtomicLong startTimeHolder = new AtomicLong();
@@ -57,10 +60,10 @@ public final class OperationsLogging {
 
         return f -> {
             if (f instanceof Mono) {
-                return (T) ((Mono<U>) f).doOnSubscribe(start).doFinally(finish);
+                return trace.apply((T) ((Mono<U>) f).doOnSubscribe(start).doFinally(finish));
             }
             if (f instanceof Flux) {
-                return (T) ((Flux<U>) f).doOnSubscribe(start).doFinally(finish);
+                return trace.apply((T) ((Flux<U>) f).doOnSubscribe(start).doFinally(finish));
             } else {
                 return f;
             }
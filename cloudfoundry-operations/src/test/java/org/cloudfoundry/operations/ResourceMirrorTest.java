@@ -0,0 +1,305 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.LifecycleType;
+import org.cloudfoundry.client.v3.Pagination;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.ApplicationRelationships;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.GetApplicationResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.AuditEventTarget;
+import org.cloudfoundry.client.v3.auditevents.AuditEventsV3;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsResponse;
+import org.cloudfoundry.client.v3.domains.ListDomainsResponse;
+import org.cloudfoundry.client.v3.organizations.ListOrganizationsResponse;
+import org.cloudfoundry.client.v3.organizations.OrganizationResource;
+import org.cloudfoundry.client.v3.routes.ListRoutesResponse;
+import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesResponse;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstancesV3;
+import org.cloudfoundry.client.v3.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v3.spaces.SpaceRelationships;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+final class ResourceMirrorTest extends AbstractOperationsTest {
+
+    private final AuditEventsV3 auditEventsV3 = mock(AuditEventsV3.class, RETURNS_SMART_NULLS);
+
+    private final ServiceInstancesV3 serviceInstancesV3 =
+            mock(ServiceInstancesV3.class, RETURNS_SMART_NULLS);
+
+    private ResourceMirror resourceMirror;
+
+    @BeforeEach
+    void configureMirror() {
+        when(this.cloudFoundryClient.auditEventsV3()).thenReturn(this.auditEventsV3);
+        when(this.cloudFoundryClient.serviceInstancesV3()).thenReturn(this.serviceInstancesV3);
+
+        requestListApplications();
+        requestListDomains();
+        requestListOrganizations();
+        requestListRoutes();
+        requestListServiceInstances();
+        requestListSpaces();
+
+        this.resourceMirror = new ResourceMirror(this.cloudFoundryClient, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void disposeMirror() {
+        this.resourceMirror.dispose();
+    }
+
+    @Test
+    void invalidate() {
+        requestListAuditEvents();
+
+        this.resourceMirror.start().block(Duration.ofSeconds(5));
+        this.resourceMirror.invalidate(ResourceMirror.Type.APPLICATION, "test-application-id");
+
+        assertThat(this.resourceMirror.getApplicationId(TEST_SPACE_ID, "test-application-name"))
+                .isEmpty();
+    }
+
+    @Test
+    void reconcileKeepsChangesMadeWhileListing() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        ResourceMirror resourceMirror =
+                new ResourceMirror(this.cloudFoundryClient, Duration.ofMinutes(1));
+
+        try {
+            requestListAuditEvents();
+            resourceMirror.start().block(Duration.ofSeconds(5));
+
+            when(this.applicationsV3.list(any()))
+                    .thenReturn(
+                            Mono.just(
+                                            ListApplicationsResponse.builder()
+                                                    .resource(application("test-application-name"))
+                                                    .pagination(pagination())
+                                                    .build())
+                                    .delayElement(Duration.ofSeconds(10)));
+            requestListOrganizations("test-reconciled-organization-name");
+
+            scheduler.advanceTimeBy(Duration.ofMinutes(1));
+            resourceMirror.invalidate(ResourceMirror.Type.APPLICATION, "test-application-id");
+            scheduler.advanceTimeBy(Duration.ofSeconds(10));
+
+            assertThat(resourceMirror.getOrganizationId("test-reconciled-organization-name"))
+                    .hasValue(TEST_ORGANIZATION_ID);
+            assertThat(resourceMirror.getApplicationId(TEST_SPACE_ID, "test-application-name"))
+                    .isEmpty();
+        } finally {
+            resourceMirror.dispose();
+            VirtualTimeScheduler.reset();
+        }
+    }
+
+    @Test
+    void start() {
+        requestListAuditEvents();
+
+        this.resourceMirror.start().block(Duration.ofSeconds(5));
+
+        assertThat(this.resourceMirror.getOrganizationId(TEST_ORGANIZATION_NAME))
+                .hasValue(TEST_ORGANIZATION_ID);
+        assertThat(this.resourceMirror.getSpaceId(TEST_ORGANIZATION_ID, TEST_SPACE_NAME))
+                .hasValue(TEST_SPACE_ID);
+        assertThat(this.resourceMirror.getApplicationId(TEST_SPACE_ID, "test-application-name"))
+                .hasValue("test-application-id");
+        assertThat(this.resourceMirror.getApplicationId(TEST_SPACE_ID, "test-unknown-name"))
+                .isEmpty();
+        assertThat(
+                        this.resourceMirror.getParentId(
+                                ResourceMirror.Type.APPLICATION, "test-application-id"))
+                .hasValue(TEST_SPACE_ID);
+        assertThat(this.resourceMirror.size(ResourceMirror.Type.DOMAIN)).isZero();
+    }
+
+    @Test
+    void startAppliesAuditEvents() {
+        requestListAuditEvents(
+                auditEvent("audit.app.update", "test-application-id"),
+                auditEvent("audit.space.delete-request", TEST_SPACE_ID));
+        requestGetApplication();
+
+        this.resourceMirror.start().block(Duration.ofSeconds(5));
+
+        assertThat(this.resourceMirror.getApplicationId(TEST_SPACE_ID, "test-application-name"))
+                .isEmpty();
+        assertThat(this.resourceMirror.getApplicationId(TEST_SPACE_ID, "test-renamed-name"))
+                .hasValue("test-application-id");
+        assertThat(this.resourceMirror.getSpaceId(TEST_ORGANIZATION_ID, TEST_SPACE_NAME)).isEmpty();
+    }
+
+    private static ApplicationResource application(String name) {
+        return ApplicationResource.builder()
+                .createdAt("test-created-at")
+                .id("test-application-id")
+                .lifecycle(
+                        Lifecycle.builder()
+                                .data(BuildpackData.builder().buildpack("test-buildpack").build())
+                                .type(LifecycleType.BUILDPACK)
+                                .build())
+                .name(name)
+                .relationships(
+                        ApplicationRelationships.builder()
+                                .space(toOneRelationship(TEST_SPACE_ID))
+                                .build())
+                .state(ApplicationState.STOPPED)
+                .updatedAt("test-updated-at")
+                .build();
+    }
+
+    private static AuditEventResource auditEvent(String type, String targetId) {
+        return AuditEventResource.builder()
+                .id("test-audit-event-" + targetId)
+                .createdAt(Instant.now().plusSeconds(60).toString())
+                .type(type)
+                .auditEventTarget(
+                        AuditEventTarget.builder()
+                                .id(targetId)
+                                .name("test-target-name")
+                                .type(type.split("\\.")[1])
+                                .build())
+                .build();
+    }
+
+    private static Pagination pagination() {
+        return Pagination.builder().totalPages(1).totalResults(1).build();
+    }
+
+    private static ToOneRelationship toOneRelationship(String id) {
+        return ToOneRelationship.builder().data(Relationship.builder().id(id).build()).build();
+    }
+
+    private void requestGetApplication() {
+        ApplicationResource application = application("test-renamed-name");
+
+        when(this.applicationsV3.get(any()))
+                .thenReturn(Mono.just(GetApplicationResponse.builder().from(application).build()));
+    }
+
+    private void requestListApplications() {
+        when(this.applicationsV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListApplicationsResponse.builder()
+                                        .resource(application("test-application-name"))
+                                        .pagination(pagination())
+                                        .build()));
+    }
+
+    private void requestListAuditEvents(AuditEventResource... auditEvents) {
+        when(this.auditEventsV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListAuditEventsResponse.builder()
+                                        .resources(auditEvents)
+                                        .pagination(pagination())
+                                        .build()));
+    }
+
+    private void requestListDomains() {
+        when(this.domainsV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListDomainsResponse.builder()
+                                        .resources(Collections.emptyList())
+                                        .pagination(pagination())
+                                        .build()));
+    }
+
+    private void requestListOrganizations() {
+        requestListOrganizations(TEST_ORGANIZATION_NAME);
+    }
+
+    private void requestListOrganizations(String name) {
+        when(this.organizationsV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListOrganizationsResponse.builder()
+                                        .resource(
+                                                fill(OrganizationResource.builder())
+                                                        .id(TEST_ORGANIZATION_ID)
+                                                        .name(name)
+                                                        .build())
+                                        .pagination(pagination())
+                                        .build()));
+    }
+
+    private void requestListRoutes() {
+        when(this.routesV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListRoutesResponse.builder()
+                                        .resources(Collections.emptyList())
+                                        .pagination(pagination())
+                                        .build()));
+    }
+
+    private void requestListServiceInstances() {
+        when(this.serviceInstancesV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListServiceInstancesResponse.builder()
+                                        .resources(Collections.emptyList())
+                                        .pagination(pagination())
+                                        .build()));
+    }
+
+    private void requestListSpaces() {
+        when(this.spacesV3.list(any()))
+                .thenReturn(
+                        Mono.just(
+                                ListSpacesResponse.builder()
+                                        .resource(
+                                                fill(SpaceResource.builder())
+                                                        .id(TEST_SPACE_ID)
+                                                        .name(TEST_SPACE_NAME)
+                                                        .relationships(
+                                                                SpaceRelationships.builder()
+                                                                        .organization(
+                                                                                toOneRelationship(
+                                                                                        TEST_ORGANIZATION_ID))
+                                                                        .build())
+                                                        .build())
+                                        .pagination(pagination())
+                                        .build()));
+    }
+}
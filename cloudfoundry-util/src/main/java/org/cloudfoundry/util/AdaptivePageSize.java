@@ -0,0 +1,84 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * The page size used by {@link PaginationUtils#requestClientV3Resources(AdaptivePageSize, java.util.function.BiFunction)} to list an endpoint.  The page size
+ * starts at {@link PaginationUtils#MAX_PER_PAGE}, is halved when a page fails or is slow, and is doubled again once pages are served quickly.  Reusing an
+ * instance for every listing of the same endpoint lets later listings start at the page size the endpoint last served reliably, rather than failing at the
+ * maximum again.  So that a reused page size recovers once the endpoint does, a shrunk page size is also doubled for every
+ * {@link PaginationUtils#PAGE_SIZE_RECOVERY} since it was last shrunk.
+ */
+public final class AdaptivePageSize {
+
+    private final LongSupplier nanoTime;
+
+    private int fastPages;
+
+    private int perPage = PaginationUtils.MAX_PER_PAGE;
+
+    private long shrunkAt;
+
+    /**
+     * Creates a new instance
+     */
+    public AdaptivePageSize() {
+        this(System::nanoTime);
+    }
+
+    AdaptivePageSize(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    synchronized int get() {
+        if (this.perPage < PaginationUtils.MAX_PER_PAGE) {
+            long periods =
+                    (this.nanoTime.getAsLong() - this.shrunkAt)
+                            / PaginationUtils.PAGE_SIZE_RECOVERY.toNanos();
+
+            for (long i = 0; i < periods && this.perPage < PaginationUtils.MAX_PER_PAGE; i++) {
+                this.perPage = Math.min(this.perPage * 2, PaginationUtils.MAX_PER_PAGE);
+            }
+
+            if (periods > 0) {
+                this.shrunkAt = this.nanoTime.getAsLong();
+            }
+        }
+
+        return this.perPage;
+    }
+
+    synchronized void served(int perPage, Duration elapsed) {
+        if (elapsed.compareTo(PaginationUtils.SLOW_PAGE_THRESHOLD) > 0) {
+            shrink(perPage);
+        } else if (elapsed.compareTo(PaginationUtils.SLOW_PAGE_THRESHOLD.dividedBy(2)) >= 0) {
+            this.fastPages = 0;
+        } else if (++this.fastPages >= PaginationUtils.FAST_PAGES_BEFORE_GROWTH) {
+            this.fastPages = 0;
+            this.perPage = Math.min(this.perPage * 2, PaginationUtils.MAX_PER_PAGE);
+        }
+    }
+
+    synchronized void shrink(int perPage) {
+        this.fastPages = 0;
+        this.perPage = Math.min(this.perPage, Math.max(perPage / 2, PaginationUtils.MIN_PER_PAGE));
+        this.shrunkAt = this.nanoTime.getAsLong();
+    }
+}
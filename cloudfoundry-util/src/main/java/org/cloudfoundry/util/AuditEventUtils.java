@@ -0,0 +1,249 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Utilities for Audit Events
+ */
+public final class AuditEventUtils {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger("cloudfoundry-client.audit-events");
+
+    private static final int DEFAULT_DEDUPLICATION_CAPACITY = 10_000;
+
+    private static final Duration DEFAULT_MAXIMUM_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration DEFAULT_MINIMUM_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Duration DEFAULT_SAFETY_WINDOW = Duration.ofSeconds(30);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private AuditEventUtils() {}
+
+    /**
+     * Tails audit events, polling every 5 seconds while events are flowing and backing off to once a minute while idle.  Each poll overlaps the previous one by
+     * 30 seconds to catch events committed late, and the last 10,000 events are remembered so that overlapping events are not emitted twice.
+     *
+     * @param cloudFoundryClient the client to use to request audit events
+     * @param request            the request to filter audit events with, e.g. by type or target.  Its {@code created_ats}, paging, and ordering are replaced.
+     * @param since              the time from which to tail audit events
+     * @return an unbounded stream of audit events, in creation order
+     */
+    public static Flux<AuditEventResource> tail(
+            CloudFoundryClient cloudFoundryClient, ListAuditEventsRequest request, Instant since) {
+        return tail(
+                cloudFoundryClient,
+                request,
+                since,
+                DEFAULT_MINIMUM_INTERVAL,
+                DEFAULT_MAXIMUM_INTERVAL,
+                DEFAULT_SAFETY_WINDOW,
+                DEFAULT_DEDUPLICATION_CAPACITY);
+    }
+
+    /**
+     * Tails audit events.  Each poll requests only the events created since the latest event seen, less a safety window, and events already emitted are dropped
+     * by id.  The polling interval resets to the minimum whenever a poll returns new events and doubles, up to the maximum, whenever it does not.  A poll that
+     * fails transiently, with a server error, a rate limit, a timeout, or an I/O error, is retried with exponential backoff between the minimum and maximum
+     * intervals, resuming from the latest event seen.  Any other failure, e.g. an authentication or authorization failure, terminates the stream with that
+     * error.  State, including the page size carried over between polls, is held per subscription, so resubscribing tails again from {@code since}.
+     *
+     * @param cloudFoundryClient    the client to use to request audit events
+     * @param request               the request to filter audit events with, e.g. by type or target.  Its {@code created_ats}, paging, and ordering are replaced.
+     * @param since                 the time from which to tail audit events
+     * @param minimumInterval       the interval between polls while events are flowing
+     * @param maximumInterval       the interval between polls while idle
+     * @param safetyWindow          the amount each poll overlaps the latest event seen
+     * @param deduplicationCapacity the number of most recently seen event ids remembered to drop duplicates
+     * @return an unbounded stream of audit events, in creation order
+     */
+    public static Flux<AuditEventResource> tail(
+            CloudFoundryClient cloudFoundryClient,
+            ListAuditEventsRequest request,
+            Instant since,
+            Duration minimumInterval,
+            Duration maximumInterval,
+            Duration safetyWindow,
+            int deduplicationCapacity) {
+        return Flux.defer(
+                () -> {
+                    Watermark watermark =
+                            new Watermark(
+                                    since, minimumInterval, maximumInterval, deduplicationCapacity);
+                    AdaptivePageSize pageSize = new AdaptivePageSize();
+
+                    return Flux.defer(
+                                    () ->
+                                            requestAuditEvents(
+                                                    cloudFoundryClient,
+                                                    request,
+                                                    pageSize,
+                                                    watermark.getCreatedAt().minus(safetyWindow)))
+                            .filter(watermark::accept)
+                            .retryWhen(
+                                    Retry.backoff(Long.MAX_VALUE, minimumInterval)
+                                            .maxBackoff(maximumInterval)
+                                            .transientErrors(true)
+                                            .filter(AuditEventUtils::isTransient)
+                                            .doBeforeRetry(
+                                                    signal ->
+                                                            LOGGER.warn(
+                                                                    "Unable to poll audit events,"
+                                                                            + " retrying",
+                                                                    signal.failure())))
+                            .repeatWhen(
+                                    completions ->
+                                            completions.concatMap(
+                                                    completion ->
+                                                            Mono.delay(watermark.nextInterval())));
+                });
+    }
+
+    private static boolean isTransient(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClientV3Exception) {
+                int statusCode = ((ClientV3Exception) cause).getStatusCode();
+                return statusCode >= 500 || statusCode == TOO_MANY_REQUESTS;
+            }
+
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Flux<AuditEventResource> requestAuditEvents(
+            CloudFoundryClient cloudFoundryClient,
+            ListAuditEventsRequest request,
+            AdaptivePageSize pageSize,
+            Instant from) {
+        String createdAtsFrom =
+                DateTimeFormatter.ISO_INSTANT.format(from.truncatedTo(ChronoUnit.SECONDS));
+
+        return PaginationUtils.requestClientV3Resources(
+                pageSize,
+                (page, perPage) ->
+                        cloudFoundryClient
+                                .auditEventsV3()
+                                .list(
+                                        ListAuditEventsRequest.builder()
+                                                .from(request)
+                                                .createdAtsFrom(createdAtsFrom)
+                                                .orderBy("created_at")
+                                                .page(page)
+                                                .perPage(perPage)
+                                                .build()));
+    }
+
+    private static final class Watermark {
+
+        private final Duration maximumInterval;
+
+        private final Duration minimumInterval;
+
+        private final Map<String, Boolean> seen;
+
+        private final Instant since;
+
+        private Instant createdAt;
+
+        private int emitted;
+
+        private Duration interval;
+
+        private Watermark(
+                Instant createdAt,
+                Duration minimumInterval,
+                Duration maximumInterval,
+                int deduplicationCapacity) {
+            this.createdAt = createdAt;
+            this.interval = minimumInterval;
+            this.maximumInterval = maximumInterval;
+            this.minimumInterval = minimumInterval;
+            this.since = createdAt;
+            this.seen =
+                    new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+
+                        private static final long serialVersionUID = 3155425367094428946L;
+
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                            return size() > deduplicationCapacity;
+                        }
+                    };
+        }
+
+        private boolean accept(AuditEventResource resource) {
+            if (this.seen.put(resource.getId(), Boolean.TRUE) != null) {
+                return false;
+            }
+
+            Instant eventCreatedAt = Instant.parse(resource.getCreatedAt());
+            if (eventCreatedAt.isBefore(this.since)) {
+                return false;
+            }
+
+            if (eventCreatedAt.isAfter(this.createdAt)) {
+                this.createdAt = eventCreatedAt;
+            }
+
+            this.emitted++;
+            return true;
+        }
+
+        private Instant getCreatedAt() {
+            return this.createdAt;
+        }
+
+        private Duration nextInterval() {
+            if (this.emitted > 0) {
+                this.interval = this.minimumInterval;
+            } else {
+                Duration doubled = this.interval.multipliedBy(2);
+                this.interval =
+                        doubled.compareTo(this.maximumInterval) > 0
+                                ? this.maximumInterval
+                                : doubled;
+            }
+
+            this.emitted = 0;
+            return this.interval;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A store of named checkpoints, used to resume consuming a stream from the last committed position
+ */
+public interface CheckpointStore {
+
+    /**
+     * Returns the checkpoint for a name
+     *
+     * @param name the name of the checkpoint
+     * @return the checkpoint, or empty if none has been committed
+     */
+    Mono<String> get(String name);
+
+    /**
+     * Commits the checkpoint for a name
+     *
+     * @param name       the name of the checkpoint
+     * @param checkpoint the checkpoint
+     * @return {@code onComplete} once the checkpoint has been committed
+     */
+    Mono<Void> put(String name, String checkpoint);
+}
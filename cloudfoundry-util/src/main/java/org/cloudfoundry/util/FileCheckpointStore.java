@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A {@link CheckpointStore} that holds each checkpoint in a file in a local directory, so that consumers can resume after a restart.  Checkpoints are written to
+ * a temporary file, synced, and atomically moved into place, so a crash never leaves a partially written checkpoint.  The directory is then synced so that the
+ * move itself survives a crash, on platforms that support syncing directories.
+ */
+public final class FileCheckpointStore implements CheckpointStore {
+
+    private static final String SUFFIX = ".checkpoint";
+
+    private final Path directory;
+
+    /**
+     * Creates a new instance
+     *
+     * @param directory the directory to hold checkpoint files in.  It is created if it does not exist.
+     */
+    public FileCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Mono<String> get(String name) {
+        return Mono.fromCallable(
+                        () -> {
+                            Path file = getFile(name);
+
+                            if (!Files.isRegularFile(file)) {
+                                return null;
+                            }
+
+                            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+                                    .trim();
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Void> put(String name, String checkpoint) {
+        return Mono.<Void>fromRunnable(
+                        () -> {
+                            Path file = getFile(name);
+
+                            try {
+                                Files.createDirectories(this.directory);
+
+                                Path temporary = Files.createTempFile(this.directory, null, SUFFIX);
+                                try {
+                                    Files.write(
+                                            temporary,
+                                            checkpoint.getBytes(StandardCharsets.UTF_8),
+                                            StandardOpenOption.WRITE,
+                                            StandardOpenOption.TRUNCATE_EXISTING,
+                                            StandardOpenOption.SYNC);
+                                    move(temporary, file);
+                                    syncDirectory();
+                                } finally {
+                                    Files.deleteIfExists(temporary);
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(
+                                        String.format("Unable to write checkpoint %s", file), e);
+                            }
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or synced on some platforms (e.g. Windows)
+        }
+    }
+
+    private Path getFile(String name) {
+        try {
+            return this.directory.resolve(URLEncoder.encode(name, "UTF-8") + SUFFIX);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link CheckpointStore} that holds checkpoints in memory, for consumers that do not need to resume after a restart
+ */
+public final class InMemoryCheckpointStore implements CheckpointStore {
+
+    private final Map<String, String> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<String> get(String name) {
+        return Mono.fromSupplier(() -> this.checkpoints.get(name));
+    }
+
+    @Override
+    public Mono<Void> put(String name, String checkpoint) {
+        return Mono.fromRunnable(() -> this.checkpoints.put(name, checkpoint));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.util;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * The OpenTelemetry implementation of {@link TracingUtils}.  Only loaded once a tracer is configured.
+ */
+final class OpenTelemetryTracing {
+
+    private OpenTelemetryTracing() {}
+
+    static Context getContext(ContextView contextView) {
+        Object context = contextView.getOrDefault(TracingUtils.CONTEXT_KEY, null);
+        return context != null ? (Context) context : Context.current();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Publisher<U>, U> Function<T, T> trace(String spanName) {
+        return f -> {
+            if (f instanceof Mono) {
+                return (T)
+                        Mono.deferContextual(
+                                contextView -> {
+                                    Context parent = getContext(contextView);
+                                    Span span = startSpan(spanName, parent);
+                                    return ((Mono<U>) f)
+                                            .doOnError(t -> onError(span, t))
+                                            .doFinally(signalType -> span.end())
+                                            .contextWrite(
+                                                    context ->
+                                                            context.put(
+                                                                    TracingUtils.CONTEXT_KEY,
+                                                                    parent.with(span)));
+                                });
+            }
+            if (f instanceof Flux) {
+                return (T)
+                        Flux.deferContextual(
+                                contextView -> {
+                                    Context parent = getContext(contextView);
+                                    Span span = startSpan(spanName, parent);
+                                    return ((Flux<U>) f)
+                                            .doOnError(t -> onError(span, t))
+                                            .doFinally(signalType -> span.end())
+                                            .contextWrite(
+                                                    context ->
+                                                            context.put(
+                                                                    TracingUtils.CONTEXT_KEY,
+                                                                    parent.with(span)));
+                                });
+            } else {
+                return f;
+            }
+        };
+    }
+
+    private static void onError(Span span, Throwable t) {
+        span.recordException(t);
+        span.setStatus(StatusCode.ERROR);
+    }
+
+    private static Span startSpan(String spanName, Context parent) {
+        return TracingUtils.getTracer().spanBuilder(spanName).setParent(parent).startSpan();
+    }
+}
@@ -16,16 +16,70 @@
 
 package org.cloudfoundry.util;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.Link;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * A utility class to provide functions for handling PaginatedResponse and those containing lists of Resources.
+ * A utility class to provide functions for handling PaginatedResponse and those containing lists of Resources.  Pages after the first are requested
+ * concurrently, up to a bounded number at a time, and emitted in page order as soon as each is next in sequence.  Further pages are only requested as
+ * downstream demand drains earlier ones, so at most {@code concurrency} pages are in flight or awaiting their turn at any time.
  */
 public final class PaginationUtils {
 
+    /**
+     * The number of pages requested concurrently by default
+     */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * The number of ordered pages buffered ahead of downstream demand by default
+     */
+    public static final int DEFAULT_PREFETCH = 2;
+
+    /**
+     * The largest page size permitted by {@link org.cloudfoundry.client.v3.PaginatedRequest}
+     */
+    public static final int MAX_PER_PAGE = 5_000;
+
+    /**
+     * The smallest page size that adaptive pagination will shrink to, matching the Cloud Controller's default page size
+     */
+    public static final int MIN_PER_PAGE = 50;
+
+    /**
+     * The response time above which adaptive pagination shrinks the page size for subsequent pages
+     */
+    public static final Duration SLOW_PAGE_THRESHOLD = Duration.ofSeconds(10);
+
+    /**
+     * The number of consecutive pages served in under half of {@link #SLOW_PAGE_THRESHOLD} after which adaptive pagination doubles a shrunk page size
+     */
+    public static final int FAST_PAGES_BEFORE_GROWTH = 3;
+
+    /**
+     * The time after which a reused {@link AdaptivePageSize} doubles a shrunk page size again, even if no page has been served since it was shrunk
+     */
+    public static final Duration PAGE_SIZE_RECOVERY = Duration.ofMinutes(5);
+
+    /**
+     * The number of resources listed from a partition between progress reports
+     */
+    public static final int PROGRESS_INTERVAL = 1_000;
+
     private PaginationUtils() {}
 
     /**
@@ -40,11 +94,29 @@ public final class PaginationUtils {
                     T extends org.cloudfoundry.client.v2.Resource<?>,
                     U extends org.cloudfoundry.client.v2.PaginatedResponse<T>>
             Flux<T> requestClientV2Resources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestClientV2Resources(pageSupplier, DEFAULT_CONCURRENCY, DEFAULT_PREFETCH);
+    }
 
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v2.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages requested concurrently
+     * @param prefetch     the number of ordered pages buffered ahead of downstream demand
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <
+                    T extends org.cloudfoundry.client.v2.Resource<?>,
+                    U extends org.cloudfoundry.client.v2.PaginatedResponse<T>>
+            Flux<T> requestClientV2Resources(
+                    Function<Integer, Mono<U>> pageSupplier, int concurrency, int prefetch) {
         return pageSupplier
                 .apply(1)
-                .flatMapMany(requestClientV2AdditionalPages(pageSupplier))
-                .flatMap(ResourceUtils::getResources);
+                .flatMapMany(requestClientV2AdditionalPages(pageSupplier, concurrency))
+                .concatMapIterable(
+                        org.cloudfoundry.client.v2.PaginatedResponse::getResources, prefetch);
     }
 
     /**
@@ -58,10 +130,183 @@ public final class PaginationUtils {
     @SuppressWarnings("rawtypes")
     public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>>
             Flux<T> requestClientV3Resources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestClientV3Resources(pageSupplier, DEFAULT_CONCURRENCY, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages requested concurrently
+     * @param prefetch     the number of ordered pages buffered ahead of downstream demand
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>>
+            Flux<T> requestClientV3Resources(
+                    Function<Integer, Mono<U>> pageSupplier, int concurrency, int prefetch) {
         return pageSupplier
                 .apply(1)
-                .flatMapMany(requestClientV3AdditionalPages(pageSupplier))
-                .flatMapIterable(org.cloudfoundry.client.v3.PaginatedResponse::getResources);
+                .flatMapMany(requestClientV3AdditionalPages(pageSupplier, concurrency))
+                .concatMapIterable(
+                        org.cloudfoundry.client.v3.PaginatedResponse::getResources, prefetch);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier, using the largest page size the endpoint serves
+     * reliably.  Pages start at {@link #MAX_PER_PAGE} and are requested one at a time by following each response's {@code next} link until there is none.  If
+     * a page fails with a server error or timeout, or takes longer than {@link #SLOW_PAGE_THRESHOLD}, the page size is halved (down to {@link #MIN_PER_PAGE})
+     * and the listing continues from the same position.  Once {@link #FAST_PAGES_BEFORE_GROWTH} consecutive pages have been served quickly, a shrunk page
+     * size is doubled again (up to {@link #MAX_PER_PAGE}).  The page size is adapted for each subscription to the returned stream independently; use
+     * {@link #requestClientV3Resources(AdaptivePageSize, BiFunction)} to carry it over between listings of the same endpoint.
+     *
+     * @param pageSupplier a function from page and page size to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>>
+            Flux<T> requestClientV3Resources(BiFunction<Integer, Integer, Mono<U>> pageSupplier) {
+        return Flux.defer(() -> requestClientV3Resources(new AdaptivePageSize(), pageSupplier));
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier, adapting the given page size as described for
+     * {@link #requestClientV3Resources(BiFunction)}.  Listings that share a page size start at the page size the endpoint last served reliably, so a page size
+     * should be reused for listings of the same endpoint, e.g. one per collection polled repeatedly, and not shared between endpoints.
+     *
+     * @param pageSize     the page size to use and adapt
+     * @param pageSupplier a function from page and page size to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>>
+            Flux<T> requestClientV3Resources(
+                    AdaptivePageSize pageSize, BiFunction<Integer, Integer, Mono<U>> pageSupplier) {
+        return requestClientV3Page(pageSize, pageSupplier, 0)
+                .expand(
+                        page ->
+                                getNextOffset(page)
+                                        .map(
+                                                offset ->
+                                                        requestClientV3Page(
+                                                                pageSize, pageSupplier, offset))
+                                        .orElse(Mono.empty()))
+                .concatMapIterable(PaginationUtils::getResources);
+    }
+
+    /**
+     * Generate the stream of resources from a series of pages whose resources are streamed as they are decoded, rather than after each page has been received in
+     * full.  The first page is streamed before further pages are requested, and the remainder of its payload supplied to the page streamer's consumer
+     * determines how many further pages there are.  Later pages are requested concurrently and their resources emitted in page order.
+     *
+     * @param pageStreamer a function from a page and a consumer of the page's payload without its resources to the stream of resources on that page
+     * @param concurrency  the maximum number of pages requested concurrently
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <
+                    T extends org.cloudfoundry.client.v2.Resource<?>,
+                    U extends org.cloudfoundry.client.v2.PaginatedResponse<T>>
+            Flux<T> streamClientV2Resources(
+                    BiFunction<Integer, Consumer<? super U>, Flux<T>> pageStreamer,
+                    int concurrency) {
+        return streamResources(pageStreamer, response -> response.getTotalPages(), concurrency);
+    }
+
+    /**
+     * Generate the stream of resources from a series of pages whose resources are streamed as they are decoded, rather than after each page has been received in
+     * full.  The first page is streamed before further pages are requested, and the remainder of its payload supplied to the page streamer's consumer
+     * determines how many further pages there are.  Later pages are requested concurrently and their resources emitted in page order.
+     *
+     * @param pageStreamer a function from a page and a consumer of the page's payload without its resources to the stream of resources on that page
+     * @param concurrency  the maximum number of pages requested concurrently
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>>
+            Flux<T> streamClientV3Resources(
+                    BiFunction<Integer, Consumer<? super U>, Flux<T>> pageStreamer,
+                    int concurrency) {
+        return streamResources(
+                pageStreamer,
+                response ->
+                        Optional.ofNullable(response.getPagination())
+                                .map(org.cloudfoundry.client.v3.Pagination::getTotalPages)
+                                .orElse(null),
+                concurrency);
+    }
+
+    /**
+     * Split keys, such as organization or space ids used in {@code organization_guids} or {@code space_guids} filters, into (nearly) equal contiguous shards
+     *
+     * @param keys       the keys to split
+     * @param partitions the number of shards
+     * @param <E>        the type of key
+     * @return the non-empty shards, in order
+     */
+    public static <E> List<List<E>> partition(List<E> keys, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be greater than or equal to 1");
+        }
+
+        int count = Math.min(partitions, keys.size());
+        List<List<E>> shards = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            shards.add(keys.subList(keys.size() * i / count, keys.size() * (i + 1) / count));
+        }
+
+        return shards;
+    }
+
+    /**
+     * Generate the stream of resources accumulated from listing each partition of a collection concurrently.  Partitions are typically {@link TimePartition}s
+     * applied as {@code created_ats} filters, or shards of ids from {@link #partition(List, int)} applied as {@code organization_guids} or {@code space_guids}
+     * filters.  Resources are merged in the order they arrive, so resources from different partitions interleave.
+     *
+     * @param partitions       the partitions of the collection
+     * @param partitionLister  a function from a partition to the stream of resources in it, typically paginated with
+     *                         {@link #requestClientV3Resources(BiFunction)}
+     * @param concurrency      the maximum number of partitions listed concurrently
+     * @param progressConsumer a consumer notified every {@link #PROGRESS_INTERVAL} resources listed from a partition, and when a partition completes
+     * @param <P>              the type of partition
+     * @param <T>              the type of resource
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <P, T> Flux<T> requestPartitionedResources(
+            List<P> partitions,
+            Function<P, Flux<T>> partitionLister,
+            int concurrency,
+            Consumer<PartitionProgress<P>> progressConsumer) {
+        return Flux.fromIterable(partitions)
+                .flatMap(
+                        partition -> {
+                            AtomicLong count = new AtomicLong();
+
+                            return partitionLister
+                                    .apply(partition)
+                                    .doOnNext(
+                                            resource -> {
+                                                long current = count.incrementAndGet();
+
+                                                if (current % PROGRESS_INTERVAL == 0) {
+                                                    progressConsumer.accept(
+                                                            new PartitionProgress<>(
+                                                                    partition, current, false));
+                                                }
+                                            })
+                                    .doOnComplete(
+                                            () ->
+                                                    progressConsumer.accept(
+                                                            new PartitionProgress<>(
+                                                                    partition, count.get(), true)));
+                        },
+                        concurrency);
     }
 
     /**
@@ -75,50 +320,206 @@ public final class PaginationUtils {
     @SuppressWarnings("rawtypes")
     public static <T, U extends org.cloudfoundry.uaa.PaginatedResponse<T>>
             Flux<T> requestUaaResources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestUaaResources(pageSupplier, DEFAULT_CONCURRENCY, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.uaa.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages requested concurrently
+     * @param prefetch     the number of ordered pages buffered ahead of downstream demand
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <T, U extends org.cloudfoundry.uaa.PaginatedResponse<T>>
+            Flux<T> requestUaaResources(
+                    Function<Integer, Mono<U>> pageSupplier, int concurrency, int prefetch) {
         return pageSupplier
                 .apply(1)
-                .flatMapMany(requestUaaAdditionalPages(pageSupplier))
-                .flatMapIterable(org.cloudfoundry.uaa.PaginatedResponse::getResources);
+                .flatMapMany(requestUaaAdditionalPages(pageSupplier, concurrency))
+                .concatMapIterable(org.cloudfoundry.uaa.PaginatedResponse::getResources, prefetch);
     }
 
     private static <T> Function<T, Flux<T>> requestAdditionalPages(
-            Function<Integer, Mono<T>> pageSupplier, Function<T, Integer> totalPagesSupplier) {
+            Function<Integer, Mono<T>> pageSupplier,
+            Function<T, Integer> totalPagesSupplier,
+            int concurrency) {
         return response -> {
             Integer totalPages = Optional.ofNullable(totalPagesSupplier.apply(response)).orElse(1);
 
             return Flux.range(2, totalPages - 1)
-                    .flatMap(pageSupplier)
-                    .startWith(response)
-                    .buffer()
-                    .flatMapIterable(d -> d);
+                    .flatMapSequential(pageSupplier, concurrency, 1)
+                    .startWith(response);
         };
     }
 
+    private static <T, U> Flux<T> streamResources(
+            BiFunction<Integer, Consumer<? super U>, Flux<T>> pageStreamer,
+            Function<U, Integer> totalPagesSupplier,
+            int concurrency) {
+        return Flux.defer(
+                () -> {
+                    AtomicReference<U> firstPage = new AtomicReference<>();
+
+                    return pageStreamer
+                            .apply(1, firstPage::set)
+                            .concatWith(
+                                    Flux.defer(
+                                            () -> {
+                                                Integer totalPages =
+                                                        Optional.ofNullable(firstPage.get())
+                                                                .map(totalPagesSupplier)
+                                                                .orElse(1);
+
+                                                return Flux.range(2, Math.max(totalPages - 1, 0))
+                                                        .flatMapSequential(
+                                                                page ->
+                                                                        pageStreamer.apply(
+                                                                                page,
+                                                                                response -> {}),
+                                                                concurrency);
+                                            }));
+                });
+    }
+
     private static <T extends org.cloudfoundry.client.v2.PaginatedResponse<?>>
             Function<T, Flux<T>> requestClientV2AdditionalPages(
-                    Function<Integer, Mono<T>> pageSupplier) {
-        return requestAdditionalPages(pageSupplier, response -> response.getTotalPages());
+                    Function<Integer, Mono<T>> pageSupplier, int concurrency) {
+        return requestAdditionalPages(
+                pageSupplier, response -> response.getTotalPages(), concurrency);
     }
 
     private static <T extends org.cloudfoundry.client.v3.PaginatedResponse<?>>
             Function<T, Flux<T>> requestClientV3AdditionalPages(
-                    Function<Integer, Mono<T>> pageSupplier) {
+                    Function<Integer, Mono<T>> pageSupplier, int concurrency) {
         return requestAdditionalPages(
-                pageSupplier, response -> response.getPagination().getTotalPages());
+                pageSupplier, response -> response.getPagination().getTotalPages(), concurrency);
     }
 
     private static <T extends org.cloudfoundry.uaa.PaginatedResponse<?>>
             Function<T, Flux<T>> requestUaaAdditionalPages(
-                    Function<Integer, Mono<T>> pageSupplier) {
+                    Function<Integer, Mono<T>> pageSupplier, int concurrency) {
         return response -> {
             Integer totalPages = (response.getTotalResults() - 1) / response.getItemsPerPage() + 1;
 
             return Flux.range(1, totalPages - 1)
                     .map(page -> 1 + (page * response.getItemsPerPage()))
-                    .flatMap(pageSupplier)
-                    .startWith(response)
-                    .buffer()
-                    .flatMapIterable(d -> d);
+                    .flatMapSequential(pageSupplier, concurrency, 1)
+                    .startWith(response);
         };
     }
+
+    private static <T> List<T> getResources(
+            ClientV3Page<? extends org.cloudfoundry.client.v3.PaginatedResponse<T>> page) {
+        List<T> resources = page.response.getResources();
+        int skip = Math.min(page.offset % page.perPage, resources.size());
+
+        return resources.subList(skip, resources.size());
+    }
+
+    private static Optional<Integer> getNextOffset(
+            ClientV3Page<? extends org.cloudfoundry.client.v3.PaginatedResponse<?>> page) {
+        Link next =
+                Optional.ofNullable(page.response.getPagination())
+                        .map(org.cloudfoundry.client.v3.Pagination::getNext)
+                        .orElse(null);
+
+        if (next == null || page.response.getResources().isEmpty()) {
+            return Optional.empty();
+        }
+
+        int offset = (page.offset / page.perPage + 1) * page.perPage;
+
+        String query = URI.create(next.getHref()).getRawQuery();
+        if (query != null) {
+            Integer nextPage = null;
+            Integer nextPerPage = null;
+
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("page=")) {
+                    nextPage = parseInteger(parameter.substring(5));
+                } else if (parameter.startsWith("per_page=")) {
+                    nextPerPage = parseInteger(parameter.substring(9));
+                }
+            }
+
+            if (nextPage != null && nextPerPage != null) {
+                offset = (nextPage - 1) * nextPerPage;
+            }
+        }
+
+        return offset > page.offset ? Optional.of(offset) : Optional.empty();
+    }
+
+    private static boolean isPageSizeError(Throwable t) {
+        if (t instanceof TimeoutException) {
+            return true;
+        }
+
+        if (t instanceof ClientV3Exception) {
+            ClientV3Exception e = (ClientV3Exception) t;
+
+            return e.getStatusCode() >= 500
+                    || e.getErrors().stream()
+                            .anyMatch(
+                                    error ->
+                                            error.getDetail() != null
+                                                    && error.getDetail()
+                                                            .toLowerCase(Locale.ROOT)
+                                                            .contains("per page"));
+        }
+
+        return false;
+    }
+
+    private static Integer parseInteger(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static <U> Mono<ClientV3Page<U>> requestClientV3Page(
+            AdaptivePageSize pageSize,
+            BiFunction<Integer, Integer, Mono<U>> pageSupplier,
+            int offset) {
+        return Mono.defer(
+                () -> {
+                    int perPage = pageSize.get();
+                    long start = System.nanoTime();
+
+                    return pageSupplier
+                            .apply(offset / perPage + 1, perPage)
+                            .doOnNext(
+                                    response ->
+                                            pageSize.served(
+                                                    perPage,
+                                                    Duration.ofNanos(System.nanoTime() - start)))
+                            .map(response -> new ClientV3Page<>(response, offset, perPage))
+                            .onErrorResume(
+                                    t -> perPage > MIN_PER_PAGE && isPageSizeError(t),
+                                    t -> {
+                                        pageSize.shrink(perPage);
+                                        return requestClientV3Page(pageSize, pageSupplier, offset);
+                                    });
+                });
+    }
+
+    private static final class ClientV3Page<U> {
+
+        private final int offset;
+
+        private final int perPage;
+
+        private final U response;
+
+        private ClientV3Page(U response, int offset, int perPage) {
+            this.offset = offset;
+            this.perPage = perPage;
+            this.response = response;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+/**
+ * The progress of a single partition of a partitioned listing
+ *
+ * @param <P> the type of partition
+ */
+public final class PartitionProgress<P> {
+
+    private final boolean complete;
+
+    private final long count;
+
+    private final P partition;
+
+    PartitionProgress(P partition, long count, boolean complete) {
+        this.complete = complete;
+        this.count = count;
+        this.partition = partition;
+    }
+
+    /**
+     * Returns the number of resources listed from the partition so far
+     *
+     * @return the number of resources listed
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the partition
+     *
+     * @return the partition
+     */
+    public P getPartition() {
+        return this.partition;
+    }
+
+    /**
+     * Returns whether all resources in the partition have been listed
+     *
+     * @return {@code true} if the partition is complete
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "PartitionProgress{partition=%s, count=%d, complete=%b}",
+                this.partition, this.count, this.complete);
+    }
+}
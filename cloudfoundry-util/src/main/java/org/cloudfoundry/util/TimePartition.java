@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A half-open range of time, {@code [start, end)}, used to partition listings by {@code created_ats} filters
+ */
+public final class TimePartition {
+
+    private final Instant end;
+
+    private final Instant start;
+
+    private TimePartition(Instant start, Instant end) {
+        this.end = end;
+        this.start = start;
+    }
+
+    /**
+     * Split a range of time into contiguous partitions of (nearly) equal length.  Boundaries are truncated to whole seconds, the precision of Cloud Controller
+     * timestamps, so fewer partitions are returned if the range is shorter than the requested number of seconds.
+     *
+     * @param start      the start of the range, inclusive
+     * @param end        the end of the range, exclusive
+     * @param partitions the number of partitions
+     * @return the partitions, in order
+     */
+    public static List<TimePartition> of(Instant start, Instant end, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be greater than or equal to 1");
+        }
+
+        long startSecond = start.truncatedTo(ChronoUnit.SECONDS).getEpochSecond();
+        long endSecond =
+                end.plusNanos(999_999_999).truncatedTo(ChronoUnit.SECONDS).getEpochSecond();
+        long length = endSecond - startSecond;
+
+        if (length <= 0) {
+            return Collections.emptyList();
+        }
+
+        int count = (int) Math.min(partitions, length);
+        List<TimePartition> ranges = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            ranges.add(
+                    new TimePartition(
+                            Instant.ofEpochSecond(startSecond + length * i / count),
+                            Instant.ofEpochSecond(startSecond + length * (i + 1) / count)));
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Returns the end of the range, exclusive
+     *
+     * @return the end of the range
+     */
+    public Instant getEnd() {
+        return this.end;
+    }
+
+    /**
+     * Returns the end of the range formatted as a Cloud Controller timestamp, suitable for a {@code created_ats[lt]} filter
+     *
+     * @return the formatted end of the range
+     */
+    public String getEndTimestamp() {
+        return DateTimeFormatter.ISO_INSTANT.format(this.end);
+    }
+
+    /**
+     * Returns the start of the range, inclusive
+     *
+     * @return the start of the range
+     */
+    public Instant getStart() {
+        return this.start;
+    }
+
+    /**
+     * Returns the start of the range formatted as a Cloud Controller timestamp, suitable for a {@code created_ats[gte]} filter
+     *
+     * @return the formatted start of the range
+     */
+    public String getStartTimestamp() {
+        return DateTimeFormatter.ISO_INSTANT.format(this.start);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s, %s)", getStartTimestamp(), getEndTimestamp());
+    }
+}
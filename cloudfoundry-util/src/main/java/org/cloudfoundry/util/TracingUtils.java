@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.util;
+
+import io.opentelemetry.api.trace.Tracer;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Utilities for tracing with OpenTelemetry.  Tracing is disabled until a {@link Tracer} is configured with {@link #setTracer(Tracer)}.  While disabled, no
+ * OpenTelemetry types are loaded and OpenTelemetry does not need to be on the classpath.  Code that uses OpenTelemetry types must therefore live in classes that
+ * are only loaded once tracing is enabled, such as {@code OpenTelemetryTracing}.
+ */
+public final class TracingUtils {
+
+    /**
+     * The key of the OpenTelemetry {@code Context} of the current operation in a Reactor {@link reactor.util.context.Context}
+     */
+    public static final String CONTEXT_KEY = "cloudfoundry-client.trace-context";
+
+    private static volatile Object tracer;
+
+    private TracingUtils() {}
+
+    /**
+     * Returns the configured {@link Tracer}.  Must only be called when {@link #isEnabled()} is {@code true}.
+     *
+     * @return the configured tracer
+     */
+    public static Tracer getTracer() {
+        return (Tracer) tracer;
+    }
+
+    /**
+     * Returns whether a {@link Tracer} is configured
+     *
+     * @return {@code true} if a tracer is configured
+     */
+    public static boolean isEnabled() {
+        return tracer != null;
+    }
+
+    /**
+     * Configures the {@link Tracer} used to trace operations and requests
+     *
+     * @param tracer the tracer or {@code null} to disable tracing
+     */
+    public static void setTracer(Tracer tracer) {
+        TracingUtils.tracer = tracer;
+    }
+
+    /**
+     * Traces a {@link Mono} or {@link Flux} in a span that is the parent of any spans opened while it is subscribed to.  When tracing is disabled, the publisher is
+     * returned unchanged.
+     *
+     * @param spanName the name of the span
+     * @param <T>      the type of the publisher
+     * @param <U>      the type of the elements of the publisher
+     * @return a function that traces a publisher
+     */
+    public static <T extends Publisher<U>, U> Function<T, T> trace(String spanName) {
+        if (!isEnabled()) {
+            return f -> f;
+        }
+
+        return OpenTelemetryTracing.trace(spanName);
+    }
+}
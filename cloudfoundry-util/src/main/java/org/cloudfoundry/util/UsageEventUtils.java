@@ -0,0 +1,228 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ListServiceUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEventResource;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Utilities for consuming Usage Events.  Events are fetched in batches of the maximum page size using the {@code after_guid} cursor, and each batch is passed
+ * to a handler one event at a time.  The next batch is only fetched once the handler has completed every event in the current batch and the id of its last
+ * event has been committed to a {@link CheckpointStore}, and the subscriber has requested the events of the current batch, so a slow handler or subscriber
+ * slows fetching rather than accumulating events.  After a restart, consumption
+ * resumes after the last committed event, so at most one uncommitted batch is handled again.
+ */
+public final class UsageEventUtils {
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+    private static final int MAX_RESULTS_PER_PAGE = 100;
+
+    private UsageEventUtils() {}
+
+    /**
+     * Consumes application usage events, polling every 30 seconds once caught up
+     *
+     * @param cloudFoundryClient the client to use to request usage events
+     * @param checkpointStore    the store to commit consumed positions to
+     * @param name               the name of the checkpoint
+     * @param handler            a function handling each event, completing once the event has been consumed
+     * @return an unbounded stream of the events consumed, emitted once their batch has been committed
+     */
+    public static Flux<ApplicationUsageEventResource> consumeApplicationUsageEvents(
+            CloudFoundryClient cloudFoundryClient,
+            CheckpointStore checkpointStore,
+            String name,
+            Function<ApplicationUsageEventResource, ? extends Publisher<?>> handler) {
+        return consumeApplicationUsageEvents(
+                cloudFoundryClient, checkpointStore, name, handler, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * Consumes application usage events
+     *
+     * @param cloudFoundryClient the client to use to request usage events
+     * @param checkpointStore    the store to commit consumed positions to
+     * @param name               the name of the checkpoint
+     * @param handler            a function handling each event, completing once the event has been consumed
+     * @param pollInterval       the interval between requests once all available events have been consumed
+     * @return an unbounded stream of the events consumed, emitted once their batch has been committed
+     */
+    public static Flux<ApplicationUsageEventResource> consumeApplicationUsageEvents(
+            CloudFoundryClient cloudFoundryClient,
+            CheckpointStore checkpointStore,
+            String name,
+            Function<ApplicationUsageEventResource, ? extends Publisher<?>> handler,
+            Duration pollInterval) {
+        return consume(
+                checkpointStore,
+                name,
+                afterId ->
+                        cloudFoundryClient
+                                .applicationUsageEvents()
+                                .list(
+                                        ListApplicationUsageEventsRequest.builder()
+                                                .afterApplicationUsageEventId(afterId)
+                                                .page(1)
+                                                .resultsPerPage(MAX_RESULTS_PER_PAGE)
+                                                .build()),
+                handler,
+                pollInterval);
+    }
+
+    /**
+     * Consumes service usage events, polling every 30 seconds once caught up
+     *
+     * @param cloudFoundryClient the client to use to request usage events
+     * @param checkpointStore    the store to commit consumed positions to
+     * @param name               the name of the checkpoint
+     * @param handler            a function handling each event, completing once the event has been consumed
+     * @return an unbounded stream of the events consumed, emitted once their batch has been committed
+     */
+    public static Flux<ServiceUsageEventResource> consumeServiceUsageEvents(
+            CloudFoundryClient cloudFoundryClient,
+            CheckpointStore checkpointStore,
+            String name,
+            Function<ServiceUsageEventResource, ? extends Publisher<?>> handler) {
+        return consumeServiceUsageEvents(
+                cloudFoundryClient, checkpointStore, name, handler, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * Consumes service usage events
+     *
+     * @param cloudFoundryClient the client to use to request usage events
+     * @param checkpointStore    the store to commit consumed positions to
+     * @param name               the name of the checkpoint
+     * @param handler            a function handling each event, completing once the event has been consumed
+     * @param pollInterval       the interval between requests once all available events have been consumed
+     * @return an unbounded stream of the events consumed, emitted once their batch has been committed
+     */
+    public static Flux<ServiceUsageEventResource> consumeServiceUsageEvents(
+            CloudFoundryClient cloudFoundryClient,
+            CheckpointStore checkpointStore,
+            String name,
+            Function<ServiceUsageEventResource, ? extends Publisher<?>> handler,
+            Duration pollInterval) {
+        return consume(
+                checkpointStore,
+                name,
+                afterId ->
+                        cloudFoundryClient
+                                .serviceUsageEvents()
+                                .list(
+                                        ListServiceUsageEventsRequest.builder()
+                                                .afterServiceUsageEventId(afterId)
+                                                .page(1)
+                                                .resultsPerPage(MAX_RESULTS_PER_PAGE)
+                                                .build()),
+                handler,
+                pollInterval);
+    }
+
+    private static <T extends Resource<?>> Flux<T> consume(
+            CheckpointStore checkpointStore,
+            String name,
+            Function<String, Mono<? extends PaginatedResponse<T>>> batchSupplier,
+            Function<T, ? extends Publisher<?>> handler,
+            Duration pollInterval) {
+        return checkpointStore
+                .get(name)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMapMany(
+                        initial -> {
+                            AtomicReference<String> checkpoint =
+                                    new AtomicReference<>(initial.orElse(null));
+                            AtomicBoolean caughtUp = new AtomicBoolean();
+
+                            Mono<List<T>> batch =
+                                    Mono.defer(
+                                                    () ->
+                                                            caughtUp.get()
+                                                                    ? Mono.delay(pollInterval)
+                                                                    : Mono.just(0L))
+                                            .then(
+                                                    Mono.defer(
+                                                            () ->
+                                                                    batchSupplier.apply(
+                                                                            checkpoint.get())))
+                                            .flatMap(
+                                                    response ->
+                                                            consumeBatch(
+                                                                    checkpointStore,
+                                                                    name,
+                                                                    response.getResources(),
+                                                                    handler))
+                                            .doOnNext(
+                                                    consumed -> {
+                                                        caughtUp.set(
+                                                                consumed.size()
+                                                                        < MAX_RESULTS_PER_PAGE);
+
+                                                        if (!consumed.isEmpty()) {
+                                                            checkpoint.set(
+                                                                    ResourceUtils.getId(
+                                                                            consumed.get(
+                                                                                    consumed.size()
+                                                                                            - 1)));
+                                                        }
+                                                    });
+
+                            // Without prefetch, the next batch is only fetched once the previous
+                            // one has been drained and more events are requested
+                            return Flux.<Integer>generate(sink -> sink.next(0))
+                                    .concatMap(
+                                            ignored -> batch.flatMapIterable(Function.identity()),
+                                            0);
+                        });
+    }
+
+    private static <T extends Resource<?>> Mono<List<T>> consumeBatch(
+            CheckpointStore checkpointStore,
+            String name,
+            List<T> batch,
+            Function<T, ? extends Publisher<?>> handler) {
+        if (batch.isEmpty()) {
+            return Mono.just(batch);
+        }
+
+        return Flux.fromIterable(batch)
+                .concatMap(event -> Flux.from(handler.apply(event)).then())
+                .then(
+                        Mono.defer(
+                                () ->
+                                        checkpointStore.put(
+                                                name,
+                                                ResourceUtils.getId(batch.get(batch.size() - 1)))))
+                .thenReturn(batch);
+    }
+}
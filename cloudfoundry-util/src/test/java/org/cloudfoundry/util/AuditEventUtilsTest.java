@@ -0,0 +1,183 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.Pagination;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.AuditEventsV3;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsRequest;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class AuditEventUtilsTest {
+
+    private final AuditEventsV3 auditEventsV3 = mock(AuditEventsV3.class, RETURNS_SMART_NULLS);
+
+    private final CloudFoundryClient cloudFoundryClient =
+            mock(CloudFoundryClient.class, RETURNS_SMART_NULLS);
+
+    @Test
+    void tail() {
+        List<ListAuditEventsRequest> requests = new ArrayList<>();
+        List<ListAuditEventsResponse> responses =
+                Arrays.asList(
+                        listAuditEventsResponse(
+                                auditEvent("test-id-0", "2016-06-08T15:59:59Z"),
+                                auditEvent("test-id-1", "2016-06-08T16:00:00Z"),
+                                auditEvent("test-id-2", "2016-06-08T16:00:05Z")),
+                        listAuditEventsResponse(
+                                auditEvent("test-id-2", "2016-06-08T16:00:05Z"),
+                                auditEvent("test-id-3", "2016-06-08T16:00:10Z")));
+
+        when(this.cloudFoundryClient.auditEventsV3()).thenReturn(this.auditEventsV3);
+        when(this.auditEventsV3.list(any()))
+                .thenAnswer(
+                        invocation -> {
+                            requests.add(invocation.getArgument(0));
+                            return Mono.just(
+                                    responses.get(Math.min(requests.size(), responses.size()) - 1));
+                        });
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                AuditEventUtils.tail(
+                                                this.cloudFoundryClient,
+                                                ListAuditEventsRequest.builder()
+                                                        .type("audit.app.update")
+                                                        .build(),
+                                                Instant.parse("2016-06-08T16:00:00Z"),
+                                                Duration.ofSeconds(5),
+                                                Duration.ofMinutes(1),
+                                                Duration.ofSeconds(30),
+                                                100)
+                                        .map(AuditEventResource::getId))
+                .expectNext("test-id-1", "test-id-2")
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("test-id-3")
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNoEvent(Duration.ofSeconds(9))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(requests)
+                .extracting(ListAuditEventsRequest::getCreatedAtsFrom)
+                .containsExactly(
+                        "2016-06-08T15:59:30Z", "2016-06-08T15:59:35Z", "2016-06-08T15:59:40Z");
+        assertThat(requests.get(0).getTypes()).containsExactly("audit.app.update");
+        assertThat(requests.get(0).getOrderBy()).isEqualTo("created_at");
+    }
+
+    @Test
+    void tailRetries() {
+        List<ListAuditEventsRequest> requests = new ArrayList<>();
+
+        when(this.cloudFoundryClient.auditEventsV3()).thenReturn(this.auditEventsV3);
+        when(this.auditEventsV3.list(any()))
+                .thenAnswer(
+                        invocation -> {
+                            requests.add(invocation.getArgument(0));
+
+                            switch (requests.size()) {
+                                case 1:
+                                    return Mono.just(
+                                            listAuditEventsResponse(
+                                                    auditEvent("test-id-1", "2016-06-08T16:00:00Z"),
+                                                    auditEvent(
+                                                            "test-id-2", "2016-06-08T16:00:05Z")));
+                                case 2:
+                                    return Mono.error(
+                                            new ClientV3Exception(503, Collections.emptyList()));
+                                default:
+                                    return Mono.just(
+                                            listAuditEventsResponse(
+                                                    auditEvent("test-id-2", "2016-06-08T16:00:05Z"),
+                                                    auditEvent(
+                                                            "test-id-3", "2016-06-08T16:00:10Z")));
+                            }
+                        });
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                AuditEventUtils.tail(
+                                                this.cloudFoundryClient,
+                                                ListAuditEventsRequest.builder().build(),
+                                                Instant.parse("2016-06-08T16:00:00Z"),
+                                                Duration.ofSeconds(5),
+                                                Duration.ofMinutes(1),
+                                                Duration.ofSeconds(30),
+                                                100)
+                                        .map(AuditEventResource::getId))
+                .expectNext("test-id-1", "test-id-2")
+                .thenAwait(Duration.ofSeconds(15))
+                .expectNext("test-id-3")
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(requests)
+                .extracting(ListAuditEventsRequest::getCreatedAtsFrom)
+                .startsWith("2016-06-08T15:59:30Z", "2016-06-08T15:59:35Z", "2016-06-08T15:59:35Z");
+    }
+
+    @Test
+    void tailPropagatesNonTransientErrors() {
+        when(this.cloudFoundryClient.auditEventsV3()).thenReturn(this.auditEventsV3);
+        when(this.auditEventsV3.list(any()))
+                .thenReturn(Mono.error(new ClientV3Exception(403, Collections.emptyList())));
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                AuditEventUtils.tail(
+                                        this.cloudFoundryClient,
+                                        ListAuditEventsRequest.builder().build(),
+                                        Instant.parse("2016-06-08T16:00:00Z")))
+                .consumeErrorWith(
+                        t ->
+                                assertThat(t)
+                                        .isInstanceOf(ClientV3Exception.class)
+                                        .extracting("statusCode")
+                                        .isEqualTo(403))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static AuditEventResource auditEvent(String id, String createdAt) {
+        return AuditEventResource.builder().id(id).createdAt(createdAt).build();
+    }
+
+    private static ListAuditEventsResponse listAuditEventsResponse(
+            AuditEventResource... resources) {
+        return ListAuditEventsResponse.builder()
+                .resources(resources)
+                .pagination(Pagination.builder().totalPages(1).build())
+                .build();
+    }
+}
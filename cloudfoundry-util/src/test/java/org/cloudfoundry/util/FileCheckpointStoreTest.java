@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+final class FileCheckpointStoreTest {
+
+    @TempDir Path directory;
+
+    @Test
+    void getMissing() {
+        new FileCheckpointStore(this.directory)
+                .get("test-name")
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void put() {
+        new FileCheckpointStore(this.directory.resolve("checkpoints"))
+                .put("test/name", "test-checkpoint-1")
+                .then(
+                        new FileCheckpointStore(this.directory.resolve("checkpoints"))
+                                .put("test/name", "test-checkpoint-2"))
+                .then(
+                        new FileCheckpointStore(this.directory.resolve("checkpoints"))
+                                .get("test/name"))
+                .as(StepVerifier::create)
+                .expectNext("test-checkpoint-2")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
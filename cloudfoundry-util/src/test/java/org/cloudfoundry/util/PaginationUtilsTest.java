@@ -16,17 +16,30 @@
 
 package org.cloudfoundry.util;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
 import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.client.v2.spaces.Spaces;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.Error;
+import org.cloudfoundry.client.v3.Link;
 import org.cloudfoundry.client.v3.Pagination;
 import org.cloudfoundry.client.v3.packages.BitsData;
 import org.cloudfoundry.client.v3.packages.ListPackagesRequest;
@@ -35,6 +48,8 @@ import org.cloudfoundry.client.v3.packages.PackageResource;
 import org.cloudfoundry.client.v3.packages.PackageState;
 import org.cloudfoundry.client.v3.packages.PackageType;
 import org.cloudfoundry.client.v3.packages.Packages;
+import org.cloudfoundry.client.v3.stacks.ListStacksResponse;
+import org.cloudfoundry.client.v3.stacks.StackResource;
 import org.cloudfoundry.uaa.users.ListUsersRequest;
 import org.cloudfoundry.uaa.users.ListUsersResponse;
 import org.cloudfoundry.uaa.users.Meta;
@@ -42,11 +57,20 @@ import org.cloudfoundry.uaa.users.Name;
 import org.cloudfoundry.uaa.users.User;
 import org.cloudfoundry.uaa.users.Users;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 final class PaginationUtilsTest {
 
+    @Test
+    void partition() {
+        assertThat(PaginationUtils.partition(Arrays.asList("a", "b", "c", "d", "e"), 2))
+                .containsExactly(Arrays.asList("a", "b"), Arrays.asList("c", "d", "e"));
+        assertThat(PaginationUtils.partition(Arrays.asList("a", "b"), 3))
+                .containsExactly(Collections.singletonList("a"), Collections.singletonList("b"));
+    }
+
     @Test
     void requestClientV2Resources() {
         Spaces spaces = mock(Spaces.class, RETURNS_SMART_NULLS);
@@ -105,6 +129,180 @@ final class PaginationUtilsTest {
                 .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    void requestClientV3ResourcesOrdered() {
+        Packages packages = mock(Packages.class, RETURNS_SMART_NULLS);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        for (int page = 1; page <= 5; page++) {
+            requestListPackages(packages, page, 5);
+        }
+
+        PaginationUtils.requestClientV3Resources(
+                        page ->
+                                Mono.delay(Duration.ofMillis(60 - (page * 10)))
+                                        .doOnSubscribe(
+                                                s ->
+                                                        maxInFlight.accumulateAndGet(
+                                                                inFlight.incrementAndGet(),
+                                                                Math::max))
+                                        .doOnTerminate(inFlight::decrementAndGet)
+                                        .then(
+                                                packages.list(
+                                                        ListPackagesRequest.builder()
+                                                                .page(page)
+                                                                .build())),
+                        2,
+                        1)
+                .map(PackageResource::getId)
+                .as(StepVerifier::create)
+                .expectNext("1", "2", "3", "4", "5")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void requestClientV3ResourcesAdaptive() {
+        List<String> requests = new ArrayList<>();
+
+        PaginationUtils.requestClientV3Resources(
+                        (page, perPage) -> {
+                            requests.add(page + ":" + perPage);
+
+                            if (perPage == PaginationUtils.MAX_PER_PAGE) {
+                                return Mono.error(
+                                        new ClientV3Exception(
+                                                500,
+                                                Collections.singletonList(
+                                                        Error.builder()
+                                                                .code(10001)
+                                                                .detail("test-detail")
+                                                                .title("CF-UnknownError")
+                                                                .build())));
+                            }
+
+                            return Mono.just(listStacksResponse(page, perPage, 2));
+                        })
+                .map(StackResource::getName)
+                .as(StepVerifier::create)
+                .expectNext("1-0", "1-1", "2-0", "2-1")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(requests).containsExactly("1:5000", "1:2500", "2:2500");
+    }
+
+    @Test
+    void requestClientV3ResourcesAdaptiveGrowth() {
+        List<String> requests = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        PaginationUtils.requestClientV3Resources(
+                        (page, perPage) -> {
+                            requests.add(page + ":" + perPage);
+
+                            if (perPage == PaginationUtils.MAX_PER_PAGE
+                                    && failed.compareAndSet(false, true)) {
+                                return Mono.error(new TimeoutException());
+                            }
+
+                            return Mono.just(
+                                    listPackagesResponse(
+                                            page,
+                                            perPage,
+                                            perPage == PaginationUtils.MAX_PER_PAGE ? 2 : 4));
+                        })
+                .map(PackageResource::getId)
+                .as(StepVerifier::create)
+                .expectNext("1", "2", "3")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(requests).containsExactly("1:5000", "1:2500", "2:2500", "3:2500", "2:5000");
+    }
+
+    @Test
+    void requestClientV3ResourcesAdaptiveReused() {
+        List<String> requests = new ArrayList<>();
+        AtomicLong nanoTime = new AtomicLong();
+        AdaptivePageSize pageSize = new AdaptivePageSize(nanoTime::get);
+
+        BiFunction<Integer, Integer, Mono<ListPackagesResponse>> pageSupplier =
+                (page, perPage) -> {
+                    requests.add(page + ":" + perPage);
+
+                    if (perPage == PaginationUtils.MAX_PER_PAGE) {
+                        return Mono.error(new TimeoutException());
+                    }
+
+                    return Mono.just(listPackagesResponse(page, perPage, 1));
+                };
+
+        PaginationUtils.requestClientV3Resources(pageSize, pageSupplier)
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        PaginationUtils.requestClientV3Resources(pageSize, pageSupplier)
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        nanoTime.addAndGet(PaginationUtils.PAGE_SIZE_RECOVERY.toNanos());
+
+        PaginationUtils.requestClientV3Resources(pageSize, pageSupplier)
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(requests).containsExactly("1:5000", "1:2500", "1:2500", "1:5000", "1:2500");
+    }
+
+    @Test
+    void requestClientV3ResourcesMaximized() {
+        List<String> requests = new ArrayList<>();
+
+        PaginationUtils.requestClientV3Resources(
+                        (page, perPage) -> {
+                            requests.add(page + ":" + perPage);
+                            return Mono.just(listPackagesResponse(page, perPage, 3));
+                        })
+                .map(PackageResource::getId)
+                .as(StepVerifier::create)
+                .expectNext("1", "2", "3")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(requests).containsExactly("1:5000", "2:5000", "3:5000");
+    }
+
+    @Test
+    void requestPartitionedResources() {
+        List<PartitionProgress<String>> progress = new CopyOnWriteArrayList<>();
+
+        PaginationUtils.requestPartitionedResources(
+                        Arrays.asList("alpha", "bravo"),
+                        partition ->
+                                Flux.range(0, partition.equals("alpha") ? 1_500 : 2)
+                                        .map(i -> partition),
+                        2,
+                        progress::add)
+                .as(StepVerifier::create)
+                .expectNextCount(1_502)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(progress)
+                .extracting(p -> p.getPartition() + ":" + p.getCount() + ":" + p.isComplete())
+                .containsExactlyInAnyOrder("alpha:1000:false", "alpha:1500:true", "bravo:2:true");
+    }
+
     @Test
     void requestUaaResources() {
         Users users = mock(Users.class, RETURNS_SMART_NULLS);
@@ -138,6 +336,92 @@ final class PaginationUtilsTest {
                 .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    void streamClientV3Resources() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+
+        PaginationUtils.<StackResource, ListStacksResponse>streamClientV3Resources(
+                        (page, remainderConsumer) -> {
+                            ListStacksResponse response = listStacksResponse(page, 2, 3);
+
+                            return Flux.fromIterable(response.getResources())
+                                    .delayElements(Duration.ofMillis(40 - (page * 10)))
+                                    .doOnSubscribe(s -> requested.add(page))
+                                    .concatWith(
+                                            Mono.fromRunnable(
+                                                    () ->
+                                                            remainderConsumer.accept(
+                                                                    ListStacksResponse.builder()
+                                                                            .pagination(
+                                                                                    response
+                                                                                            .getPagination())
+                                                                            .build())));
+                        },
+                        2)
+                .map(StackResource::getId)
+                .doOnNext(
+                        id -> {
+                            if (id.startsWith("1-")) {
+                                assertThat(requested).containsExactly(1);
+                            }
+                        })
+                .as(StepVerifier::create)
+                .expectNext("1-0", "1-1", "2-0", "2-1", "3-0", "3-1")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(requested).containsExactly(1, 2, 3);
+    }
+
+    private static ListPackagesResponse listPackagesResponse(
+            Integer page, Integer perPage, Integer totalPages) {
+        return ListPackagesResponse.builder()
+                .resource(
+                        PackageResource.builder()
+                                .id(page.toString())
+                                .createdAt("test-created-at")
+                                .updatedAt("test-updated-at")
+                                .type(PackageType.BITS)
+                                .data(BitsData.builder().build())
+                                .state(PackageState.READY)
+                                .build())
+                .pagination(pagination(page, perPage, totalPages))
+                .build();
+    }
+
+    private static ListStacksResponse listStacksResponse(
+            Integer page, Integer perPage, Integer totalPages) {
+        return ListStacksResponse.builder()
+                .resources(
+                        StackResource.builder()
+                                .id(page + "-0")
+                                .createdAt("test-created-at")
+                                .name(page + "-0")
+                                .build(),
+                        StackResource.builder()
+                                .id(page + "-1")
+                                .createdAt("test-created-at")
+                                .name(page + "-1")
+                                .build())
+                .pagination(pagination(page, perPage, totalPages))
+                .build();
+    }
+
+    private static Pagination pagination(Integer page, Integer perPage, Integer totalPages) {
+        return Pagination.builder()
+                .next(
+                        page < totalPages
+                                ? Link.builder()
+                                        .href(
+                                                String.format(
+                                                        "https://api.test/v3/test?page=%d&per_page=%d",
+                                                        page + 1, perPage))
+                                        .build()
+                                : null)
+                .totalPages(totalPages)
+                .build();
+    }
+
     private static void requestListPackages(Packages packages, Integer page, Integer totalPages) {
         when(packages.list(ListPackagesRequest.builder().page(page).build()))
                 .thenReturn(
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class TimePartitionTest {
+
+    @Test
+    void of() {
+        assertThat(
+                        TimePartition.of(
+                                Instant.parse("2016-06-08T16:00:00.500Z"),
+                                Instant.parse("2016-06-08T16:00:09.500Z"),
+                                3))
+                .extracting(TimePartition::toString)
+                .containsExactly(
+                        "[2016-06-08T16:00:00Z, 2016-06-08T16:00:03Z)",
+                        "[2016-06-08T16:00:03Z, 2016-06-08T16:00:06Z)",
+                        "[2016-06-08T16:00:06Z, 2016-06-08T16:00:10Z)");
+    }
+
+    @Test
+    void ofShortRange() {
+        assertThat(
+                        TimePartition.of(
+                                Instant.parse("2016-06-08T16:00:00Z"),
+                                Instant.parse("2016-06-08T16:00:02Z"),
+                                5))
+                .hasSize(2);
+    }
+}
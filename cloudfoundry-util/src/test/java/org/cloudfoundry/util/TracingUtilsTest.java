@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.TracerProvider;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class TracingUtilsTest {
+
+    @AfterEach
+    void disable() {
+        TracingUtils.setTracer(null);
+    }
+
+    @Test
+    void traceDisabled() {
+        Mono<String> publisher = Mono.just("test-value");
+
+        assertThat(TracingUtils.<Mono<String>, String>trace("test-span").apply(publisher))
+                .isSameAs(publisher);
+    }
+
+    @Test
+    void traceEnabled() {
+        TracingUtils.setTracer(TracerProvider.noop().get("test"));
+
+        Mono.deferContextual(contextView -> Mono.just(contextView.hasKey(TracingUtils.CONTEXT_KEY)))
+                .transform(TracingUtils.trace("test-span"))
+                .as(StepVerifier::create)
+                .expectNext(true)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
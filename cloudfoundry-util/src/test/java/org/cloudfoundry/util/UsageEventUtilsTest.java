@@ -0,0 +1,167 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEvents;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsRequest;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+final class UsageEventUtilsTest {
+
+    private final ApplicationUsageEvents applicationUsageEvents =
+            mock(ApplicationUsageEvents.class, RETURNS_SMART_NULLS);
+
+    private final CloudFoundryClient cloudFoundryClient =
+            mock(CloudFoundryClient.class, RETURNS_SMART_NULLS);
+
+    @Test
+    void consumeApplicationUsageEvents() {
+        CheckpointStore checkpointStore = new InMemoryCheckpointStore();
+        List<String> handled = new ArrayList<>();
+        Map<String, List<String>> batches = new HashMap<>();
+        batches.put("test-id-0", Arrays.asList("test-id-1", "test-id-2"));
+        batches.put("test-id-2", Collections.singletonList("test-id-3"));
+
+        when(this.cloudFoundryClient.applicationUsageEvents())
+                .thenReturn(this.applicationUsageEvents);
+        when(this.applicationUsageEvents.list(any()))
+                .thenAnswer(
+                        invocation -> {
+                            ListApplicationUsageEventsRequest request = invocation.getArgument(0);
+                            assertThat(request.getResultsPerPage()).isEqualTo(100);
+
+                            return Mono.just(
+                                    listApplicationUsageEventsResponse(
+                                            batches.getOrDefault(
+                                                    request.getAfterApplicationUsageEventId(),
+                                                    Collections.emptyList())));
+                        });
+
+        checkpointStore.put("test-name", "test-id-0").block();
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                UsageEventUtils.consumeApplicationUsageEvents(
+                                                this.cloudFoundryClient,
+                                                checkpointStore,
+                                                "test-name",
+                                                event ->
+                                                        Mono.fromRunnable(
+                                                                () ->
+                                                                        handled.add(
+                                                                                ResourceUtils.getId(
+                                                                                        event))),
+                                                Duration.ofSeconds(30))
+                                        .map(ResourceUtils::getId))
+                .expectNext("test-id-1", "test-id-2")
+                .thenAwait(Duration.ofSeconds(30))
+                .expectNext("test-id-3")
+                .expectNoEvent(Duration.ofMinutes(1))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(handled).containsExactly("test-id-1", "test-id-2", "test-id-3");
+        assertThat(checkpointStore.get("test-name").block()).isEqualTo("test-id-3");
+    }
+
+    @Test
+    void consumeApplicationUsageEventsOnDemand() {
+        CheckpointStore checkpointStore = new InMemoryCheckpointStore();
+        List<String> handled = new ArrayList<>();
+
+        when(this.cloudFoundryClient.applicationUsageEvents())
+                .thenReturn(this.applicationUsageEvents);
+        when(this.applicationUsageEvents.list(any()))
+                .thenAnswer(
+                        invocation -> {
+                            ListApplicationUsageEventsRequest request = invocation.getArgument(0);
+                            int start =
+                                    request.getAfterApplicationUsageEventId() == null
+                                            ? 0
+                                            : Integer.parseInt(
+                                                    request.getAfterApplicationUsageEventId());
+
+                            return Mono.just(
+                                    listApplicationUsageEventsResponse(
+                                            IntStream.range(start + 1, start + 101)
+                                                    .mapToObj(String::valueOf)
+                                                    .collect(Collectors.toList())));
+                        });
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                UsageEventUtils.consumeApplicationUsageEvents(
+                                                this.cloudFoundryClient,
+                                                checkpointStore,
+                                                "test-name",
+                                                event ->
+                                                        Mono.fromRunnable(
+                                                                () ->
+                                                                        handled.add(
+                                                                                ResourceUtils.getId(
+                                                                                        event))),
+                                                Duration.ofSeconds(30))
+                                        .map(ResourceUtils::getId),
+                        1)
+                .expectNext("1")
+                .expectNoEvent(Duration.ofMinutes(1))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        verify(this.applicationUsageEvents, times(1)).list(any());
+        assertThat(handled).hasSize(100);
+        assertThat(checkpointStore.get("test-name").block()).isEqualTo("100");
+    }
+
+    private static ListApplicationUsageEventsResponse listApplicationUsageEventsResponse(
+            List<String> ids) {
+        return ListApplicationUsageEventsResponse.builder()
+                .resources(
+                        ids.stream()
+                                .map(
+                                        id ->
+                                                ApplicationUsageEventResource.builder()
+                                                        .metadata(Metadata.builder().id(id).build())
+                                                        .build())
+                                .collect(Collectors.toList()))
+                .totalPages(1)
+                .build();
+    }
+}
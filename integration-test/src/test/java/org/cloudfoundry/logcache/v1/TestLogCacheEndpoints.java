@@ -23,6 +23,7 @@ import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
+import org.cloudfoundry.reactor.util.RequestUriBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -56,14 +57,18 @@ public class TestLogCacheEndpoints extends AbstractReactorOperations {
         return builder -> builder.pathSegment(pathSegments);
     }
 
+    @SuppressWarnings("deprecation")
     private Mono<Void> get(Object requestPayload, String... pathSegments) {
         return createOperator()
                 .flatMap(
                         operator ->
                                 operator.get()
                                         .uri(
-                                                buildPathSegments(pathSegments)
-                                                        .andThen(queryTransformer(requestPayload)))
+                                                RequestUriBuilder.fromUriComponentsTransformer(
+                                                        buildPathSegments(pathSegments)
+                                                                .andThen(
+                                                                        queryTransformer(
+                                                                                requestPayload))))
                                         .response()
                                         .get())
                 .then();